@@ -23,6 +23,7 @@ import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
 import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
 import org.springframework.modulith.core.ApplicationModules;
 import org.springframework.modulith.core.util.ApplicationModulesExporter;
+import org.springframework.modulith.core.util.ApplicationModulesSnapshot;
 import org.springframework.util.Assert;
 import org.springframework.util.function.SingletonSupplier;
 
@@ -78,6 +79,21 @@ public class ApplicationModulesEndpoint {
 		return new ApplicationModulesEndpoint(() -> new ApplicationModulesExporter(modules.get()).toJson());
 	}
 
+	/**
+	 * Creates a new {@link ApplicationModulesEndpoint} for the given lazily obtained
+	 * {@link ApplicationModulesSnapshot}.
+	 *
+	 * @param snapshot must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 1.2
+	 */
+	public static ApplicationModulesEndpoint ofSnapshot(Supplier<ApplicationModulesSnapshot> snapshot) {
+
+		Assert.notNull(snapshot, "ApplicationModulesSnapshot must not be null!");
+
+		return new ApplicationModulesEndpoint(() -> snapshot.get().toJson());
+	}
+
 	/**
 	 * Returns the {@link ApplicationModules} metadata as {@link java.util.Map} (to be rendered as JSON).
 	 *
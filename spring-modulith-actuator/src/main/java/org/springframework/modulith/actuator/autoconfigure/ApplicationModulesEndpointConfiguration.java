@@ -53,7 +53,7 @@ class ApplicationModulesEndpointConfiguration {
 			return ApplicationModulesEndpoint.precomputed(fileContent);
 
 		} else {
-			return ApplicationModulesEndpoint.ofApplicationModules(runtime);
+			return ApplicationModulesEndpoint.ofSnapshot(runtime::getSnapshot);
 		}
 	}
 }
@@ -20,6 +20,7 @@ import static org.assertj.core.api.Assertions.*;
 import net.minidev.json.JSONArray;
 
 import org.junit.jupiter.api.Test;
+import org.springframework.modulith.core.util.ApplicationModulesSnapshot;
 import org.springframework.modulith.test.TestApplicationModules;
 
 import com.jayway.jsonpath.JsonPath;
@@ -36,7 +37,21 @@ class ApplicationModulesEndpointIntegrationTests {
 
 		var modules = TestApplicationModules.of("example");
 		var endpoint = ApplicationModulesEndpoint.ofApplicationModules(() -> modules);
-		var result = endpoint.getApplicationModules();
+
+		verifyStructure(endpoint.getApplicationModules());
+	}
+
+	@Test
+	void exposesApplicationModulesSnapshotAsMap() throws Exception {
+
+		var modules = TestApplicationModules.of("example");
+		var endpoint = ApplicationModulesEndpoint.ofSnapshot(() -> ApplicationModulesSnapshot.of(modules));
+
+		verifyStructure(endpoint.getApplicationModules());
+	}
+
+	private static void verifyStructure(String result) {
+
 		var context = JsonPath.parse(result);
 
 		assertThat(context.<String> read("$.a.basePackage")).isEqualTo("example.a");
@@ -23,8 +23,10 @@ import static org.springframework.modulith.core.Types.JavaXTypes.*;
 import static org.springframework.modulith.core.Types.SpringDataTypes.*;
 import static org.springframework.modulith.core.Types.SpringTypes.*;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -145,11 +147,7 @@ public class ApplicationModule {
 		Assert.notNull(modules, "ApplicationModules must not be null!");
 		Assert.notNull(type, "DependencyTypes must not be null!");
 
-		var dependencies = getAllModuleDependencies(modules) //
-				.filter(it -> type.length == 0 ? true : Arrays.stream(type).anyMatch(it::hasType)) //
-				.distinct() //
-				.<ApplicationModuleDependency> flatMap(it -> DefaultApplicationModuleDependency.of(it, modules)) //
-				.toList();
+		var dependencies = modules.getDependencyGraph(this).getModuleDependencies(type);
 
 		return ApplicationModuleDependencies.of(dependencies, modules);
 	}
@@ -164,10 +162,7 @@ public class ApplicationModule {
 
 		Assert.notNull(modules, "Modules must not be null!");
 
-		return getAllModuleDependencies(modules) //
-				.filter(it -> it.type == DependencyType.EVENT_LISTENER) //
-				.map(QualifiedDependency::getTarget) //
-				.toList();
+		return modules.getDependencyGraph(this).getEventsListenedTo();
 	}
 
 	/**
@@ -312,9 +307,9 @@ public class ApplicationModule {
 
 	public Violations detectDependencies(ApplicationModules modules) {
 
-		return getAllModuleDependencies(modules) //
-				.map(it -> it.isValidDependencyWithin(modules)) //
-				.reduce(Violations.NONE, Violations::and);
+		Assert.notNull(modules, "Modules must not be null!");
+
+		return modules.getDependencyGraph(this).getViolations();
 	}
 
 	/**
@@ -514,10 +509,20 @@ public class ApplicationModule {
 				Stream.of(type));
 	}
 
-	private Stream<QualifiedDependency> getAllModuleDependencies(ApplicationModules modules) {
+	/**
+	 * Creates the {@link DependencyGraph} of the current module within the given {@link ApplicationModules}. Not intended
+	 * to be called directly, as {@link ApplicationModules#getDependencyGraph(ApplicationModule)} memoizes the result.
+	 *
+	 * @param modules must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	DependencyGraph createDependencyGraph(ApplicationModules modules) {
+
+		var dependencies = basePackage.stream() //
+				.flatMap(it -> getModuleDependenciesOf(it, modules)) //
+				.toList();
 
-		return basePackage.stream() //
-				.flatMap(it -> getModuleDependenciesOf(it, modules));
+		return new DependencyGraph(dependencies, modules, () -> findDirectModuleBootstrapDependencies(modules));
 	}
 
 	private Stream<ApplicationModule> streamBootstrapDependencies(ApplicationModules modules, DependencyDepth depth) {
@@ -538,6 +543,10 @@ public class ApplicationModule {
 	}
 
 	private Stream<ApplicationModule> getDirectModuleBootstrapDependencies(ApplicationModules modules) {
+		return modules.getDependencyGraph(this).getBootstrapDependencies().stream();
+	}
+
+	private List<ApplicationModule> findDirectModuleBootstrapDependencies(ApplicationModules modules) {
 
 		var beans = getSpringBeansInternal();
 
@@ -548,7 +557,8 @@ public class ApplicationModule {
 				.filter(it -> it.hasType(DependencyType.USES_COMPONENT)) //
 				.map(it -> modules.getModuleByType(it.target)) //
 				.distinct() //
-				.flatMap(it -> it.map(Stream::of).orElseGet(Stream::empty));
+				.flatMap(it -> it.map(Stream::of).orElseGet(Stream::empty)) //
+				.toList();
 	}
 
 	private Stream<QualifiedDependency> getModuleDependenciesOf(JavaClass type, ApplicationModules modules) {
@@ -1182,6 +1192,91 @@ public class ApplicationModule {
 		}
 	}
 
+	/**
+	 * The dependencies of an {@link ApplicationModule} to other modules within a particular {@link ApplicationModules}
+	 * instance. Computed once per module and {@link ApplicationModules} (see
+	 * {@link ApplicationModules#getDependencyGraph(ApplicationModule)}) with the target modules resolved and indexed by
+	 * {@link DependencyType}.
+	 *
+	 * @author agent
+	 * @since 1.2
+	 */
+	static class DependencyGraph {
+
+		private final List<ApplicationModuleDependency> moduleDependencies;
+		private final Map<DependencyType, List<ApplicationModuleDependency>> moduleDependenciesByType;
+		private final List<JavaClass> eventsListenedTo;
+		private final Supplier<Violations> violations;
+		private final Supplier<List<ApplicationModule>> bootstrapDependencies;
+
+		/**
+		 * Creates a new {@link DependencyGraph} for the given {@link QualifiedDependency}s, {@link ApplicationModules} and
+		 * bootstrap dependencies.
+		 *
+		 * @param dependencies must not be {@literal null}.
+		 * @param modules must not be {@literal null}.
+		 * @param bootstrapDependencies must not be {@literal null}.
+		 */
+		DependencyGraph(List<QualifiedDependency> dependencies, ApplicationModules modules,
+				Supplier<List<ApplicationModule>> bootstrapDependencies) {
+
+			Assert.notNull(dependencies, "Dependencies must not be null!");
+			Assert.notNull(modules, "ApplicationModules must not be null!");
+			Assert.notNull(bootstrapDependencies, "Bootstrap dependencies must not be null!");
+
+			this.moduleDependencies = dependencies.stream() //
+					.distinct() //
+					.<ApplicationModuleDependency> flatMap(it -> DefaultApplicationModuleDependency.of(it, modules)) //
+					.toList();
+
+			var byType = new EnumMap<DependencyType, List<ApplicationModuleDependency>>(DependencyType.class);
+
+			moduleDependencies.forEach(it -> byType.computeIfAbsent(it.getDependencyType(), __ -> new ArrayList<>()).add(it));
+			byType.replaceAll((__, it) -> List.copyOf(it));
+
+			this.moduleDependenciesByType = byType;
+			this.eventsListenedTo = dependencies.stream() //
+					.filter(it -> it.hasType(DependencyType.EVENT_LISTENER)) //
+					.map(QualifiedDependency::getTarget) //
+					.toList();
+
+			this.violations = SingletonSupplier.of(() -> dependencies.stream() //
+					.map(it -> it.isValidDependencyWithin(modules)) //
+					.reduce(Violations.NONE, Violations::and));
+			this.bootstrapDependencies = SingletonSupplier.of(bootstrapDependencies);
+		}
+
+		/**
+		 * Returns the {@link ApplicationModuleDependency}s of the given {@link DependencyType}s or all of them if none
+		 * given.
+		 *
+		 * @param types must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		List<ApplicationModuleDependency> getModuleDependencies(DependencyType... types) {
+
+			return switch (types.length) {
+				case 0 -> moduleDependencies;
+				case 1 -> moduleDependenciesByType.getOrDefault(types[0], Collections.emptyList());
+				default -> moduleDependencies.stream() //
+						.filter(it -> Arrays.asList(types).contains(it.getDependencyType())) //
+						.toList();
+			};
+		}
+
+		List<JavaClass> getEventsListenedTo() {
+			return eventsListenedTo;
+		}
+
+		Violations getViolations() {
+			return violations.get();
+		}
+
+		List<ApplicationModule> getBootstrapDependencies() {
+			return bootstrapDependencies.get();
+		}
+	}
+
 	private static class DefaultApplicationModuleDependency implements ApplicationModuleDependency {
 
 		private final QualifiedDependency dependency;
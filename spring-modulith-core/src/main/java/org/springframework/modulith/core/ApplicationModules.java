@@ -38,6 +38,7 @@ import org.springframework.aot.generate.Generated;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.core.io.support.SpringFactoriesLoader;
 import org.springframework.lang.Nullable;
+import org.springframework.modulith.core.ApplicationModule.DependencyGraph;
 import org.springframework.modulith.core.Types.JMoleculesTypes;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
@@ -102,6 +103,8 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 	private final Supplier<List<ApplicationModule>> rootModules;
 	private final Set<ApplicationModule> sharedModules;
 	private final List<String> orderedNames;
+	private final Map<ApplicationModule, Supplier<DependencyGraph>> dependencyGraphs = Collections
+			.synchronizedMap(new IdentityHashMap<>());
 
 	private boolean verified;
 
@@ -116,10 +119,13 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 
 		Classes classes = Classes.of(allClasses);
 
-		this.modules = packages.stream() //
+		var basePackages = packages.stream() //
 				.map(it -> JavaPackage.of(classes, it))
 				.flatMap(DETECTION_STRATEGY::getModuleBasePackages) //
-				.map(it -> new ApplicationModule(it, useFullyQualifiedModuleNames)) //
+				.toList();
+
+		this.modules = ParallelAnalysis.map(basePackages, it -> new ApplicationModule(it, useFullyQualifiedModuleNames))
+				.stream() //
 				.collect(toMap(ApplicationModule::getName, Function.identity()));
 
 		this.rootPackages = packages.stream() //
@@ -267,6 +273,16 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 		return sharedModules;
 	}
 
+	/**
+	 * Returns the {@link ApplicationModule}s representing the types residing in the root packages directly.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 1.2
+	 */
+	public List<ApplicationModule> getRootModules() {
+		return rootModules.get();
+	}
+
 	/**
 	 * Returns whether the given {@link JavaClass} is contained within the {@link ApplicationModules}.
 	 *
@@ -366,6 +382,23 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 				});
 	}
 
+	/**
+	 * Returns the {@link DependencyGraph} of the given {@link ApplicationModule} within the current
+	 * {@link ApplicationModules}. Computed once per module and memoized for subsequent lookups. The graph itself is
+	 * computed outside the lock guarding the cache so that graphs of different modules can be computed concurrently.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	DependencyGraph getDependencyGraph(ApplicationModule module) {
+
+		Assert.notNull(module, "ApplicationModule must not be null!");
+
+		return dependencyGraphs
+				.computeIfAbsent(module, it -> SingletonSupplier.of(() -> it.createDependencyGraph(this)))
+				.get();
+	}
+
 	/**
 	 * Execute all verifications to be applied, unless the verification has been executed before.
 	 *
@@ -395,8 +428,7 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 	 */
 	public Violations detectViolations() {
 
-		Violations violations = rootPackages.stream() //
-				.map(this::assertNoCyclesFor) //
+		Violations violations = ParallelAnalysis.map(rootPackages, this::assertNoCyclesFor).stream() //
 				.flatMap(it -> it.getDetails().stream()) //
 				.map(IllegalStateException::new) //
 				.collect(Violations.toViolations());
@@ -410,8 +442,10 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 			}
 		}
 
-		return Stream.concat(rootModules.get().stream(), modules.values().stream()) //
-				.map(it -> it.detectDependencies(this)) //
+		var allModules = Stream.concat(rootModules.get().stream(), modules.values().stream()).toList();
+
+		// Analyze modules concurrently but merge results in module order to report violations deterministically
+		return ParallelAnalysis.map(allModules, it -> it.detectDependencies(this)).stream() //
 				.reduce(violations, Violations::and);
 	}
 
@@ -774,17 +808,22 @@ public class ApplicationModules implements Iterable<ApplicationModule> {
 
 			Graph<ApplicationModule, DefaultEdge> graph = new DefaultDirectedGraph<>(DefaultEdge.class);
 
-			modules.modules.forEach((__, project) -> {
+			var sources = List.copyOf(modules.modules.values());
+			var dependencies = ParallelAnalysis.map(sources, it -> it.getDependencies(modules));
+
+			for (int i = 0; i < sources.size(); i++) {
+
+				var project = sources.get(i);
 
 				graph.addVertex(project);
 
-				project.getDependencies(modules).stream() //
+				dependencies.get(i).stream() //
 						.map(ApplicationModuleDependency::getTargetModule) //
 						.forEach(dependency -> {
 							graph.addVertex(dependency);
 							graph.addEdge(project, dependency);
 						});
-			});
+			}
 
 			var names = new ArrayList<String>();
 			var iterator = new TopologicalOrderIterator<>(graph);
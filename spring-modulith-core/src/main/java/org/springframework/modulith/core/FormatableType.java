@@ -136,12 +136,17 @@ public class FormatableType {
 	 * @return will never be {@literal null}.
 	 */
 	public String getAbbreviatedFullName(@Nullable ApplicationModule module) {
+		return getAbbreviatedFullName(module == null ? null : module.getBasePackage().getName());
+	}
 
-		if (module == null) {
-			return getAbbreviatedFullName();
-		}
-
-		String basePackageName = module.getBasePackage().getName();
+	/**
+	 * Returns the abbreviated full name of the type abbreviating only the part of the given base package.
+	 *
+	 * @param basePackageName can be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 1.2
+	 */
+	public String getAbbreviatedFullName(@Nullable String basePackageName) {
 
 		if (!StringUtils.hasText(basePackageName)) {
 			return getAbbreviatedFullName();
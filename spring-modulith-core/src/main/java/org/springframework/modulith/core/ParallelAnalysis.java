@@ -0,0 +1,75 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.core;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import org.springframework.util.Assert;
+
+/**
+ * Applies analysis steps to multiple elements concurrently using a dedicated {@link ForkJoinPool}. Results are returned
+ * in the encounter order of the source elements so that they can be merged deterministically. The context
+ * {@link ClassLoader} of the calling thread is propagated to the worker threads, as ArchUnit uses it to resolve types
+ * reflectively.
+ *
+ * @author agent
+ * @since 1.2
+ */
+class ParallelAnalysis {
+
+	private static final ForkJoinPool POOL = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
+
+	/**
+	 * Applies the given {@link Function} to all given elements in parallel and returns the results in the order of the
+	 * source elements.
+	 *
+	 * @param <T> the source element type.
+	 * @param <R> the result type.
+	 * @param source must not be {@literal null}.
+	 * @param function must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static <T, R> List<R> map(Collection<T> source, Function<? super T, ? extends R> function) {
+
+		Assert.notNull(source, "Source elements must not be null!");
+		Assert.notNull(function, "Function must not be null!");
+
+		if (source.size() < 2 || POOL.getParallelism() < 2) {
+			return source.stream().<R> map(function).toList();
+		}
+
+		var classLoader = Thread.currentThread().getContextClassLoader();
+
+		Function<T, R> withClassLoader = it -> {
+
+			var thread = Thread.currentThread();
+			var previous = thread.getContextClassLoader();
+
+			thread.setContextClassLoader(classLoader);
+
+			try {
+				return function.apply(it);
+			} finally {
+				thread.setContextClassLoader(previous);
+			}
+		};
+
+		return POOL.submit(() -> source.parallelStream().map(withClassLoader).toList()).join();
+	}
+}
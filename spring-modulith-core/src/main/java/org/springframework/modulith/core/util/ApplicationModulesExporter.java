@@ -138,8 +138,7 @@ public class ApplicationModulesExporter {
 			json.put("namedInterfaces", toNamedInterfaces(module.getNamedInterfaces()));
 		}
 
-		json.put("dependencies", module.getDependencies(modules).stream() //
-				.collect(Collectors.groupingBy(ApplicationModuleDependency::getTargetModule, MAPPER))
+		json.put("dependencies", getDependencyTypes(module, modules)
 				.entrySet() //
 				.stream() //
 				.map(ApplicationModulesExporter::toInfo) //
@@ -148,7 +147,29 @@ public class ApplicationModulesExporter {
 		return Collections.unmodifiableMap(json);
 	}
 
-	private static Map<String, Set<String>> toNamedInterfaces(NamedInterfaces interfaces) {
+	/**
+	 * Returns the types of dependencies of the given {@link ApplicationModule} per target module. Omits
+	 * {@link DependencyType#DEFAULT} for targets depended on in more specific ways, too.
+	 *
+	 * @param module must not be {@literal null}.
+	 * @param modules must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @since 1.2
+	 */
+	static Map<ApplicationModule, Set<DependencyType>> getDependencyTypes(ApplicationModule module,
+			ApplicationModules modules) {
+
+		return module.getDependencies(modules).stream() //
+				.collect(Collectors.groupingBy(ApplicationModuleDependency::getTargetModule, MAPPER));
+	}
+
+	/**
+	 * Returns the fully-qualified names of the types exposed by the given {@link NamedInterfaces} per interface name.
+	 *
+	 * @param interfaces must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static Map<String, Set<String>> toNamedInterfaces(NamedInterfaces interfaces) {
 
 		return interfaces.stream()
 				.collect(groupingBy(it -> it.getName(), flatMapping(TO_EXPOSED_TYPES, toSet())));
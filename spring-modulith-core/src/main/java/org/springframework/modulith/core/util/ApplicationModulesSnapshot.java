@@ -0,0 +1,841 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.core.util;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+import org.springframework.core.annotation.AnnotationAwareOrderComparator;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.SpringFactoriesLoader;
+import org.springframework.lang.Nullable;
+import org.springframework.modulith.core.ApplicationModule;
+import org.springframework.modulith.core.ApplicationModuleDetectionStrategy;
+import org.springframework.modulith.core.ApplicationModules;
+import org.springframework.modulith.core.ArchitecturallyEvidentType;
+import org.springframework.modulith.core.ArchitecturallyEvidentType.ReferenceMethod;
+import org.springframework.modulith.core.DependencyType;
+import org.springframework.modulith.core.ModulithMetadata;
+import org.springframework.modulith.core.SpringBean;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+import com.tngtech.archunit.core.domain.JavaMethod;
+
+/**
+ * A snapshot of the structure of {@link ApplicationModules} that can be persisted in a compact binary format and read
+ * again without inspecting the classpath. Captures the names, base packages, types, named interfaces, dependencies and
+ * Spring beans of all modules, the types of the root packages and the fingerprint of the class files and configuration
+ * the snapshot was created from (see {@link #fingerprint(ModulithMetadata, ClassLoader)}), so that outdated snapshots
+ * can be detected. Once
+ * read, a snapshot allows to look up module information at runtime without ArchUnit being involved.
+ *
+ * @author agent
+ * @since 1.2
+ */
+public class ApplicationModulesSnapshot {
+
+	private static final int MAGIC = 0x534D4D53; // SMMS
+	private static final int VERSION = 2;
+	private static final char RELATIVE_TYPE_PREFIX = '.';
+
+	private final String fingerprint;
+	private final List<ModuleSnapshot> modules, rootModules;
+	private final Map<String, ModuleSnapshot> modulesByType;
+
+	/**
+	 * Creates a new {@link ApplicationModulesSnapshot} for the given fingerprint and {@link ModuleSnapshot}s.
+	 *
+	 * @param fingerprint must not be {@literal null}.
+	 * @param modules must not be {@literal null}.
+	 * @param rootModules must not be {@literal null}.
+	 */
+	ApplicationModulesSnapshot(String fingerprint, List<ModuleSnapshot> modules, List<ModuleSnapshot> rootModules) {
+
+		Assert.notNull(fingerprint, "Fingerprint must not be null!");
+		Assert.notNull(modules, "Module snapshots must not be null!");
+		Assert.notNull(rootModules, "Root module snapshots must not be null!");
+
+		this.fingerprint = fingerprint;
+		this.modules = List.copyOf(modules);
+		this.rootModules = List.copyOf(rootModules);
+		this.modulesByType = new HashMap<>();
+
+		Stream.concat(modules.stream(), rootModules.stream())
+				.forEach(module -> module.types.forEach(type -> modulesByType.putIfAbsent(type, module)));
+	}
+
+	/**
+	 * Creates a new {@link ApplicationModulesSnapshot} of the given {@link ApplicationModules} without a fingerprint.
+	 *
+	 * @param modules must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static ApplicationModulesSnapshot of(ApplicationModules modules) {
+		return of(modules, "");
+	}
+
+	/**
+	 * Creates a new {@link ApplicationModulesSnapshot} of the given {@link ApplicationModules} for the given
+	 * fingerprint.
+	 *
+	 * @param modules must not be {@literal null}.
+	 * @param fingerprint must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @see #fingerprint(ModulithMetadata, ClassLoader)
+	 */
+	public static ApplicationModulesSnapshot of(ApplicationModules modules, String fingerprint) {
+
+		Assert.notNull(modules, "ApplicationModules must not be null!");
+
+		return new ApplicationModulesSnapshot(fingerprint, //
+				modules.stream().map(it -> ModuleSnapshot.of(it, modules)).toList(), //
+				modules.getRootModules().stream().map(it -> ModuleSnapshot.of(it, modules)).toList());
+	}
+
+	/**
+	 * Computes a fingerprint of the Spring Modulith setup described by the given {@link ModulithMetadata} and of all
+	 * class files in its base and additional packages and their sub-packages available from the given
+	 * {@link ClassLoader}. For the class files, the fingerprint is derived from their location, size and last
+	 * modification date, i.e. it changes whenever a class is added, removed or recompiled, but doesn't require the
+	 * class files to be read. It also changes if the Spring Modulith version, the configured
+	 * {@link ApplicationModuleDetectionStrategy} or the module naming and shared modules change.
+	 *
+	 * @param metadata must not be {@literal null}.
+	 * @param classLoader can be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static String fingerprint(ModulithMetadata metadata, @Nullable ClassLoader classLoader) {
+
+		Assert.notNull(metadata, "ModulithMetadata must not be null!");
+
+		var source = metadata.getSource();
+		var packages = new ArrayList<String>();
+
+		packages.add(source instanceof Class<?> type ? type.getPackageName() : source.toString());
+		packages.addAll(metadata.getAdditionalPackages());
+
+		var strategies = SpringFactoriesLoader.loadFactories(ApplicationModuleDetectionStrategy.class, classLoader)
+				.stream() //
+				.map(it -> it.getClass().getName()) //
+				.toList();
+
+		// Configuration determining the module structure besides the class files
+		var configuration = ApplicationModules.class.getPackage().getImplementationVersion() + '\n' //
+				+ strategies + '\n' //
+				+ metadata.useFullyQualifiedModuleNames() + '\n' //
+				+ metadata.getSharedModuleNames().sorted().toList() + '\n';
+
+		var resolver = new PathMatchingResourcePatternResolver(classLoader);
+		var digest = getDigest();
+
+		digest.update(configuration.getBytes(StandardCharsets.UTF_8));
+
+		try {
+
+			for (var packageName : new TreeSet<>(packages)) {
+
+				var pattern = PathMatchingResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX
+						+ ClassUtils.convertClassNameToResourcePath(packageName) + "/**/*.class";
+				var resources = resolver.getResources(pattern);
+
+				Arrays.sort(resources, Comparator.comparing(Resource::getDescription));
+
+				for (var resource : resources) {
+
+					var entry = resource.getDescription() + ':' + resource.contentLength() + ':' + resource.lastModified() + '\n';
+
+					digest.update(entry.getBytes(StandardCharsets.UTF_8));
+				}
+			}
+
+		} catch (IOException o_O) {
+			throw new IllegalStateException("Could not inspect class files of packages " + packages + "!", o_O);
+		}
+
+		return HexFormat.of().formatHex(digest.digest());
+	}
+
+	/**
+	 * Reads an {@link ApplicationModulesSnapshot} from the given {@link InputStream} previously written using
+	 * {@link #writeTo(OutputStream)}. The stream is not closed.
+	 *
+	 * @param stream must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 * @throws IOException in case the stream cannot be read or doesn't contain a snapshot in the current format.
+	 */
+	public static ApplicationModulesSnapshot readFrom(InputStream stream) throws IOException {
+
+		Assert.notNull(stream, "InputStream must not be null!");
+
+		var input = new DataInputStream(new BufferedInputStream(new InflaterInputStream(stream)));
+
+		if (input.readInt() != MAGIC || input.readInt() != VERSION) {
+			throw new IOException("Not an application modules snapshot in format version " + VERSION + "!");
+		}
+
+		var fingerprint = input.readUTF();
+		var modules = readModules(input);
+		var rootModules = readModules(input);
+
+		return new ApplicationModulesSnapshot(fingerprint, modules, rootModules);
+	}
+
+	/**
+	 * Writes the {@link ApplicationModulesSnapshot} to the given {@link OutputStream} in a compressed binary format.
+	 * The stream is not closed.
+	 *
+	 * @param stream must not be {@literal null}.
+	 * @throws IOException in case the snapshot cannot be written.
+	 */
+	public void writeTo(OutputStream stream) throws IOException {
+
+		Assert.notNull(stream, "OutputStream must not be null!");
+
+		var compressed = new DeflaterOutputStream(stream);
+		var output = new DataOutputStream(new BufferedOutputStream(compressed));
+
+		output.writeInt(MAGIC);
+		output.writeInt(VERSION);
+		output.writeUTF(fingerprint);
+
+		writeModules(modules, output);
+		writeModules(rootModules, output);
+
+		output.flush();
+		compressed.finish();
+	}
+
+	/**
+	 * Returns the fingerprint of the class files the snapshot was created from.
+	 *
+	 * @return will never be {@literal null}, empty in case the snapshot was created without a fingerprint.
+	 */
+	public String getFingerprint() {
+		return fingerprint;
+	}
+
+	/**
+	 * Returns all {@link ModuleSnapshot}s in the order of the original {@link ApplicationModules}.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public List<ModuleSnapshot> getModules() {
+		return modules;
+	}
+
+	/**
+	 * Returns the {@link ModuleSnapshot}s of the types residing in the root packages directly.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public List<ModuleSnapshot> getRootModules() {
+		return rootModules;
+	}
+
+	/**
+	 * Returns the {@link ModuleSnapshot} of the module with the given name.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 */
+	public Optional<ModuleSnapshot> getModuleByName(String name) {
+
+		Assert.hasText(name, "Module name must not be null or empty!");
+
+		return modules.stream()
+				.filter(it -> it.getName().equals(name))
+				.findFirst();
+	}
+
+	/**
+	 * Returns the {@link ModuleSnapshot} of the module containing the type with the given fully-qualified name. Considers
+	 * the root modules, too.
+	 *
+	 * @param type must not be {@literal null} or empty.
+	 * @return will never be {@literal null}.
+	 */
+	public Optional<ModuleSnapshot> getModuleByType(String type) {
+
+		Assert.hasText(type, "Type name must not be null or empty!");
+
+		return Optional.ofNullable(modulesByType.get(type));
+	}
+
+	/**
+	 * Returns a {@link Comparator} that will sort objects based on their types' modules in the same way as
+	 * {@link ApplicationModules#getComparator()}, i.e. in the order of the modules in the snapshot, types in root
+	 * modules first, types not contained in any module last.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public Comparator<Object> getComparator() {
+
+		return (left, right) -> {
+
+			var leftIndex = getModuleIndexFor(left);
+
+			if (leftIndex == null) {
+				return 1;
+			}
+
+			var rightIndex = getModuleIndexFor(right);
+
+			if (rightIndex == null) {
+				return -1;
+			}
+
+			var result = leftIndex - rightIndex;
+
+			return result != 0 ? result : AnnotationAwareOrderComparator.INSTANCE.compare(left, right);
+		};
+	}
+
+	/**
+	 * Returns the structure of the modules as JSON String in the same format as
+	 * {@link ApplicationModulesExporter#toJson()}.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	public String toJson() {
+
+		var json = new LinkedHashMap<String, Object>();
+
+		modules.forEach(it -> json.put(it.getName(), it.toJson()));
+
+		return Json.toString(json);
+	}
+
+	@Nullable
+	private Integer getModuleIndexFor(@Nullable Object object) {
+
+		return Optional.ofNullable(object)
+				.map(it -> Class.class.isInstance(it) ? Class.class.cast(it) : it.getClass())
+				.map(Class::getName)
+				.flatMap(this::getModuleByType)
+				.map(modules::indexOf)
+				.orElse(null);
+	}
+
+	private static List<ModuleSnapshot> readModules(DataInputStream input) throws IOException {
+
+		var numberOfModules = input.readInt();
+		var modules = new ArrayList<ModuleSnapshot>(numberOfModules);
+
+		for (int i = 0; i < numberOfModules; i++) {
+			modules.add(ModuleSnapshot.readFrom(input));
+		}
+
+		return modules;
+	}
+
+	private static void writeModules(List<ModuleSnapshot> modules, DataOutputStream output) throws IOException {
+
+		output.writeInt(modules.size());
+
+		for (var module : modules) {
+			module.writeTo(output);
+		}
+	}
+
+	private static String readType(DataInputStream input, String basePackage) throws IOException {
+
+		var type = input.readUTF();
+
+		return !type.isEmpty() && type.charAt(0) == RELATIVE_TYPE_PREFIX ? basePackage + type : type;
+	}
+
+	// Types of the module's packages are stored relative to the base package to keep the snapshot compact
+	private static void writeType(String type, DataOutputStream output, String basePackage) throws IOException {
+
+		var prefix = basePackage + RELATIVE_TYPE_PREFIX;
+
+		output.writeUTF(!basePackage.isEmpty() && type.startsWith(prefix) ? type.substring(basePackage.length()) : type);
+	}
+
+	private static MessageDigest getDigest() {
+
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException o_O) {
+			throw new IllegalStateException(o_O);
+		}
+	}
+
+	/**
+	 * The snapshot of an individual {@link ApplicationModule}.
+	 *
+	 * @author agent
+	 * @since 1.2
+	 */
+	public static class ModuleSnapshot {
+
+		private final String name, displayName, basePackage;
+		private final Set<String> types;
+		private final Map<String, Set<String>> namedInterfaces;
+		private final Map<String, Set<DependencyType>> dependencies;
+		private final Map<String, BeanSnapshot> beans;
+
+		private ModuleSnapshot(String name, String displayName, String basePackage, Set<String> types,
+				Map<String, Set<String>> namedInterfaces, Map<String, Set<DependencyType>> dependencies,
+				List<BeanSnapshot> beans) {
+
+			this.name = name;
+			this.displayName = displayName;
+			this.basePackage = basePackage;
+			this.types = Collections.unmodifiableSet(types);
+			this.namedInterfaces = Collections.unmodifiableMap(namedInterfaces);
+			this.dependencies = Collections.unmodifiableMap(dependencies);
+			this.beans = beans.stream()
+					.collect(Collectors.toMap(BeanSnapshot::getType, it -> it, (l, r) -> l, LinkedHashMap::new));
+		}
+
+		private static ModuleSnapshot of(ApplicationModule module, ApplicationModules modules) {
+
+			var types = new LinkedHashSet<String>();
+
+			module.getBasePackage().stream()
+					.map(JavaClass::getName)
+					.sorted()
+					.forEach(types::add);
+
+			var namedInterfaces = new LinkedHashMap<String, Set<String>>();
+
+			ApplicationModulesExporter.toNamedInterfaces(module.getNamedInterfaces())
+					.forEach((name, exposed) -> namedInterfaces.put(name, Collections.unmodifiableSet(new TreeSet<>(exposed))));
+
+			var dependencies = new LinkedHashMap<String, Set<DependencyType>>();
+
+			ApplicationModulesExporter.getDependencyTypes(module, modules)
+					.forEach((target, dependencyTypes) -> dependencies.put(target.getName(),
+							Collections.unmodifiableSet(EnumSet.copyOf(dependencyTypes))));
+
+			var beans = module.getSpringBeans().stream()
+					.map(SpringBean::toArchitecturallyEvidentType)
+					.map(BeanSnapshot::of)
+					.sorted(Comparator.comparing(BeanSnapshot::getType))
+					.toList();
+
+			return new ModuleSnapshot(module.getName(), module.getDisplayName(), module.getBasePackage().getName(), types,
+					namedInterfaces, dependencies, beans);
+		}
+
+		private static ModuleSnapshot readFrom(DataInputStream input) throws IOException {
+
+			var name = input.readUTF();
+			var displayName = input.readUTF();
+			var basePackage = input.readUTF();
+
+			var types = new LinkedHashSet<String>();
+			var numberOfTypes = input.readInt();
+
+			for (int i = 0; i < numberOfTypes; i++) {
+				types.add(readType(input, basePackage));
+			}
+
+			var namedInterfaces = new LinkedHashMap<String, Set<String>>();
+			var numberOfInterfaces = input.readInt();
+
+			for (int i = 0; i < numberOfInterfaces; i++) {
+
+				var interfaceName = input.readUTF();
+				var exposed = new LinkedHashSet<String>();
+				var numberOfExposedTypes = input.readInt();
+
+				for (int j = 0; j < numberOfExposedTypes; j++) {
+					exposed.add(input.readUTF());
+				}
+
+				namedInterfaces.put(interfaceName, Collections.unmodifiableSet(exposed));
+			}
+
+			var dependencies = new LinkedHashMap<String, Set<DependencyType>>();
+			var numberOfDependencies = input.readInt();
+			var dependencyTypes = DependencyType.values();
+
+			for (int i = 0; i < numberOfDependencies; i++) {
+
+				var target = input.readUTF();
+				var typesOfDependency = EnumSet.noneOf(DependencyType.class);
+				var mask = input.readInt();
+
+				for (var type : dependencyTypes) {
+					if ((mask & (1 << type.ordinal())) != 0) {
+						typesOfDependency.add(type);
+					}
+				}
+
+				dependencies.put(target, Collections.unmodifiableSet(typesOfDependency));
+			}
+
+			var numberOfBeans = input.readInt();
+			var beans = new ArrayList<BeanSnapshot>(numberOfBeans);
+
+			for (int i = 0; i < numberOfBeans; i++) {
+				beans.add(BeanSnapshot.readFrom(input, basePackage));
+			}
+
+			return new ModuleSnapshot(name, displayName, basePackage, types, namedInterfaces, dependencies, beans);
+		}
+
+		/**
+		 * Returns the name of the module.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public String getName() {
+			return name;
+		}
+
+		/**
+		 * Returns the display name of the module.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public String getDisplayName() {
+			return displayName;
+		}
+
+		/**
+		 * Returns the name of the module's base package.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public String getBasePackage() {
+			return basePackage;
+		}
+
+		/**
+		 * Returns the fully-qualified names of all types contained in the module.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public Set<String> getTypes() {
+			return types;
+		}
+
+		/**
+		 * Returns whether the module contains the type with the given fully-qualified name.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @return whether the module contains the type with the given fully-qualified name.
+		 */
+		public boolean contains(String type) {
+
+			Assert.notNull(type, "Type name must not be null!");
+
+			return types.contains(type);
+		}
+
+		/**
+		 * Returns the fully-qualified names of the types exposed per named interface.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public Map<String, Set<String>> getNamedInterfaces() {
+			return namedInterfaces;
+		}
+
+		/**
+		 * Returns whether the type with the given fully-qualified name is exposed by any of the module's named interfaces.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @return whether the type with the given fully-qualified name is exposed by the module.
+		 */
+		public boolean isExposed(String type) {
+
+			Assert.notNull(type, "Type name must not be null!");
+
+			return namedInterfaces.values().stream().anyMatch(it -> it.contains(type));
+		}
+
+		/**
+		 * Returns the {@link DependencyType}s per name of the modules the module depends on.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public Map<String, Set<DependencyType>> getDependencies() {
+			return dependencies;
+		}
+
+		/**
+		 * Returns the {@link BeanSnapshot}s of all Spring beans declared in the module.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public Collection<BeanSnapshot> getBeans() {
+			return Collections.unmodifiableCollection(beans.values());
+		}
+
+		/**
+		 * Returns the {@link BeanSnapshot} of the Spring bean of the type with the given fully-qualified name.
+		 *
+		 * @param type must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		public Optional<BeanSnapshot> getBean(String type) {
+
+			Assert.notNull(type, "Type name must not be null!");
+
+			return Optional.ofNullable(beans.get(type));
+		}
+
+		private void writeTo(DataOutputStream output) throws IOException {
+
+			output.writeUTF(name);
+			output.writeUTF(displayName);
+			output.writeUTF(basePackage);
+
+			output.writeInt(types.size());
+
+			for (var type : types) {
+				writeType(type, output, basePackage);
+			}
+
+			output.writeInt(namedInterfaces.size());
+
+			for (var entry : namedInterfaces.entrySet()) {
+
+				output.writeUTF(entry.getKey());
+				output.writeInt(entry.getValue().size());
+
+				for (var type : entry.getValue()) {
+					output.writeUTF(type);
+				}
+			}
+
+			output.writeInt(dependencies.size());
+
+			for (var entry : dependencies.entrySet()) {
+
+				output.writeUTF(entry.getKey());
+				output.writeInt(entry.getValue().stream().mapToInt(it -> 1 << it.ordinal()).reduce(0, (l, r) -> l | r));
+			}
+
+			output.writeInt(beans.size());
+
+			for (var bean : beans.values()) {
+				bean.writeTo(output, basePackage);
+			}
+		}
+
+		private Map<String, Object> toJson() {
+
+			var json = new LinkedHashMap<String, Object>();
+
+			json.put("displayName", displayName);
+			json.put("basePackage", basePackage);
+			json.put("dependencies", dependencies.entrySet().stream()
+					.map(it -> Map.of("target", it.getKey(), "types", it.getValue()))
+					.toList());
+
+			return json;
+		}
+	}
+
+	/**
+	 * The snapshot of a Spring bean declared in an {@link ApplicationModule}, capturing the architectural
+	 * characteristics needed to decide about its treatment at runtime (see {@link ArchitecturallyEvidentType}).
+	 *
+	 * @author agent
+	 * @since 1.2
+	 */
+	public static class BeanSnapshot {
+
+		private static final String CONFIGURATION_ANNOTATION = "org.springframework.context.annotation.Configuration";
+		private static final int CONTROLLER = 1, EVENT_LISTENER = 1 << 1, CONFIGURATION = 1 << 2;
+
+		private final String type;
+		private final int flags;
+		private final List<String> referenceTypes;
+		private final Set<String> referenceMethods;
+
+		private BeanSnapshot(String type, int flags, List<String> referenceTypes, Set<String> referenceMethods) {
+
+			this.type = type;
+			this.flags = flags;
+			this.referenceTypes = Collections.unmodifiableList(referenceTypes);
+			this.referenceMethods = Collections.unmodifiableSet(referenceMethods);
+		}
+
+		private static BeanSnapshot of(ArchitecturallyEvidentType type) {
+
+			var flags = (type.isController() ? CONTROLLER : 0)
+					| (type.isEventListener() ? EVENT_LISTENER : 0)
+					| (type.getType().isMetaAnnotatedWith(CONFIGURATION_ANNOTATION) ? CONFIGURATION : 0);
+
+			var referenceTypes = type.isEventListener()
+					? type.getReferenceTypes().map(JavaClass::getName).toList()
+					: List.<String> of();
+
+			var referenceMethods = type.isEventListener()
+					? type.getReferenceMethods()
+							.map(ReferenceMethod::getMethod)
+							.map(BeanSnapshot::toSignature)
+							.collect(Collectors.toCollection(TreeSet::new))
+					: new TreeSet<String>();
+
+			return new BeanSnapshot(type.getType().getName(), flags, referenceTypes, referenceMethods);
+		}
+
+		private static BeanSnapshot readFrom(DataInputStream input, String basePackage) throws IOException {
+
+			var type = readType(input, basePackage);
+			var flags = input.readByte();
+
+			var numberOfReferenceTypes = input.readInt();
+			var referenceTypes = new ArrayList<String>(numberOfReferenceTypes);
+
+			for (int i = 0; i < numberOfReferenceTypes; i++) {
+				referenceTypes.add(readType(input, basePackage));
+			}
+
+			var numberOfReferenceMethods = input.readInt();
+			var referenceMethods = new LinkedHashSet<String>();
+
+			for (int i = 0; i < numberOfReferenceMethods; i++) {
+				referenceMethods.add(input.readUTF());
+			}
+
+			return new BeanSnapshot(type, flags, referenceTypes, referenceMethods);
+		}
+
+		/**
+		 * Returns the fully-qualified name of the bean type.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public String getType() {
+			return type;
+		}
+
+		/**
+		 * Returns whether the bean is a controller.
+		 *
+		 * @return whether the bean is a controller.
+		 * @see ArchitecturallyEvidentType#isController()
+		 */
+		public boolean isController() {
+			return (flags & CONTROLLER) != 0;
+		}
+
+		/**
+		 * Returns whether the bean is an event listener.
+		 *
+		 * @return whether the bean is an event listener.
+		 * @see ArchitecturallyEvidentType#isEventListener()
+		 */
+		public boolean isEventListener() {
+			return (flags & EVENT_LISTENER) != 0;
+		}
+
+		/**
+		 * Returns whether the bean type is a Spring configuration class, i.e. (meta-)annotated with
+		 * {@code @Configuration}.
+		 *
+		 * @return whether the bean type is a Spring configuration class.
+		 */
+		public boolean isConfiguration() {
+			return (flags & CONFIGURATION) != 0;
+		}
+
+		/**
+		 * Returns the fully-qualified names of the event types an event listener listens to.
+		 *
+		 * @return will never be {@literal null}.
+		 * @see ArchitecturallyEvidentType#getReferenceTypes()
+		 */
+		public List<String> getReferenceTypes() {
+			return referenceTypes;
+		}
+
+		/**
+		 * Returns whether the given {@link Method} is one of the event listener methods of the bean.
+		 *
+		 * @param method must not be {@literal null}.
+		 * @return whether the given {@link Method} is one of the event listener methods of the bean.
+		 * @see ArchitecturallyEvidentType#getReferenceMethods()
+		 */
+		public boolean isReferenceMethod(Method method) {
+
+			Assert.notNull(method, "Method must not be null!");
+
+			return !referenceMethods.isEmpty() && referenceMethods.contains(toSignature(method));
+		}
+
+		private void writeTo(DataOutputStream output, String basePackage) throws IOException {
+
+			writeType(type, output, basePackage);
+			output.writeByte(flags);
+
+			output.writeInt(referenceTypes.size());
+
+			for (var referenceType : referenceTypes) {
+				writeType(referenceType, output, basePackage);
+			}
+
+			output.writeInt(referenceMethods.size());
+
+			for (var referenceMethod : referenceMethods) {
+				output.writeUTF(referenceMethod);
+			}
+		}
+
+		private static String toSignature(JavaMethod method) {
+			return toSignature(method.getOwner().getName(), method.getName(),
+					method.getRawParameterTypes().stream().map(JavaClass::getName));
+		}
+
+		private static String toSignature(Method method) {
+			return toSignature(method.getDeclaringClass().getName(), method.getName(),
+					Stream.of(method.getParameterTypes()).map(Class::getName));
+		}
+
+		private static String toSignature(String owner, String name, Stream<String> parameterTypes) {
+			return owner + '#' + name + parameterTypes.collect(Collectors.joining(",", "(", ")"));
+		}
+	}
+}
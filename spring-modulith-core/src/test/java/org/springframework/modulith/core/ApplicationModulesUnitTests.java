@@ -0,0 +1,66 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.core;
+
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.*;
+import static org.assertj.core.api.Assertions.*;
+
+import example.ni.api.ApiType;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import com.tngtech.archunit.core.domain.JavaClass;
+
+/**
+ * Unit tests for {@link ApplicationModules}.
+ *
+ * @author agent
+ */
+class ApplicationModulesUnitTests {
+
+	ApplicationModules modules = new ApplicationModules(ModulithMetadata.of("example"), List.of("example"),
+			resideInAPackage("example.ninvalid.."), false, __ -> true);
+
+	@Test
+	void memoizesDependencyGraphPerModule() {
+
+		var module = modules.getModuleByName("springbean").orElseThrow();
+
+		assertThat(modules.getDependencyGraph(module)).isSameAs(modules.getDependencyGraph(module));
+		assertThat(module.getDependencies(modules).stream().toList())
+				.isEqualTo(module.getDependencies(modules).stream().toList());
+	}
+
+	@Test
+	void servesDependenciesByType() {
+
+		var module = modules.getModuleByName("springbean").orElseThrow();
+		var all = module.getDependencies(modules);
+
+		assertThat(all.containsModuleNamed("ni")).isTrue();
+
+		for (var type : DependencyType.values()) {
+			assertThat(module.getDependencies(modules, type).stream().toList())
+					.isEqualTo(all.withType(type).stream().toList());
+		}
+
+		assertThat(module.getEventsListenedTo(modules)).extracting(JavaClass::getName)
+				.containsExactly(ApiType.class.getName());
+		assertThat(module.detectDependencies(modules)).isSameAs(module.detectDependencies(modules));
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ParallelAnalysis}.
+ *
+ * @author agent
+ */
+class ParallelAnalysisUnitTests {
+
+	@Test
+	void returnsResultsInSourceOrder() {
+
+		var source = IntStream.range(0, 1000).boxed().toList();
+
+		assertThat(ParallelAnalysis.map(source, it -> it * 2))
+				.containsExactlyElementsOf(source.stream().map(it -> it * 2).toList());
+	}
+
+	@Test
+	void propagatesContextClassLoaderToWorkers() {
+
+		var thread = Thread.currentThread();
+		var previous = thread.getContextClassLoader();
+		var classLoader = new URLClassLoader(new URL[0], previous);
+		var source = IntStream.range(0, 100).boxed().toList();
+		Set<ClassLoader> observed = ConcurrentHashMap.newKeySet();
+
+		thread.setContextClassLoader(classLoader);
+
+		try {
+			ParallelAnalysis.map(source, it -> observed.add(Thread.currentThread().getContextClassLoader()));
+		} finally {
+			thread.setContextClassLoader(previous);
+		}
+
+		assertThat(observed).containsExactly(classLoader);
+	}
+
+	@Test
+	void propagatesExceptions() {
+
+		var source = IntStream.range(0, 100).boxed().toList();
+
+		assertThatIllegalStateException().isThrownBy(() -> ParallelAnalysis.map(source, it -> {
+
+			if (it == 42) {
+				throw new IllegalStateException("Failed!");
+			}
+
+			return it;
+		}));
+	}
+}
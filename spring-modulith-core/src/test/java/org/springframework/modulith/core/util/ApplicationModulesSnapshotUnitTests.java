@@ -0,0 +1,197 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.core.util;
+
+import static com.tngtech.archunit.core.domain.JavaClass.Predicates.*;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import example.ni.api.ApiType;
+import example.springbean.SampleEventListener;
+import example.springbean.internal.ServiceImplementation;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.modulith.core.ApplicationModules;
+import org.springframework.modulith.core.ModulithMetadata;
+import org.springframework.modulith.core.util.ApplicationModulesSnapshot.BeanSnapshot;
+
+/**
+ * Unit tests for {@link ApplicationModulesSnapshot}.
+ *
+ * @author agent
+ */
+class ApplicationModulesSnapshotUnitTests {
+
+	static final String PACKAGE = "org.springframework.modulith.core";
+
+	ApplicationModules modules = ApplicationModules.of(PACKAGE);
+
+	@Test
+	void capturesModuleStructure() {
+
+		var snapshot = ApplicationModulesSnapshot.of(modules, "fingerprint");
+
+		assertThat(snapshot.getFingerprint()).isEqualTo("fingerprint");
+		assertThat(snapshot.getModules()).extracting(ApplicationModulesSnapshot.ModuleSnapshot::getName)
+				.containsExactlyElementsOf(modules.stream().map(it -> it.getName()).toList());
+
+		assertThat(snapshot.getModuleByType(ApplicationModulesSnapshot.class.getName()))
+				.hasValueSatisfying(it -> {
+					assertThat(it.getName()).isEqualTo("util");
+					assertThat(it.getBasePackage()).isEqualTo(PACKAGE + ".util");
+					assertThat(it.getTypes()).contains(ApplicationModulesExporter.class.getName());
+				});
+
+		assertThat(snapshot.getModuleByType(String.class.getName())).isEmpty();
+	}
+
+	@Test
+	void roundTripsBinaryFormat() throws IOException {
+
+		var snapshot = ApplicationModulesSnapshot.of(modules, "fingerprint");
+		var output = new ByteArrayOutputStream();
+
+		snapshot.writeTo(output);
+
+		var result = ApplicationModulesSnapshot.readFrom(new ByteArrayInputStream(output.toByteArray()));
+
+		assertThat(result.getFingerprint()).isEqualTo(snapshot.getFingerprint());
+		assertThat(result.getModules()).hasSameSizeAs(snapshot.getModules());
+
+		for (int i = 0; i < snapshot.getModules().size(); i++) {
+
+			var expected = snapshot.getModules().get(i);
+
+			assertThat(result.getModules().get(i)).satisfies(it -> {
+				assertThat(it.getName()).isEqualTo(expected.getName());
+				assertThat(it.getDisplayName()).isEqualTo(expected.getDisplayName());
+				assertThat(it.getBasePackage()).isEqualTo(expected.getBasePackage());
+				assertThat(it.getTypes()).containsExactlyElementsOf(expected.getTypes());
+				assertThat(it.getNamedInterfaces()).isEqualTo(expected.getNamedInterfaces());
+				assertThat(it.getDependencies()).isEqualTo(expected.getDependencies());
+			});
+		}
+
+		assertThat(result.toJson()).isEqualTo(snapshot.toJson());
+	}
+
+	@Test
+	void capturesSpringBeansAndRootModules() throws Exception {
+
+		var snapshot = roundTrip(ApplicationModulesSnapshot.of(getExampleModules()));
+
+		assertThat(snapshot.getModuleByName("springbean")).hasValueSatisfying(module -> {
+
+			assertThat(module.getBeans()).extracting(BeanSnapshot::getType)
+					.containsExactly(SampleEventListener.class.getName(), ServiceImplementation.class.getName());
+
+			assertThat(module.getBean(SampleEventListener.class.getName())).hasValueSatisfying(it -> {
+
+				assertThat(it.isEventListener()).isTrue();
+				assertThat(it.isController()).isFalse();
+				assertThat(it.isConfiguration()).isFalse();
+				assertThat(it.getReferenceTypes()).containsExactly(ApiType.class.getName());
+			});
+
+			assertThat(module.isExposed(SampleEventListener.class.getName())).isTrue();
+			assertThat(module.isExposed(ServiceImplementation.class.getName())).isFalse();
+		});
+
+		assertThat(snapshot.getRootModules()).extracting(it -> it.getBasePackage()).containsExactly("example");
+	}
+
+	@Test
+	void detectsEventListenerMethods() throws Exception {
+
+		var snapshot = roundTrip(ApplicationModulesSnapshot.of(getExampleModules()));
+		var bean = snapshot.getModuleByName("springbean")
+				.flatMap(it -> it.getBean(SampleEventListener.class.getName()))
+				.orElseThrow();
+
+		var listenerMethod = SampleEventListener.class.getDeclaredMethod("on", ApiType.class);
+		var otherMethod = SampleEventListener.class.getDeclaredMethod("someOtherMethod", ApiType.class);
+
+		assertThat(bean.isReferenceMethod(listenerMethod)).isTrue();
+		assertThat(bean.isReferenceMethod(otherMethod)).isFalse();
+	}
+
+	@Test
+	void sortsByModuleOrderLikeApplicationModules() {
+
+		var snapshot = ApplicationModulesSnapshot.of(modules);
+		var candidates = List.<Object> of(String.class, ApplicationModulesExporter.class, ApplicationModules.class);
+
+		assertThat(candidates.stream().sorted(snapshot.getComparator()).toList())
+				.containsExactlyElementsOf(candidates.stream().sorted(modules.getComparator()).toList());
+	}
+
+	@Test
+	void rejectsUnknownFormat() {
+
+		var input = new ByteArrayInputStream("{}".getBytes());
+
+		assertThatIOException().isThrownBy(() -> ApplicationModulesSnapshot.readFrom(input));
+	}
+
+	@Test
+	void computesStableFingerprintPerPackages() {
+
+		var classLoader = getClass().getClassLoader();
+		var fingerprint = ApplicationModulesSnapshot.fingerprint(ModulithMetadata.of(PACKAGE), classLoader);
+
+		assertThat(fingerprint).isNotBlank();
+		assertThat(ApplicationModulesSnapshot.fingerprint(ModulithMetadata.of(PACKAGE), classLoader))
+				.isEqualTo(fingerprint);
+		assertThat(ApplicationModulesSnapshot.fingerprint(ModulithMetadata.of(PACKAGE + ".util"), classLoader))
+				.isNotEqualTo(fingerprint);
+	}
+
+	@Test
+	void fingerprintChangesWithModulithConfiguration() {
+
+		var classLoader = getClass().getClassLoader();
+		var metadata = ModulithMetadata.of(PACKAGE);
+		var fullyQualified = mock(ModulithMetadata.class);
+
+		doReturn(PACKAGE).when(fullyQualified).getSource();
+		doReturn(List.of()).when(fullyQualified).getAdditionalPackages();
+		doReturn(true).when(fullyQualified).useFullyQualifiedModuleNames();
+		doReturn(Stream.empty()).when(fullyQualified).getSharedModuleNames();
+
+		assertThat(ApplicationModulesSnapshot.fingerprint(fullyQualified, classLoader))
+				.isNotEqualTo(ApplicationModulesSnapshot.fingerprint(metadata, classLoader));
+	}
+
+	private static ApplicationModulesSnapshot roundTrip(ApplicationModulesSnapshot snapshot) throws IOException {
+
+		var output = new ByteArrayOutputStream();
+
+		snapshot.writeTo(output);
+
+		return ApplicationModulesSnapshot.readFrom(new ByteArrayInputStream(output.toByteArray()));
+	}
+
+	private static ApplicationModules getExampleModules() {
+		return new ApplicationModules(ModulithMetadata.of("example"), List.of("example"),
+				resideInAPackage("example.ninvalid.."), false, __ -> true) {};
+	}
+}
@@ -15,23 +15,24 @@
  */
 package org.springframework.modulith.events.amqp;
 
-import java.util.concurrent.CompletableFuture;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.amqp.rabbit.core.RabbitMessageOperations;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.expression.BeanFactoryResolver;
+import org.springframework.core.env.Environment;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.modulith.events.EventExternalizationConfiguration;
 import org.springframework.modulith.events.config.EventExternalizationAutoConfiguration;
-import org.springframework.modulith.events.support.BrokerRouting;
+import org.springframework.modulith.events.support.BlockingSendExecutor;
+import org.springframework.modulith.events.support.BrokerRoutingCache;
 import org.springframework.modulith.events.support.DelegatingEventExternalizer;
 
 /**
@@ -50,22 +51,29 @@ class RabbitEventExternalizerConfiguration {
 
 	private static final Logger logger = LoggerFactory.getLogger(RabbitEventExternalizerConfiguration.class);
 
+	@Bean
+	BlockingSendExecutor rabbitSendExecutor(Environment environment) {
+		return BlockingSendExecutor.of("rabbitmq", environment);
+	}
+
 	@Bean
 	DelegatingEventExternalizer rabbitEventExternalizer(EventExternalizationConfiguration configuration,
-			RabbitMessageOperations operations, BeanFactory factory) {
+			RabbitMessageOperations operations, BeanFactory factory,
+			@Qualifier("rabbitSendExecutor") BlockingSendExecutor executor) {
 
 		logger.debug("Registering domain event externalization to RabbitMQ…");
 
 		var context = new StandardEvaluationContext();
 		context.setBeanResolver(new BeanFactoryResolver(factory));
 
-		return new DelegatingEventExternalizer(configuration, (target, payload) -> {
+		var routings = new BrokerRoutingCache(context);
 
-			var routing = BrokerRouting.of(target, context);
+		return new DelegatingEventExternalizer(configuration, (target, payload) -> {
 
-			operations.convertAndSend(routing.getTarget(), routing.getKey(payload), payload);
+			var routing = routings.get(target);
+			var key = routing.getKey(payload);
 
-			return CompletableFuture.completedFuture(null);
+			return executor.execute(() -> operations.convertAndSend(routing.getTarget(), key, payload));
 		});
 	}
 }
@@ -15,13 +15,18 @@
  */
 package org.springframework.modulith.events;
 
+import java.util.Map;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
 
 /**
- * Default implementation of {@link EventExternalizationConfiguration}.
+ * Default implementation of {@link EventExternalizationConfiguration}. Caches the selection and routing decisions per
+ * event type, if the underlying filter or router is known to only depend on the event type. Decisions of filters and
+ * routers that potentially inspect the event instance are evaluated for every event.
  *
  * @author Oliver Drotbohm
  * @since 1.1
@@ -32,15 +37,23 @@ class DefaultEventExternalizationConfiguration implements EventExternalizationCo
 	private final Function<Object, Object> mapper;
 	private final Function<Object, RoutingTarget> router;
 
+	private final @Nullable Map<Class<?>, Boolean> supported;
+	private final @Nullable Map<Class<?>, RoutingTarget> targets;
+	private final ExternalizationCacheStatistics statistics;
+
 	/**
-	 * Creates a new {@link DefaultEventExternalizationConfiguration}
+	 * Creates a new {@link DefaultEventExternalizationConfiguration} caching the decisions of the given filter and router
+	 * per event type if indicated.
 	 *
 	 * @param filter must not be {@literal null}.
+	 * @param filterByType whether the filter only depends on the event type.
 	 * @param mapper must not be {@literal null}.
 	 * @param router must not be {@literal null}.
+	 * @param routeByType whether the router only depends on the event type.
+	 * @since 1.2
 	 */
-	DefaultEventExternalizationConfiguration(Predicate<Object> filter, Function<Object, Object> mapper,
-			Function<Object, RoutingTarget> router) {
+	DefaultEventExternalizationConfiguration(Predicate<Object> filter, boolean filterByType,
+			Function<Object, Object> mapper, Function<Object, RoutingTarget> router, boolean routeByType) {
 
 		Assert.notNull(filter, "Filter must not be null!");
 		Assert.notNull(mapper, "Mapper must not be null!");
@@ -49,6 +62,10 @@ class DefaultEventExternalizationConfiguration implements EventExternalizationCo
 		this.filter = filter;
 		this.mapper = mapper;
 		this.router = router;
+
+		this.supported = filterByType ? new ConcurrentReferenceHashMap<>(25) : null;
+		this.targets = routeByType ? new ConcurrentReferenceHashMap<>(25) : null;
+		this.statistics = new ExternalizationCacheStatistics();
 	}
 
 	/**
@@ -69,7 +86,7 @@ class DefaultEventExternalizationConfiguration implements EventExternalizationCo
 
 		Assert.notNull(event, "Event must not be null!");
 
-		return filter.test(event);
+		return lookup(supported, event, filter::test);
 	}
 
 	/*
@@ -93,6 +110,43 @@ class DefaultEventExternalizationConfiguration implements EventExternalizationCo
 
 		Assert.notNull(event, "Event must not be null!");
 
-		return router.apply(event).verify();
+		return lookup(targets, event, it -> router.apply(it).verify());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.EventExternalizationConfiguration#getCacheStatistics()
+	 */
+	@Override
+	public ExternalizationCacheStatistics getCacheStatistics() {
+		return statistics;
+	}
+
+	private <T> T lookup(@Nullable Map<Class<?>, T> cache, Object event, Function<Object, T> decision) {
+
+		if (cache == null) {
+
+			statistics.uncached();
+
+			return decision.apply(event);
+		}
+
+		var type = event.getClass();
+		var result = cache.get(type);
+
+		if (result != null) {
+
+			statistics.hit();
+
+			return result;
+		}
+
+		statistics.miss();
+
+		// Concurrent misses for the same type compute the same value, so there's no need to lock
+		result = decision.apply(event);
+		cache.put(type, result);
+
+		return result;
 	}
 }
@@ -65,7 +65,9 @@ public interface EventExternalizationConfiguration {
 
 		return DefaultEventExternalizationConfiguration.builder()
 				.selectByPackagesAndFilter(packages, AnnotationTargetLookup::hasExternalizedAnnotation)
-				.routeAll(router);
+				.filteringByType()
+				.routeAll(router)
+				.routingByType();
 	}
 
 	/**
@@ -168,6 +170,18 @@ public interface EventExternalizationConfiguration {
 	 */
 	RoutingTarget determineTarget(Object event);
 
+	/**
+	 * Returns the {@link ExternalizationCacheStatistics} of the selection and routing decisions cached per event type.
+	 * Decisions are only cached if they are known to solely depend on the event type, e.g. if events are selected by
+	 * package, type or annotation and routed by type or the {@code Externalized} annotation.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 1.2
+	 */
+	default ExternalizationCacheStatistics getCacheStatistics() {
+		return ExternalizationCacheStatistics.NONE;
+	}
+
 	/**
 	 * API to define which events are supposed to be selected for externalization.
 	 *
@@ -207,7 +221,7 @@ public interface EventExternalizationConfiguration {
 
 			Assert.hasText(basePackage, "Base package must not be null or empty!");
 
-			return select(it -> it.getClass().getPackageName().startsWith(basePackage));
+			return select(it -> it.getClass().getPackageName().startsWith(basePackage)).filteringByType();
 		}
 
 		/**
@@ -254,7 +268,7 @@ public interface EventExternalizationConfiguration {
 
 			Assert.notNull(type, "Annotation type must not be null!");
 
-			return select(it -> AnnotatedElementUtils.hasAnnotation(it.getClass(), type));
+			return select(it -> AnnotatedElementUtils.hasAnnotation(it.getClass(), type)).filteringByType();
 		}
 
 		/**
@@ -267,7 +281,7 @@ public interface EventExternalizationConfiguration {
 
 			Assert.notNull(type, "Type must not be null!");
 
-			return select(type::isInstance);
+			return select(type::isInstance).filteringByType();
 		}
 
 		/**
@@ -280,7 +294,7 @@ public interface EventExternalizationConfiguration {
 
 			Assert.notNull(predicate, "Predicate must not be null!");
 
-			return select(it -> predicate.test(it.getClass()));
+			return select(it -> predicate.test(it.getClass())).filteringByType();
 		}
 
 		/**
@@ -305,7 +319,8 @@ public interface EventExternalizationConfiguration {
 							.andThen(router)
 							.andThen(RoutingTarget::parse)
 							.andThen(target -> target.withFallback(byFullyQualifiedTypeName().apply(it)))
-							.apply(it));
+							.apply(it))
+					.routingByType();
 		}
 
 		/**
@@ -345,25 +360,32 @@ public interface EventExternalizationConfiguration {
 		};
 
 		private final Predicate<Object> filter;
+		private final boolean filterByType;
 		private final Function<Object, Object> mapper;
 		private final Function<Object, RoutingTarget> router;
+		private final boolean routeByType;
 
 		/**
 		 * Creates a new {@link Router} for the given selector {@link Predicate} and mapper and router {@link Function}s.
 		 *
 		 * @param filter must not be {@literal null}.
+		 * @param filterByType whether the filter only depends on the event type.
 		 * @param mapper must not be {@literal null}.
 		 * @param router must not be {@literal null}.
+		 * @param routeByType whether the router only depends on the event type.
 		 */
-		Router(Predicate<Object> filter, Function<Object, Object> mapper, Function<Object, RoutingTarget> router) {
+		Router(Predicate<Object> filter, boolean filterByType, Function<Object, Object> mapper,
+				Function<Object, RoutingTarget> router, boolean routeByType) {
 
 			Assert.notNull(filter, "Selector must not be null!");
 			Assert.notNull(mapper, "Mapper must not be null!");
 			Assert.notNull(router, "Router must not be null!");
 
 			this.filter = filter;
+			this.filterByType = filterByType;
 			this.mapper = mapper;
 			this.router = router;
+			this.routeByType = routeByType;
 		}
 
 		/**
@@ -372,7 +394,7 @@ public interface EventExternalizationConfiguration {
 		 * @param filter must not be {@literal null}.
 		 */
 		Router(Predicate<Object> filter) {
-			this(filter, Function.identity(), DEFAULT_ROUTER);
+			this(filter, false, Function.identity(), DEFAULT_ROUTER, true);
 		}
 
 		/**
@@ -386,7 +408,7 @@ public interface EventExternalizationConfiguration {
 
 			Assert.notNull(mapper, "Mapper must not be null!");
 
-			return new Router(filter, mapper, router);
+			return new Router(filter, filterByType, mapper, router, routeByType);
 		}
 
 		/**
@@ -408,7 +430,7 @@ public interface EventExternalizationConfiguration {
 					.map(mapper::apply)
 					.orElse(it);
 
-			return new Router(filter, this.mapper.compose(combined), router);
+			return new Router(filter, filterByType, this.mapper.compose(combined), router, routeByType);
 		}
 
 		/**
@@ -417,7 +439,7 @@ public interface EventExternalizationConfiguration {
 		 * @return will never be {@literal null}.
 		 */
 		public Router routeMapped() {
-			return new Router(filter, mapper, router.compose(mapper));
+			return new Router(filter, filterByType, mapper, router.compose(mapper), false);
 		}
 
 		/**
@@ -430,7 +452,7 @@ public interface EventExternalizationConfiguration {
 
 			Assert.notNull(router, "Router must not be null!");
 
-			return new Router(filter, mapper, router);
+			return new Router(filter, filterByType, mapper, router, false);
 		}
 
 		/**
@@ -446,9 +468,9 @@ public interface EventExternalizationConfiguration {
 			Assert.notNull(type, "Type must not be null!");
 			Assert.notNull(router, "Router must not be null!");
 
-			return new Router(filter, mapper, it -> toOptional(type, it)
+			return new Router(filter, filterByType, mapper, it -> toOptional(type, it)
 					.map(router::apply)
-					.orElseGet(() -> this.router.apply(it)));
+					.orElseGet(() -> this.router.apply(it)), false);
 		}
 
 		/**
@@ -467,9 +489,9 @@ public interface EventExternalizationConfiguration {
 			Assert.notNull(type, "Type must not be null!");
 			Assert.notNull(extractor, "Extractor must not be null!");
 
-			return new Router(filter, mapper, it -> toOptional(type, it)
+			return new Router(filter, filterByType, mapper, it -> toOptional(type, it)
 					.map(t -> this.router.apply(t).withKey(extractor.apply(t)))
-					.orElseGet(() -> this.router.apply(it)));
+					.orElseGet(() -> this.router.apply(it)), false);
 		}
 
 		/**
@@ -483,8 +505,8 @@ public interface EventExternalizationConfiguration {
 
 			Assert.notNull(router, "Router must not be null!");
 
-			return new Router(filter, mapper, it -> router.apply(it)
-					.orElseGet(() -> this.router.apply(it)))
+			return new Router(filter, filterByType, mapper, it -> router.apply(it)
+					.orElseGet(() -> this.router.apply(it)), false)
 							.build();
 		}
 
@@ -500,7 +522,9 @@ public interface EventExternalizationConfiguration {
 
 			Assert.notNull(router, "Router must not be null!");
 
-			return routeOptional(it -> router.apply(it.getClass()));
+			return new Router(filter, filterByType, mapper, it -> router.apply(it.getClass())
+					.orElseGet(() -> this.router.apply(it)), routeByType)
+							.build();
 		}
 
 		/**
@@ -513,7 +537,7 @@ public interface EventExternalizationConfiguration {
 
 			Assert.notNull(router, "Router must not be null!");
 
-			return new Router(filter, mapper, it -> router.apply(it.getClass()));
+			return new Router(filter, filterByType, mapper, it -> router.apply(it.getClass()), true);
 		}
 
 		/**
@@ -522,7 +546,27 @@ public interface EventExternalizationConfiguration {
 		 * @return will never be {@literal null}.
 		 */
 		public EventExternalizationConfiguration build() {
-			return new DefaultEventExternalizationConfiguration(filter, mapper, router);
+			return new DefaultEventExternalizationConfiguration(filter, filterByType, mapper, router, routeByType);
+		}
+
+		/**
+		 * Marks the currently configured filter to only depend on the event type, so that its decision can be cached per
+		 * event type.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		Router filteringByType() {
+			return new Router(filter, true, mapper, router, routeByType);
+		}
+
+		/**
+		 * Marks the currently configured router to only depend on the event type, so that its decision can be cached per
+		 * event type.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		Router routingByType() {
+			return new Router(filter, filterByType, mapper, router, true);
 		}
 
 		private static <T> Optional<T> toOptional(Class<T> type, Object source) {
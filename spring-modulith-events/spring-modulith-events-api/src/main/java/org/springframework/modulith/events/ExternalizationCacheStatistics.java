@@ -0,0 +1,91 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counters on how effectively an {@link EventExternalizationConfiguration} caches the selection and routing decisions
+ * that only depend on the event type.
+ *
+ * @author agent
+ * @since 1.2
+ * @see EventExternalizationConfiguration#getCacheStatistics()
+ */
+public class ExternalizationCacheStatistics {
+
+	/**
+	 * Statistics for a configuration that does not cache any decisions.
+	 */
+	static final ExternalizationCacheStatistics NONE = new ExternalizationCacheStatistics();
+
+	private final LongAdder hits, misses, uncached;
+
+	ExternalizationCacheStatistics() {
+
+		this.hits = new LongAdder();
+		this.misses = new LongAdder();
+		this.uncached = new LongAdder();
+	}
+
+	/**
+	 * Returns the number of decisions served from the cache.
+	 *
+	 * @return the number of cache hits.
+	 */
+	public long getHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * Returns the number of decisions computed for an event type for the first time and cached for subsequent events.
+	 *
+	 * @return the number of cache misses.
+	 */
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	/**
+	 * Returns the number of decisions evaluated for the event instance, as they potentially depend on the event's state.
+	 *
+	 * @return the number of uncached decisions.
+	 */
+	public long getUncached() {
+		return uncached.sum();
+	}
+
+	void hit() {
+		hits.increment();
+	}
+
+	void miss() {
+		misses.increment();
+	}
+
+	void uncached() {
+		uncached.increment();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "hits=%s, misses=%s, uncached=%s".formatted(getHits(), getMisses(), getUncached());
+	}
+}
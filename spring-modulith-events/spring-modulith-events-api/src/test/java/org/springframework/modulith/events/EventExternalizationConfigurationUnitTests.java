@@ -131,6 +131,60 @@ class EventExternalizationConfigurationUnitTests {
 		assertThat(target.getKey()).isNull();
 	}
 
+	@Test
+	void cachesTypeOnlyDecisionsPerEventType() {
+
+		var configuration = externalizing()
+				.selectByAnnotation(CustomExternalized.class)
+				.build();
+
+		assertThat(configuration.supports(new SampleEvent())).isTrue();
+		assertThat(configuration.supports(new SampleEvent())).isTrue();
+		assertThat(configuration.supports(new AnotherSampleEvent())).isFalse();
+		assertThat(configuration.determineTarget(new SampleEvent()))
+				.isEqualTo(configuration.determineTarget(new SampleEvent()));
+
+		assertThat(configuration.getCacheStatistics()).satisfies(it -> {
+			assertThat(it.getHits()).isEqualTo(2);
+			assertThat(it.getMisses()).isEqualTo(3);
+			assertThat(it.getUncached()).isZero();
+		});
+	}
+
+	@Test
+	void evaluatesInstanceDependentDecisionsForEveryEvent() {
+
+		var configuration = externalizing()
+				.select(WithKeyProperty.class::isInstance)
+				.routeKey(WithKeyProperty.class, WithKeyProperty::getKey)
+				.build();
+
+		assertThat(configuration.determineTarget(new WithKeyProperty("first")).getKey()).isEqualTo("first");
+		assertThat(configuration.determineTarget(new WithKeyProperty("second")).getKey()).isEqualTo("second");
+
+		assertThat(configuration.supports(new WithKeyProperty("first"))).isTrue();
+
+		assertThat(configuration.getCacheStatistics()).satisfies(it -> {
+			assertThat(it.getHits()).isZero();
+			assertThat(it.getMisses()).isZero();
+			assertThat(it.getUncached()).isEqualTo(3);
+		});
+	}
+
+	@Test
+	void cachesDecisionsOfDefaultConfiguration() {
+
+		var configuration = defaults(List.of("org.springframework.modulith")).build();
+		var event = new KeyOnlyAnnotated();
+
+		assertThat(configuration.supports(event)).isTrue();
+		assertThat(configuration.supports(event)).isTrue();
+		assertThat(configuration.determineTarget(event)).isEqualTo(configuration.determineTarget(event));
+
+		assertThat(configuration.getCacheStatistics().getHits()).isEqualTo(2);
+		assertThat(configuration.getCacheStatistics().getUncached()).isZero();
+	}
+
 	@Retention(RetentionPolicy.RUNTIME)
 	@interface CustomExternalized {
 		String value() default "";
@@ -15,26 +15,55 @@
  */
 package org.springframework.modulith.events.aws.sns;
 
+import io.awspring.cloud.sns.core.CachingTopicArnResolver;
+import io.awspring.cloud.sns.core.DefaultTopicArnResolver;
+import io.awspring.cloud.sns.core.SnsHeaders;
 import io.awspring.cloud.sns.core.SnsNotification;
 import io.awspring.cloud.sns.core.SnsOperations;
 import io.awspring.cloud.sns.core.SnsTemplate;
+import io.awspring.cloud.sns.core.TopicArnResolver;
+import io.awspring.cloud.sns.core.TopicMessageChannel;
+import software.amazon.awssdk.arns.Arn;
+import software.amazon.awssdk.services.sns.SnsClient;
+import software.amazon.awssdk.services.sns.model.PublishBatchRequestEntry;
+import software.amazon.awssdk.services.sns.model.PublishRequest;
+import software.amazon.awssdk.services.sns.model.PublishResponse;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.context.expression.BeanFactoryResolver;
+import org.springframework.core.env.Environment;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.lang.Nullable;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.messaging.converter.MessageConverter;
 import org.springframework.modulith.events.EventExternalizationConfiguration;
+import org.springframework.modulith.events.RoutingTarget;
 import org.springframework.modulith.events.config.EventExternalizationAutoConfiguration;
-import org.springframework.modulith.events.support.BrokerRouting;
+import org.springframework.modulith.events.core.EventPublicationRegistry;
+import org.springframework.modulith.events.support.BlockingSendExecutor;
+import org.springframework.modulith.events.support.BrokerRoutingCache;
 import org.springframework.modulith.events.support.DelegatingEventExternalizer;
+import org.springframework.modulith.events.support.ExternalizationBatcher;
+import org.springframework.modulith.events.support.ExternalizationBatcher.Entry;
+import org.springframework.util.Assert;
 
 /**
  * Auto-configuration to set up a {@link DelegatingEventExternalizer} to externalize events to SNS.
@@ -44,7 +73,8 @@ import org.springframework.modulith.events.support.DelegatingEventExternalizer;
  * @since 1.1
  */
 @AutoConfiguration
-@AutoConfigureAfter(EventExternalizationAutoConfiguration.class)
+@AutoConfigureAfter(value = EventExternalizationAutoConfiguration.class,
+		name = "io.awspring.cloud.autoconfigure.sns.SnsAutoConfiguration")
 @ConditionalOnClass(SnsTemplate.class)
 @ConditionalOnProperty(name = "spring.modulith.events.externalization.enabled",
 		havingValue = "true",
@@ -53,18 +83,37 @@ class SnsEventExternalizerConfiguration {
 
 	private static final Logger logger = LoggerFactory.getLogger(SnsEventExternalizerConfiguration.class);
 
+	@Bean
+	BlockingSendExecutor snsSendExecutor(Environment environment) {
+		return BlockingSendExecutor.of("sns", environment);
+	}
+
 	@Bean
 	DelegatingEventExternalizer snsEventExternalizer(EventExternalizationConfiguration configuration,
-			SnsOperations operations, BeanFactory factory) {
+			SnsOperations operations, BeanFactory factory, Environment environment,
+			@Qualifier("snsSendExecutor") BlockingSendExecutor executor,
+			@Qualifier("snsExternalizationBatcher") ObjectProvider<ExternalizationBatcher> batcher) {
 
 		logger.debug("Registering domain event externalization to SNS…");
 
-		var context = new StandardEvaluationContext();
-		context.setBeanResolver(new BeanFactoryResolver(factory));
+		var batching = batcher.getIfAvailable();
+
+		if (batching != null) {
+
+			logger.debug("Batching domain events externalized to SNS.");
+
+			return new DelegatingEventExternalizer(configuration, batching::add);
+		}
+
+		if (ExternalizationBatcher.isEnabled(environment)) {
+			logger.warn("Batching requires an SnsClient and an SnsTemplate! Sending domain events individually.");
+		}
+
+		var routings = routings(factory);
 
 		return new DelegatingEventExternalizer(configuration, (target, payload) -> {
 
-			var routing = BrokerRouting.of(target, context);
+			var routing = routings.get(target);
 			var builder = SnsNotification.builder(payload);
 			var key = routing.getKey(payload);
 
@@ -73,9 +122,190 @@ class SnsEventExternalizerConfiguration {
 				builder.groupId(key);
 			}
 
-			operations.sendNotification(routing.getTarget(), builder.build());
+			var notification = builder.build();
 
-			return CompletableFuture.completedFuture(null);
+			return executor.execute(() -> operations.sendNotification(routing.getTarget(), notification));
 		});
 	}
+
+	private static BrokerRoutingCache routings(BeanFactory factory) {
+
+		var context = new StandardEvaluationContext();
+		context.setBeanResolver(new BeanFactoryResolver(factory));
+
+		return new BrokerRoutingCache(context);
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty(name = ExternalizationBatcher.ENABLED, havingValue = "true")
+	@ConditionalOnBean({ SnsClient.class, SnsTemplate.class })
+	static class BatchingConfiguration {
+
+		@Bean
+		ExternalizationBatcher snsExternalizationBatcher(SnsClient client, SnsTemplate template,
+				ObjectProvider<TopicArnResolver> topics, ObjectProvider<EventPublicationRegistry> registry,
+				BeanFactory factory, Environment environment, @Qualifier("snsSendExecutor") BlockingSendExecutor executor) {
+
+			var resolver = topics.getIfAvailable(() -> new CachingTopicArnResolver(new DefaultTopicArnResolver(client)));
+			var sender = new BatchSender(client, template.getMessageConverter(), resolver, routings(factory), executor);
+
+			return ExternalizationBatcher.of("sns", BatchSender.MAX_BATCH_SIZE, environment, sender,
+					registry.getIfAvailable());
+		}
+	}
+
+	/**
+	 * Sends batches of events in a single {@code PublishBatch} request and fails the entries SNS rejected. The entries
+	 * are created from the payloads exactly like {@link SnsTemplate} creates its {@link PublishRequest}s: converted by the
+	 * template's {@link MessageConverter} and with the headers turned into subject, message group and deduplication
+	 * identifiers and message attributes by a {@link TopicMessageChannel}.
+	 *
+	 * @author agent
+	 * @since 1.2
+	 */
+	static class BatchSender implements ExternalizationBatcher.BatchSender {
+
+		static final int MAX_BATCH_SIZE = 10;
+
+		private final SnsClient client;
+		private final MessageConverter converter;
+		private final TopicArnResolver topics;
+		private final BrokerRoutingCache routings;
+		private final BlockingSendExecutor executor;
+
+		/**
+		 * Creates a new {@link BatchSender} for the given {@link SnsClient}, {@link MessageConverter},
+		 * {@link TopicArnResolver}, {@link BrokerRoutingCache} and {@link BlockingSendExecutor}.
+		 *
+		 * @param client must not be {@literal null}.
+		 * @param converter must not be {@literal null}.
+		 * @param topics must not be {@literal null}.
+		 * @param routings must not be {@literal null}.
+		 * @param executor must not be {@literal null}.
+		 */
+		BatchSender(SnsClient client, MessageConverter converter, TopicArnResolver topics, BrokerRoutingCache routings,
+				BlockingSendExecutor executor) {
+
+			Assert.notNull(client, "SnsClient must not be null!");
+			Assert.notNull(converter, "MessageConverter must not be null!");
+			Assert.notNull(topics, "TopicArnResolver must not be null!");
+			Assert.notNull(routings, "BrokerRoutingCache must not be null!");
+			Assert.notNull(executor, "BlockingSendExecutor must not be null!");
+
+			this.client = client;
+			this.converter = converter;
+			this.topics = topics;
+			this.routings = routings;
+			this.executor = executor;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.modulith.events.support.ExternalizationBatcher.BatchSender#send(org.springframework.modulith.events.RoutingTarget, java.util.List)
+		 */
+		@Override
+		public CompletableFuture<?> send(RoutingTarget target, List<Entry> entries) {
+
+			var routing = routings.get(target);
+
+			return executor.execute(() -> {
+
+				var topicArn = topics.resolveTopicArn(routing.getTarget());
+				var requestEntries = new ArrayList<PublishBatchRequestEntry>(entries.size());
+
+				for (var i = 0; i < entries.size(); i++) {
+
+					var payload = entries.get(i).getPayload();
+					var request = toPublishRequest(payload, routing.getKey(payload), topicArn);
+
+					requestEntries.add(PublishBatchRequestEntry.builder()
+							.id(String.valueOf(i))
+							.message(request.message())
+							.subject(request.subject())
+							.messageAttributes(request.messageAttributes())
+							.messageGroupId(request.messageGroupId())
+							.messageDeduplicationId(request.messageDeduplicationId())
+							.build());
+				}
+
+				var response = client.publishBatch(request -> request
+						.topicArn(topicArn.toString())
+						.publishBatchRequestEntries(requestEntries));
+
+				response.failed().forEach(it -> entries.get(Integer.parseInt(it.id()))
+						.fail(new IllegalStateException(it.message())));
+			});
+		}
+
+		/**
+		 * Creates the {@link PublishRequest} {@link SnsTemplate#sendNotification(String, SnsNotification)} would issue for
+		 * the given payload and key.
+		 *
+		 * @param payload must not be {@literal null}.
+		 * @param key the message group identifier, can be {@literal null}.
+		 * @param topicArn must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		PublishRequest toPublishRequest(Object payload, @Nullable String key, Arn topicArn) {
+
+			var headers = new HashMap<String, Object>();
+
+			// when routing key is set, SNS topic must be a FIFO topic
+			if (key != null) {
+				headers.put(SnsHeaders.MESSAGE_GROUP_ID_HEADER, key);
+			}
+
+			Message<?> message = converter.toMessage(payload, new MessageHeaders(headers));
+
+			if (message == null) {
+				throw new MessageConversionException("Unable to convert payload of type " + payload.getClass().getName()
+						+ " with " + converter.getClass().getName() + "!");
+			}
+
+			var capture = new RequestCapturingClient();
+
+			new TopicMessageChannel(capture, topicArn).send(message);
+
+			return capture.request;
+		}
+	}
+
+	/**
+	 * An {@link SnsClient} that only records the {@link PublishRequest} it is handed instead of sending it.
+	 *
+	 * @author agent
+	 * @since 1.2
+	 */
+	private static class RequestCapturingClient implements SnsClient {
+
+		private PublishRequest request;
+
+		/*
+		 * (non-Javadoc)
+		 * @see software.amazon.awssdk.services.sns.SnsClient#publish(software.amazon.awssdk.services.sns.model.PublishRequest)
+		 */
+		@Override
+		public PublishResponse publish(PublishRequest request) {
+
+			this.request = request;
+
+			return PublishResponse.builder().build();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see software.amazon.awssdk.core.SdkClient#serviceName()
+		 */
+		@Override
+		public String serviceName() {
+			return SERVICE_NAME;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see software.amazon.awssdk.utils.SdkAutoCloseable#close()
+		 */
+		@Override
+		public void close() {}
+	}
 }
@@ -19,12 +19,20 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import io.awspring.cloud.sns.core.SnsOperations;
+import io.awspring.cloud.sns.core.SnsTemplate;
+import software.amazon.awssdk.arns.Arn;
+import software.amazon.awssdk.services.sns.SnsClient;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.modulith.events.EventExternalizationConfiguration;
+import org.springframework.modulith.events.aws.sns.SnsEventExternalizerConfiguration.BatchSender;
+import org.springframework.modulith.events.support.BlockingSendExecutor;
+import org.springframework.modulith.events.support.BrokerRoutingCache;
 import org.springframework.modulith.events.support.DelegatingEventExternalizer;
+import org.springframework.modulith.events.support.ExternalizationBatcher;
 
 /**
  * Integration tests for {@link SnsEventExternalizerConfiguration}.
@@ -53,12 +61,57 @@ class SnsEventExternalizerConfigurationIntegrationTests {
 				});
 	}
 
+	@Test
+	void registersBatchingExternalizerIfEnabled() {
+
+		var client = mock(SnsClient.class);
+
+		setup()
+				.withPropertyValues(ExternalizationBatcher.ENABLED + "=true")
+				.withBean(SnsClient.class, () -> client)
+				.withBean(SnsTemplate.class, () -> new SnsTemplate(client))
+				.run(ctxt -> {
+					assertThat(ctxt).hasSingleBean(DelegatingEventExternalizer.class);
+					assertThat(ctxt).hasBean("snsExternalizationBatcher");
+				});
+	}
+
+	@Test
+	void fallsBackToIndividualSendsIfBatchingIsEnabledWithoutSnsClient() {
+
+		basicSetup()
+				.withPropertyValues(ExternalizationBatcher.ENABLED + "=true")
+				.run(ctxt -> {
+					assertThat(ctxt).hasSingleBean(DelegatingEventExternalizer.class);
+					assertThat(ctxt).doesNotHaveBean(ExternalizationBatcher.class);
+				});
+	}
+
+	@Test
+	void createsBatchEntriesLikeTheTemplate() {
+
+		var client = mock(SnsClient.class);
+		var template = new SnsTemplate(client);
+		var sender = new BatchSender(client, template.getMessageConverter(), it -> Arn.fromString(it),
+				new BrokerRoutingCache(new StandardEvaluationContext()), new BlockingSendExecutor("sns", 1));
+		var topicArn = Arn.fromString("arn:aws:sns:us-east-1:123456789012:topic.fifo");
+
+		var request = sender.toPublishRequest("payload", "key", topicArn);
+
+		assertThat(request.message()).contains("payload");
+		assertThat(request.messageGroupId()).isEqualTo("key");
+		assertThat(request.messageAttributes()).containsKeys("id", "timestamp");
+	}
+
 	private ApplicationContextRunner basicSetup() {
+		return setup().withBean(SnsOperations.class, () -> mock(SnsOperations.class));
+	}
+
+	private ApplicationContextRunner setup() {
 
 		return new ApplicationContextRunner()
 				.withConfiguration(
 						AutoConfigurations.of(SnsEventExternalizerConfiguration.class))
-				.withBean(EventExternalizationConfiguration.class, () -> EventExternalizationConfiguration.disabled())
-				.withBean(SnsOperations.class, () -> mock(SnsOperations.class));
+				.withBean(EventExternalizationConfiguration.class, () -> EventExternalizationConfiguration.disabled());
 	}
 }
@@ -15,25 +15,45 @@
  */
 package org.springframework.modulith.events.aws.sqs;
 
+import io.awspring.cloud.sqs.listener.SqsHeaders;
+import io.awspring.cloud.sqs.operations.SendResult;
+import io.awspring.cloud.sqs.operations.SqsAsyncOperations;
 import io.awspring.cloud.sqs.operations.SqsOperations;
+import io.awspring.cloud.sqs.operations.SqsSendOptions;
 import io.awspring.cloud.sqs.operations.SqsTemplate;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.expression.BeanFactoryResolver;
+import org.springframework.core.env.Environment;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.MessageBuilder;
 import org.springframework.modulith.events.EventExternalizationConfiguration;
 import org.springframework.modulith.events.config.EventExternalizationAutoConfiguration;
+import org.springframework.modulith.events.core.EventPublicationRegistry;
+import org.springframework.modulith.events.support.BlockingSendExecutor;
 import org.springframework.modulith.events.support.BrokerRouting;
+import org.springframework.modulith.events.support.BrokerRoutingCache;
 import org.springframework.modulith.events.support.DelegatingEventExternalizer;
+import org.springframework.modulith.events.support.ExternalizationBatcher;
+import org.springframework.modulith.events.support.ExternalizationBatcher.Entry;
 
 /**
  * Auto-configuration to set up a {@link DelegatingEventExternalizer} to externalize events to SQS.
@@ -51,29 +71,142 @@ import org.springframework.modulith.events.support.DelegatingEventExternalizer;
 class SqsEventExternalizerConfiguration {
 
 	private static final Logger logger = LoggerFactory.getLogger(SqsEventExternalizerConfiguration.class);
+	private static final int MAX_BATCH_SIZE = 10;
+
+	/**
+	 * Only used to run blocking sends in case no {@link SqsAsyncOperations} are available.
+	 *
+	 * @param environment must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	@Bean
+	BlockingSendExecutor sqsSendExecutor(Environment environment) {
+		return BlockingSendExecutor.of("sqs", environment);
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = ExternalizationBatcher.ENABLED, havingValue = "true")
+	ExternalizationBatcher sqsExternalizationBatcher(ObjectProvider<SqsAsyncOperations> asyncOperations,
+			ObjectProvider<SqsOperations> operations, ObjectProvider<EventPublicationRegistry> registry,
+			BeanFactory factory, Environment environment, @Qualifier("sqsSendExecutor") BlockingSendExecutor executor) {
+
+		var routings = routings(factory);
+		var async = asyncOperations.getIfAvailable();
+
+		// Fall back to running the synchronous API on the executor
+		var sync = async != null ? null : operations.getObject();
+
+		return ExternalizationBatcher.of("sqs", MAX_BATCH_SIZE, environment, (target, entries) -> async != null
+				? sendBatch(async, routings.get(target), entries)
+				: sendBatch(sync, executor, routings.get(target), entries), registry.getIfAvailable());
+	}
 
 	@Bean
 	DelegatingEventExternalizer sqsEventExternalizer(EventExternalizationConfiguration configuration,
-			SqsOperations operations, BeanFactory factory) {
+			ObjectProvider<SqsAsyncOperations> asyncOperations, ObjectProvider<SqsOperations> operations,
+			BeanFactory factory, @Qualifier("sqsSendExecutor") BlockingSendExecutor executor,
+			@Qualifier("sqsExternalizationBatcher") ObjectProvider<ExternalizationBatcher> batcher) {
 
 		logger.debug("Registering domain event externalization to SQS…");
 
-		var context = new StandardEvaluationContext();
-		context.setBeanResolver(new BeanFactoryResolver(factory));
+		var batching = batcher.getIfAvailable();
 
-		return new DelegatingEventExternalizer(configuration, (target, payload) -> {
+		if (batching != null) {
+
+			logger.debug("Batching domain events externalized to SQS.");
+
+			return new DelegatingEventExternalizer(configuration, batching::add);
+		}
+
+		var routings = routings(factory);
+		var async = asyncOperations.getIfAvailable();
 
-			var routing = BrokerRouting.of(target, context);
+		// Fall back to running the synchronous API on the executor
+		var sync = async != null ? null : operations.getObject();
 
-			return CompletableFuture.completedFuture(operations.send(sqsSendOptions -> {
+		return new DelegatingEventExternalizer(configuration, (target, payload) -> {
+
+			var routing = routings.get(target);
+			Consumer<SqsSendOptions<Object>> options = it -> {
 
-				var options = sqsSendOptions.queue(routing.getTarget()).payload(payload);
 				var key = routing.getKey(payload);
 
+				it.queue(routing.getTarget()).payload(payload);
+
 				if (key != null) {
-					options.messageGroupId(key);
+					it.messageGroupId(key);
 				}
-			}));
+			};
+
+			return async != null
+					? async.sendAsync(options)
+					: executor.submit(() -> sync.send(options));
 		});
 	}
+
+	private static BrokerRoutingCache routings(BeanFactory factory) {
+
+		var context = new StandardEvaluationContext();
+		context.setBeanResolver(new BeanFactoryResolver(factory));
+
+		return new BrokerRoutingCache(context);
+	}
+
+	/**
+	 * Sends the given {@link Entry} instances in a single {@code SendMessageBatch} request and fails the ones SQS
+	 * rejected.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param routing must not be {@literal null}.
+	 * @param entries must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static CompletableFuture<?> sendBatch(SqsAsyncOperations operations, BrokerRouting routing, List<Entry> entries) {
+		return sendBatch(routing, entries, messages -> operations.sendManyAsync(routing.getTarget(), messages));
+	}
+
+	/**
+	 * Sends the given {@link Entry} instances in a single {@code SendMessageBatch} request issued via the synchronous
+	 * {@link SqsOperations} on the given {@link BlockingSendExecutor} and fails the ones SQS rejected.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 * @param routing must not be {@literal null}.
+	 * @param entries must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static CompletableFuture<?> sendBatch(SqsOperations operations, BlockingSendExecutor executor, BrokerRouting routing,
+			List<Entry> entries) {
+
+		return sendBatch(routing, entries,
+				messages -> executor.submit(() -> operations.sendMany(routing.getTarget(), messages)));
+	}
+
+	private static CompletableFuture<?> sendBatch(BrokerRouting routing, List<Entry> entries,
+			Function<List<Message<Object>>, CompletableFuture<SendResult.Batch<Object>>> send) {
+
+		var entriesByMessageId = new HashMap<UUID, Entry>(entries.size());
+		var messages = new ArrayList<Message<Object>>(entries.size());
+
+		for (var entry : entries) {
+
+			var payload = entry.getPayload();
+			var builder = MessageBuilder.withPayload(payload);
+			var key = routing.getKey(payload);
+
+			if (key != null) {
+				builder.setHeader(SqsHeaders.MessageSystemAttributes.SQS_MESSAGE_GROUP_ID_HEADER, key);
+			}
+
+			var message = builder.build();
+
+			entriesByMessageId.put(message.getHeaders().getId(), entry);
+			messages.add(message);
+		}
+
+		return send.apply(messages)
+				.thenAccept(result -> result.failed().forEach(it -> entriesByMessageId
+						.get(it.message().getHeaders().getId())
+						.fail(new IllegalStateException(it.errorMessage()))));
+	}
 }
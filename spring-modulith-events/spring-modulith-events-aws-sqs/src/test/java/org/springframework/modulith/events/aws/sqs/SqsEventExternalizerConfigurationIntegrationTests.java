@@ -16,15 +16,31 @@
 package org.springframework.modulith.events.aws.sqs;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import io.awspring.cloud.sqs.operations.SendResult;
+import io.awspring.cloud.sqs.operations.SqsAsyncOperations;
 import io.awspring.cloud.sqs.operations.SqsOperations;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.messaging.Message;
 import org.springframework.modulith.events.EventExternalizationConfiguration;
+import org.springframework.modulith.events.RoutingTarget;
+import org.springframework.modulith.events.support.BlockingSendExecutor;
+import org.springframework.modulith.events.support.BrokerRoutingCache;
 import org.springframework.modulith.events.support.DelegatingEventExternalizer;
+import org.springframework.modulith.events.support.ExternalizationBatcher;
 
 /**
  * Integration tests for {@link SqsEventExternalizerConfiguration}.
@@ -53,12 +69,98 @@ class SqsEventExternalizerConfigurationIntegrationTests {
 				});
 	}
 
+	@Test
+	void failsOnlyBatchEntriesRejectedBySqs() {
+
+		var operations = mock(SqsAsyncOperations.class);
+
+		when(operations.sendManyAsync(eq("target"), any())).thenAnswer(invocation -> {
+
+			List<Message<Object>> messages = List.copyOf(invocation.getArgument(1));
+
+			var successful = new SendResult<>(UUID.randomUUID(), "target", messages.get(0), Map.of());
+			var failed = new SendResult.Failed<>("Rejected", "target", messages.get(1), Map.of());
+
+			return CompletableFuture.completedFuture(new SendResult.Batch<>(List.of(successful), List.of(failed)));
+		});
+
+		var routings = new BrokerRoutingCache(new StandardEvaluationContext());
+		var batcher = new ExternalizationBatcher("test", 2, Duration.ofHours(1),
+				(target, entries) -> SqsEventExternalizerConfiguration.sendBatch(operations, routings.get(target), entries));
+		var target = RoutingTarget.forTarget("target").withoutKey();
+
+		var first = batcher.add(target, "first");
+		var second = batcher.add(target, "second");
+
+		assertThat(first).isCompleted();
+		assertThat(second).isCompletedExceptionally();
+	}
+
+	@Test
+	void registersBatchingExternalizerIfEnabled() {
+
+		basicSetup()
+				.withPropertyValues(ExternalizationBatcher.ENABLED + "=true")
+				.run(ctxt -> {
+					assertThat(ctxt).hasSingleBean(DelegatingEventExternalizer.class);
+					assertThat(ctxt).hasBean("sqsExternalizationBatcher");
+				});
+	}
+
+	@Test
+	void fallsBackToSynchronousOperationsOnSendExecutor() {
+
+		var operations = mock(SqsOperations.class);
+
+		new ApplicationContextRunner()
+				.withConfiguration(AutoConfigurations.of(SqsEventExternalizerConfiguration.class))
+				.withBean(EventExternalizationConfiguration.class, () -> EventExternalizationConfiguration.externalizing()
+						.selectByType(String.class)
+						.routeAll(__ -> RoutingTarget.forTarget("target").withoutKey())
+						.build())
+				.withBean(SqsOperations.class, () -> operations)
+				.run(ctxt -> {
+
+					ctxt.getBean(DelegatingEventExternalizer.class).externalize("payload").get(1, TimeUnit.SECONDS);
+
+					verify(operations).send(any());
+				});
+	}
+
+	@Test
+	void failsOnlyBatchEntriesRejectedBySqsViaSynchronousOperations() {
+
+		var operations = mock(SqsOperations.class);
+
+		when(operations.sendMany(eq("target"), any())).thenAnswer(invocation -> {
+
+			List<Message<Object>> messages = List.copyOf(invocation.getArgument(1));
+
+			var successful = new SendResult<>(UUID.randomUUID(), "target", messages.get(0), Map.of());
+			var failed = new SendResult.Failed<>("Rejected", "target", messages.get(1), Map.of());
+
+			return new SendResult.Batch<>(List.of(successful), List.of(failed));
+		});
+
+		var executor = new BlockingSendExecutor("test", 1);
+		var routings = new BrokerRoutingCache(new StandardEvaluationContext());
+		var batcher = new ExternalizationBatcher("test", 2, Duration.ofHours(1), (target,
+				entries) -> SqsEventExternalizerConfiguration.sendBatch(operations, executor, routings.get(target), entries));
+		var target = RoutingTarget.forTarget("target").withoutKey();
+
+		var first = batcher.add(target, "first");
+		var second = batcher.add(target, "second");
+
+		assertThat(first).succeedsWithin(Duration.ofSeconds(1));
+		assertThat(second).failsWithin(Duration.ofSeconds(1));
+	}
+
 	private ApplicationContextRunner basicSetup() {
 
 		return new ApplicationContextRunner()
 				.withConfiguration(
 						AutoConfigurations.of(SqsEventExternalizerConfiguration.class))
 				.withBean(EventExternalizationConfiguration.class, () -> EventExternalizationConfiguration.disabled())
-				.withBean(SqsOperations.class, () -> mock(SqsOperations.class));
+				.withBean(SqsAsyncOperations.class, () -> mock(SqsAsyncOperations.class));
 	}
 }
@@ -16,23 +16,35 @@
 package org.springframework.modulith.events.config;
 
 import java.lang.reflect.Method;
+import java.time.Clock;
+import java.time.Duration;
 
 import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigurationPackages;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Role;
 import org.springframework.context.event.EventListenerFactory;
 import org.springframework.core.Ordered;
+import org.springframework.core.env.Environment;
 import org.springframework.modulith.events.EventExternalizationConfiguration;
 import org.springframework.modulith.events.core.ConditionalEventListener;
+import org.springframework.modulith.events.core.EventPublicationRepository;
+import org.springframework.modulith.events.support.DelegatingEventExternalizer;
+import org.springframework.modulith.events.support.EventExternalizationRelay;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.event.TransactionalApplicationListenerMethodAdapter;
 import org.springframework.transaction.event.TransactionalEventListenerFactory;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionTemplate;
 
 /**
  * Auto-configuration to externalize application events.
@@ -63,6 +75,48 @@ public class EventExternalizationAutoConfiguration {
 		return EventExternalizationConfiguration.defaults(packages).build();
 	}
 
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnProperty(name = EventExternalizationRelay.ENABLED, havingValue = "true")
+	static class RelayConfiguration {
+
+		@Bean
+		@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+		ScheduledEventExternalizationRelay scheduledEventExternalizationRelay(
+				ObjectProvider<EventPublicationRepository> repository,
+				ObjectProvider<DelegatingEventExternalizer> externalizers,
+				ObjectProvider<PlatformTransactionManager> transactionManager, ObjectProvider<Clock> clock,
+				ApplicationEventPublisher publisher, Environment environment) {
+
+			var interval = environment.getProperty(ScheduledEventExternalizationRelay.POLL_INTERVAL, Duration.class,
+					ScheduledEventExternalizationRelay.DEFAULT_POLL_INTERVAL);
+
+			// Looked up lazily as the externalizers are registered by the broker specific auto-configurations
+			return new ScheduledEventExternalizationRelay(() -> {
+
+				var events = repository.getIfAvailable();
+				var candidates = externalizers.orderedStream().toList();
+
+				if (events == null || candidates.isEmpty()) {
+					return null;
+				}
+
+				// All externalizers share the same listener identifier, so that we cannot tell their publications apart
+				if (candidates.size() > 1) {
+					throw new IllegalStateException(
+							"Relaying externalized events requires a single DelegatingEventExternalizer but found %s!"
+									.formatted(candidates.size()));
+				}
+
+				var transactions = transactionManager.getIfAvailable();
+
+				return EventExternalizationRelay.of(events, candidates.get(0),
+						transactions == null ? TransactionOperations.withoutTransaction() : new TransactionTemplate(transactions),
+						publisher, clock.getIfAvailable(() -> Clock.systemUTC()), environment);
+
+			}, interval);
+		}
+	}
+
 	/**
 	 * A custom {@link EventListenerFactory} to create {@link ConditionalTransactionalApplicationListenerMethodAdapter}
 	 * instances.
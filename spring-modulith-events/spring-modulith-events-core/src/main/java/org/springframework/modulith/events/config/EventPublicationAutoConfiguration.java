@@ -28,22 +28,27 @@ import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.task.TaskExecutionProperties;
 import org.springframework.boot.autoconfigure.task.TaskExecutionProperties.Shutdown;
 import org.springframework.context.Lifecycle;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Import;
 import org.springframework.context.annotation.Role;
 import org.springframework.core.env.Environment;
 import org.springframework.lang.NonNull;
 import org.springframework.modulith.events.config.EventPublicationAutoConfiguration.AsyncEnablingConfiguration;
 import org.springframework.modulith.events.core.DefaultEventPublicationRegistry;
+import org.springframework.modulith.events.core.EventPublicationPurger;
 import org.springframework.modulith.events.core.EventPublicationRegistry;
 import org.springframework.modulith.events.core.EventPublicationRepository;
 import org.springframework.modulith.events.support.CompletionRegisteringAdvisor;
 import org.springframework.modulith.events.support.PersistentApplicationEventMulticaster;
+import org.springframework.modulith.events.support.ResubmissionKeyExtractor;
+import org.springframework.modulith.events.support.ResubmissionMetrics;
 import org.springframework.scheduling.annotation.AbstractAsyncConfiguration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
@@ -64,17 +69,27 @@ public class EventPublicationAutoConfiguration extends EventPublicationConfigura
 	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
 	@ConditionalOnBean(EventPublicationRepository.class)
 	DefaultEventPublicationRegistry eventPublicationRegistry(EventPublicationRepository repository,
-			ObjectProvider<Clock> clock) {
-		return super.eventPublicationRegistry(repository, clock);
+			ObjectProvider<Clock> clock, EventPublicationPurger purger, Environment environment) {
+		return super.eventPublicationRegistry(repository, clock, purger, environment);
+	}
+
+	@Override
+	@Bean
+	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+	@ConditionalOnBean(EventPublicationRepository.class)
+	EventPublicationPurger eventPublicationPurger(EventPublicationRepository repository, Environment environment) {
+		return super.eventPublicationPurger(repository, environment);
 	}
 
 	@Bean
 	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
 	@ConditionalOnBean(EventPublicationRegistry.class)
 	static PersistentApplicationEventMulticaster applicationEventMulticaster(
-			ObjectFactory<EventPublicationRegistry> eventPublicationRegistry, ObjectFactory<Environment> environment) {
+			ObjectFactory<EventPublicationRegistry> eventPublicationRegistry, ObjectFactory<Environment> environment,
+			ObjectProvider<ResubmissionKeyExtractor> keyExtractor) {
 
-		return EventPublicationConfiguration.applicationEventMulticaster(eventPublicationRegistry, environment);
+		return EventPublicationConfiguration.applicationEventMulticaster(eventPublicationRegistry, environment,
+				keyExtractor);
 	}
 
 	@Bean
@@ -98,6 +113,35 @@ public class EventPublicationAutoConfiguration extends EventPublicationConfigura
 	@ConditionalOnMissingBean(AbstractAsyncConfiguration.class)
 	static class AsyncEnablingConfiguration {}
 
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(name = "io.micrometer.core.instrument.MeterRegistry")
+	static class ResubmissionMetricsConfiguration {
+
+		@Bean
+		@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+		ResubmissionMetrics resubmissionMetrics(ObjectProvider<PersistentApplicationEventMulticaster> multicaster) {
+			return new ResubmissionMetrics(multicaster::getIfAvailable);
+		}
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnBean(EventPublicationRepository.class)
+	@ConditionalOnProperty(name = ScheduledEventPublicationPurge.CRON)
+	static class PurgeSchedulingConfiguration {
+
+		@Bean
+		@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+		ScheduledEventPublicationPurge scheduledEventPublicationPurge(EventPublicationPurger purger,
+				ObjectProvider<Clock> clock, Environment environment) {
+
+			var olderThan = environment.getProperty(ScheduledEventPublicationPurge.COMPLETED_OLDER_THAN, Duration.class,
+					ScheduledEventPublicationPurge.DEFAULT_COMPLETED_OLDER_THAN);
+
+			return new ScheduledEventPublicationPurge(purger, clock.getIfAvailable(() -> Clock.systemUTC()), olderThan,
+					environment.getRequiredProperty(ScheduledEventPublicationPurge.CRON));
+		}
+	}
+
 	static class AsyncPropertiesDefaulter implements BeanPostProcessor {
 
 		private static final Logger LOGGER = LoggerFactory.getLogger(AsyncPropertiesDefaulter.class);
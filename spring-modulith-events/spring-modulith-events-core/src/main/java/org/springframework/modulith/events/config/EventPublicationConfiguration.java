@@ -24,11 +24,14 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Role;
 import org.springframework.core.env.Environment;
+import org.springframework.modulith.events.core.CoalescingCompletionWriter;
 import org.springframework.modulith.events.core.DefaultEventPublicationRegistry;
+import org.springframework.modulith.events.core.EventPublicationPurger;
 import org.springframework.modulith.events.core.EventPublicationRegistry;
 import org.springframework.modulith.events.core.EventPublicationRepository;
 import org.springframework.modulith.events.support.CompletionRegisteringAdvisor;
 import org.springframework.modulith.events.support.PersistentApplicationEventMulticaster;
+import org.springframework.modulith.events.support.ResubmissionKeyExtractor;
 
 /**
  * Fundamental configuration for the {@link EventPublicationRegistry} support.
@@ -43,17 +46,30 @@ class EventPublicationConfiguration {
 	@Bean
 	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
 	DefaultEventPublicationRegistry eventPublicationRegistry(EventPublicationRepository repository,
-			ObjectProvider<Clock> clock) {
-		return new DefaultEventPublicationRegistry(repository, clock.getIfAvailable(() -> Clock.systemUTC()));
+			ObjectProvider<Clock> clock, EventPublicationPurger purger, Environment environment) {
+
+		var resolved = clock.getIfAvailable(() -> Clock.systemUTC());
+		var writer = CoalescingCompletionWriter.isEnabled(environment)
+				? CoalescingCompletionWriter.of(repository, resolved, environment)
+				: null;
+
+		return new DefaultEventPublicationRegistry(repository, resolved, purger, writer);
+	}
+
+	@Bean
+	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+	EventPublicationPurger eventPublicationPurger(EventPublicationRepository repository, Environment environment) {
+		return EventPublicationPurger.of(repository, environment);
 	}
 
 	@Bean
 	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
 	static PersistentApplicationEventMulticaster applicationEventMulticaster(
-			ObjectFactory<EventPublicationRegistry> eventPublicationRegistry, ObjectFactory<Environment> environment) {
+			ObjectFactory<EventPublicationRegistry> eventPublicationRegistry, ObjectFactory<Environment> environment,
+			ObjectProvider<ResubmissionKeyExtractor> keyExtractor) {
 
 		return new PersistentApplicationEventMulticaster(() -> eventPublicationRegistry.getObject(),
-				() -> environment.getObject());
+				() -> environment.getObject(), () -> keyExtractor.getIfAvailable(() -> ResubmissionKeyExtractor.NONE));
 	}
 
 	@Bean
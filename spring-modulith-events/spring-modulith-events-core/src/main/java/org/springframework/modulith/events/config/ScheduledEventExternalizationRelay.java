@@ -0,0 +1,117 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.config;
+
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.lang.Nullable;
+import org.springframework.modulith.events.support.EventExternalizationRelay;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.util.Assert;
+
+/**
+ * Periodically runs an {@link EventExternalizationRelay} with a fixed delay between the runs. The relay runs on a
+ * scheduler owned by this component and bound to the application context lifecycle, so that it does not depend on, nor
+ * enable, scheduling for the rest of the application.
+ *
+ * @author agent
+ * @since 1.2
+ */
+class ScheduledEventExternalizationRelay implements SmartLifecycle {
+
+	static final String POLL_INTERVAL = "spring.modulith.events.externalization.relay.poll-interval";
+	static final Duration DEFAULT_POLL_INTERVAL = Duration.ofSeconds(1);
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ScheduledEventExternalizationRelay.class);
+
+	private final Supplier<EventExternalizationRelay> relay;
+	private final Duration interval;
+	private final ThreadPoolTaskScheduler scheduler;
+
+	private volatile @Nullable ScheduledFuture<?> relaying;
+
+	/**
+	 * Creates a new {@link ScheduledEventExternalizationRelay} for the given {@link EventExternalizationRelay} and poll
+	 * interval.
+	 *
+	 * @param relay must not be {@literal null}, the {@link Supplier} must return {@literal null} in case there is nothing
+	 *          to relay.
+	 * @param interval must not be {@literal null}.
+	 */
+	ScheduledEventExternalizationRelay(Supplier<EventExternalizationRelay> relay, Duration interval) {
+
+		Assert.notNull(relay, "EventExternalizationRelay must not be null!");
+		Assert.notNull(interval, "Poll interval must not be null!");
+
+		this.relay = relay;
+		this.interval = interval;
+
+		this.scheduler = new ThreadPoolTaskScheduler();
+		this.scheduler.setThreadNamePrefix("modulith-event-relay-");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.Lifecycle#start()
+	 */
+	@Override
+	public void start() {
+
+		var relay = this.relay.get();
+
+		if (relay == null) {
+			LOGGER.warn("Event externalization relay enabled but no event publication repository or externalizer found!");
+			return;
+		}
+
+		scheduler.initialize();
+		relaying = scheduler.scheduleWithFixedDelay(() -> relay(relay), interval);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.Lifecycle#stop()
+	 */
+	@Override
+	public void stop() {
+
+		scheduler.shutdown();
+		relaying = null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.Lifecycle#isRunning()
+	 */
+	@Override
+	public boolean isRunning() {
+		return relaying != null;
+	}
+
+	private static void relay(EventExternalizationRelay relay) {
+
+		var relayed = relay.relay();
+
+		if (relayed > 0) {
+			LOGGER.debug("Relayed {} event publication(s).", relayed);
+		}
+	}
+}
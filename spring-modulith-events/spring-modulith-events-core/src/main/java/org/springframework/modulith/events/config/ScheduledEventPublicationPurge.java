@@ -0,0 +1,118 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.config;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ScheduledFuture;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.lang.Nullable;
+import org.springframework.modulith.events.core.EventPublicationPurger;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.util.Assert;
+
+/**
+ * Periodically purges event publications completed longer ago than a configured {@link Duration} using an
+ * {@link EventPublicationPurger}. The purge runs on a scheduler owned by this component and bound to the application
+ * context lifecycle, so that it does not depend on, nor enable, scheduling for the rest of the application.
+ *
+ * @author agent
+ * @since 1.2
+ */
+class ScheduledEventPublicationPurge implements SmartLifecycle {
+
+	static final String CRON = "spring.modulith.events.purge.schedule.cron";
+	static final String COMPLETED_OLDER_THAN = "spring.modulith.events.purge.schedule.completed-older-than";
+	static final Duration DEFAULT_COMPLETED_OLDER_THAN = Duration.ofDays(7);
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ScheduledEventPublicationPurge.class);
+
+	private final EventPublicationPurger purger;
+	private final Clock clock;
+	private final Duration olderThan;
+	private final CronTrigger trigger;
+	private final ThreadPoolTaskScheduler scheduler;
+
+	private volatile @Nullable ScheduledFuture<?> purge;
+
+	/**
+	 * Creates a new {@link ScheduledEventPublicationPurge} for the given {@link EventPublicationPurger}, {@link Clock},
+	 * {@link Duration} completed publications have to be older than to be purged and cron expression to purge them with.
+	 *
+	 * @param purger must not be {@literal null}.
+	 * @param clock must not be {@literal null}.
+	 * @param olderThan must not be {@literal null}.
+	 * @param cron must not be {@literal null} or empty.
+	 */
+	ScheduledEventPublicationPurge(EventPublicationPurger purger, Clock clock, Duration olderThan, String cron) {
+
+		Assert.notNull(purger, "EventPublicationPurger must not be null!");
+		Assert.notNull(clock, "Clock must not be null!");
+		Assert.notNull(olderThan, "Duration must not be null!");
+		Assert.hasText(cron, "Cron expression must not be null or empty!");
+
+		this.purger = purger;
+		this.clock = clock;
+		this.olderThan = olderThan;
+		this.trigger = new CronTrigger(cron);
+
+		this.scheduler = new ThreadPoolTaskScheduler();
+		this.scheduler.setThreadNamePrefix("modulith-event-purge-");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.Lifecycle#start()
+	 */
+	@Override
+	public void start() {
+
+		scheduler.initialize();
+		purge = scheduler.schedule(this::purge, trigger);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.Lifecycle#stop()
+	 */
+	@Override
+	public void stop() {
+
+		scheduler.shutdown();
+		purge = null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.Lifecycle#isRunning()
+	 */
+	@Override
+	public boolean isRunning() {
+		return purge != null;
+	}
+
+	void purge() {
+
+		var purged = purger.purgeCompletedPublications(clock.instant().minus(olderThan));
+
+		LOGGER.info("Purged {} event publication(s) completed more than {} ago ({} in total in {} run(s)).", purged,
+				olderThan, purger.getPurgedPublications(), purger.getRuns());
+	}
+}
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.core;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * An {@link EventSerializer} that caches the serialized form of an event by the identity of the event instance, so
+ * that storing the publications of an event, completing them and externalizing the event all share the result of a
+ * single serialization. Event instances are only weakly referenced, i.e. cache entries disappear once the event
+ * becomes unreachable. Deserialized events are registered with the serialized form they were read from.
+ * <p>
+ * Events are expected not to be mutated after they have been published, as the cache will not detect such changes.
+ *
+ * @author agent
+ * @since 1.2
+ */
+public class CachingEventSerializer implements EventSerializer {
+
+	private final EventSerializer delegate;
+	private final Map<Key, Object> cache;
+	private final ReferenceQueue<Object> queue;
+	private final LongAdder hits, misses;
+
+	/**
+	 * Creates a new {@link CachingEventSerializer} for the given delegate {@link EventSerializer}.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 */
+	public CachingEventSerializer(EventSerializer delegate) {
+
+		Assert.notNull(delegate, "Delegate EventSerializer must not be null!");
+
+		this.delegate = delegate;
+		this.cache = new ConcurrentHashMap<>();
+		this.queue = new ReferenceQueue<>();
+		this.hits = new LongAdder();
+		this.misses = new LongAdder();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventSerializer#serialize(java.lang.Object)
+	 */
+	@Override
+	public Object serialize(Object event) {
+
+		Assert.notNull(event, "Event must not be null!");
+
+		expungeStaleEntries();
+
+		var cached = cache.get(new Key(event));
+
+		if (cached != null) {
+			hits.increment();
+			return cached;
+		}
+
+		misses.increment();
+
+		var serialized = delegate.serialize(event);
+
+		cache.put(new Key(event, queue), serialized);
+
+		return serialized;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventSerializer#deserialize(java.lang.Object, java.lang.Class)
+	 */
+	@Override
+	public <T> T deserialize(Object serialized, Class<T> type) {
+
+		expungeStaleEntries();
+
+		var result = delegate.deserialize(serialized, type);
+
+		cache.put(new Key(result, queue), serialized);
+
+		return result;
+	}
+
+	/**
+	 * Returns the number of serializations served from the cache.
+	 *
+	 * @return the number of cache hits.
+	 */
+	public long getHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * Returns the number of serializations that had to be delegated to the actual {@link EventSerializer}.
+	 *
+	 * @return the number of cache misses.
+	 */
+	public long getMisses() {
+		return misses.sum();
+	}
+
+	/**
+	 * Returns the number of serialized events currently held in the cache.
+	 *
+	 * @return the current size of the cache.
+	 */
+	public int getSize() {
+
+		expungeStaleEntries();
+
+		return cache.size();
+	}
+
+	private void expungeStaleEntries() {
+
+		Object reference;
+
+		while ((reference = queue.poll()) != null) {
+			cache.remove(reference);
+		}
+	}
+
+	/**
+	 * A weak reference to an event comparing the referents by identity.
+	 *
+	 * @author agent
+	 */
+	private static class Key extends WeakReference<Object> {
+
+		private final int hash;
+
+		/**
+		 * Creates a lookup {@link Key} for the given event.
+		 *
+		 * @param event must not be {@literal null}.
+		 */
+		Key(Object event) {
+
+			super(event);
+
+			this.hash = System.identityHashCode(event);
+		}
+
+		/**
+		 * Creates a {@link Key} for the given event registered with the given {@link ReferenceQueue}.
+		 *
+		 * @param event must not be {@literal null}.
+		 * @param queue must not be {@literal null}.
+		 */
+		Key(Object event, ReferenceQueue<Object> queue) {
+
+			super(event, queue);
+
+			this.hash = System.identityHashCode(event);
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#equals(java.lang.Object)
+		 */
+		@Override
+		public boolean equals(@Nullable Object obj) {
+
+			if (this == obj) {
+				return true;
+			}
+
+			if (!(obj instanceof Key that)) {
+				return false;
+			}
+
+			var referent = get();
+
+			return referent != null && referent == that.get();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.lang.Object#hashCode()
+		 */
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+	}
+}
@@ -0,0 +1,214 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.core;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.PropertyResolver;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Buffers the completions of event publications in memory and writes them to the {@link EventPublicationRepository}
+ * in bulk via {@link EventPublicationRepository#markCompleted(java.util.Collection, java.time.Instant)}, either once
+ * the configured number of completions has been buffered or periodically in the configured interval. This replaces a
+ * transaction per completed publication with a single one per batch. All buffered completions are written
+ * synchronously on {@link #shutdown()}.
+ * <p>
+ * Completions are written with the time of the flush as completion date. Completions still buffered when the
+ * application crashes, or whose write fails, are lost, i.e. their publications stay incomplete and the events are
+ * delivered to the listeners again on resubmission. Listeners thus have to tolerate receiving an event more than once.
+ *
+ * @author agent
+ * @since 1.2
+ */
+public class CoalescingCompletionWriter {
+
+	public static final String ENABLED = "spring.modulith.events.completion.coalescing.enabled";
+	public static final String BATCH_SIZE = "spring.modulith.events.completion.coalescing.batch-size";
+	public static final String INTERVAL = "spring.modulith.events.completion.coalescing.interval";
+
+	static final int DEFAULT_BATCH_SIZE = 500;
+	static final Duration DEFAULT_INTERVAL = Duration.ofMillis(100);
+	static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(10);
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(CoalescingCompletionWriter.class);
+
+	private final EventPublicationRepository repository;
+	private final Clock clock;
+	private final int batchSize;
+	private final ScheduledExecutorService scheduler;
+	private final Object lock;
+
+	private List<UUID> pending;
+
+	/**
+	 * Creates a new {@link CoalescingCompletionWriter} for the given {@link EventPublicationRepository}, {@link Clock},
+	 * batch size and flush interval.
+	 *
+	 * @param repository must not be {@literal null}.
+	 * @param clock must not be {@literal null}.
+	 * @param batchSize the number of buffered completions to write them right away, must be greater than zero.
+	 * @param interval the interval to write buffered completions in, must not be {@literal null} and positive.
+	 */
+	public CoalescingCompletionWriter(EventPublicationRepository repository, Clock clock, int batchSize,
+			Duration interval) {
+
+		Assert.notNull(repository, "EventPublicationRepository must not be null!");
+		Assert.notNull(clock, "Clock must not be null!");
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero!");
+		Assert.notNull(interval, "Interval must not be null!");
+		Assert.isTrue(!interval.isNegative() && !interval.isZero(), "Interval must be positive!");
+
+		var threads = new CustomizableThreadFactory("event-completion-");
+		threads.setDaemon(true);
+
+		this.repository = repository;
+		this.clock = clock;
+		this.batchSize = batchSize;
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(threads);
+		this.lock = new Object();
+		this.pending = new ArrayList<>();
+
+		var millis = Math.max(interval.toMillis(), 1);
+
+		this.scheduler.scheduleWithFixedDelay(this::flush, millis, millis, TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Returns whether coalescing completions is enabled via {@value #ENABLED} in the given {@link PropertyResolver}.
+	 *
+	 * @param resolver must not be {@literal null}.
+	 * @return whether coalescing completions is enabled.
+	 */
+	public static boolean isEnabled(PropertyResolver resolver) {
+
+		Assert.notNull(resolver, "PropertyResolver must not be null!");
+
+		return resolver.getProperty(ENABLED, Boolean.class, false);
+	}
+
+	/**
+	 * Creates a new {@link CoalescingCompletionWriter} for the given {@link EventPublicationRepository} and
+	 * {@link Clock} configured by the {@value #BATCH_SIZE} and {@value #INTERVAL} properties of the given
+	 * {@link PropertyResolver}.
+	 *
+	 * @param repository must not be {@literal null}.
+	 * @param clock must not be {@literal null}.
+	 * @param resolver must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static CoalescingCompletionWriter of(EventPublicationRepository repository, Clock clock,
+			PropertyResolver resolver) {
+
+		Assert.notNull(resolver, "PropertyResolver must not be null!");
+
+		return new CoalescingCompletionWriter(repository, clock,
+				resolver.getProperty(BATCH_SIZE, Integer.class, DEFAULT_BATCH_SIZE),
+				resolver.getProperty(INTERVAL, Duration.class, DEFAULT_INTERVAL));
+	}
+
+	/**
+	 * Buffers the completion of the publication with the given identifier. Writes all buffered completions on the
+	 * calling thread if the batch size is reached, so that callers are slowed down if the store cannot keep up.
+	 *
+	 * @param identifier must not be {@literal null}.
+	 */
+	public void add(UUID identifier) {
+
+		Assert.notNull(identifier, "Identifier must not be null!");
+
+		List<UUID> batch = null;
+
+		synchronized (lock) {
+
+			pending.add(identifier);
+
+			if (pending.size() >= batchSize) {
+				batch = pending;
+				pending = new ArrayList<>();
+			}
+		}
+
+		if (batch != null) {
+			write(batch);
+		}
+	}
+
+	/**
+	 * Writes all currently buffered completions.
+	 */
+	public void flush() {
+
+		List<UUID> batch;
+
+		synchronized (lock) {
+
+			if (pending.isEmpty()) {
+				return;
+			}
+
+			batch = pending;
+			pending = new ArrayList<>();
+		}
+
+		write(batch);
+	}
+
+	/**
+	 * Stops the periodic flushes and writes all completions still buffered. Waits for a periodic flush currently
+	 * running for a bounded amount of time, so that its completions are written before the method returns.
+	 */
+	public void shutdown() {
+
+		scheduler.shutdown();
+
+		try {
+
+			if (!scheduler.awaitTermination(SHUTDOWN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+				LOGGER.warn("Periodic completion write did not finish within {}!", SHUTDOWN_TIMEOUT);
+			}
+
+		} catch (InterruptedException o_O) {
+			Thread.currentThread().interrupt();
+		}
+
+		flush();
+	}
+
+	private void write(List<UUID> identifiers) {
+
+		try {
+
+			repository.markCompleted(identifiers, clock.instant());
+
+			LOGGER.debug("Marked {} event publication(s) completed.", identifiers.size());
+
+		} catch (RuntimeException o_O) {
+			LOGGER.warn("Failed to mark {} event publication(s) completed! They will be resubmitted.",
+					identifiers.size(), o_O);
+		}
+	}
+}
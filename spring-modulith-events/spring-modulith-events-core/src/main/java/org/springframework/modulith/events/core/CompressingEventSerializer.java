@@ -0,0 +1,210 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.core;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.springframework.core.env.PropertyResolver;
+import org.springframework.util.Assert;
+
+/**
+ * An {@link EventSerializer} that compresses the textual representation produced by a delegate {@link EventSerializer}
+ * using Deflate, if it reaches a configurable size. Compressed events are stored as Base64 encoded text prefixed with a
+ * {@value #HEADER} header identifying the format and its version, so that they still fit into the text columns and
+ * properties the stores use for serialized events. Serialized events without the header, like the ones stored before
+ * compression was enabled, are handed to the delegate as is.
+ * <p>
+ * Compression is only meant to be applied to the serialized form persisted by an
+ * {@link EventPublicationRepository}, see {@link #wrapIfEnabled(EventSerializer, PropertyResolver)}, and is not
+ * applied to externalized events. Repositories looking up publications by serialized event rely on Deflate producing
+ * the same output for the same input, which holds for a given JDK and its bundled zlib. Publications stored before an
+ * upgrade changing the Deflate implementation might thus not be found by their serialized event anymore. Completing
+ * publications by identifier, which the registry uses for all publications it tracks as in progress, is not affected.
+ * The delegate is expected to never produce a representation starting with {@value #HEADER} itself.
+ *
+ * @author agent
+ * @since 1.2
+ */
+public class CompressingEventSerializer implements EventSerializer {
+
+	public static final String ENABLED = "spring.modulith.events.serialization.compression.enabled";
+	public static final String THRESHOLD = "spring.modulith.events.serialization.compression.threshold";
+
+	static final String HEADER = "deflate:v1:";
+	static final int DEFAULT_THRESHOLD = 1024;
+
+	private final EventSerializer delegate;
+	private final int threshold;
+
+	/**
+	 * Creates a new {@link CompressingEventSerializer} for the given delegate {@link EventSerializer} and the minimum
+	 * length of the serialized form to compress.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 * @param threshold the minimum number of characters of a serialized event to compress it, must not be negative.
+	 */
+	public CompressingEventSerializer(EventSerializer delegate, int threshold) {
+
+		Assert.notNull(delegate, "Delegate EventSerializer must not be null!");
+		Assert.isTrue(threshold >= 0, "Threshold must not be negative!");
+
+		this.delegate = delegate;
+		this.threshold = threshold;
+	}
+
+	/**
+	 * Returns whether compression is enabled via {@value #ENABLED} in the given {@link PropertyResolver}.
+	 *
+	 * @param resolver must not be {@literal null}.
+	 * @return whether compression is enabled.
+	 */
+	public static boolean isEnabled(PropertyResolver resolver) {
+
+		Assert.notNull(resolver, "PropertyResolver must not be null!");
+
+		return resolver.getProperty(ENABLED, Boolean.class, false);
+	}
+
+	/**
+	 * Creates a new {@link CompressingEventSerializer} for the given delegate {@link EventSerializer} configured by the
+	 * {@value #THRESHOLD} property of the given {@link PropertyResolver}.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 * @param resolver must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static CompressingEventSerializer of(EventSerializer delegate, PropertyResolver resolver) {
+
+		Assert.notNull(resolver, "PropertyResolver must not be null!");
+
+		return new CompressingEventSerializer(delegate,
+				resolver.getProperty(THRESHOLD, Integer.class, DEFAULT_THRESHOLD));
+	}
+
+	/**
+	 * Wraps the given {@link EventSerializer} into a {@link CompressingEventSerializer} if compression is enabled via
+	 * {@value #ENABLED} in the given {@link PropertyResolver}, and returns it as is otherwise. The compressing serializer
+	 * is in turn wrapped into a {@link CachingEventSerializer} so that an event is only compressed once across all of
+	 * its publications.
+	 *
+	 * @param serializer must not be {@literal null}.
+	 * @param resolver must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static EventSerializer wrapIfEnabled(EventSerializer serializer, PropertyResolver resolver) {
+
+		Assert.notNull(serializer, "EventSerializer must not be null!");
+
+		return isEnabled(resolver) ? new CachingEventSerializer(of(serializer, resolver)) : serializer;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventSerializer#serialize(java.lang.Object)
+	 */
+	@Override
+	public Object serialize(Object event) {
+
+		var serialized = delegate.serialize(event);
+
+		if (!(serialized instanceof CharSequence source) || source.length() < threshold) {
+			return serialized;
+		}
+
+		var compressed = HEADER + Base64.getEncoder().encodeToString(deflate(source.toString()));
+
+		// Skip compression if it doesn't pay off, e.g. for already compressed content
+		return compressed.length() < source.length() ? compressed : serialized;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventSerializer#deserialize(java.lang.Object, java.lang.Class)
+	 */
+	@Override
+	public <T> T deserialize(Object serialized, Class<T> type) {
+
+		Assert.notNull(serialized, "Serialized event must not be null!");
+
+		if (serialized instanceof CharSequence source && source.toString().startsWith(HEADER)) {
+
+			var compressed = Base64.getDecoder().decode(source.subSequence(HEADER.length(), source.length()).toString());
+
+			return delegate.deserialize(inflate(compressed), type);
+		}
+
+		return delegate.deserialize(serialized, type);
+	}
+
+	private static byte[] deflate(String source) {
+
+		var deflater = new Deflater(Deflater.BEST_SPEED);
+
+		try {
+
+			deflater.setInput(source.getBytes(StandardCharsets.UTF_8));
+			deflater.finish();
+
+			var output = new ByteArrayOutputStream(source.length() / 4);
+			var buffer = new byte[4096];
+
+			while (!deflater.finished()) {
+				output.write(buffer, 0, deflater.deflate(buffer));
+			}
+
+			return output.toByteArray();
+
+		} finally {
+			deflater.end();
+		}
+	}
+
+	private static String inflate(byte[] compressed) {
+
+		var inflater = new Inflater();
+
+		try {
+
+			inflater.setInput(compressed);
+
+			var output = new ByteArrayOutputStream(compressed.length * 4);
+			var buffer = new byte[4096];
+
+			while (!inflater.finished()) {
+
+				var length = inflater.inflate(buffer);
+
+				if (length == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					throw new IllegalArgumentException("Truncated compressed event!");
+				}
+
+				output.write(buffer, 0, length);
+			}
+
+			return output.toString(StandardCharsets.UTF_8);
+
+		} catch (DataFormatException o_O) {
+			throw new IllegalArgumentException("Invalid compressed event!", o_O);
+		} finally {
+			inflater.end();
+		}
+	}
+}
@@ -75,6 +75,15 @@ class DefaultEventPublication implements TargetEventPublication {
 		return event;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.TargetEventPublication#getEventType()
+	 */
+	@Override
+	public Class<?> getEventType() {
+		return event.getClass();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.modulith.events.EventPublication#getTargetIdentifier()
@@ -17,8 +17,14 @@ package org.springframework.modulith.events.core;
 
 import java.time.Clock;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import org.slf4j.Logger;
@@ -26,8 +32,11 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.modulith.events.CompletedEventPublications;
 import org.springframework.modulith.events.EventPublication;
+import org.springframework.lang.Nullable;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.Assert;
 
 /**
@@ -46,6 +55,11 @@ public class DefaultEventPublicationRegistry
 
 	private final EventPublicationRepository events;
 	private final Clock clock;
+	private final PublicationsInProgress inProgress;
+	private final EventPublicationPurger purger;
+	private final @Nullable CoalescingCompletionWriter writer;
+	private final String owner;
+	private final ThreadLocal<List<UUID>> group;
 
 	/**
 	 * Creates a new {@link DefaultEventPublicationRegistry} for the given {@link EventPublicationRepository}.
@@ -54,12 +68,48 @@ public class DefaultEventPublicationRegistry
 	 * @param clock must not be {@literal null}.
 	 */
 	public DefaultEventPublicationRegistry(EventPublicationRepository events, Clock clock) {
+		this(events, clock, new EventPublicationPurger(events, EventPublicationPurger.DEFAULT_CHUNK_SIZE, Duration.ZERO));
+	}
+
+	/**
+	 * Creates a new {@link DefaultEventPublicationRegistry} for the given {@link EventPublicationRepository},
+	 * {@link Clock} and {@link EventPublicationPurger} to delete publications with.
+	 *
+	 * @param events must not be {@literal null}.
+	 * @param clock must not be {@literal null}.
+	 * @param purger must not be {@literal null}.
+	 * @since 1.2
+	 */
+	public DefaultEventPublicationRegistry(EventPublicationRepository events, Clock clock,
+			EventPublicationPurger purger) {
+		this(events, clock, purger, null);
+	}
+
+	/**
+	 * Creates a new {@link DefaultEventPublicationRegistry} for the given {@link EventPublicationRepository},
+	 * {@link Clock}, {@link EventPublicationPurger} to delete publications with and
+	 * {@link CoalescingCompletionWriter} to defer completions to.
+	 *
+	 * @param events must not be {@literal null}.
+	 * @param clock must not be {@literal null}.
+	 * @param purger must not be {@literal null}.
+	 * @param writer can be {@literal null} to write every completion right away.
+	 * @since 1.2
+	 */
+	public DefaultEventPublicationRegistry(EventPublicationRepository events, Clock clock,
+			EventPublicationPurger purger, @Nullable CoalescingCompletionWriter writer) {
 
 		Assert.notNull(events, "EventPublicationRepository must not be null!");
 		Assert.notNull(clock, "Clock must not be null!");
+		Assert.notNull(purger, "EventPublicationPurger must not be null!");
 
 		this.events = events;
 		this.clock = clock;
+		this.inProgress = new PublicationsInProgress();
+		this.purger = purger;
+		this.writer = writer;
+		this.owner = UUID.randomUUID().toString();
+		this.group = new ThreadLocal<>();
 	}
 
 	/*
@@ -69,10 +119,16 @@ public class DefaultEventPublicationRegistry
 	@Override
 	public Collection<TargetEventPublication> store(Object event, Stream<PublicationTargetIdentifier> listeners) {
 
-		return listeners.map(it -> TargetEventPublication.of(event, it, clock.instant()))
-				.peek(it -> LOGGER.debug(REGISTER, it.getEvent().getClass().getName(), it.getTargetIdentifier().getValue()))
-				.map(events::create)
+		var now = clock.instant();
+		var publications = listeners.map(it -> TargetEventPublication.of(event, it, now))
+				.peek(it -> LOGGER.debug(REGISTER, it.getEventType().getName(), it.getTargetIdentifier().getValue()))
 				.toList();
+
+		if (!publications.isEmpty()) {
+			events.createAll(publications);
+		}
+
+		return publications;
 	}
 
 	/*
@@ -96,6 +152,47 @@ public class DefaultEventPublicationRegistry
 		return events.findIncompletePublicationsPublishedBefore(reference);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRegistry#streamIncompletePublications(java.time.Duration, int)
+	 */
+	@Override
+	public Stream<TargetEventPublication> streamIncompletePublications(@Nullable Duration duration, int pageSize) {
+
+		Assert.isTrue(pageSize > 0, "Page size must be greater than zero!");
+
+		var reference = duration == null ? null : clock.instant().minus(duration);
+
+		// Stores might drop publications they cannot read from a page, so we only stop on an empty one
+		return Stream.iterate(events.findIncompletePublications(reference, null, pageSize), //
+				page -> !page.isEmpty(), //
+				page -> events.findIncompletePublications(reference, page.get(page.size() - 1), pageSize))
+				.flatMap(List::stream);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRegistry#leaseIncompletePublications(java.time.Duration, org.springframework.modulith.events.core.PublicationTargetIdentifier, int, java.time.Duration)
+	 */
+	@Override
+	public Stream<TargetEventPublication> leaseIncompletePublications(@Nullable Duration duration,
+			@Nullable PublicationTargetIdentifier excluded, int pageSize, Duration lease) {
+
+		Assert.isTrue(pageSize > 0, "Page size must be greater than zero!");
+		Assert.notNull(lease, "Lease duration must not be null!");
+		Assert.isTrue(!lease.isNegative(), "Lease duration must not be negative!");
+
+		var now = clock.instant();
+		var reference = duration == null ? null : now.minus(duration);
+
+		// Leases taken during this run expire after its start, so that publications failing again are not re-leased
+		Supplier<List<TargetEventPublication>> page = () -> events.leaseIncompletePublications(reference, excluded,
+				owner, now, clock.instant().plus(lease), pageSize);
+
+		return Stream.iterate(page.get(), it -> !it.isEmpty(), __ -> page.get())
+				.flatMap(List::stream);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.modulith.events.EventPublicationRegistry#markCompleted(java.lang.Object, org.springframework.modulith.events.PublicationTargetIdentifier)
@@ -110,7 +207,132 @@ public class DefaultEventPublicationRegistry
 		LOGGER.debug("Marking publication of event {} to listener {} completed.", //
 				event.getClass().getName(), targetIdentifier.getValue());
 
-		events.markCompleted(event, targetIdentifier, clock.instant());
+		var now = clock.instant();
+		var publication = inProgress.unregister(event, targetIdentifier);
+
+		if (publication != null) {
+			events.markCompleted(publication, now);
+		} else {
+			events.markCompleted(event, targetIdentifier, now);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRegistry#deferCompletion(java.lang.Object, org.springframework.modulith.events.core.PublicationTargetIdentifier)
+	 */
+	@Override
+	public boolean deferCompletion(Object event, PublicationTargetIdentifier targetIdentifier) {
+
+		Assert.notNull(event, "Domain event must not be null!");
+		Assert.notNull(targetIdentifier, "Listener identifier must not be null!");
+
+		var identifiers = group.get();
+
+		// Deferred completions are written by identifier
+		if (writer == null && identifiers == null || !events.supportsCompletionByIdentifier()) {
+			return false;
+		}
+
+		// Publications not in progress have to be looked up by their serialized event synchronously
+		var publication = inProgress.unregister(event, targetIdentifier);
+
+		if (publication == null) {
+			return false;
+		}
+
+		LOGGER.debug("Deferring completion of publication of event {} to listener {}.", //
+				event.getClass().getName(), targetIdentifier.getValue());
+
+		publication.markCompleted(clock.instant());
+
+		if (identifiers != null) {
+			identifiers.add(publication.getIdentifier());
+		} else {
+			writer.add(publication.getIdentifier());
+		}
+
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRegistry#markCompletedInGroup(java.lang.Runnable)
+	 */
+	@Override
+	public void markCompletedInGroup(Runnable completions) {
+
+		Assert.notNull(completions, "Completions must not be null!");
+
+		// Nested groups are written by the outermost one
+		if (group.get() != null) {
+			completions.run();
+			return;
+		}
+
+		var identifiers = new ArrayList<UUID>();
+
+		group.set(identifiers);
+
+		try {
+			completions.run();
+		} finally {
+			group.remove();
+		}
+
+		if (identifiers.isEmpty()) {
+			return;
+		}
+
+		LOGGER.debug("Marking {} publications completed as group.", identifiers.size());
+
+		try {
+			events.markCompleted(identifiers, clock.instant());
+		} catch (RuntimeException o_O) {
+			LOGGER.warn("Failed to mark {} event publication(s) completed! They will be resubmitted.", identifiers.size(),
+					o_O);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRegistry#markInProgress(java.lang.Object, org.springframework.modulith.events.core.TargetEventPublication)
+	 */
+	@Override
+	public void markInProgress(Object event, TargetEventPublication publication) {
+
+		Assert.notNull(event, "Domain event must not be null!");
+		Assert.notNull(publication, "TargetEventPublication must not be null!");
+
+		inProgress.register(event, publication);
+
+		// Drop the in-progress state if the publishing transaction does not commit, as no listener will ever be invoked
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+
+				@Override
+				public void afterCompletion(int status) {
+
+					if (status != STATUS_COMMITTED) {
+						inProgress.unregister(event, publication.getTargetIdentifier());
+					}
+				}
+			});
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRegistry#markFailed(java.lang.Object, org.springframework.modulith.events.core.PublicationTargetIdentifier)
+	 */
+	@Override
+	public void markFailed(Object event, PublicationTargetIdentifier targetIdentifier) {
+
+		Assert.notNull(event, "Domain event must not be null!");
+		Assert.notNull(targetIdentifier, "Listener identifier must not be null!");
+
+		inProgress.unregister(event, targetIdentifier);
 	}
 
 	/*
@@ -122,7 +344,7 @@ public class DefaultEventPublicationRegistry
 
 		Assert.notNull(duration, "Duration must not be null!");
 
-		events.deleteCompletedPublicationsBefore(clock.instant().minus(duration));
+		purger.purgeCompletedPublications(clock.instant().minus(duration));
 	}
 
 	/*
@@ -146,7 +368,7 @@ public class DefaultEventPublicationRegistry
 				.map(TargetEventPublication::getIdentifier)
 				.toList();
 
-		events.deletePublications(identifiers);
+		purger.purgePublications(identifiers);
 	}
 
 	/*
@@ -156,11 +378,10 @@ public class DefaultEventPublicationRegistry
 	@Override
 	public void deletePublicationsOlderThan(Duration duration) {
 
-		var now = clock.instant();
+		Assert.notNull(duration, "Duration must not be null!");
 
-		deletePublications(event -> event.getCompletionDate()
-				.filter(date -> date.isBefore(now.minus(duration)))
-				.isPresent());
+		// Selects the publications in the store instead of filtering all of them in memory
+		purger.purgeCompletedPublications(clock.instant().minus(duration));
 	}
 
 	/*
@@ -170,6 +391,10 @@ public class DefaultEventPublicationRegistry
 	@Override
 	public void destroy() {
 
+		if (writer != null) {
+			writer.shutdown();
+		}
+
 		var publications = events.findIncompletePublications();
 
 		if (publications.isEmpty()) {
@@ -185,7 +410,130 @@ public class DefaultEventPublicationRegistry
 			var prefix = i + 1 == publications.size() ? "└─" : "├─";
 			var it = publications.get(i);
 
-			LOGGER.info("{} {} - {}", prefix, it.getEvent().getClass().getName(), it.getTargetIdentifier().getValue());
+			LOGGER.info("{} {} - {}", prefix, it.getEventType().getName(), it.getTargetIdentifier().getValue());
+		}
+	}
+
+	/**
+	 * The {@link TargetEventPublication}s currently in progress, keyed by the identity of the event instance handed to
+	 * the listener and the {@link PublicationTargetIdentifier}. Allows completing a publication by its identifier
+	 * instead of having to look it up by its serialized event. As a listener might never get invoked for a registered
+	 * publication (e.g. because its condition does not match or an executor rejects the invocation), the number of
+	 * publications held is bounded and the eldest ones are evicted. Completing an evicted publication falls back to the
+	 * lookup by serialized event.
+	 *
+	 * @author agent
+	 * @since 1.2
+	 */
+	static class PublicationsInProgress {
+
+		static final int DEFAULT_CAPACITY = 10_000;
+
+		private final Map<Key, TargetEventPublication> publications;
+
+		/**
+		 * Creates a new {@link PublicationsInProgress} holding at most {@value #DEFAULT_CAPACITY} publications.
+		 */
+		PublicationsInProgress() {
+			this(DEFAULT_CAPACITY);
+		}
+
+		/**
+		 * Creates a new {@link PublicationsInProgress} holding at most the given number of publications.
+		 *
+		 * @param capacity must be greater than zero.
+		 */
+		PublicationsInProgress(int capacity) {
+
+			Assert.isTrue(capacity > 0, "Capacity must be greater than zero!");
+
+			this.publications = new LinkedHashMap<>() {
+
+				private static final long serialVersionUID = 1L;
+
+				/*
+				 * (non-Javadoc)
+				 * @see java.util.LinkedHashMap#removeEldestEntry(java.util.Map.Entry)
+				 */
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<Key, TargetEventPublication> eldest) {
+					return size() > capacity;
+				}
+			};
+		}
+
+		/**
+		 * Registers the given {@link TargetEventPublication} for the given event instance.
+		 *
+		 * @param event must not be {@literal null}.
+		 * @param publication must not be {@literal null}.
+		 */
+		void register(Object event, TargetEventPublication publication) {
+
+			synchronized (publications) {
+				publications.put(new Key(event, publication.getTargetIdentifier()), publication);
+			}
+		}
+
+		/**
+		 * Removes the {@link TargetEventPublication} registered for the given event instance and
+		 * {@link PublicationTargetIdentifier}.
+		 *
+		 * @param event must not be {@literal null}.
+		 * @param identifier must not be {@literal null}.
+		 * @return the removed {@link TargetEventPublication} or {@literal null} if none was registered.
+		 */
+		@Nullable
+		TargetEventPublication unregister(Object event, PublicationTargetIdentifier identifier) {
+
+			synchronized (publications) {
+				return publications.remove(new Key(event, identifier));
+			}
+		}
+
+		/**
+		 * Returns the number of publications currently in progress.
+		 *
+		 * @return the number of publications currently in progress.
+		 */
+		int size() {
+
+			synchronized (publications) {
+				return publications.size();
+			}
+		}
+
+		/**
+		 * Key to identify a publication by the identity of the event instance and the target identifier.
+		 *
+		 * @author agent
+		 */
+		private record Key(Object event, PublicationTargetIdentifier identifier) {
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.lang.Record#equals(java.lang.Object)
+			 */
+			@Override
+			public boolean equals(@Nullable Object obj) {
+
+				if (this == obj) {
+					return true;
+				}
+
+				return obj instanceof Key that
+						&& this.event == that.event
+						&& this.identifier.equals(that.identifier);
+			}
+
+			/*
+			 * (non-Javadoc)
+			 * @see java.lang.Record#hashCode()
+			 */
+			@Override
+			public int hashCode() {
+				return 31 * System.identityHashCode(event) + identifier.hashCode();
+			}
 		}
 	}
 }
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.core;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.PropertyResolver;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Deletes event publications in chunks of a bounded size, optionally pausing between them, so that purging a large
+ * number of completed publications neither results in a single huge transaction nor saturates the database. Each chunk
+ * is deleted by a dedicated call to the {@link EventPublicationRepository}, i.e. in its own transaction unless the
+ * caller runs one already.
+ *
+ * @author agent
+ * @since 1.2
+ */
+public class EventPublicationPurger {
+
+	public static final String CHUNK_SIZE = "spring.modulith.events.purge.chunk-size";
+	public static final String PAUSE = "spring.modulith.events.purge.pause";
+
+	static final int DEFAULT_CHUNK_SIZE = 1000;
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(EventPublicationPurger.class);
+
+	private final EventPublicationRepository events;
+	private final int chunkSize;
+	private final Duration pause;
+
+	private final LongAdder purged, runs;
+	private volatile @Nullable Instant lastRun;
+
+	/**
+	 * Creates a new {@link EventPublicationPurger} for the given {@link EventPublicationRepository}, chunk size and pause
+	 * between chunks.
+	 *
+	 * @param events must not be {@literal null}.
+	 * @param chunkSize must be greater than zero.
+	 * @param pause must not be {@literal null} or negative.
+	 */
+	public EventPublicationPurger(EventPublicationRepository events, int chunkSize, Duration pause) {
+
+		Assert.notNull(events, "EventPublicationRepository must not be null!");
+		Assert.isTrue(chunkSize > 0, "Chunk size must be greater than zero!");
+		Assert.notNull(pause, "Pause must not be null!");
+		Assert.isTrue(!pause.isNegative(), "Pause must not be negative!");
+
+		this.events = events;
+		this.chunkSize = chunkSize;
+		this.pause = pause;
+		this.purged = new LongAdder();
+		this.runs = new LongAdder();
+	}
+
+	/**
+	 * Creates a new {@link EventPublicationPurger} for the given {@link EventPublicationRepository} configured by the
+	 * {@value #CHUNK_SIZE} and {@value #PAUSE} properties of the given {@link PropertyResolver}.
+	 *
+	 * @param events must not be {@literal null}.
+	 * @param resolver must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static EventPublicationPurger of(EventPublicationRepository events, PropertyResolver resolver) {
+
+		Assert.notNull(resolver, "PropertyResolver must not be null!");
+
+		return new EventPublicationPurger(events,
+				resolver.getProperty(CHUNK_SIZE, Integer.class, DEFAULT_CHUNK_SIZE),
+				resolver.getProperty(PAUSE, Duration.class, Duration.ZERO));
+	}
+
+	/**
+	 * Deletes all completed publications, or the ones completed before the given {@link Instant}, chunk by chunk. In the
+	 * latter case, the store gets a chance to remove such publications in bulk before the first chunk is deleted.
+	 *
+	 * @param before the {@link Instant} the publications have to be completed before, {@literal null} to delete all
+	 *          completed ones.
+	 * @return the number of publications deleted.
+	 */
+	public long purgeCompletedPublications(@Nullable Instant before) {
+
+		var start = System.nanoTime();
+		var total = 0L;
+
+		// Bulk removal first and once per run, so that the chunks only hit the remaining publications
+		if (before != null) {
+			events.dropCompletedPublicationsBefore(before);
+		}
+
+		while (true) {
+
+			var deleted = events.deleteCompletedPublications(before, chunkSize);
+
+			total += deleted;
+
+			if (deleted < chunkSize || !pause()) {
+				break;
+			}
+		}
+
+		return recordRun(total, start);
+	}
+
+	/**
+	 * Deletes the publications with the given identifiers chunk by chunk.
+	 *
+	 * @param identifiers must not be {@literal null}.
+	 * @return the number of publications handed to the store for deletion.
+	 */
+	public long purgePublications(List<UUID> identifiers) {
+
+		Assert.notNull(identifiers, "Identifiers must not be null!");
+
+		var start = System.nanoTime();
+		var total = 0L;
+
+		for (var i = 0; i < identifiers.size(); i += chunkSize) {
+
+			if (i > 0 && !pause()) {
+				break;
+			}
+
+			var chunk = identifiers.subList(i, Math.min(i + chunkSize, identifiers.size()));
+
+			events.deletePublications(chunk);
+			total += chunk.size();
+		}
+
+		return recordRun(total, start);
+	}
+
+	/**
+	 * Returns the total number of publications deleted by this purger.
+	 *
+	 * @return the number of deleted publications.
+	 */
+	public long getPurgedPublications() {
+		return purged.sum();
+	}
+
+	/**
+	 * Returns the number of purge runs executed by this purger.
+	 *
+	 * @return the number of runs.
+	 */
+	public long getRuns() {
+		return runs.sum();
+	}
+
+	/**
+	 * Returns the point in time the last purge run finished.
+	 *
+	 * @return can be {@literal null} in case no purge run has been executed yet.
+	 */
+	@Nullable
+	public Instant getLastRun() {
+		return lastRun;
+	}
+
+	private long recordRun(long count, long start) {
+
+		purged.add(count);
+		runs.increment();
+		lastRun = Instant.now();
+
+		LOGGER.debug("Purged {} event publication(s) in {} ms.", count, Duration.ofNanos(System.nanoTime() - start)
+				.toMillis());
+
+		return count;
+	}
+
+	private boolean pause() {
+
+		if (pause.isZero()) {
+			return true;
+		}
+
+		try {
+
+			Thread.sleep(pause.toMillis());
+			return true;
+
+		} catch (InterruptedException o_O) {
+
+			Thread.currentThread().interrupt();
+			return false;
+		}
+	}
+}
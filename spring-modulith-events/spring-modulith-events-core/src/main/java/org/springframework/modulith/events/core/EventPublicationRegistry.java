@@ -20,6 +20,7 @@ import java.util.Collection;
 import java.util.stream.Stream;
 
 import org.springframework.context.ApplicationListener;
+import org.springframework.lang.Nullable;
 
 /**
  * A registry to capture event publications to {@link ApplicationListener}s. Allows to register those publications, mark
@@ -56,6 +57,37 @@ public interface EventPublicationRegistry {
 	 */
 	Collection<TargetEventPublication> findIncompletePublicationsOlderThan(Duration duration);
 
+	/**
+	 * Returns all {@link TargetEventPublication}s that have not been completed yet and have been published before the
+	 * given duration in relation to "now" as {@link Stream}. The publications are looked up lazily in pages of the given
+	 * size, ordered by publication date, so that only a single page is held in memory at a time.
+	 *
+	 * @param duration can be {@literal null} to return all incomplete publications.
+	 * @param pageSize the number of publications to read at once, must be greater than zero.
+	 * @return will never be {@literal null}.
+	 * @since 1.2
+	 */
+	Stream<TargetEventPublication> streamIncompletePublications(@Nullable Duration duration, int pageSize);
+
+	/**
+	 * Returns all {@link TargetEventPublication}s that have not been completed yet and have been published before the
+	 * given duration in relation to "now" as {@link Stream}, leasing them in pages of the given size for the given
+	 * {@link Duration} to the current application instance. Publications leased by other instances are skipped until
+	 * their lease expires, so that multiple instances resubmitting concurrently process disjoint sets of publications.
+	 *
+	 * @param duration can be {@literal null} to return all incomplete publications.
+	 * @param excluded the {@link PublicationTargetIdentifier} whose publications are not to be leased, can be
+	 *          {@literal null}.
+	 * @param pageSize the number of publications to lease at once, must be greater than zero.
+	 * @param lease how long a publication stays leased, must not be {@literal null} or negative.
+	 * @return will never be {@literal null}.
+	 * @since 1.2
+	 * @see EventPublicationRepository#leaseIncompletePublications(java.time.Instant, PublicationTargetIdentifier,
+	 *      String, java.time.Instant, java.time.Instant, int)
+	 */
+	Stream<TargetEventPublication> leaseIncompletePublications(@Nullable Duration duration,
+			@Nullable PublicationTargetIdentifier excluded, int pageSize, Duration lease);
+
 	/**
 	 * Marks the publication for the given event and {@link PublicationTargetIdentifier} as completed.
 	 *
@@ -64,6 +96,59 @@ public interface EventPublicationRegistry {
 	 */
 	void markCompleted(Object event, PublicationTargetIdentifier targetIdentifier);
 
+	/**
+	 * Defers the completion of the publication for the given event and {@link PublicationTargetIdentifier}, i.e. marks
+	 * it completed without writing the completion to the store right away. Callers have to fall back to
+	 * {@link #markCompleted(Object, PublicationTargetIdentifier)} if the completion could not be deferred. Unlike the
+	 * latter, this method is not expected to run in a transaction of its own. The default implementation never defers
+	 * the completion.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @param targetIdentifier must not be {@literal null}.
+	 * @return whether the completion was deferred.
+	 * @since 1.2
+	 * @see CoalescingCompletionWriter
+	 */
+	default boolean deferCompletion(Object event, PublicationTargetIdentifier targetIdentifier) {
+		return false;
+	}
+
+	/**
+	 * Runs the given {@link Runnable} and marks all publications whose completion is
+	 * {@link #deferCompletion(Object, PublicationTargetIdentifier) deferred} on the current thread while it runs
+	 * completed in a single call to the store once it returns. Meant to be used by components completing multiple
+	 * publications at once, e.g. once a batch of externalized events has been sent. The default implementation simply
+	 * runs the given {@link Runnable}, so that the publications are marked completed individually.
+	 *
+	 * @param completions must not be {@literal null}.
+	 * @since 1.2
+	 */
+	default void markCompletedInGroup(Runnable completions) {
+		completions.run();
+	}
+
+	/**
+	 * Registers the given {@link TargetEventPublication} to be in progress for the given event instance, so that a
+	 * subsequent call to {@link #markCompleted(Object, PublicationTargetIdentifier)} or
+	 * {@link #markFailed(Object, PublicationTargetIdentifier)} for the very same event instance can resolve the
+	 * publication by its identifier.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @param publication must not be {@literal null}.
+	 * @since 1.2
+	 */
+	void markInProgress(Object event, TargetEventPublication publication);
+
+	/**
+	 * Marks the publication for the given event and {@link PublicationTargetIdentifier} as failed, i.e. discards any
+	 * in-progress state held for it. The publication itself stays incomplete.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @param targetIdentifier must not be {@literal null}.
+	 * @since 1.2
+	 */
+	void markFailed(Object event, PublicationTargetIdentifier targetIdentifier);
+
 	/**
 	 * Deletes all completed {@link TargetEventPublication}s that have been completed before the given {@link Duration}.
 	 *
@@ -16,10 +16,13 @@
 package org.springframework.modulith.events.core;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.lang.Nullable;
 import org.springframework.util.Assert;
 
 /**
@@ -39,6 +42,20 @@ public interface EventPublicationRepository {
 	 */
 	TargetEventPublication create(TargetEventPublication publication);
 
+	/**
+	 * Persists all given {@link TargetEventPublication}s. Implementations are expected to write all publications in as
+	 * few round trips to the store as possible. The default implementation persists the publications one by one.
+	 *
+	 * @param publications must not be {@literal null}.
+	 * @since 1.2
+	 */
+	default void createAll(Collection<TargetEventPublication> publications) {
+
+		Assert.notNull(publications, "TargetEventPublications must not be null!");
+
+		publications.forEach(this::create);
+	}
+
 	/**
 	 * Marks the given {@link TargetEventPublication} as completed.
 	 *
@@ -55,9 +72,53 @@ public interface EventPublicationRepository {
 		markCompleted(publication.getEvent(), publication.getTargetIdentifier(), completionDate);
 	}
 
+	/**
+	 * Returns whether the repository supports completing publications by their identifier via
+	 * {@link #markCompleted(UUID, Instant)} and {@link #markCompleted(Collection, Instant)}. Callers are expected to
+	 * fall back to {@link #markCompleted(TargetEventPublication, Instant)} otherwise.
+	 *
+	 * @return {@literal false} by default.
+	 * @since 1.2
+	 */
+	default boolean supportsCompletionByIdentifier() {
+		return false;
+	}
+
+	/**
+	 * Marks the publication with the given identifier to be completed at the given {@link Instant}. Only supported if
+	 * {@link #supportsCompletionByIdentifier()} returns {@literal true}.
+	 *
+	 * @param identifier must not be {@literal null}.
+	 * @param completionDate must not be {@literal null}.
+	 * @throws UnsupportedOperationException if the repository does not support completion by identifier.
+	 * @since 1.2
+	 */
+	default void markCompleted(UUID identifier, Instant completionDate) {
+		throw new UnsupportedOperationException("Completing event publications by identifier is not supported!");
+	}
+
+	/**
+	 * Marks the publications with the given identifiers to be completed at the given {@link Instant}. Implementations
+	 * are expected to complete all publications in as few round trips to the store as possible. The default
+	 * implementation completes the publications one by one. Only supported if {@link #supportsCompletionByIdentifier()}
+	 * returns {@literal true}.
+	 *
+	 * @param identifiers must not be {@literal null}.
+	 * @param completionDate must not be {@literal null}.
+	 * @since 1.2
+	 */
+	default void markCompleted(Collection<UUID> identifiers, Instant completionDate) {
+
+		Assert.notNull(identifiers, "Identifiers must not be null!");
+		Assert.notNull(completionDate, "Instant must not be null!");
+
+		identifiers.forEach(it -> markCompleted(it, completionDate));
+	}
+
 	/**
 	 * Marks the publication for the given event and {@link PublicationTargetIdentifier} to be completed at the given
-	 * {@link Instant}.
+	 * {@link Instant}. Prefer {@link #markCompleted(UUID, Instant)} if the publication's identifier is known, as this
+	 * method has to look up the publication by its serialized event.
 	 *
 	 * @param event must not be {@literal null}.
 	 * @param identifier must not be {@literal null}.
@@ -82,6 +143,93 @@ public interface EventPublicationRepository {
 	 */
 	List<TargetEventPublication> findIncompletePublicationsPublishedBefore(Instant instant);
 
+	/**
+	 * Returns a page of at most the given number of {@link TargetEventPublication}s that have not been completed yet,
+	 * ordered by publication date and identifier. Pages are determined by key, i.e. the page returned starts right after
+	 * the given {@link TargetEventPublication}, which usually is the last element of the previous page. This allows
+	 * iterating over a large number of incomplete publications with bounded memory, even if publications get completed
+	 * while doing so. The default implementation loads all incomplete publications and pages them in memory. Store
+	 * implementations are expected to override it with a query that only reads the requested page.
+	 *
+	 * @param publishedBefore the {@link Instant} the publications have to be published before, can be {@literal null}.
+	 * @param after the publication to return the subsequent ones for, {@literal null} for the first page.
+	 * @param limit the maximum number of publications to return, must be greater than zero.
+	 * @return will never be {@literal null}.
+	 * @since 1.2
+	 */
+	default List<TargetEventPublication> findIncompletePublications(@Nullable Instant publishedBefore,
+			@Nullable TargetEventPublication after, int limit) {
+
+		Assert.isTrue(limit > 0, "Limit must be greater than zero!");
+
+		var order = Comparator.comparing(TargetEventPublication::getPublicationDate)
+				.thenComparing(TargetEventPublication::getIdentifier);
+
+		var publications = publishedBefore == null
+				? findIncompletePublications()
+				: findIncompletePublicationsPublishedBefore(publishedBefore);
+
+		return publications.stream()
+				.sorted(order)
+				.filter(it -> after == null || order.compare(it, after) > 0)
+				.limit(limit)
+				.toList();
+	}
+
+	/**
+	 * Claims at most the given number of incomplete {@link TargetEventPublication}s for the given
+	 * {@link PublicationTargetIdentifier}, oldest first, by leasing them to the given owner until the given
+	 * {@link Instant}. Only publications that are not leased or whose lease has expired at the given {@link Instant} are
+	 * considered. As the claim is persisted, the transaction claiming the publications can commit before they are
+	 * processed, and multiple application instances polling concurrently claim disjoint sets of publications. The
+	 * default implementation does not persist any claim and thus only is safe to use from a single application
+	 * instance.
+	 *
+	 * @param identifier must not be {@literal null}.
+	 * @param owner the identifier of the instance claiming the publications, must not be {@literal null} or empty.
+	 * @param now the {@link Instant} to determine expired claims with, must not be {@literal null}.
+	 * @param claimedUntil the {@link Instant} the claim expires, must not be {@literal null}.
+	 * @param limit the maximum number of publications to claim, must be greater than zero.
+	 * @return will never be {@literal null}.
+	 * @since 1.2
+	 * @see #leaseIncompletePublications(Instant, PublicationTargetIdentifier, String, Instant, Instant, int)
+	 */
+	default List<TargetEventPublication> claimIncompletePublications(PublicationTargetIdentifier identifier,
+			String owner, Instant now, Instant claimedUntil, int limit) {
+
+		Assert.notNull(identifier, "PublicationTargetIdentifier must not be null!");
+		Assert.isTrue(limit > 0, "Limit must be greater than zero!");
+
+		return findIncompletePublications().stream()
+				.filter(it -> identifier.equals(it.getTargetIdentifier()))
+				.sorted(Comparator.comparing(TargetEventPublication::getPublicationDate))
+				.limit(limit)
+				.toList();
+	}
+
+	/**
+	 * Leases at most the given number of incomplete {@link TargetEventPublication}s, oldest first, to the given owner
+	 * until the given {@link Instant}. Only publications that are not leased or whose lease has expired at the given
+	 * {@link Instant} are considered. Implementations have to set owner and expiry of the lease atomically, so that
+	 * multiple application instances leasing concurrently obtain disjoint sets of publications. Leases held by an
+	 * instance that crashed are available to others once they have expired.
+	 *
+	 * @param publishedBefore the {@link Instant} the publications have to be published before, can be {@literal null}.
+	 * @param excluded the {@link PublicationTargetIdentifier} whose publications are not to be leased, can be
+	 *          {@literal null}.
+	 * @param owner the identifier of the instance acquiring the lease, must not be {@literal null} or empty.
+	 * @param now the {@link Instant} to determine expired leases with, must not be {@literal null}.
+	 * @param leasedUntil the {@link Instant} the lease acquired expires, must not be {@literal null}.
+	 * @param limit the maximum number of publications to lease, must be greater than zero.
+	 * @return the publications leased, will never be {@literal null}.
+	 * @since 1.2
+	 */
+	default List<TargetEventPublication> leaseIncompletePublications(@Nullable Instant publishedBefore,
+			@Nullable PublicationTargetIdentifier excluded, String owner, Instant now, Instant leasedUntil, int limit) {
+		throw new UnsupportedOperationException(
+				"Your store implementation does not support leasing incomplete publications!");
+	}
+
 	/**
 	 * Return the incomplete {@link TargetEventPublication} for the given serialized event and listener identifier.
 	 *
@@ -122,4 +270,43 @@ public interface EventPublicationRepository {
 	 * @param instant must not be {@literal null}.
 	 */
 	void deleteCompletedPublicationsBefore(Instant instant);
+
+	/**
+	 * Deletes at most the given number of publications that were already marked as completed, optionally only the ones
+	 * completed before the given {@link Instant}. Allows purging a large number of completed publications in bounded
+	 * chunks. The default implementation looks up all completed publications to select the ones to delete. Store
+	 * implementations are expected to override it with a query that only reads the identifiers of a single chunk.
+	 *
+	 * @param before the {@link Instant} the publications have to be completed before, can be {@literal null}.
+	 * @param limit the maximum number of publications to delete, must be greater than zero.
+	 * @return the number of publications deleted.
+	 * @since 1.2
+	 */
+	default int deleteCompletedPublications(@Nullable Instant before, int limit) {
+
+		Assert.isTrue(limit > 0, "Limit must be greater than zero!");
+
+		var identifiers = findCompletedPublications().stream()
+				.filter(it -> before == null || it.getCompletionDate().filter(date -> date.isBefore(before)).isPresent())
+				.limit(limit)
+				.map(TargetEventPublication::getIdentifier)
+				.toList();
+
+		if (!identifiers.isEmpty()) {
+			deletePublications(identifiers);
+		}
+
+		return identifiers.size();
+	}
+
+	/**
+	 * Removes completed publications before the given {@link Instant} in bulk, ahead of a chunked purge via
+	 * {@link #deleteCompletedPublications(Instant, int)}. Invoked once per purge run, so that store implementations can
+	 * discard whole storage units, like table partitions, only containing such publications instead of deleting their
+	 * entries one by one. The default implementation does nothing.
+	 *
+	 * @param before must not be {@literal null}.
+	 * @since 1.2
+	 */
+	default void dropCompletedPublicationsBefore(Instant before) {}
 }
@@ -62,6 +62,18 @@ public interface TargetEventPublication extends Completable, org.springframework
 	 */
 	PublicationTargetIdentifier getTargetIdentifier();
 
+	/**
+	 * Returns the type of the event published. Implementations backed by a store are expected to return the type stored
+	 * alongside the serialized event, so that it can be inspected without deserializing the event. The default
+	 * implementation obtains the type from {@link #getEvent()}.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 1.2
+	 */
+	default Class<?> getEventType() {
+		return getEvent().getClass();
+	}
+
 	/**
 	 * Returns whether the publication is identified by the given {@link PublicationTargetIdentifier}.
 	 *
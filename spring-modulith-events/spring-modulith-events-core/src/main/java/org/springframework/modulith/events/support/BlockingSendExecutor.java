@@ -0,0 +1,157 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.support;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.env.PropertyResolver;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Runs the blocking send operations of broker clients that do not provide an asynchronous API on a dedicated pool of
+ * threads, so that the threads invoking the externalizers do not block on network I/O. The completion of the returned
+ * {@link CompletableFuture}s is what eventually marks the event publication completed.
+ * <p>
+ * Sends not immediately picked up by a pool thread are queued up to a configurable capacity. Once the queue is full,
+ * the send is run on the calling thread, which slows down the producing side to the pace of the broker. The executor is
+ * meant to be registered as Spring bean, so that it is shut down with the application context, waiting for pending
+ * sends for a short while. Sends still pending after that are lost, but their event publications stay incomplete and
+ * can be resubmitted.
+ *
+ * @author agent
+ * @since 1.2
+ */
+public class BlockingSendExecutor implements DisposableBean {
+
+	public static final String POOL_SIZE = "spring.modulith.events.externalization.send-pool-size";
+	public static final String QUEUE_CAPACITY = "spring.modulith.events.externalization.send-queue-capacity";
+
+	static final int DEFAULT_POOL_SIZE = 4;
+	static final int DEFAULT_QUEUE_CAPACITY = 1000;
+
+	private static final long SHUTDOWN_TIMEOUT_SECONDS = 5;
+
+	private final ThreadPoolExecutor executor;
+
+	/**
+	 * Creates a new {@link BlockingSendExecutor} with the given name used as thread name prefix and pool size, queueing
+	 * up to {@value #DEFAULT_QUEUE_CAPACITY} sends.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @param poolSize must be greater than zero.
+	 */
+	public BlockingSendExecutor(String name, int poolSize) {
+		this(name, poolSize, DEFAULT_QUEUE_CAPACITY);
+	}
+
+	/**
+	 * Creates a new {@link BlockingSendExecutor} with the given name used as thread name prefix, pool size and capacity
+	 * of the queue of pending sends.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @param poolSize must be greater than zero.
+	 * @param queueCapacity must be greater than zero.
+	 */
+	public BlockingSendExecutor(String name, int poolSize, int queueCapacity) {
+
+		Assert.hasText(name, "Name must not be null or empty!");
+		Assert.isTrue(poolSize > 0, "Pool size must be greater than zero!");
+		Assert.isTrue(queueCapacity > 0, "Queue capacity must be greater than zero!");
+
+		var threads = new CustomizableThreadFactory(name + "-send-");
+		threads.setDaemon(true);
+
+		this.executor = new ThreadPoolExecutor(poolSize, poolSize, 60, TimeUnit.SECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), threads, BlockingSendExecutor::runOnCaller);
+		this.executor.allowCoreThreadTimeOut(true);
+	}
+
+	/**
+	 * Creates a new {@link BlockingSendExecutor} with the given name, the pool size configured via {@value #POOL_SIZE}
+	 * and the queue capacity configured via {@value #QUEUE_CAPACITY} in the given {@link PropertyResolver}.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @param resolver must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static BlockingSendExecutor of(String name, PropertyResolver resolver) {
+
+		Assert.notNull(resolver, "PropertyResolver must not be null!");
+
+		return new BlockingSendExecutor(name, resolver.getProperty(POOL_SIZE, Integer.class, DEFAULT_POOL_SIZE),
+				resolver.getProperty(QUEUE_CAPACITY, Integer.class, DEFAULT_QUEUE_CAPACITY));
+	}
+
+	/**
+	 * Runs the given send operation on the pool.
+	 *
+	 * @param send must not be {@literal null}.
+	 * @return a {@link CompletableFuture} completed once the send operation has returned, or completed exceptionally if
+	 *         it failed.
+	 */
+	public CompletableFuture<Void> execute(Runnable send) {
+
+		Assert.notNull(send, "Send operation must not be null!");
+
+		return CompletableFuture.runAsync(send, executor);
+	}
+
+	/**
+	 * Runs the given send operation on the pool.
+	 *
+	 * @param send must not be {@literal null}.
+	 * @return a {@link CompletableFuture} completed with the result of the send operation, or completed exceptionally if
+	 *         it failed.
+	 */
+	public <T> CompletableFuture<T> submit(Supplier<T> send) {
+
+		Assert.notNull(send, "Send operation must not be null!");
+
+		return CompletableFuture.supplyAsync(send, executor);
+	}
+
+	/**
+	 * Shuts down the pool, waiting a few seconds for pending sends to complete before interrupting them.
+	 *
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() throws InterruptedException {
+
+		executor.shutdown();
+
+		if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+			executor.shutdownNow();
+		}
+	}
+
+	private static void runOnCaller(Runnable send, ThreadPoolExecutor executor) {
+
+		// Fail instead of silently dropping the send, so that the publication is not considered in progress forever
+		if (executor.isShutdown()) {
+			throw new RejectedExecutionException("Send executor already shut down!");
+		}
+
+		send.run();
+	}
+}
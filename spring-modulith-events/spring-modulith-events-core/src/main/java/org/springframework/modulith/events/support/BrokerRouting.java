@@ -54,7 +54,23 @@ public class BrokerRouting {
 	 * @return will never be {@literal null}.
 	 */
 	public static BrokerRouting of(RoutingTarget target, EvaluationContext context) {
-		return target.hasKeyExpression() ? new SpelBrokerRouting(target, context) : new BrokerRouting(target);
+		return of(target, context, SpelBrokerRouting.PARSER);
+	}
+
+	/**
+	 * Creates a new {@link BrokerRouting} for the given {@link RoutingTarget} and {@link EvaluationContext} using the
+	 * given {@link SpelExpressionParser} to parse a potential key expression.
+	 *
+	 * @param target must not be {@literal null}.
+	 * @param context must not be {@literal null}.
+	 * @param parser must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static BrokerRouting of(RoutingTarget target, EvaluationContext context, SpelExpressionParser parser) {
+
+		return target.hasKeyExpression()
+				? new SpelBrokerRouting(target, context, parser)
+				: new BrokerRouting(target);
 	}
 
 	/**
@@ -86,20 +102,22 @@ public class BrokerRouting {
 	 */
 	static class SpelBrokerRouting extends BrokerRouting {
 
-		private static final SpelExpressionParser PARSER = new SpelExpressionParser();
+		static final SpelExpressionParser PARSER = new SpelExpressionParser();
 		private static final TemplateParserContext CONTEXT = new TemplateParserContext();
 
 		private final Expression expression;
 		private final EvaluationContext context;
 
 		/**
-		 * Creates a new {@link SpelBrokerRouting} for the given {@link RoutingTarget} and {@link EvaluationContext}.
+		 * Creates a new {@link SpelBrokerRouting} for the given {@link RoutingTarget}, {@link EvaluationContext} and
+		 * {@link SpelExpressionParser}.
 		 *
 		 * @param target must not be {@literal null}.
 		 * @param context must not be {@literal null}.
+		 * @param parser must not be {@literal null}.
 		 */
 		@SuppressWarnings("null")
-		private SpelBrokerRouting(RoutingTarget target, EvaluationContext context) {
+		private SpelBrokerRouting(RoutingTarget target, EvaluationContext context, SpelExpressionParser parser) {
 
 			super(target);
 
@@ -107,8 +125,9 @@ public class BrokerRouting {
 
 			Assert.notNull(target.getKey(), "Routing key must not be null!");
 			Assert.notNull(context, "EvaluationContext must not be null!");
+			Assert.notNull(parser, "SpelExpressionParser must not be null!");
 
-			this.expression = PARSER.parseExpression(key, CONTEXT);
+			this.expression = parser.parseExpression(key, CONTEXT);
 			this.context = context;
 		}
 
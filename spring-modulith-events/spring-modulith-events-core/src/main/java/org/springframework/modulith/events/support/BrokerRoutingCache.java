@@ -0,0 +1,88 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.support;
+
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.modulith.events.RoutingTarget;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentLruCache;
+
+/**
+ * A bounded cache of {@link BrokerRouting} instances per {@link RoutingTarget}, so that key expressions are parsed
+ * only once instead of for every event externalized. Key expressions are compiled into byte code after a couple of
+ * interpreted evaluations where SpEL supports that. A compiled expression failing, e.g. for a payload of a different
+ * type, reverts to interpretation.
+ *
+ * @author agent
+ * @since 1.2
+ */
+public class BrokerRoutingCache {
+
+	static final int DEFAULT_CAPACITY = 256;
+
+	private static final SpelExpressionParser PARSER = new SpelExpressionParser(
+			new SpelParserConfiguration(SpelCompilerMode.MIXED, null));
+
+	private final ConcurrentLruCache<RoutingTarget, BrokerRouting> cache;
+
+	/**
+	 * Creates a new {@link BrokerRoutingCache} for the given {@link EvaluationContext} with a default capacity.
+	 *
+	 * @param context must not be {@literal null}.
+	 */
+	public BrokerRoutingCache(EvaluationContext context) {
+		this(context, DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates a new {@link BrokerRoutingCache} for the given {@link EvaluationContext} and capacity.
+	 *
+	 * @param context must not be {@literal null}.
+	 * @param capacity the maximum number of {@link BrokerRouting} instances to hold, must be greater than zero.
+	 */
+	public BrokerRoutingCache(EvaluationContext context, int capacity) {
+
+		Assert.notNull(context, "EvaluationContext must not be null!");
+		Assert.isTrue(capacity > 0, "Capacity must be greater than zero!");
+
+		this.cache = new ConcurrentLruCache<>(capacity, it -> BrokerRouting.of(it, context, PARSER));
+	}
+
+	/**
+	 * Returns the {@link BrokerRouting} for the given {@link RoutingTarget}, creating it if not cached yet.
+	 *
+	 * @param target must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public BrokerRouting get(RoutingTarget target) {
+
+		Assert.notNull(target, "RoutingTarget must not be null!");
+
+		return cache.get(target);
+	}
+
+	/**
+	 * Returns the number of {@link BrokerRouting} instances currently cached.
+	 *
+	 * @return the current cache size.
+	 */
+	int size() {
+		return cache.size();
+	}
+}
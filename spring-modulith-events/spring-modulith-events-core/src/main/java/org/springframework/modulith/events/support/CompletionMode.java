@@ -0,0 +1,59 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.support;
+
+import java.util.Locale;
+
+import org.springframework.core.env.PropertyResolver;
+import org.springframework.util.Assert;
+
+/**
+ * How event publication repositories are supposed to persist the completion of an event publication.
+ *
+ * @author agent
+ * @since 1.2
+ */
+public enum CompletionMode {
+
+	/**
+	 * Sets the completion date on the event publication, i.e. it stays in the table holding incomplete ones.
+	 */
+	UPDATE,
+
+	/**
+	 * Moves the event publication into a dedicated archive table, so that the table holding incomplete publications only
+	 * contains the ones still in flight. Completed publications are looked up and purged from the archive.
+	 */
+	ARCHIVE;
+
+	public static final String PROPERTY = "spring.modulith.events.completion-mode";
+
+	/**
+	 * Looks up the {@link CompletionMode} from the given {@link PropertyResolver}, defaulting to {@link #UPDATE}. The
+	 * configured value is matched case-insensitively.
+	 *
+	 * @param resolver must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static CompletionMode from(PropertyResolver resolver) {
+
+		Assert.notNull(resolver, "PropertyResolver must not be null!");
+
+		var value = resolver.getProperty(PROPERTY);
+
+		return value == null ? UPDATE : CompletionMode.valueOf(value.trim().toUpperCase(Locale.ROOT));
+	}
+}
@@ -180,14 +180,14 @@ public class CompletionRegisteringAdvisor extends AbstractPointcutAdvisor {
 								return it;
 							})
 							.exceptionallyCompose(it -> {
-								handleFailure(method, it);
+								handleFailure(method, argument, it);
 								return CompletableFuture.failedFuture(it);
 							});
 				}
 
 			} catch (Throwable o_O) {
 
-				handleFailure(method, o_O);
+				handleFailure(method, argument, o_O);
 
 				throw o_O;
 			}
@@ -207,7 +207,9 @@ public class CompletionRegisteringAdvisor extends AbstractPointcutAdvisor {
 		}
 
 		@Nullable
-		private static Void handleFailure(Method method, Throwable o_O) {
+		private Void handleFailure(Method method, Object event, Throwable o_O) {
+
+			registry.get().markFailed(event, getIdentifier(method));
 
 			if (LOG.isDebugEnabled()) {
 				LOG.debug("Invocation of listener {} failed. Leaving event publication uncompleted.", method, o_O);
@@ -221,10 +223,17 @@ public class CompletionRegisteringAdvisor extends AbstractPointcutAdvisor {
 
 		private void markCompleted(Method method, Object event) {
 
+			var registry = this.registry.get();
+			var identifier = getIdentifier(method);
+
 			// Mark publication complete if the method is a transactional event listener.
-			String adapterId = ADAPTERS.get(method).getListenerId();
-			PublicationTargetIdentifier identifier = PublicationTargetIdentifier.of(adapterId);
-			registry.get().markCompleted(event, identifier);
+			if (!registry.deferCompletion(event, identifier)) {
+				registry.markCompleted(event, identifier);
+			}
+		}
+
+		private static PublicationTargetIdentifier getIdentifier(Method method) {
+			return PublicationTargetIdentifier.of(ADAPTERS.get(method).getListenerId());
 		}
 
 		private static TransactionalApplicationListenerMethodAdapter createAdapter(Method method) {
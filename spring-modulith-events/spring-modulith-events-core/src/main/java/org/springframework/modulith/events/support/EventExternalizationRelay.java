@@ -0,0 +1,262 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.support;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.env.PropertyResolver;
+import org.springframework.modulith.events.core.EventPublicationRepository;
+import org.springframework.modulith.events.core.PublicationTargetIdentifier;
+import org.springframework.modulith.events.core.TargetEventPublication;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.util.Assert;
+
+/**
+ * Externalizes events by polling the event publications stored for a {@link DelegatingEventExternalizer} rather than
+ * invoking it after the commit of the publishing transaction, i.e. uses the event publication table as transactional
+ * outbox. Each batch of publications is claimed in a transaction of its own via
+ * {@link EventPublicationRepository#claimIncompletePublications}, handed to the externalizer with a bounded number of
+ * sends in flight outside of any transaction and the successfully sent ones are marked completed in bulk in a second
+ * transaction, so that no database locks are held while waiting for the broker. Publications that failed to be sent
+ * stay incomplete and are claimed again by a subsequent run once their claim, configured via {@value #CLAIM_TIMEOUT},
+ * has expired.
+ * <p>
+ * Relaying is enabled via {@value #ENABLED}, which also makes the {@link PersistentApplicationEventMulticaster} skip
+ * the invocation of the externalizer after the publishing transaction commits and on resubmission.
+ *
+ * @author agent
+ * @since 1.2
+ */
+public class EventExternalizationRelay {
+
+	public static final String ENABLED = "spring.modulith.events.externalization.relay.enabled";
+	public static final String BATCH_SIZE = "spring.modulith.events.externalization.relay.batch-size";
+	public static final String CONCURRENCY = "spring.modulith.events.externalization.relay.concurrency";
+	public static final String CLAIM_TIMEOUT = "spring.modulith.events.externalization.relay.claim-timeout";
+
+	static final int DEFAULT_BATCH_SIZE = 100;
+	static final int DEFAULT_CONCURRENCY = 16;
+	static final Duration DEFAULT_CLAIM_TIMEOUT = Duration.ofMinutes(1);
+
+	/**
+	 * The identifier of the event publications stored for {@link DelegatingEventExternalizer#externalize(Object)}, i.e.
+	 * the default listener identifier Spring Framework derives from the method.
+	 */
+	static final PublicationTargetIdentifier TARGET_IDENTIFIER = PublicationTargetIdentifier
+			.of(DelegatingEventExternalizer.class.getName() + ".externalize(" + Object.class.getName() + ")");
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(EventExternalizationRelay.class);
+
+	private final EventPublicationRepository repository;
+	private final EventExternalizationSupport externalizer;
+	private final TransactionOperations transactions;
+	private final ApplicationEventPublisher publisher;
+	private final Clock clock;
+	private final int batchSize;
+	private final Semaphore permits;
+	private final Duration claimTimeout;
+	private final String owner;
+
+	/**
+	 * Creates a new {@link EventExternalizationRelay} for the given {@link EventPublicationRepository},
+	 * {@link DelegatingEventExternalizer}, {@link TransactionOperations}, {@link ApplicationEventPublisher},
+	 * {@link Clock}, batch size, maximum number of concurrent sends and claim timeout.
+	 *
+	 * @param repository must not be {@literal null}.
+	 * @param externalizer must not be {@literal null}.
+	 * @param transactions must not be {@literal null}.
+	 * @param publisher must not be {@literal null}.
+	 * @param clock must not be {@literal null}.
+	 * @param batchSize the maximum number of publications claimed per transaction, must be greater than zero.
+	 * @param concurrency the maximum number of sends in flight, must be greater than zero.
+	 * @param claimTimeout how long a claimed publication is not claimed by other relays, must not be {@literal null} or
+	 *          negative.
+	 */
+	public EventExternalizationRelay(EventPublicationRepository repository, DelegatingEventExternalizer externalizer,
+			TransactionOperations transactions, ApplicationEventPublisher publisher, Clock clock, int batchSize,
+			int concurrency, Duration claimTimeout) {
+
+		Assert.notNull(repository, "EventPublicationRepository must not be null!");
+		Assert.notNull(externalizer, "DelegatingEventExternalizer must not be null!");
+		Assert.notNull(transactions, "TransactionOperations must not be null!");
+		Assert.notNull(publisher, "ApplicationEventPublisher must not be null!");
+		Assert.notNull(clock, "Clock must not be null!");
+		Assert.isTrue(batchSize > 0, "Batch size must be greater than zero!");
+		Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero!");
+		Assert.notNull(claimTimeout, "Claim timeout must not be null!");
+		Assert.isTrue(!claimTimeout.isNegative(), "Claim timeout must not be negative!");
+
+		// Bypass the asynchronous, transactional listener semantics applied to the bean
+		var target = AopProxyUtils.getSingletonTarget(externalizer);
+
+		this.repository = repository;
+		this.externalizer = target instanceof DelegatingEventExternalizer it ? it : externalizer;
+		this.transactions = transactions;
+		this.publisher = publisher;
+		this.clock = clock;
+		this.batchSize = batchSize;
+		this.permits = new Semaphore(concurrency);
+		this.claimTimeout = claimTimeout;
+		this.owner = UUID.randomUUID().toString();
+	}
+
+	/**
+	 * Creates a new {@link EventExternalizationRelay} configured by the {@value #BATCH_SIZE}, {@value #CONCURRENCY} and
+	 * {@value #CLAIM_TIMEOUT} properties of the given {@link PropertyResolver}.
+	 *
+	 * @param repository must not be {@literal null}.
+	 * @param externalizer must not be {@literal null}.
+	 * @param transactions must not be {@literal null}.
+	 * @param publisher must not be {@literal null}.
+	 * @param clock must not be {@literal null}.
+	 * @param resolver must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static EventExternalizationRelay of(EventPublicationRepository repository,
+			DelegatingEventExternalizer externalizer, TransactionOperations transactions, ApplicationEventPublisher publisher,
+			Clock clock, PropertyResolver resolver) {
+
+		Assert.notNull(resolver, "PropertyResolver must not be null!");
+
+		return new EventExternalizationRelay(repository, externalizer, transactions, publisher, clock,
+				resolver.getProperty(BATCH_SIZE, Integer.class, DEFAULT_BATCH_SIZE),
+				resolver.getProperty(CONCURRENCY, Integer.class, DEFAULT_CONCURRENCY),
+				resolver.getProperty(CLAIM_TIMEOUT, Duration.class, DEFAULT_CLAIM_TIMEOUT));
+	}
+
+	/**
+	 * Returns whether relaying is enabled via {@value #ENABLED} in the given {@link PropertyResolver}.
+	 *
+	 * @param resolver must not be {@literal null}.
+	 * @return whether relaying is enabled.
+	 */
+	public static boolean isEnabled(PropertyResolver resolver) {
+
+		Assert.notNull(resolver, "PropertyResolver must not be null!");
+
+		return resolver.getProperty(ENABLED, Boolean.class, false);
+	}
+
+	/**
+	 * Relays incomplete event publications batch by batch until a batch is not full anymore or contained publications
+	 * that failed to be sent. The {@link org.springframework.modulith.events.EventExternalized} events of the
+	 * publications sent are published once the transaction marking them completed has committed.
+	 *
+	 * @return the number of publications relayed.
+	 */
+	public long relay() {
+
+		var total = 0L;
+
+		while (true) {
+
+			var batch = relayBatch();
+
+			total += batch.completed();
+			batch.results().forEach(publisher::publishEvent);
+
+			if (batch.claimed() < batchSize || batch.completed() < batch.claimed()) {
+				break;
+			}
+		}
+
+		return total;
+	}
+
+	private Batch relayBatch() {
+
+		var now = clock.instant();
+		var claimed = transactions.execute(__ -> repository.claimIncompletePublications(TARGET_IDENTIFIER, owner, now,
+				now.plus(claimTimeout), batchSize));
+		var publications = claimed == null ? List.<TargetEventPublication> of() : claimed;
+
+		if (publications.isEmpty()) {
+			return new Batch(0, 0, List.of());
+		}
+
+		var futures = new ArrayList<CompletableFuture<?>>(publications.size());
+
+		for (var publication : publications) {
+
+			permits.acquireUninterruptibly();
+
+			futures.add(externalize(publication).whenComplete((__, ___) -> permits.release()));
+		}
+
+		var completed = new ArrayList<UUID>(publications.size());
+		var results = new ArrayList<Object>(publications.size());
+
+		for (var i = 0; i < publications.size(); i++) {
+
+			var identifier = publications.get(i).getIdentifier();
+
+			try {
+
+				var result = futures.get(i).join();
+
+				completed.add(identifier);
+
+				if (result != null) {
+					results.add(result);
+				}
+
+			} catch (CompletionException | CancellationException o_O) {
+				LOGGER.warn("Failed to relay event publication {}!", identifier, o_O.getCause());
+			}
+		}
+
+		if (!completed.isEmpty()) {
+			transactions.executeWithoutResult(__ -> repository.markCompleted(completed, clock.instant()));
+		}
+
+		LOGGER.debug("Relayed {} of {} claimed event publication(s).", completed.size(), publications.size());
+
+		return new Batch(publications.size(), completed.size(), results);
+	}
+
+	private CompletableFuture<?> externalize(TargetEventPublication publication) {
+
+		try {
+			return externalizer.doExternalize(publication.getEvent());
+		} catch (RuntimeException o_O) {
+			return CompletableFuture.failedFuture(o_O);
+		}
+	}
+
+	/**
+	 * Returns whether publications for the listener with the given identifier are relayed if relaying is enabled.
+	 *
+	 * @param listenerId must not be {@literal null}.
+	 * @return whether the listener's publications are relayed.
+	 */
+	static boolean isRelayed(String listenerId) {
+		return TARGET_IDENTIFIER.getValue().equals(listenerId);
+	}
+
+	private record Batch(int claimed, int completed, List<Object> results) {}
+}
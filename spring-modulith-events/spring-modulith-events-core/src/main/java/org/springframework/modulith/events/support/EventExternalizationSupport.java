@@ -68,6 +68,19 @@ abstract class EventExternalizationSupport implements ConditionalEventListener {
 	 */
 	@ApplicationModuleListener
 	public CompletableFuture<?> externalize(Object event) {
+		return doExternalize(event);
+	}
+
+	/**
+	 * Externalizes the given event right away, i.e. not subject to the asynchronous, transactional listener semantics
+	 * applied to {@link #externalize(Object)}.
+	 *
+	 * @param event must not be {@literal null}.
+	 * @return the externalization result, will never be {@literal null}.
+	 * @since 1.2
+	 * @see EventExternalizationRelay
+	 */
+	CompletableFuture<?> doExternalize(Object event) {
 
 		Assert.notNull(event, "Object must not be null!");
 
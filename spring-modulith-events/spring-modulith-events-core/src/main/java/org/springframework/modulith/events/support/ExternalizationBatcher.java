@@ -0,0 +1,349 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.env.PropertyResolver;
+import org.springframework.lang.Nullable;
+import org.springframework.modulith.events.RoutingTarget;
+import org.springframework.modulith.events.core.EventPublicationRegistry;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Accumulates event payloads to be externalized per {@link RoutingTarget} and hands them to a {@link BatchSender} once
+ * a batch has reached its maximum size or the first payload in it has waited for the configured linger time. The
+ * {@link CompletableFuture} returned for each payload completes only once the batch entry for it has been sent
+ * successfully. If an {@link EventPublicationRegistry} is given, the event publications of all entries of a batch sent
+ * are {@link EventPublicationRegistry#markCompletedInGroup(Runnable) marked completed as group}, otherwise
+ * individually.
+ * <p>
+ * Linger flushes are triggered by a dedicated thread. The batcher is meant to be registered as Spring bean, so that it
+ * sends the batches still buffered and stops that thread when the application context is closed. Payloads whose send
+ * fails nonetheless keep their event publications incomplete, so that they can be resubmitted.
+ *
+ * @author agent
+ * @since 1.2
+ */
+public class ExternalizationBatcher implements DisposableBean {
+
+	public static final String ENABLED = "spring.modulith.events.externalization.batching.enabled";
+	public static final String SIZE = "spring.modulith.events.externalization.batching.size";
+	public static final String LINGER = "spring.modulith.events.externalization.batching.linger";
+
+	static final Duration DEFAULT_LINGER = Duration.ofMillis(50);
+
+	private final int size;
+	private final Duration linger;
+	private final BatchSender sender;
+	private final ScheduledExecutorService scheduler;
+	private final Map<RoutingTarget, Batch> batches;
+	private final @Nullable EventPublicationRegistry registry;
+
+	/**
+	 * Creates a new {@link ExternalizationBatcher} with the given name, batch size, linger time and
+	 * {@link BatchSender}.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @param size the maximum number of entries in a batch, must be greater than zero.
+	 * @param linger the maximum time to wait for a batch to fill up, must not be {@literal null} or negative.
+	 * @param sender must not be {@literal null}.
+	 */
+	public ExternalizationBatcher(String name, int size, Duration linger, BatchSender sender) {
+		this(name, size, linger, sender, null);
+	}
+
+	/**
+	 * Creates a new {@link ExternalizationBatcher} with the given name, batch size, linger time, {@link BatchSender} and
+	 * {@link EventPublicationRegistry} to mark the event publications of a batch completed as group with.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @param size the maximum number of entries in a batch, must be greater than zero.
+	 * @param linger the maximum time to wait for a batch to fill up, must not be {@literal null} or negative.
+	 * @param sender must not be {@literal null}.
+	 * @param registry can be {@literal null} to mark the event publications completed individually.
+	 */
+	public ExternalizationBatcher(String name, int size, Duration linger, BatchSender sender,
+			@Nullable EventPublicationRegistry registry) {
+
+		Assert.hasText(name, "Name must not be null or empty!");
+		Assert.isTrue(size > 0, "Batch size must be greater than zero!");
+		Assert.notNull(linger, "Linger time must not be null!");
+		Assert.isTrue(!linger.isNegative(), "Linger time must not be negative!");
+		Assert.notNull(sender, "BatchSender must not be null!");
+
+		var threads = new CustomizableThreadFactory(name + "-batch-");
+		threads.setDaemon(true);
+
+		this.size = size;
+		this.linger = linger;
+		this.sender = sender;
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(threads);
+		this.batches = new HashMap<>();
+		this.registry = registry;
+	}
+
+	/**
+	 * Returns whether batching is enabled via {@value #ENABLED} in the given {@link PropertyResolver}.
+	 *
+	 * @param resolver must not be {@literal null}.
+	 * @return whether batching is enabled.
+	 */
+	public static boolean isEnabled(PropertyResolver resolver) {
+
+		Assert.notNull(resolver, "PropertyResolver must not be null!");
+
+		return resolver.getProperty(ENABLED, Boolean.class, false);
+	}
+
+	/**
+	 * Creates a new {@link ExternalizationBatcher} with the given name and {@link BatchSender} configured by the
+	 * {@value #SIZE} and {@value #LINGER} properties of the given {@link PropertyResolver}. The batch size defaults to and
+	 * is capped at the given maximum supported by the broker.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @param maxSize the maximum batch size supported by the broker, must be greater than zero.
+	 * @param resolver must not be {@literal null}.
+	 * @param sender must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	public static ExternalizationBatcher of(String name, int maxSize, PropertyResolver resolver, BatchSender sender) {
+		return of(name, maxSize, resolver, sender, null);
+	}
+
+	/**
+	 * Creates a new {@link ExternalizationBatcher} with the given name, {@link BatchSender} and
+	 * {@link EventPublicationRegistry} configured by the {@value #SIZE} and {@value #LINGER} properties of the given
+	 * {@link PropertyResolver}. The batch size defaults to and is capped at the given maximum supported by the broker.
+	 *
+	 * @param name must not be {@literal null} or empty.
+	 * @param maxSize the maximum batch size supported by the broker, must be greater than zero.
+	 * @param resolver must not be {@literal null}.
+	 * @param sender must not be {@literal null}.
+	 * @param registry can be {@literal null} to mark the event publications completed individually.
+	 * @return will never be {@literal null}.
+	 */
+	public static ExternalizationBatcher of(String name, int maxSize, PropertyResolver resolver, BatchSender sender,
+			@Nullable EventPublicationRegistry registry) {
+
+		Assert.notNull(resolver, "PropertyResolver must not be null!");
+
+		var size = Math.min(resolver.getProperty(SIZE, Integer.class, maxSize), maxSize);
+		var linger = resolver.getProperty(LINGER, Duration.class, DEFAULT_LINGER);
+
+		return new ExternalizationBatcher(name, size, linger, sender, registry);
+	}
+
+	/**
+	 * Adds the given payload to the batch for the given {@link RoutingTarget}, sending the batch right away if it is
+	 * full.
+	 *
+	 * @param target must not be {@literal null}.
+	 * @param payload must not be {@literal null}.
+	 * @return a {@link CompletableFuture} completed once the batch entry for the payload has been sent.
+	 */
+	public CompletableFuture<?> add(RoutingTarget target, Object payload) {
+
+		Assert.notNull(target, "RoutingTarget must not be null!");
+		Assert.notNull(payload, "Payload must not be null!");
+
+		var entry = new Entry(payload);
+		Batch created = null, full = null;
+
+		synchronized (batches) {
+
+			var batch = batches.get(target);
+
+			if (batch == null) {
+
+				batch = new Batch(target);
+				batches.put(target, batch);
+				created = batch;
+			}
+
+			batch.entries.add(entry);
+
+			if (batch.entries.size() >= size) {
+				batches.remove(target);
+				full = batch;
+			}
+		}
+
+		if (full != null) {
+			send(full);
+		} else if (created != null) {
+
+			var batch = created;
+
+			try {
+				scheduler.schedule(() -> flush(batch), linger.toMillis(), TimeUnit.MILLISECONDS);
+			} catch (RejectedExecutionException o_O) {
+
+				// Already shut down, send right away instead of leaving the batch behind
+				flush(batch);
+			}
+		}
+
+		return entry.future;
+	}
+
+	private void flush(Batch batch) {
+
+		synchronized (batches) {
+			if (!batches.remove(batch.target, batch)) {
+				return;
+			}
+		}
+
+		send(batch);
+	}
+
+	private void send(Batch batch) {
+
+		var entries = List.copyOf(batch.entries);
+		CompletableFuture<?> result;
+
+		try {
+			result = sender.send(batch.target, entries);
+		} catch (RuntimeException o_O) {
+			result = CompletableFuture.failedFuture(o_O);
+		}
+
+		if (result == null) {
+			result = CompletableFuture.failedFuture(new IllegalStateException("BatchSender must not return null!"));
+		}
+
+		// Entries explicitly failed by the sender stay failed.
+		result.whenComplete((__, o_O) -> {
+
+			if (o_O != null) {
+				entries.forEach(it -> it.future.completeExceptionally(o_O));
+				return;
+			}
+
+			Runnable completions = () -> entries.forEach(it -> it.future.complete(null));
+
+			if (registry == null) {
+				completions.run();
+			} else {
+				registry.markCompletedInGroup(completions);
+			}
+		});
+	}
+
+	/**
+	 * Sends all batches buffered so far and stops the thread triggering linger flushes.
+	 *
+	 * @see org.springframework.beans.factory.DisposableBean#destroy()
+	 */
+	@Override
+	public void destroy() {
+
+		scheduler.shutdownNow();
+
+		List<Batch> pending;
+
+		synchronized (batches) {
+			pending = List.copyOf(batches.values());
+			batches.clear();
+		}
+
+		pending.forEach(this::send);
+	}
+
+	/**
+	 * Sends a batch of payloads to the broker.
+	 *
+	 * @author agent
+	 * @since 1.2
+	 */
+	@FunctionalInterface
+	public interface BatchSender {
+
+		/**
+		 * Sends the given {@link Entry} instances to the given {@link RoutingTarget}. Entries the broker rejected have to
+		 * be {@link Entry#fail(Throwable) failed} individually. All others are considered sent once the returned
+		 * {@link CompletableFuture} completes successfully.
+		 *
+		 * @param target will never be {@literal null}.
+		 * @param entries will never be {@literal null} or empty.
+		 * @return must not be {@literal null}.
+		 */
+		CompletableFuture<?> send(RoutingTarget target, List<Entry> entries);
+	}
+
+	/**
+	 * A single payload within a batch.
+	 *
+	 * @author agent
+	 * @since 1.2
+	 */
+	public static class Entry {
+
+		private final Object payload;
+		private final CompletableFuture<Void> future;
+
+		private Entry(Object payload) {
+
+			this.payload = payload;
+			this.future = new CompletableFuture<>();
+		}
+
+		/**
+		 * Returns the payload to send.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public Object getPayload() {
+			return payload;
+		}
+
+		/**
+		 * Marks the entry as rejected by the broker.
+		 *
+		 * @param cause must not be {@literal null}.
+		 */
+		public void fail(Throwable cause) {
+
+			Assert.notNull(cause, "Cause must not be null!");
+
+			future.completeExceptionally(cause);
+		}
+	}
+
+	private static class Batch {
+
+		private final RoutingTarget target;
+		private final List<Entry> entries;
+
+		Batch(RoutingTarget target) {
+
+			this.target = target;
+			this.entries = new ArrayList<>();
+		}
+	}
+}
@@ -19,9 +19,13 @@ import java.lang.reflect.Method;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import org.slf4j.Logger;
@@ -35,6 +39,7 @@ import org.springframework.context.event.ApplicationListenerMethodAdapter;
 import org.springframework.core.ResolvableType;
 import org.springframework.core.annotation.AnnotationAwareOrderComparator;
 import org.springframework.core.env.Environment;
+import org.springframework.core.env.PropertyResolver;
 import org.springframework.lang.NonNull;
 import org.springframework.lang.Nullable;
 import org.springframework.modulith.events.EventPublication;
@@ -69,9 +74,20 @@ public class PersistentApplicationEventMulticaster extends AbstractApplicationEv
 			"shouldHandle", ApplicationEvent.class);
 
 	static final String REPUBLISH_ON_RESTART = "spring.modulith.republish-outstanding-events-on-restart";
+	static final String RESUBMISSION_PAGE_SIZE = "spring.modulith.events.resubmission.page-size";
+	static final int DEFAULT_PAGE_SIZE = 500;
+	public static final String RESUBMISSION_LEASE_ENABLED = "spring.modulith.events.resubmission.lease.enabled";
+	static final String RESUBMISSION_LEASE_DURATION = "spring.modulith.events.resubmission.lease.duration";
+	static final Duration DEFAULT_LEASE_DURATION = Duration.ofMinutes(5);
 
 	private final @NonNull Supplier<EventPublicationRegistry> registry;
 	private final @NonNull Supplier<Environment> environment;
+	private final @NonNull Supplier<ResubmissionKeyExtractor> keyExtractor;
+
+	private volatile ResubmissionProgress progress = ResubmissionProgress.none();
+	private final AtomicLong listenerGeneration = new AtomicLong();
+	private volatile @Nullable ListenerIndex listenersById;
+	private volatile @Nullable Boolean relayEnabled;
 
 	static {
 
@@ -88,12 +104,28 @@ public class PersistentApplicationEventMulticaster extends AbstractApplicationEv
 	 */
 	public PersistentApplicationEventMulticaster(Supplier<EventPublicationRegistry> registry,
 			Supplier<Environment> environment) {
+		this(registry, environment, () -> ResubmissionKeyExtractor.NONE);
+	}
+
+	/**
+	 * Creates a new {@link PersistentApplicationEventMulticaster} for the given {@link EventPublicationRegistry},
+	 * {@link Environment} and {@link ResubmissionKeyExtractor}.
+	 *
+	 * @param registry must not be {@literal null}.
+	 * @param environment must not be {@literal null}.
+	 * @param keyExtractor must not be {@literal null}.
+	 * @since 1.2
+	 */
+	public PersistentApplicationEventMulticaster(Supplier<EventPublicationRegistry> registry,
+			Supplier<Environment> environment, Supplier<ResubmissionKeyExtractor> keyExtractor) {
 
 		Assert.notNull(registry, "EventPublicationRegistry must not be null!");
 		Assert.notNull(environment, "Environment must not be null!");
+		Assert.notNull(keyExtractor, "ResubmissionKeyExtractor must not be null!");
 
 		this.registry = registry;
 		this.environment = environment;
+		this.keyExtractor = keyExtractor;
 	}
 
 	/*
@@ -124,6 +156,12 @@ public class PersistentApplicationEventMulticaster extends AbstractApplicationEv
 				.ifPresent(it -> storePublications(it, getEventToPersist(event)));
 
 		for (ApplicationListener listener : listeners) {
+
+			// Relayed listeners are invoked by the EventExternalizationRelay polling their publications
+			if (listener instanceof TransactionalApplicationListener<?> it && isRelayed(it.getListenerId())) {
+				continue;
+			}
+
 			listener.onApplicationEvent(event);
 		}
 	}
@@ -144,12 +182,91 @@ public class PersistentApplicationEventMulticaster extends AbstractApplicationEv
 				.toList();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.event.AbstractApplicationEventMulticaster#addApplicationListener(org.springframework.context.ApplicationListener)
+	 */
+	@Override
+	public void addApplicationListener(ApplicationListener<?> listener) {
+
+		super.addApplicationListener(listener);
+		listenerGeneration.incrementAndGet();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.event.AbstractApplicationEventMulticaster#addApplicationListenerBean(java.lang.String)
+	 */
+	@Override
+	public void addApplicationListenerBean(String listenerBeanName) {
+
+		super.addApplicationListenerBean(listenerBeanName);
+		listenerGeneration.incrementAndGet();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.event.AbstractApplicationEventMulticaster#removeApplicationListener(org.springframework.context.ApplicationListener)
+	 */
+	@Override
+	public void removeApplicationListener(ApplicationListener<?> listener) {
+
+		super.removeApplicationListener(listener);
+		listenerGeneration.incrementAndGet();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.event.AbstractApplicationEventMulticaster#removeApplicationListenerBean(java.lang.String)
+	 */
+	@Override
+	public void removeApplicationListenerBean(String listenerBeanName) {
+
+		super.removeApplicationListenerBean(listenerBeanName);
+		listenerGeneration.incrementAndGet();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.event.AbstractApplicationEventMulticaster#removeApplicationListeners(java.util.function.Predicate)
+	 */
+	@Override
+	public void removeApplicationListeners(Predicate<ApplicationListener<?>> predicate) {
+
+		super.removeApplicationListeners(predicate);
+		listenerGeneration.incrementAndGet();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.event.AbstractApplicationEventMulticaster#removeApplicationListenerBeans(java.util.function.Predicate)
+	 */
+	@Override
+	public void removeApplicationListenerBeans(Predicate<String> predicate) {
+
+		super.removeApplicationListenerBeans(predicate);
+		listenerGeneration.incrementAndGet();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.event.AbstractApplicationEventMulticaster#removeAllListeners()
+	 */
+	@Override
+	public void removeAllListeners() {
+
+		super.removeAllListeners();
+		listenerGeneration.incrementAndGet();
+	}
+
 	/*
 	* (non-Javadoc)
 	* @see org.springframework.modulith.events.IncompleteEventPublications#resubmitIncompletePublications(java.util.function.Predicate)
 	*/
 	@Override
 	public void resubmitIncompletePublications(Predicate<EventPublication> filter) {
+		Assert.notNull(filter, "Filter must not be null!");
+
 		doResubmitUncompletedPublicationsOlderThan(null, filter);
 	}
 
@@ -159,7 +276,18 @@ public class PersistentApplicationEventMulticaster extends AbstractApplicationEv
 	 */
 	@Override
 	public void resubmitIncompletePublicationsOlderThan(Duration duration) {
-		doResubmitUncompletedPublicationsOlderThan(duration, __ -> true);
+		doResubmitUncompletedPublicationsOlderThan(duration, null);
+	}
+
+	/**
+	 * Returns the {@link ResubmissionProgress} of the currently running or most recent resubmission of incomplete event
+	 * publications.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 1.2
+	 */
+	public ResubmissionProgress getResubmissionProgress() {
+		return progress;
 	}
 
 	/*
@@ -173,71 +301,180 @@ public class PersistentApplicationEventMulticaster extends AbstractApplicationEv
 			return;
 		}
 
-		resubmitIncompletePublications(__ -> true);
+		doResubmitUncompletedPublicationsOlderThan(null, null);
 	}
 
 	private void invokeTargetListener(TargetEventPublication publication) {
 
-		var listeners = new TransactionalEventListeners(
-				getApplicationListeners());
+		var listener = getListenersById().get(publication.getTargetIdentifier().getValue());
 
-		listeners.stream() //
-				.filter(it -> publication.isIdentifiedBy(PublicationTargetIdentifier.of(it.getListenerId()))) //
-				.findFirst() //
-				.map(it -> executeListenerWithCompletion(publication, it)) //
-				.orElseGet(() -> {
+		if (listener == null) {
+			LOGGER.debug("Listener {} not found!", publication.getTargetIdentifier());
+			return;
+		}
 
-					LOGGER.debug("Listener {} not found!", publication.getTargetIdentifier());
-					return null;
-				});
+		executeListenerWithCompletion(publication, listener);
+	}
+
+	/**
+	 * Returns all transactional event listeners indexed by their listener identifier. The index is built lazily and
+	 * invalidated whenever listeners are added or removed. The index is tagged with the generation of the listeners it
+	 * was built for, so that an index built concurrently to an invalidation is never served afterwards.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	private Map<String, TransactionalApplicationListener<ApplicationEvent>> getListenersById() {
+
+		var generation = listenerGeneration.get();
+		var index = listenersById;
+
+		if (index != null && index.generation() == generation) {
+			return index.listeners();
+		}
+
+		var listeners = new TransactionalEventListeners(getApplicationListeners()).indexByListenerId();
+
+		// Only publish the index if no listeners were added or removed while building it
+		if (listenerGeneration.get() == generation) {
+			this.listenersById = new ListenerIndex(generation, listeners);
+		}
+
+		return listeners;
 	}
 
 	private void doResubmitUncompletedPublicationsOlderThan(@Nullable Duration duration,
-			Predicate<EventPublication> filter) {
+			@Nullable Predicate<EventPublication> filter) {
 
-		var message = duration != null ? " older than %s".formatted(duration): "";;
-		var registry = this.registry.get();
+		var message = duration != null ? " older than %s".formatted(duration) : "";
+		var environment = this.environment.get();
+		var pageSize = environment.getProperty(RESUBMISSION_PAGE_SIZE, Integer.class, DEFAULT_PAGE_SIZE);
+		var engine = new ResubmissionEngine(ResubmissionEngine.Settings.of(environment), keyExtractor.get());
 
-		LOGGER.debug("Looking up incomplete event publications {}… ", message);
+		this.progress = engine.getProgress();
 
-		var publications = duration == null //
-				? registry.findIncompletePublications() //
-				: registry.findIncompletePublicationsOlderThan(duration);
+		LOGGER.debug("Looking up incomplete event publications{}…", message);
 
-		LOGGER.debug(getConfirmationMessage(publications) + " found.");
+		try (var publications = getIncompletePublications(duration, filter, pageSize, environment)) {
+			engine.resubmit(publications
+					.filter(it -> !isRelayed(it.getTargetIdentifier().getValue()))
+					.filter(filter == null ? __ -> true : filter), this::invokeTargetListener);
+		}
 
-		publications.stream() //
-				.filter(filter) //
-				.forEach(it -> {
+		var result = engine.getProgress();
 
-					try {
+		LOGGER.debug(getConfirmationMessage(result.getSucceeded() + result.getFailed()) + " processed ({} failed).",
+				result.getFailed());
+	}
 
-						invokeTargetListener(it);
+	/**
+	 * Returns whether event publications are leased, i.e. whether resubmissions are leased via
+	 * {@value #RESUBMISSION_LEASE_ENABLED} or externalized events are relayed via
+	 * {@value EventExternalizationRelay#ENABLED}. Repositories only need to store leases in that case.
+	 *
+	 * @param resolver must not be {@literal null}.
+	 * @return whether event publications are leased.
+	 * @since 1.2
+	 */
+	public static boolean isLeasingEnabled(PropertyResolver resolver) {
 
-					} catch (Exception o_O) {
+		Assert.notNull(resolver, "PropertyResolver must not be null!");
 
-						if (LOGGER.isErrorEnabled()) {
-							LOGGER.error("Error republishing event publication " + it, o_O);
-						}
-					}
-				});
+		return resolver.getProperty(RESUBMISSION_LEASE_ENABLED, Boolean.class, false)
+				|| EventExternalizationRelay.isEnabled(resolver);
 	}
 
-	private static ApplicationListener<ApplicationEvent> executeListenerWithCompletion(EventPublication publication,
+	/**
+	 * Returns the incomplete publications to resubmit, leased to the current instance if configured to do so via
+	 * {@value #RESUBMISSION_LEASE_ENABLED}. Publications relayed by an {@link EventExternalizationRelay} are never
+	 * leased. As publications rejected by a caller-provided filter would stay leased without being processed, those
+	 * resubmissions do not lease publications at all.
+	 *
+	 * @param duration can be {@literal null}.
+	 * @param filter can be {@literal null}.
+	 * @param pageSize must be greater than zero.
+	 * @param environment must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private Stream<TargetEventPublication> getIncompletePublications(@Nullable Duration duration,
+			@Nullable Predicate<EventPublication> filter, int pageSize, Environment environment) {
+
+		var registry = this.registry.get();
+
+		if (filter != null || !environment.getProperty(RESUBMISSION_LEASE_ENABLED, Boolean.class, false)) {
+			return registry.streamIncompletePublications(duration, pageSize);
+		}
+
+		var lease = environment.getProperty(RESUBMISSION_LEASE_DURATION, Duration.class, DEFAULT_LEASE_DURATION);
+		var excluded = EventExternalizationRelay.isEnabled(environment) ? EventExternalizationRelay.TARGET_IDENTIFIER
+				: null;
+
+		return registry.leaseIncompletePublications(duration, excluded, pageSize, lease);
+	}
+
+	private void executeListenerWithCompletion(TargetEventPublication publication,
 			TransactionalApplicationListener<ApplicationEvent> listener) {
 
-		listener.processEvent(publication.getApplicationEvent());
+		var event = publication.getApplicationEvent();
+
+		var registry = this.registry.get();
+		var eventToPersist = getEventToPersist(event);
+
+		// Register the actual event instance handed to the listener to allow completion by publication identifier
+		registry.markInProgress(eventToPersist, publication);
 
-		return listener;
+		try {
+			listener.processEvent(event);
+		} catch (RuntimeException o_O) {
+
+			// The listener might not even have been invoked, e.g. as an executor rejected the invocation
+			registry.markFailed(eventToPersist, publication.getTargetIdentifier());
+
+			throw o_O;
+		}
 	}
 
 	private void storePublications(Stream<TransactionalApplicationListener<ApplicationEvent>> listeners,
 			Object eventToPersist) {
 
-		var identifiers = listeners.map(TransactionalApplicationListener::getListenerId) //
+		var registry = this.registry.get();
+		var candidates = listeners.toList();
+
+		var identifiers = candidates.stream()
+				.map(TransactionalApplicationListener::getListenerId) //
 				.map(PublicationTargetIdentifier::of);
 
-		registry.get().store(eventToPersist, identifiers);
+		var publications = registry.store(eventToPersist, identifiers);
+
+		// Only listeners invoked after commit will ever see their publication completed
+		var completable = candidates.stream()
+				.filter(it -> TransactionPhase.AFTER_COMMIT.equals(it.getTransactionPhase()))
+				.filter(it -> !isRelayed(it.getListenerId()))
+				.map(TransactionalApplicationListener::getListenerId)
+				.map(PublicationTargetIdentifier::of)
+				.collect(Collectors.toSet());
+
+		publications.stream()
+				.filter(it -> completable.contains(it.getTargetIdentifier()))
+				.forEach(it -> registry.markInProgress(eventToPersist, it));
+	}
+
+	/**
+	 * Returns whether the publications for the listener with the given identifier are relayed by an
+	 * {@link EventExternalizationRelay} instead of being handed to the listener directly.
+	 *
+	 * @param listenerId must not be {@literal null}.
+	 * @return whether the listener's publications are relayed.
+	 */
+	private boolean isRelayed(String listenerId) {
+
+		var enabled = relayEnabled;
+
+		if (enabled == null) {
+			enabled = EventExternalizationRelay.isEnabled(environment.get());
+			this.relayEnabled = enabled;
+		}
+
+		return enabled && EventExternalizationRelay.isRelayed(listenerId);
 	}
 
 	private static Object getEventToPersist(ApplicationEvent event) {
@@ -280,15 +517,11 @@ public class PersistentApplicationEventMulticaster extends AbstractApplicationEv
 				: (boolean) ReflectionUtils.invokeMethod(LEGACY_SHOULD_HANDLE, candidate, event, new Object[] { payload });
 	}
 
-	private static String getConfirmationMessage(Collection<?> publications) {
+	private static String getConfirmationMessage(long size) {
 
-		var size = publications.size();
-
-		return switch (publications.size()) {
-			case 0 -> "No publication";
-			case 1 -> "1 publication";
-			default -> size + " publications";
-		};
+		return size == 0 ? "No publication" //
+				: size == 1 ? "1 publication" //
+						: size + " publications";
 	}
 
 	/**
@@ -396,8 +629,30 @@ public class PersistentApplicationEventMulticaster extends AbstractApplicationEv
 					.ifPresent(callback);
 		}
 
+		/**
+		 * Returns all transactional event listeners indexed by their listener identifier. In case multiple listeners share
+		 * the same identifier, the first one in order wins.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		public Map<String, TransactionalApplicationListener<ApplicationEvent>> indexByListenerId() {
+
+			return listeners.stream()
+					.collect(Collectors.toUnmodifiableMap(TransactionalApplicationListener::getListenerId,
+							Function.identity(), (first, __) -> first));
+		}
+
 		public boolean hasListeners() {
 			return !listeners.isEmpty();
 		}
 	}
+
+	/**
+	 * The transactional event listeners indexed by their identifier, tagged with the generation of the registered
+	 * listeners the index was built for.
+	 *
+	 * @author agent
+	 */
+	private record ListenerIndex(long generation,
+			Map<String, TransactionalApplicationListener<ApplicationEvent>> listeners) {}
 }
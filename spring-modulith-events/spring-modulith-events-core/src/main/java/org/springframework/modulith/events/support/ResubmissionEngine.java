@@ -0,0 +1,419 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.support;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.lang.Nullable;
+import org.springframework.modulith.events.core.PublicationTargetIdentifier;
+import org.springframework.modulith.events.core.TargetEventPublication;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Hands incomplete event publications to a callback, either one after another on the calling thread or concurrently
+ * on a bounded number of threads. Optionally limits the number of concurrent invocations per listener, the overall
+ * rate of invocations and keeps publications with the same key, as determined by a {@link ResubmissionKeyExtractor},
+ * in order. Publications exceeding the limit of their listener are queued instead of blocking a thread of the pool
+ * and submitted once a previous invocation for the listener has finished.
+ *
+ * @author agent
+ * @since 1.2
+ */
+class ResubmissionEngine {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ResubmissionEngine.class);
+	private static final String THREAD_NAME_PREFIX = "modulith-resubmission-";
+
+	static final String CONCURRENCY = "spring.modulith.events.resubmission.concurrency";
+	static final String CONCURRENCY_PER_LISTENER = "spring.modulith.events.resubmission.concurrency-per-listener";
+	static final String RATE = "spring.modulith.events.resubmission.rate";
+	static final String VIRTUAL_THREADS = "spring.modulith.events.resubmission.virtual-threads";
+
+	private final Settings settings;
+	private final ResubmissionKeyExtractor keyExtractor;
+	private final ResubmissionProgress progress;
+	private final @Nullable TokenBucket rateLimiter;
+	private final Map<PublicationTargetIdentifier, ListenerThrottle> throttles;
+
+	/**
+	 * Creates a new {@link ResubmissionEngine} for the given {@link Settings} and {@link ResubmissionKeyExtractor}.
+	 *
+	 * @param settings must not be {@literal null}.
+	 * @param keyExtractor must not be {@literal null}.
+	 */
+	ResubmissionEngine(Settings settings, ResubmissionKeyExtractor keyExtractor) {
+
+		Assert.notNull(settings, "Settings must not be null!");
+		Assert.notNull(keyExtractor, "ResubmissionKeyExtractor must not be null!");
+
+		this.settings = settings;
+		this.keyExtractor = keyExtractor;
+		this.progress = new ResubmissionProgress();
+		this.rateLimiter = settings.rate() > 0 ? new TokenBucket(settings.rate()) : null;
+		this.throttles = new ConcurrentHashMap<>();
+	}
+
+	/**
+	 * Returns the {@link ResubmissionProgress} of the engine.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	ResubmissionProgress getProgress() {
+		return progress;
+	}
+
+	/**
+	 * Hands all given {@link TargetEventPublication}s to the given callback and returns once all of them have been
+	 * processed. Failures of the callback are logged and counted but do not abort the resubmission.
+	 *
+	 * @param publications must not be {@literal null}.
+	 * @param callback must not be {@literal null}.
+	 */
+	void resubmit(Stream<TargetEventPublication> publications, Consumer<TargetEventPublication> callback) {
+
+		Assert.notNull(publications, "Publications must not be null!");
+		Assert.notNull(callback, "Callback must not be null!");
+
+		try {
+
+			if (settings.concurrency() > 1) {
+				resubmitConcurrently(publications, callback);
+			} else {
+				publications.forEach(it -> {
+
+					progress.read();
+					acquireRate();
+					execute(it, callback);
+				});
+			}
+
+		} finally {
+			progress.finished();
+		}
+	}
+
+	private void resubmitConcurrently(Stream<TargetEventPublication> publications,
+			Consumer<TargetEventPublication> callback) {
+
+		var concurrency = settings.concurrency();
+		var executor = createExecutor();
+
+		// Bounds the number of publications submitted but not processed yet, as they're read lazily
+		var permits = new Semaphore(concurrency);
+		var tails = new ConcurrentHashMap<Object, CompletableFuture<Void>>();
+
+		try {
+
+			publications.forEach(it -> {
+
+				progress.read();
+				permits.acquireUninterruptibly();
+				acquireRate();
+
+				Runnable task = () -> execute(it, callback);
+				var key = keyExtractor.extractKey(it.getEvent());
+				var target = getExecutor(it, executor);
+
+				var future = key == null
+						? CompletableFuture.runAsync(task, target)
+						: tails.compute(key, (__, previous) -> previous == null
+								? CompletableFuture.runAsync(task, target)
+								: previous.thenRunAsync(task, target));
+
+				future.whenComplete((__, ___) -> {
+
+					if (key != null) {
+						tails.remove(key, future);
+					}
+
+					permits.release();
+				});
+			});
+
+			// Wait for all submitted publications to be processed
+			permits.acquireUninterruptibly(concurrency);
+			permits.release(concurrency);
+
+		} finally {
+			shutdown(executor);
+		}
+	}
+
+	/**
+	 * Returns the {@link Executor} to hand the given {@link TargetEventPublication} to, i.e. one that throttles the
+	 * invocations for the publication's listener if a limit per listener is configured.
+	 *
+	 * @param publication must not be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	private Executor getExecutor(TargetEventPublication publication, Executor executor) {
+
+		var limit = settings.concurrencyPerListener();
+
+		return limit > 0
+				? throttles.computeIfAbsent(publication.getTargetIdentifier(), __ -> new ListenerThrottle(executor, limit))
+				: executor;
+	}
+
+	private void execute(TargetEventPublication publication, Consumer<TargetEventPublication> callback) {
+
+		progress.started();
+
+		try {
+
+			callback.accept(publication);
+			progress.succeeded();
+
+		} catch (Exception o_O) {
+
+			progress.failed();
+
+			if (LOGGER.isErrorEnabled()) {
+				LOGGER.error("Error republishing event publication " + publication, o_O);
+			}
+		}
+	}
+
+	private void acquireRate() {
+
+		if (rateLimiter != null) {
+			rateLimiter.acquire();
+		}
+	}
+
+	private Executor createExecutor() {
+
+		if (!settings.virtualThreads()) {
+			return createPlatformThreadPool();
+		}
+
+		if (Runtime.version().feature() < 21) {
+
+			LOGGER.warn("Virtual threads requested for resubmission via {} but require Java 21. Using platform threads.",
+					VIRTUAL_THREADS);
+
+			return createPlatformThreadPool();
+		}
+
+		var executor = new SimpleAsyncTaskExecutor(THREAD_NAME_PREFIX);
+		executor.setVirtualThreads(true);
+
+		return executor;
+	}
+
+	private ExecutorService createPlatformThreadPool() {
+		return Executors.newFixedThreadPool(settings.concurrency(), new CustomizableThreadFactory(THREAD_NAME_PREFIX));
+	}
+
+	private static void shutdown(Executor executor) {
+
+		if (executor instanceof ExecutorService service) {
+			service.shutdown();
+		} else if (executor instanceof SimpleAsyncTaskExecutor simple) {
+			simple.close();
+		}
+	}
+
+	/**
+	 * The settings to resubmit incomplete event publications with.
+	 *
+	 * @param concurrency the maximum number of publications to process concurrently, {@code 1} to process them one after
+	 *          another on the calling thread.
+	 * @param concurrencyPerListener the maximum number of publications to process concurrently for a single listener,
+	 *          {@code 0} for no limit.
+	 * @param rate the maximum number of publications to process per second, {@code 0} for no limit.
+	 * @param virtualThreads whether to use virtual threads for concurrent processing.
+	 * @author agent
+	 */
+	record Settings(int concurrency, int concurrencyPerListener, double rate, boolean virtualThreads) {
+
+		static final Settings DEFAULT = new Settings(1, 0, 0, false);
+
+		Settings {
+
+			Assert.isTrue(concurrency > 0, "Concurrency must be greater than zero!");
+			Assert.isTrue(concurrencyPerListener >= 0, "Concurrency per listener must not be negative!");
+			Assert.isTrue(rate >= 0, "Rate must not be negative!");
+		}
+
+		/**
+		 * Creates {@link Settings} from the given {@link Environment}.
+		 *
+		 * @param environment must not be {@literal null}.
+		 * @return will never be {@literal null}.
+		 */
+		static Settings of(Environment environment) {
+
+			Assert.notNull(environment, "Environment must not be null!");
+
+			return new Settings(
+					environment.getProperty(CONCURRENCY, Integer.class, DEFAULT.concurrency()),
+					environment.getProperty(CONCURRENCY_PER_LISTENER, Integer.class, DEFAULT.concurrencyPerListener()),
+					environment.getProperty(RATE, Double.class, DEFAULT.rate()),
+					environment.getProperty(VIRTUAL_THREADS, Boolean.class, DEFAULT.virtualThreads()));
+		}
+	}
+
+	/**
+	 * An {@link Executor} limiting the number of concurrently running tasks for a single listener. Tasks exceeding the
+	 * limit are queued and handed to the delegate {@link Executor} once a running task has finished, so that no thread
+	 * is blocked waiting for admission.
+	 *
+	 * @author agent
+	 */
+	static class ListenerThrottle implements Executor {
+
+		private final Executor delegate;
+		private final int limit;
+		private final Queue<Runnable> waiting;
+		private int running;
+
+		/**
+		 * Creates a new {@link ListenerThrottle} for the given delegate {@link Executor} and limit.
+		 *
+		 * @param delegate must not be {@literal null}.
+		 * @param limit must be greater than zero.
+		 */
+		ListenerThrottle(Executor delegate, int limit) {
+
+			Assert.notNull(delegate, "Delegate Executor must not be null!");
+			Assert.isTrue(limit > 0, "Limit must be greater than zero!");
+
+			this.delegate = delegate;
+			this.limit = limit;
+			this.waiting = new ArrayDeque<>();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see java.util.concurrent.Executor#execute(java.lang.Runnable)
+		 */
+		@Override
+		public void execute(Runnable task) {
+
+			synchronized (this) {
+
+				if (running >= limit) {
+					waiting.add(task);
+					return;
+				}
+
+				running++;
+			}
+
+			submit(task);
+		}
+
+		private void submit(Runnable task) {
+
+			delegate.execute(() -> {
+
+				try {
+					task.run();
+				} finally {
+
+					Runnable next;
+
+					synchronized (this) {
+
+						next = waiting.poll();
+
+						if (next == null) {
+							running--;
+						}
+					}
+
+					if (next != null) {
+						submit(next);
+					}
+				}
+			});
+		}
+	}
+
+	/**
+	 * A token bucket refilled at a fixed rate, allowing bursts of up to a second worth of tokens. Callers reserve a token
+	 * and wait for the time the bucket needs to refill it, so that concurrent callers are spread evenly.
+	 *
+	 * @author agent
+	 */
+	static class TokenBucket {
+
+		private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+		private final double tokensPerSecond, capacity;
+		private double tokens;
+		private long lastRefill;
+
+		/**
+		 * Creates a new {@link TokenBucket} for the given number of tokens per second.
+		 *
+		 * @param tokensPerSecond must be greater than zero.
+		 */
+		TokenBucket(double tokensPerSecond) {
+
+			Assert.isTrue(tokensPerSecond > 0, "Tokens per second must be greater than zero!");
+
+			this.tokensPerSecond = tokensPerSecond;
+			this.capacity = Math.max(1, tokensPerSecond);
+			this.tokens = capacity;
+			this.lastRefill = System.nanoTime();
+		}
+
+		/**
+		 * Takes a token from the bucket, blocking until it becomes available.
+		 */
+		void acquire() {
+
+			long deadline;
+
+			synchronized (this) {
+
+				var now = System.nanoTime();
+
+				tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerSecond / NANOS_PER_SECOND);
+				lastRefill = now;
+				tokens--;
+
+				deadline = tokens >= 0 ? now : now + (long) (-tokens * NANOS_PER_SECOND / tokensPerSecond);
+			}
+
+			long remaining;
+
+			while ((remaining = deadline - System.nanoTime()) > 0) {
+				LockSupport.parkNanos(remaining);
+			}
+		}
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.support;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * Extracts a key from an event to resubmit, usually the identifier of the aggregate that published it. Incomplete
+ * event publications sharing a key are resubmitted one after another in the order of their publication, even if the
+ * resubmission is configured to run concurrently. Declare an instance as Spring bean to activate it.
+ *
+ * @author agent
+ * @since 1.2
+ */
+@FunctionalInterface
+public interface ResubmissionKeyExtractor {
+
+	/**
+	 * A {@link ResubmissionKeyExtractor} not extracting any key, i.e. imposing no ordering at all.
+	 */
+	ResubmissionKeyExtractor NONE = __ -> null;
+
+	/**
+	 * Returns the key to order the resubmission of the given event by.
+	 *
+	 * @param event will never be {@literal null}.
+	 * @return the key, or {@literal null} if the event can be resubmitted independently of any other one.
+	 */
+	@Nullable
+	Object extractKey(Object event);
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.support;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link MeterBinder} publishing the {@link ResubmissionProgress} of the currently running or most recent
+ * resubmission of incomplete event publications as gauges.
+ *
+ * @author agent
+ * @since 1.2
+ */
+public class ResubmissionMetrics implements MeterBinder {
+
+	static final String PREFIX = "modulith.events.resubmission.";
+
+	private final Supplier<PersistentApplicationEventMulticaster> multicaster;
+
+	/**
+	 * Creates a new {@link ResubmissionMetrics} for the {@link PersistentApplicationEventMulticaster} provided by the
+	 * given {@link Supplier}. The {@link Supplier} may return {@literal null} in case no multicaster is available, in
+	 * which case no gauges are registered.
+	 *
+	 * @param multicaster must not be {@literal null}.
+	 */
+	public ResubmissionMetrics(Supplier<PersistentApplicationEventMulticaster> multicaster) {
+
+		Assert.notNull(multicaster, "PersistentApplicationEventMulticaster supplier must not be null!");
+
+		this.multicaster = multicaster;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see io.micrometer.core.instrument.binder.MeterBinder#bindTo(io.micrometer.core.instrument.MeterRegistry)
+	 */
+	@Override
+	public void bindTo(MeterRegistry registry) {
+
+		var source = multicaster.get();
+
+		if (source == null) {
+			return;
+		}
+
+		register(registry, source, "remaining", "The number of publications read but not processed yet",
+				ResubmissionProgress::getRemaining);
+		register(registry, source, "in-flight", "The number of publications currently handed to their listener",
+				ResubmissionProgress::getInFlight);
+		register(registry, source, "succeeded", "The number of publications whose listener completed successfully",
+				ResubmissionProgress::getSucceeded);
+		register(registry, source, "failed", "The number of publications whose listener failed",
+				ResubmissionProgress::getFailed);
+	}
+
+	private static void register(MeterRegistry registry, PersistentApplicationEventMulticaster source,
+			String name, String description, ToLongFunction<ResubmissionProgress> value) {
+
+		Gauge.builder(PREFIX + name, source, it -> value.applyAsLong(it.getResubmissionProgress()))
+				.description(description + " in the current or most recent resubmission.")
+				.strongReference(true)
+				.register(registry);
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.support;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The progress of a resubmission of incomplete event publications. As incomplete publications are read lazily, the
+ * counts only cover the publications read so far, i.e. the number of remaining publications grows while the
+ * resubmission is still in progress.
+ *
+ * @author agent
+ * @since 1.2
+ */
+public class ResubmissionProgress {
+
+	private final LongAdder read, inFlight, succeeded, failed;
+	private volatile boolean finished;
+
+	ResubmissionProgress() {
+
+		this.read = new LongAdder();
+		this.inFlight = new LongAdder();
+		this.succeeded = new LongAdder();
+		this.failed = new LongAdder();
+	}
+
+	/**
+	 * Returns a {@link ResubmissionProgress} for a resubmission that has never been started.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	static ResubmissionProgress none() {
+
+		var progress = new ResubmissionProgress();
+		progress.finished = true;
+
+		return progress;
+	}
+
+	/**
+	 * Returns the number of publications read but not processed yet, including the ones currently in flight.
+	 *
+	 * @return the number of remaining publications.
+	 */
+	public long getRemaining() {
+		return read.sum() - succeeded.sum() - failed.sum();
+	}
+
+	/**
+	 * Returns the number of publications currently handed to their listener.
+	 *
+	 * @return the number of publications in flight.
+	 */
+	public long getInFlight() {
+		return inFlight.sum();
+	}
+
+	/**
+	 * Returns the number of publications whose listener completed successfully.
+	 *
+	 * @return the number of succeeded publications.
+	 */
+	public long getSucceeded() {
+		return succeeded.sum();
+	}
+
+	/**
+	 * Returns the number of publications whose listener failed.
+	 *
+	 * @return the number of failed publications.
+	 */
+	public long getFailed() {
+		return failed.sum();
+	}
+
+	/**
+	 * Returns whether the resubmission has finished, i.e. all incomplete publications have been read and processed.
+	 *
+	 * @return whether the resubmission has finished.
+	 */
+	public boolean isFinished() {
+		return finished;
+	}
+
+	void read() {
+		read.increment();
+	}
+
+	void started() {
+		inFlight.increment();
+	}
+
+	void succeeded() {
+		inFlight.decrement();
+		succeeded.increment();
+	}
+
+	void failed() {
+		inFlight.decrement();
+		failed.increment();
+	}
+
+	void finished() {
+		finished = true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String toString() {
+		return "%s remaining, %s in flight, %s succeeded, %s failed".formatted(getRemaining(), getInFlight(),
+				getSucceeded(), getFailed());
+	}
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.config;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.AutoConfigurations;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.modulith.events.EventExternalizationConfiguration;
+import org.springframework.modulith.events.core.EventPublicationRepository;
+import org.springframework.modulith.events.support.DelegatingEventExternalizer;
+import org.springframework.modulith.events.support.EventExternalizationRelay;
+import org.springframework.scheduling.config.TaskManagementConfigUtils;
+
+/**
+ * Integration tests for {@link EventExternalizationAutoConfiguration}.
+ *
+ * @author agent
+ */
+class EventExternalizationAutoConfigurationIntegrationTests {
+
+	@Test
+	void runsRelayWithoutEnablingSchedulingForTheApplication() {
+
+		basicSetup()
+				.withBean("externalizer", DelegatingEventExternalizer.class, () -> externalizer())
+				.run(context -> {
+
+					assertThat(context).hasSingleBean(ScheduledEventExternalizationRelay.class);
+					assertThat(context.getBean(ScheduledEventExternalizationRelay.class).isRunning()).isTrue();
+					assertThat(context).doesNotHaveBean(TaskManagementConfigUtils.SCHEDULED_ANNOTATION_PROCESSOR_BEAN_NAME);
+				});
+	}
+
+	@Test
+	void rejectsRelayingForMultipleExternalizers() {
+
+		basicSetup()
+				.withBean("first", DelegatingEventExternalizer.class, () -> externalizer())
+				.withBean("second", DelegatingEventExternalizer.class, () -> externalizer())
+				.run(context -> {
+					assertThat(context).hasFailed();
+					assertThat(context.getStartupFailure()).rootCause()
+							.isInstanceOf(IllegalStateException.class)
+							.hasMessageContaining("single DelegatingEventExternalizer");
+				});
+	}
+
+	private static ApplicationContextRunner basicSetup() {
+
+		return new ApplicationContextRunner()
+				.withConfiguration(AutoConfigurations.of(EventExternalizationAutoConfiguration.class))
+				.withPropertyValues(EventExternalizationRelay.ENABLED + "=true")
+				.withBean(EventExternalizationConfiguration.class, () -> EventExternalizationConfiguration.disabled())
+				.withBean(EventPublicationRepository.class, () -> mock(EventPublicationRepository.class));
+	}
+
+	private static DelegatingEventExternalizer externalizer() {
+		return new DelegatingEventExternalizer(EventExternalizationConfiguration.disabled(),
+				(target, payload) -> CompletableFuture.completedFuture(null));
+	}
+}
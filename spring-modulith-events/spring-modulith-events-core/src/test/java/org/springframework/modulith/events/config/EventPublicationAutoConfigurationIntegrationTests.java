@@ -44,6 +44,7 @@ import org.springframework.modulith.events.core.EventPublicationRepository;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.ProxyAsyncConfiguration;
 import org.springframework.scheduling.aspectj.AspectJAsyncConfiguration;
+import org.springframework.scheduling.config.TaskManagementConfigUtils;
 import org.springframework.test.util.ReflectionTestUtils;
 
 /**
@@ -137,6 +138,19 @@ class EventPublicationAutoConfigurationIntegrationTests {
 		});
 	}
 
+	@Test
+	void schedulesPurgeWithoutEnablingSchedulingForTheApplication() {
+
+		basicSetup()
+				.withPropertyValues(ScheduledEventPublicationPurge.CRON + "=0 0 * * * *")
+				.run(context -> {
+
+					assertThat(context).hasSingleBean(ScheduledEventPublicationPurge.class);
+					assertThat(context.getBean(ScheduledEventPublicationPurge.class).isRunning()).isTrue();
+					assertThat(context).doesNotHaveBean(TaskManagementConfigUtils.SCHEDULED_ANNOTATION_PROCESSOR_BEAN_NAME);
+				});
+	}
+
 	private static <T> ContextConsumer<AssertableApplicationContext> expect(Function<Shutdown, T> extractor,
 			@Nullable T expected) {
 
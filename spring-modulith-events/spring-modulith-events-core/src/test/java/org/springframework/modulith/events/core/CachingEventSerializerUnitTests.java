@@ -0,0 +1,80 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link CachingEventSerializer}.
+ *
+ * @author agent
+ */
+class CachingEventSerializerUnitTests {
+
+	EventSerializer delegate = mock(EventSerializer.class);
+	CachingEventSerializer serializer = new CachingEventSerializer(delegate);
+
+	@Test
+	void serializesEventInstanceOnlyOnce() {
+
+		var event = new SampleEvent("value");
+
+		when(delegate.serialize(event)).thenReturn("serialized");
+
+		assertThat(serializer.serialize(event)).isEqualTo("serialized");
+		assertThat(serializer.serialize(event)).isEqualTo("serialized");
+
+		verify(delegate, times(1)).serialize(event);
+
+		assertThat(serializer.getHits()).isEqualTo(1);
+		assertThat(serializer.getMisses()).isEqualTo(1);
+	}
+
+	@Test
+	void cachesByIdentityNotEquality() {
+
+		var first = new SampleEvent("value");
+		var second = new SampleEvent("value");
+
+		when(delegate.serialize(any())).thenReturn("serialized");
+
+		serializer.serialize(first);
+		serializer.serialize(second);
+
+		verify(delegate, times(2)).serialize(any());
+		assertThat(serializer.getMisses()).isEqualTo(2);
+	}
+
+	@Test
+	void registersDeserializedEventWithItsSerializedForm() {
+
+		var event = new SampleEvent("value");
+
+		when(delegate.deserialize("serialized", SampleEvent.class)).thenReturn(event);
+
+		var result = serializer.deserialize("serialized", SampleEvent.class);
+
+		assertThat(serializer.serialize(result)).isEqualTo("serialized");
+
+		verify(delegate, never()).serialize(any());
+		assertThat(serializer.getHits()).isEqualTo(1);
+	}
+
+	record SampleEvent(String value) {}
+}
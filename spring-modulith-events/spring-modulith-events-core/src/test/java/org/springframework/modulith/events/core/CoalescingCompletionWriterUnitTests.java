@@ -0,0 +1,129 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+/**
+ * Unit tests for {@link CoalescingCompletionWriter}.
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+class CoalescingCompletionWriterUnitTests {
+
+	@Mock EventPublicationRepository repository;
+
+	@Test
+	void writesCompletionsInBulkOnceBatchIsFull() {
+
+		var writer = new CoalescingCompletionWriter(repository, Clock.systemUTC(), 2, Duration.ofHours(1));
+		var first = UUID.randomUUID();
+		var second = UUID.randomUUID();
+
+		writer.add(first);
+
+		verify(repository, never()).markCompleted(anyCollection(), any());
+
+		writer.add(second);
+
+		verify(repository).markCompleted(eq(List.of(first, second)), any());
+	}
+
+	@Test
+	void writesBufferedCompletionsPeriodically() {
+
+		var writer = new CoalescingCompletionWriter(repository, Clock.systemUTC(), 10, Duration.ofMillis(10));
+		var identifier = UUID.randomUUID();
+
+		writer.add(identifier);
+
+		verify(repository, timeout(1000)).markCompleted(eq(List.of(identifier)), any());
+
+		writer.shutdown();
+	}
+
+	@Test
+	void writesBufferedCompletionsOnShutdown() {
+
+		var writer = new CoalescingCompletionWriter(repository, Clock.systemUTC(), 10, Duration.ofHours(1));
+		var identifier = UUID.randomUUID();
+
+		writer.add(identifier);
+		writer.shutdown();
+
+		verify(repository).markCompleted(eq(List.of(identifier)), any());
+	}
+
+	@Test
+	void waitsForRunningFlushOnShutdown() throws Exception {
+
+		var started = new CountDownLatch(1);
+		var written = new AtomicBoolean();
+
+		doAnswer(__ -> {
+
+			started.countDown();
+			Thread.sleep(200);
+			written.set(true);
+
+			return null;
+
+		}).when(repository).markCompleted(anyCollection(), any());
+
+		var writer = new CoalescingCompletionWriter(repository, Clock.systemUTC(), 10, Duration.ofMillis(10));
+
+		writer.add(UUID.randomUUID());
+
+		assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+		writer.shutdown();
+
+		assertThat(written).isTrue();
+	}
+
+	@Test
+	void dropsCompletionsWhoseWriteFailed() {
+
+		var writer = new CoalescingCompletionWriter(repository, Clock.systemUTC(), 1, Duration.ofHours(1));
+		var first = UUID.randomUUID();
+		var second = UUID.randomUUID();
+
+		doThrow(new IllegalStateException()).doNothing().when(repository).markCompleted(anyCollection(), any());
+
+		writer.add(first);
+		writer.add(second);
+		writer.shutdown();
+
+		verify(repository).markCompleted(eq(List.of(second)), any());
+		verify(repository, times(2)).markCompleted(anyCollection(), any());
+	}
+}
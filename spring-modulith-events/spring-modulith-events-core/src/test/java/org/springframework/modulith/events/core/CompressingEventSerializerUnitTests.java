@@ -0,0 +1,114 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+/**
+ * Unit tests for {@link CompressingEventSerializer}.
+ *
+ * @author agent
+ */
+class CompressingEventSerializerUnitTests {
+
+	static final String LARGE = "{\"value\":\"" + "value".repeat(100) + "\"}";
+
+	EventSerializer delegate = mock(EventSerializer.class);
+	CompressingEventSerializer serializer = new CompressingEventSerializer(delegate, 100);
+
+	@Test
+	void compressesSerializedEventsReachingThreshold() {
+
+		var event = new Object();
+
+		when(delegate.serialize(event)).thenReturn(LARGE);
+		when(delegate.deserialize(LARGE, String.class)).thenReturn("event");
+
+		var serialized = serializer.serialize(event);
+
+		assertThat(serialized).asString()
+				.startsWith(CompressingEventSerializer.HEADER)
+				.hasSizeLessThan(LARGE.length());
+
+		assertThat(serializer.serialize(event)).isEqualTo(serialized);
+		assertThat(serializer.deserialize(serialized, String.class)).isEqualTo("event");
+	}
+
+	@Test
+	void keepsSerializedEventsBelowThresholdAsIs() {
+
+		var event = new Object();
+
+		when(delegate.serialize(event)).thenReturn("{}");
+
+		assertThat(serializer.serialize(event)).isEqualTo("{}");
+	}
+
+	@Test
+	void keepsSerializedEventsThatDoNotCompressAsIs() {
+
+		var event = new Object();
+		var incompressible = "0123456789abcdefghijklmnopqrstuvwxyz";
+
+		when(delegate.serialize(event)).thenReturn(incompressible);
+
+		assertThat(new CompressingEventSerializer(delegate, 0).serialize(event)).isEqualTo(incompressible);
+	}
+
+	@Test
+	void handsUncompressedEventsToDelegate() {
+
+		when(delegate.deserialize(LARGE, String.class)).thenReturn("event");
+
+		assertThat(serializer.deserialize(LARGE, String.class)).isEqualTo("event");
+	}
+
+	@Test
+	void rejectsCorruptCompressedEvents() {
+
+		var corrupt = CompressingEventSerializer.HEADER + "AAAA";
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> serializer.deserialize(corrupt, String.class));
+	}
+
+	@Test
+	void onlyWrapsSerializerIfCompressionIsEnabled() {
+
+		var environment = new MockEnvironment();
+
+		assertThat(CompressingEventSerializer.wrapIfEnabled(delegate, environment)).isSameAs(delegate);
+
+		environment.setProperty(CompressingEventSerializer.ENABLED, "true");
+		environment.setProperty(CompressingEventSerializer.THRESHOLD, "100");
+
+		var event = new Object();
+
+		when(delegate.serialize(event)).thenReturn(LARGE);
+
+		var wrapped = CompressingEventSerializer.wrapIfEnabled(delegate, environment);
+
+		assertThat(wrapped).isInstanceOf(CachingEventSerializer.class);
+		assertThat(wrapped.serialize(event)).asString().startsWith(CompressingEventSerializer.HEADER);
+		assertThat(wrapped.serialize(event)).isSameAs(wrapped.serialize(event));
+
+		verify(delegate, times(1)).serialize(event);
+	}
+}
@@ -16,17 +16,20 @@
 package org.springframework.modulith.events.core;
 
 import static org.assertj.core.api.Assertions.*;
-import static org.mockito.AdditionalAnswers.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.ZoneId;
+import java.util.List;
+import java.util.UUID;
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -44,8 +47,6 @@ class DefaultEventPublicationRegistryUnitTests {
 	@Test // GH-206
 	void usesCustomClockIfConfigured() {
 
-		when(repository.create(any())).then(returnsFirstArg());
-
 		var now = Instant.now();
 		var clock = Clock.fixed(now, ZoneId.systemDefault());
 
@@ -59,4 +60,285 @@ class DefaultEventPublicationRegistryUnitTests {
 			assertThat(it.getTargetIdentifier()).isEqualTo(identifier);
 		});
 	}
+
+	@Test
+	void storesAllPublicationsForAnEventAtOnce() {
+
+		var registry = new DefaultEventPublicationRegistry(repository, Clock.systemUTC());
+
+		var event = new Object();
+		var publications = registry.store(event,
+				Stream.of(PublicationTargetIdentifier.of("first"), PublicationTargetIdentifier.of("second")));
+
+		assertThat(publications).hasSize(2);
+
+		verify(repository).createAll(publications);
+		verify(repository, never()).create(any());
+	}
+
+	@Test
+	void completesPublicationInProgressByIdentifier() {
+
+		var registry = new DefaultEventPublicationRegistry(repository, Clock.systemUTC());
+
+		var event = new Object();
+		var identifier = PublicationTargetIdentifier.of("id");
+		var publication = registry.store(event, Stream.of(identifier)).iterator().next();
+
+		registry.markInProgress(event, publication);
+		registry.markCompleted(event, identifier);
+
+		verify(repository).markCompleted(eq(publication), any(Instant.class));
+		verify(repository, never()).markCompleted(any(Object.class), any(), any());
+	}
+
+	@Test
+	void defersCompletionOfPublicationInProgressToWriter() {
+
+		when(repository.supportsCompletionByIdentifier()).thenReturn(true);
+
+		var writer = mock(CoalescingCompletionWriter.class);
+		var registry = new DefaultEventPublicationRegistry(repository, Clock.systemUTC(),
+				new EventPublicationPurger(repository, 10, Duration.ZERO), writer);
+
+		var event = new Object();
+		var identifier = PublicationTargetIdentifier.of("id");
+		var publication = registry.store(event, Stream.of(identifier)).iterator().next();
+
+		registry.markInProgress(event, publication);
+
+		assertThat(registry.deferCompletion(event, identifier)).isTrue();
+		assertThat(publication.isPublicationCompleted()).isTrue();
+		assertThat(registry.deferCompletion(event, identifier)).isFalse();
+
+		verify(writer).add(publication.getIdentifier());
+		verify(repository, never()).markCompleted(any(TargetEventPublication.class), any());
+	}
+
+	@Test
+	void marksPublicationsCompletedInGroupInSingleCall() {
+
+		when(repository.supportsCompletionByIdentifier()).thenReturn(true);
+
+		var registry = new DefaultEventPublicationRegistry(repository, Clock.systemUTC());
+
+		var first = new Object();
+		var second = new Object();
+		var identifier = PublicationTargetIdentifier.of("id");
+		var firstPublication = registry.store(first, Stream.of(identifier)).iterator().next();
+		var secondPublication = registry.store(second, Stream.of(identifier)).iterator().next();
+
+		registry.markInProgress(first, firstPublication);
+		registry.markInProgress(second, secondPublication);
+
+		registry.markCompletedInGroup(() -> {
+			assertThat(registry.deferCompletion(first, identifier)).isTrue();
+			assertThat(registry.deferCompletion(second, identifier)).isTrue();
+		});
+
+		verify(repository).markCompleted(eq(List.of(firstPublication.getIdentifier(), secondPublication.getIdentifier())),
+				any(Instant.class));
+		verify(repository, never()).markCompleted(any(TargetEventPublication.class), any());
+
+		// Outside of a group, completions are not deferred anymore
+		registry.markInProgress(first, firstPublication);
+
+		assertThat(registry.deferCompletion(first, identifier)).isFalse();
+	}
+
+	@Test
+	void doesNotDeferCompletionWithoutWriter() {
+
+		var registry = new DefaultEventPublicationRegistry(repository, Clock.systemUTC());
+
+		var event = new Object();
+		var identifier = PublicationTargetIdentifier.of("id");
+		var publication = registry.store(event, Stream.of(identifier)).iterator().next();
+
+		registry.markInProgress(event, publication);
+
+		assertThat(registry.deferCompletion(event, identifier)).isFalse();
+
+		registry.markCompleted(event, identifier);
+
+		verify(repository).markCompleted(eq(publication), any(Instant.class));
+	}
+
+	@Test
+	void fallsBackToEventBasedCompletionForUnknownPublication() {
+
+		var registry = new DefaultEventPublicationRegistry(repository, Clock.systemUTC());
+
+		var event = new Object();
+		var identifier = PublicationTargetIdentifier.of("id");
+
+		registry.markCompleted(event, identifier);
+
+		verify(repository).markCompleted(eq(event), eq(identifier), any(Instant.class));
+	}
+
+	@Test
+	void dropsInProgressPublicationOnFailure() {
+
+		var registry = new DefaultEventPublicationRegistry(repository, Clock.systemUTC());
+
+		var event = new Object();
+		var identifier = PublicationTargetIdentifier.of("id");
+		var publication = registry.store(event, Stream.of(identifier)).iterator().next();
+
+		registry.markInProgress(event, publication);
+		registry.markFailed(event, identifier);
+		registry.markCompleted(event, identifier);
+
+		verify(repository).markCompleted(eq(event), eq(identifier), any(Instant.class));
+	}
+
+	@Test
+	void evictsEldestPublicationsInProgressBeyondCapacity() {
+
+		var inProgress = new DefaultEventPublicationRegistry.PublicationsInProgress(2);
+		var identifier = PublicationTargetIdentifier.of("id");
+
+		var first = new Object();
+		var second = new Object();
+		var third = new Object();
+
+		inProgress.register(first, TargetEventPublication.of(first, identifier));
+		inProgress.register(second, TargetEventPublication.of(second, identifier));
+		inProgress.register(third, TargetEventPublication.of(third, identifier));
+
+		assertThat(inProgress.size()).isEqualTo(2);
+		assertThat(inProgress.unregister(first, identifier)).isNull();
+		assertThat(inProgress.unregister(second, identifier)).isNotNull();
+		assertThat(inProgress.unregister(third, identifier)).isNotNull();
+	}
+
+	@Test
+	void doesNotDeferCompletionIfRepositoryDoesNotSupportCompletionByIdentifier() {
+
+		var writer = mock(CoalescingCompletionWriter.class);
+		var registry = new DefaultEventPublicationRegistry(repository, Clock.systemUTC(),
+				new EventPublicationPurger(repository, 10, Duration.ZERO), writer);
+
+		var event = new Object();
+		var identifier = PublicationTargetIdentifier.of("id");
+		var publication = registry.store(event, Stream.of(identifier)).iterator().next();
+
+		registry.markInProgress(event, publication);
+		registry.markCompletedInGroup(() -> {
+			assertThat(registry.deferCompletion(event, identifier)).isFalse();
+			registry.markCompleted(event, identifier);
+		});
+
+		verify(writer, never()).add(any());
+		verify(repository).markCompleted(eq(publication), any(Instant.class));
+		verify(repository, never()).markCompleted(anyCollection(), any());
+	}
+
+	@Test
+	void repositoryDoesNotSupportCompletionByIdentifierByDefault() {
+
+		var repository = mock(EventPublicationRepository.class, CALLS_REAL_METHODS);
+
+		assertThat(repository.supportsCompletionByIdentifier()).isFalse();
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> repository.markCompleted(UUID.randomUUID(), Instant.now()));
+	}
+
+	@Test
+	void streamsIncompletePublicationsPageByPage() {
+
+		var registry = new DefaultEventPublicationRegistry(repository, Clock.systemUTC());
+
+		var first = createPublication("first");
+		var second = createPublication("second");
+		var third = createPublication("third");
+
+		when(repository.findIncompletePublications(null, null, 2)).thenReturn(List.of(first, second));
+		when(repository.findIncompletePublications(null, second, 2)).thenReturn(List.of(third));
+		when(repository.findIncompletePublications(null, third, 2)).thenReturn(List.of());
+
+		try (var publications = registry.streamIncompletePublications(null, 2)) {
+			assertThat(publications).containsExactly(first, second, third);
+		}
+	}
+
+	@Test
+	void looksUpPagesLazily() {
+
+		var registry = new DefaultEventPublicationRegistry(repository, Clock.systemUTC());
+
+		var first = createPublication("first");
+
+		when(repository.findIncompletePublications(null, null, 1)).thenReturn(List.of(first));
+
+		try (var publications = registry.streamIncompletePublications(null, 1)) {
+			assertThat(publications.findFirst()).hasValue(first);
+		}
+
+		verify(repository, never()).findIncompletePublications(null, first, 1);
+	}
+
+	@Test
+	void leasesIncompletePublicationsUntilNoneAreLeftToLease() {
+
+		var now = Instant.now();
+		var registry = new DefaultEventPublicationRegistry(repository, Clock.fixed(now, ZoneId.systemDefault()));
+
+		var first = createPublication("first");
+		var second = createPublication("second");
+		var lease = Duration.ofMinutes(1);
+
+		when(repository.leaseIncompletePublications(eq(null), eq(null), anyString(), eq(now), eq(now.plus(lease)),
+				eq(1))).thenReturn(List.of(first), List.of(second), List.of());
+
+		try (var publications = registry.leaseIncompletePublications(null, null, 1, lease)) {
+			assertThat(publications).containsExactly(first, second);
+		}
+
+		var owners = ArgumentCaptor.forClass(String.class);
+
+		verify(repository, times(3)).leaseIncompletePublications(eq(null), eq(null), owners.capture(), eq(now),
+				eq(now.plus(lease)), eq(1));
+
+		assertThat(owners.getAllValues()).containsOnly(owners.getValue());
+	}
+
+	@Test
+	void usesDistinctLeaseOwnerPerRegistry() {
+
+		var lease = Duration.ofMinutes(1);
+		var owners = ArgumentCaptor.forClass(String.class);
+
+		when(repository.leaseIncompletePublications(any(), any(), anyString(), any(), any(), anyInt()))
+				.thenReturn(List.of());
+
+		new DefaultEventPublicationRegistry(repository, Clock.systemUTC())
+				.leaseIncompletePublications(null, null, 1, lease).close();
+		new DefaultEventPublicationRegistry(repository, Clock.systemUTC())
+				.leaseIncompletePublications(null, null, 1, lease).close();
+
+		verify(repository, times(2))
+				.leaseIncompletePublications(any(), any(), owners.capture(), any(), any(), anyInt());
+
+		assertThat(owners.getAllValues()).doesNotHaveDuplicates();
+	}
+
+	@Test
+	void reportsOutstandingPublicationsOnShutdownWithoutDeserializingEvents() {
+
+		var publication = mock(TargetEventPublication.class);
+
+		doReturn(Object.class).when(publication).getEventType();
+		when(publication.getTargetIdentifier()).thenReturn(PublicationTargetIdentifier.of("listener"));
+		when(repository.findIncompletePublications()).thenReturn(List.of(publication));
+
+		new DefaultEventPublicationRegistry(repository, Clock.systemUTC()).destroy();
+
+		verify(publication, never()).getEvent();
+	}
+
+	private static TargetEventPublication createPublication(String listenerId) {
+		return TargetEventPublication.of(new Object(), PublicationTargetIdentifier.of(listenerId));
+	}
 }
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.core;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+
+/**
+ * Unit tests for {@link EventPublicationPurger}.
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+class EventPublicationPurgerUnitTests {
+
+	@Mock EventPublicationRepository repository;
+
+	@Test
+	void deletesCompletedPublicationsChunkByChunk() {
+
+		var purger = new EventPublicationPurger(repository, 10, Duration.ZERO);
+		var before = Instant.now();
+
+		when(repository.deleteCompletedPublications(before, 10)).thenReturn(10, 10, 3);
+
+		assertThat(purger.purgeCompletedPublications(before)).isEqualTo(23);
+
+		verify(repository, times(3)).deleteCompletedPublications(before, 10);
+		assertThat(purger.getPurgedPublications()).isEqualTo(23);
+		assertThat(purger.getRuns()).isOne();
+		assertThat(purger.getLastRun()).isNotNull();
+	}
+
+	@Test
+	void dropsCompletedPublicationsInBulkOncePerRun() {
+
+		var purger = new EventPublicationPurger(repository, 10, Duration.ZERO);
+		var before = Instant.now();
+
+		when(repository.deleteCompletedPublications(before, 10)).thenReturn(10, 10, 3);
+
+		purger.purgeCompletedPublications(before);
+
+		var inOrder = inOrder(repository);
+
+		inOrder.verify(repository).dropCompletedPublicationsBefore(before);
+		inOrder.verify(repository, times(3)).deleteCompletedPublications(before, 10);
+		verify(repository).dropCompletedPublicationsBefore(before);
+	}
+
+	@Test
+	void doesNotDropPublicationsInBulkWhenPurgingAllCompletedOnes() {
+
+		var purger = new EventPublicationPurger(repository, 10, Duration.ZERO);
+
+		purger.purgeCompletedPublications(null);
+
+		verify(repository, never()).dropCompletedPublicationsBefore(any());
+	}
+
+	@Test
+	void pausesBetweenChunks() {
+
+		var purger = new EventPublicationPurger(repository, 1, Duration.ofMillis(100));
+
+		when(repository.deleteCompletedPublications(null, 1)).thenReturn(1, 1, 0);
+
+		var start = System.nanoTime();
+
+		purger.purgeCompletedPublications(null);
+
+		assertThat(Duration.ofNanos(System.nanoTime() - start)).isGreaterThanOrEqualTo(Duration.ofMillis(200));
+	}
+
+	@Test
+	void deletesPublicationsByIdentifierChunkByChunk() {
+
+		var purger = new EventPublicationPurger(repository, 2, Duration.ZERO);
+		var identifiers = IntStream.range(0, 5).mapToObj(__ -> UUID.randomUUID()).toList();
+
+		assertThat(purger.purgePublications(identifiers)).isEqualTo(5);
+
+		verify(repository).deletePublications(identifiers.subList(0, 2));
+		verify(repository).deletePublications(identifiers.subList(2, 4));
+		verify(repository).deletePublications(identifiers.subList(4, 5));
+	}
+
+	@Test
+	void doesNotDeleteAnythingForEmptyIdentifiers() {
+
+		new EventPublicationPurger(repository, 2, Duration.ZERO).purgePublications(List.of());
+
+		verify(repository, never()).deletePublications(any());
+	}
+
+	@Test
+	void readsSettingsFromEnvironment() {
+
+		var environment = new StandardEnvironment();
+		environment.getPropertySources().addFirst(new MapPropertySource("test",
+				Map.of(EventPublicationPurger.CHUNK_SIZE, "3")));
+
+		when(repository.deleteCompletedPublications(null, 3)).thenReturn(0);
+
+		EventPublicationPurger.of(repository, environment).purgeCompletedPublications(null);
+
+		verify(repository).deleteCompletedPublications(null, 3);
+	}
+}
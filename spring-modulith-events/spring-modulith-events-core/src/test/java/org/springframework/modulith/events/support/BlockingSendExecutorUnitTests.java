@@ -0,0 +1,120 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link BlockingSendExecutor}.
+ *
+ * @author agent
+ */
+class BlockingSendExecutorUnitTests {
+
+	BlockingSendExecutor executor = new BlockingSendExecutor("test", 1);
+
+	@Test
+	void runsSendOnDedicatedThreadWithoutBlockingCaller() throws Exception {
+
+		var latch = new CountDownLatch(1);
+
+		var future = executor.submit(() -> {
+
+			try {
+				latch.await(1, TimeUnit.SECONDS);
+			} catch (InterruptedException o_O) {
+				Thread.currentThread().interrupt();
+			}
+
+			return Thread.currentThread().getName();
+		});
+
+		assertThat(future).isNotDone();
+
+		latch.countDown();
+
+		assertThat(future.get(1, TimeUnit.SECONDS)).startsWith("test-send-");
+	}
+
+	@Test
+	void completesFutureExceptionallyIfSendFails() {
+
+		var future = executor.execute(() -> {
+			throw new IllegalStateException("Broker unavailable");
+		});
+
+		assertThatExceptionOfType(ExecutionException.class)
+				.isThrownBy(() -> future.get(1, TimeUnit.SECONDS))
+				.withCauseInstanceOf(IllegalStateException.class);
+	}
+
+	@Test
+	void runsSendOnCallerIfQueueIsFull() throws Exception {
+
+		var executor = new BlockingSendExecutor("test", 1, 1);
+		var latch = new CountDownLatch(1);
+
+		try {
+
+			// Occupies the only thread and the only queue slot
+			executor.execute(() -> await(latch));
+			executor.execute(() -> {});
+
+			var future = executor.submit(() -> Thread.currentThread().getName());
+
+			assertThat(future).isCompletedWithValue(Thread.currentThread().getName());
+
+		} finally {
+			latch.countDown();
+			executor.destroy();
+		}
+	}
+
+	@Test
+	void rejectsSendsAfterShutdown() throws Exception {
+
+		executor.destroy();
+
+		assertThatExceptionOfType(RejectedExecutionException.class)
+				.isThrownBy(() -> executor.execute(() -> {}));
+	}
+
+	@Test
+	void rejectsInvalidPoolSize() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new BlockingSendExecutor("test", 0));
+	}
+
+	@Test
+	void rejectsInvalidQueueCapacity() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new BlockingSendExecutor("test", 1, 0));
+	}
+
+	private static void await(CountDownLatch latch) {
+
+		try {
+			latch.await(1, TimeUnit.SECONDS);
+		} catch (InterruptedException o_O) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
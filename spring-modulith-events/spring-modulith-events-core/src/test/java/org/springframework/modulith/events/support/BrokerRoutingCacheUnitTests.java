@@ -0,0 +1,80 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.expression.spel.support.StandardEvaluationContext;
+import org.springframework.modulith.events.RoutingTarget;
+
+/**
+ * Unit tests for {@link BrokerRoutingCache}.
+ *
+ * @author agent
+ */
+class BrokerRoutingCacheUnitTests {
+
+	@Test
+	void returnsSameRoutingForEqualTargets() {
+
+		var cache = new BrokerRoutingCache(new StandardEvaluationContext());
+
+		var first = cache.get(RoutingTarget.forTarget("target").andKey("#{key}"));
+		var second = cache.get(RoutingTarget.forTarget("target").andKey("#{key}"));
+
+		assertThat(first).isSameAs(second);
+		assertThat(cache.size()).isOne();
+	}
+
+	@Test
+	void evictsRoutingsBeyondCapacity() {
+
+		var cache = new BrokerRoutingCache(new StandardEvaluationContext(), 2);
+
+		IntStream.range(0, 5).forEach(it -> cache.get(RoutingTarget.forTarget("target" + it).withoutKey()));
+
+		assertThat(cache.size()).isEqualTo(2);
+	}
+
+	@Test
+	void evaluatesCompiledKeyExpressionRepeatedly() {
+
+		var routing = new BrokerRoutingCache(new StandardEvaluationContext())
+				.get(RoutingTarget.forTarget("target").andKey("#{key + '-' + key.length()}"));
+
+		IntStream.range(0, 200).forEach(__ -> {
+			assertThat(routing.getKey(new SomeEvent("foo"))).isEqualTo("foo-3");
+		});
+	}
+
+	@Test
+	void fallsBackToInterpretationIfCompiledExpressionFails() {
+
+		var routing = new BrokerRoutingCache(new StandardEvaluationContext())
+				.get(RoutingTarget.forTarget("target").andKey("#{key}"));
+
+		IntStream.range(0, 200).forEach(__ -> routing.getKey(new SomeEvent("foo")));
+
+		assertThat(routing.getKey(new OtherEvent("bar"))).isEqualTo("bar");
+	}
+
+	public record SomeEvent(String key) {}
+
+	public record OtherEvent(String key) {}
+}
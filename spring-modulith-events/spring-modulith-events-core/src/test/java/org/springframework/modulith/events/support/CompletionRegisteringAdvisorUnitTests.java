@@ -61,6 +61,17 @@ class CompletionRegisteringAdvisorUnitTests {
 		assertNonCompletion(SomeEventListener::nonEventListener);
 	}
 
+	@Test
+	void skipsImmediateCompletionIfDeferred() throws Exception {
+
+		when(registry.deferCompletion(any(), any())).thenReturn(true);
+
+		createProxyFor(bean).onAfterCommit(new Object());
+
+		verify(registry).deferCompletion(any(), any());
+		verify(registry, never()).markCompleted(any(), any());
+	}
+
 	@Test // GH-395
 	void doesNotTriggerCompletionOnFailedCompletableFuture() throws Throwable {
 
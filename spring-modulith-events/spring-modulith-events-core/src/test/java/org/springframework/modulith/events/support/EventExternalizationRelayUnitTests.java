@@ -0,0 +1,236 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiFunction;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.modulith.events.EventExternalizationConfiguration;
+import org.springframework.modulith.events.EventExternalized;
+import org.springframework.modulith.events.RoutingTarget;
+import org.springframework.modulith.events.core.EventPublicationRepository;
+import org.springframework.modulith.events.core.TargetEventPublication;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+/**
+ * Unit tests for {@link EventExternalizationRelay}.
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+class EventExternalizationRelayUnitTests {
+
+	static final EventExternalizationConfiguration CONFIGURATION = EventExternalizationConfiguration.externalizing()
+			.select(__ -> true)
+			.routeAll(__ -> RoutingTarget.forTarget("target").withoutKey())
+			.build();
+
+	@Mock EventPublicationRepository repository;
+	@Mock ApplicationEventPublisher publisher;
+
+	@Test
+	void completesSentPublicationsInBulkAndKeepsFailedOnesIncomplete() {
+
+		var sent = publication("sent");
+		var failed = publication("failed");
+
+		when(claim(10))
+				.thenReturn(List.of(sent, failed));
+
+		var relay = relay(10, 10, (target, payload) -> "failed".equals(payload)
+				? CompletableFuture.failedFuture(new IllegalStateException())
+				: CompletableFuture.completedFuture(payload));
+
+		assertThat(relay.relay()).isOne();
+
+		verify(repository).markCompleted(eq(List.of(sent.getIdentifier())), any());
+		verify(publisher).publishEvent(any(EventExternalized.class));
+	}
+
+	@Test
+	void claimsNextBatchWhileBatchesAreFull() {
+
+		var first = publication("first");
+		var second = publication("second");
+		var third = publication("third");
+
+		when(claim(2))
+				.thenReturn(List.of(first, second), List.of(third));
+
+		var relay = relay(2, 2, (target, payload) -> CompletableFuture.completedFuture(payload));
+
+		assertThat(relay.relay()).isEqualTo(3);
+
+		verify(repository, times(2)).claimIncompletePublications(eq(EventExternalizationRelay.TARGET_IDENTIFIER),
+				anyString(), any(), any(), eq(2));
+		verify(repository).markCompleted(eq(List.of(first.getIdentifier(), second.getIdentifier())), any());
+		verify(repository).markCompleted(eq(List.of(third.getIdentifier())), any());
+	}
+
+	@Test
+	void doesNotCompleteAnythingIfNothingWasClaimed() {
+
+		when(repository.claimIncompletePublications(any(), anyString(), any(), any(), anyInt())).thenReturn(List.of());
+
+		assertThat(relay(10, 10, (target, payload) -> CompletableFuture.completedFuture(payload)).relay()).isZero();
+
+		verify(repository, never()).markCompleted(anyCollection(), any());
+	}
+
+	@Test
+	void limitsNumberOfSendsInFlight() {
+
+		var publications = List.of(publication("first"), publication("second"), publication("third"),
+				publication("fourth"));
+
+		when(claim(10))
+				.thenReturn(publications);
+
+		var executor = Executors.newCachedThreadPool();
+		var inFlight = new AtomicInteger();
+		var maximum = new AtomicInteger();
+
+		try {
+
+			var relay = relay(10, 2, (target, payload) -> CompletableFuture.supplyAsync(() -> {
+
+				maximum.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+
+				try {
+					Thread.sleep(50);
+				} catch (InterruptedException o_O) {
+					Thread.currentThread().interrupt();
+				}
+
+				inFlight.decrementAndGet();
+
+				return payload;
+
+			}, executor));
+
+			assertThat(relay.relay()).isEqualTo(4);
+			assertThat(maximum.get()).isLessThanOrEqualTo(2);
+
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void bypassesProxyOfExternalizer() {
+
+		var externalizer = new DelegatingEventExternalizer(CONFIGURATION,
+				(target, payload) -> CompletableFuture.completedFuture(payload));
+
+		var factory = new ProxyFactory(externalizer);
+		factory.setProxyTargetClass(true);
+		factory.addAdvice((MethodInterceptor) invocation -> {
+			throw new IllegalStateException("Proxy must not be invoked!");
+		});
+
+		var publication = publication("event");
+
+		when(claim(10))
+				.thenReturn(List.of(publication));
+
+		var relay = new EventExternalizationRelay(repository, (DelegatingEventExternalizer) factory.getProxy(),
+				TransactionOperations.withoutTransaction(), publisher, Clock.systemUTC(), 10, 10, Duration.ofMinutes(1));
+
+		assertThat(relay.relay()).isOne();
+	}
+
+	@Test
+	void sendsClaimedPublicationsOutsideOfTransactions() {
+
+		var publication = publication("event");
+		var transactions = new TrackingTransactionOperations();
+
+		when(claim(10)).thenReturn(List.of(publication));
+
+		var relay = new EventExternalizationRelay(repository, new DelegatingEventExternalizer(CONFIGURATION,
+				(target, payload) -> {
+
+					assertThat(transactions.active).isFalse();
+
+					return CompletableFuture.completedFuture(payload);
+
+				}), transactions, publisher, Clock.systemUTC(), 10, 10, Duration.ofMinutes(1));
+
+		assertThat(relay.relay()).isOne();
+		assertThat(transactions.executions).isEqualTo(2);
+
+		verify(repository).markCompleted(eq(List.of(publication.getIdentifier())), any());
+	}
+
+	private List<TargetEventPublication> claim(int limit) {
+		return repository.claimIncompletePublications(eq(EventExternalizationRelay.TARGET_IDENTIFIER), anyString(), any(),
+				any(), eq(limit));
+	}
+
+	private EventExternalizationRelay relay(int batchSize, int concurrency,
+			BiFunction<RoutingTarget, Object, CompletableFuture<?>> delegate) {
+
+		return new EventExternalizationRelay(repository, new DelegatingEventExternalizer(CONFIGURATION, delegate),
+				TransactionOperations.withoutTransaction(), publisher, Clock.systemUTC(), batchSize, concurrency,
+				Duration.ofMinutes(1));
+	}
+
+	private static TargetEventPublication publication(Object event) {
+		return TargetEventPublication.of(event, EventExternalizationRelay.TARGET_IDENTIFIER);
+	}
+
+	static class TrackingTransactionOperations implements TransactionOperations {
+
+		boolean active;
+		int executions;
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.transaction.support.TransactionOperations#execute(org.springframework.transaction.support.TransactionCallback)
+		 */
+		@Override
+		public <T> T execute(TransactionCallback<T> action) throws TransactionException {
+
+			active = true;
+			executions++;
+
+			try {
+				return action.doInTransaction(new SimpleTransactionStatus());
+			} finally {
+				active = false;
+			}
+		}
+	}
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.modulith.events.RoutingTarget;
+import org.springframework.modulith.events.core.EventPublicationRegistry;
+import org.springframework.modulith.events.support.ExternalizationBatcher.Entry;
+
+/**
+ * Unit tests for {@link ExternalizationBatcher}.
+ *
+ * @author agent
+ */
+class ExternalizationBatcherUnitTests {
+
+	static final RoutingTarget TARGET = RoutingTarget.forTarget("target").withoutKey();
+
+	List<List<Object>> sent = new CopyOnWriteArrayList<>();
+
+	@Test
+	void sendsPendingBatchesOnDestroy() {
+
+		var batcher = new ExternalizationBatcher("test", 10, Duration.ofHours(1), recording());
+
+		var first = batcher.add(TARGET, "first");
+
+		batcher.destroy();
+
+		assertThat(sent).containsExactly(List.of("first"));
+		assertThat(first).isCompleted();
+	}
+
+	@Test
+	void sendsRightAwayOnceDestroyed() {
+
+		var batcher = new ExternalizationBatcher("test", 10, Duration.ofHours(1), recording());
+
+		batcher.destroy();
+
+		assertThat(batcher.add(TARGET, "first")).isCompleted();
+		assertThat(sent).containsExactly(List.of("first"));
+	}
+
+	@Test
+	void sendsBatchOnceFull() {
+
+		var batcher = new ExternalizationBatcher("test", 2, Duration.ofHours(1), recording());
+
+		var first = batcher.add(TARGET, "first");
+
+		assertThat(first).isNotDone();
+		assertThat(sent).isEmpty();
+
+		var second = batcher.add(TARGET, "second");
+
+		assertThat(sent).containsExactly(List.of("first", "second"));
+		assertThat(first).isCompleted();
+		assertThat(second).isCompleted();
+	}
+
+	@Test
+	void sendsIncompleteBatchAfterLingerTime() throws Exception {
+
+		var batcher = new ExternalizationBatcher("test", 10, Duration.ofMillis(10), recording());
+
+		batcher.add(TARGET, "payload").get(1, TimeUnit.SECONDS);
+
+		assertThat(sent).containsExactly(List.of("payload"));
+	}
+
+	@Test
+	void batchesPerRoutingTarget() {
+
+		var batcher = new ExternalizationBatcher("test", 2, Duration.ofHours(1), recording());
+
+		batcher.add(TARGET, "first");
+		batcher.add(RoutingTarget.forTarget("other").withoutKey(), "other");
+		batcher.add(TARGET, "second");
+
+		assertThat(sent).containsExactly(List.of("first", "second"));
+	}
+
+	@Test
+	void failsOnlyEntriesRejectedBySender() {
+
+		var batcher = new ExternalizationBatcher("test", 2, Duration.ofHours(1), (target, entries) -> {
+
+			entries.get(1).fail(new IllegalStateException("Rejected"));
+
+			return CompletableFuture.completedFuture(null);
+		});
+
+		var first = batcher.add(TARGET, "first");
+		var second = batcher.add(TARGET, "second");
+
+		assertThat(first).isCompleted();
+		assertThat(second).isCompletedExceptionally();
+	}
+
+	@Test
+	void failsAllEntriesIfSendFails() {
+
+		var batcher = new ExternalizationBatcher("test", 2, Duration.ofHours(1), (target, entries) -> {
+			throw new IllegalStateException("Broker unavailable");
+		});
+
+		var first = batcher.add(TARGET, "first");
+		var second = batcher.add(TARGET, "second");
+
+		assertThat(first).isCompletedExceptionally();
+		assertThat(second).isCompletedExceptionally();
+	}
+
+	@Test
+	void completesEntriesOfBatchSentAsGroup() {
+
+		var registry = mock(EventPublicationRegistry.class);
+
+		doAnswer(it -> {
+			it.<Runnable> getArgument(0).run();
+			return null;
+		}).when(registry).markCompletedInGroup(any());
+
+		var batcher = new ExternalizationBatcher("test", 2, Duration.ofHours(1), recording(), registry);
+
+		var first = batcher.add(TARGET, "first");
+		var second = batcher.add(TARGET, "second");
+
+		assertThat(first).isCompleted();
+		assertThat(second).isCompleted();
+
+		verify(registry).markCompletedInGroup(any());
+	}
+
+	@Test
+	void capsConfiguredBatchSizeAtBrokerMaximum() {
+
+		var environment = new StandardEnvironment();
+		environment.getPropertySources().addFirst(new MapPropertySource("test",
+				Map.of(ExternalizationBatcher.SIZE, "100")));
+
+		var batcher = ExternalizationBatcher.of("test", 2, environment, recording());
+
+		batcher.add(TARGET, "first");
+		batcher.add(TARGET, "second");
+
+		assertThat(sent).hasSize(1);
+	}
+
+	private ExternalizationBatcher.BatchSender recording() {
+
+		return (target, entries) -> {
+
+			sent.add(entries.stream().map(Entry::getPayload).toList());
+
+			return CompletableFuture.completedFuture(null);
+		};
+	}
+}
@@ -20,7 +20,11 @@ import static org.mockito.Mockito.*;
 
 import lombok.AllArgsConstructor;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,7 +36,11 @@ import org.springframework.core.ResolvableType;
 import org.springframework.core.env.MapPropertySource;
 import org.springframework.core.env.StandardEnvironment;
 import org.springframework.modulith.events.core.EventPublicationRegistry;
+import org.springframework.modulith.events.core.PublicationTargetIdentifier;
+import org.springframework.modulith.events.core.TargetEventPublication;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalApplicationListener;
 import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
@@ -57,7 +65,7 @@ class PersistentApplicationEventMulticasterUnitTests {
 
 		multicaster.afterSingletonsInstantiated();
 
-		verify(registry, never()).findIncompletePublications();
+		verify(registry, never()).streamIncompletePublications(any(), anyInt());
 	}
 
 	@Test // GH-240, GH-251
@@ -67,9 +75,81 @@ class PersistentApplicationEventMulticasterUnitTests {
 				Map.of(PersistentApplicationEventMulticaster.REPUBLISH_ON_RESTART, "true"));
 		environment.getPropertySources().addFirst(source);
 
+		when(registry.streamIncompletePublications(null, PersistentApplicationEventMulticaster.DEFAULT_PAGE_SIZE))
+				.thenReturn(Stream.empty());
+
+		multicaster.afterSingletonsInstantiated();
+
+		verify(registry).streamIncompletePublications(null, PersistentApplicationEventMulticaster.DEFAULT_PAGE_SIZE);
+	}
+
+	@Test
+	void usesConfiguredPageSizeForResubmission() {
+
+		var source = new MapPropertySource("test",
+				Map.of(PersistentApplicationEventMulticaster.REPUBLISH_ON_RESTART, "true",
+						PersistentApplicationEventMulticaster.RESUBMISSION_PAGE_SIZE, "42"));
+		environment.getPropertySources().addFirst(source);
+
+		when(registry.streamIncompletePublications(null, 42)).thenReturn(Stream.empty());
+
 		multicaster.afterSingletonsInstantiated();
 
-		verify(registry).findIncompletePublications();
+		verify(registry).streamIncompletePublications(null, 42);
+	}
+
+	@Test
+	void leasesPublicationsForResubmissionIfConfigured() {
+
+		var source = new MapPropertySource("test",
+				Map.of(PersistentApplicationEventMulticaster.REPUBLISH_ON_RESTART, "true",
+						PersistentApplicationEventMulticaster.RESUBMISSION_LEASE_ENABLED, "true"));
+		environment.getPropertySources().addFirst(source);
+
+		when(registry.leaseIncompletePublications(null, null, PersistentApplicationEventMulticaster.DEFAULT_PAGE_SIZE,
+				PersistentApplicationEventMulticaster.DEFAULT_LEASE_DURATION)).thenReturn(Stream.empty());
+
+		multicaster.afterSingletonsInstantiated();
+
+		verify(registry).leaseIncompletePublications(null, null,
+				PersistentApplicationEventMulticaster.DEFAULT_PAGE_SIZE,
+				PersistentApplicationEventMulticaster.DEFAULT_LEASE_DURATION);
+		verify(registry, never()).streamIncompletePublications(any(), anyInt());
+	}
+
+	@Test
+	void doesNotLeaseRelayedPublicationsForResubmission() {
+
+		var source = new MapPropertySource("test",
+				Map.of(PersistentApplicationEventMulticaster.RESUBMISSION_LEASE_ENABLED, "true",
+						EventExternalizationRelay.ENABLED, "true"));
+		environment.getPropertySources().addFirst(source);
+
+		when(registry.leaseIncompletePublications(any(), any(), anyInt(), any())).thenReturn(Stream.empty());
+
+		multicaster.resubmitIncompletePublicationsOlderThan(Duration.ofMinutes(1));
+
+		verify(registry).leaseIncompletePublications(Duration.ofMinutes(1), EventExternalizationRelay.TARGET_IDENTIFIER,
+				PersistentApplicationEventMulticaster.DEFAULT_PAGE_SIZE,
+				PersistentApplicationEventMulticaster.DEFAULT_LEASE_DURATION);
+	}
+
+	@Test
+	void doesNotLeasePublicationsForFilteredResubmission() {
+
+		var source = new MapPropertySource("test",
+				Map.of(PersistentApplicationEventMulticaster.RESUBMISSION_LEASE_ENABLED, "true"));
+		environment.getPropertySources().addFirst(source);
+
+		var publication = TargetEventPublication.of(new SampleEvent(true), PublicationTargetIdentifier.of("listener"));
+
+		when(registry.streamIncompletePublications(null, PersistentApplicationEventMulticaster.DEFAULT_PAGE_SIZE))
+				.thenReturn(Stream.of(publication));
+
+		multicaster.resubmitIncompletePublications(__ -> false);
+
+		verify(registry, never()).leaseIncompletePublications(any(), any(), anyInt(), any());
+		verify(registry, never()).markInProgress(any(), any());
 	}
 
 	@Test // GH-277
@@ -87,6 +167,97 @@ class PersistentApplicationEventMulticasterUnitTests {
 		}
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	void resubmitsToListenersRegisteredAfterPreviousResubmission() {
+
+		var first = mock(TransactionalApplicationListener.class);
+		when(first.getListenerId()).thenReturn("first");
+
+		multicaster.addApplicationListener(first);
+
+		var publication = TargetEventPublication.of(new SampleEvent(true), PublicationTargetIdentifier.of("second"));
+
+		when(registry.streamIncompletePublications(null, PersistentApplicationEventMulticaster.DEFAULT_PAGE_SIZE))
+				.thenAnswer(__ -> Stream.of(publication));
+
+		multicaster.resubmitIncompletePublications(__ -> true);
+
+		var second = mock(TransactionalApplicationListener.class);
+		when(second.getListenerId()).thenReturn("second");
+
+		multicaster.addApplicationListener(second);
+		multicaster.resubmitIncompletePublications(__ -> true);
+
+		verify(first, never()).processEvent(any());
+		verify(second).processEvent(any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void doesNotServeListenerIndexBuiltConcurrentlyToRegistration() {
+
+		var second = mock(TransactionalApplicationListener.class);
+		when(second.getListenerId()).thenReturn("second");
+
+		var registered = new AtomicBoolean();
+		var first = mock(TransactionalApplicationListener.class);
+
+		// Registers the second listener while the index is built for the first one only
+		when(first.getListenerId()).thenAnswer(__ -> {
+
+			if (registered.compareAndSet(false, true)) {
+				multicaster.addApplicationListener(second);
+			}
+
+			return "first";
+		});
+
+		multicaster.addApplicationListener(first);
+
+		var publication = TargetEventPublication.of(new SampleEvent(true), PublicationTargetIdentifier.of("second"));
+
+		when(registry.streamIncompletePublications(null, PersistentApplicationEventMulticaster.DEFAULT_PAGE_SIZE))
+				.thenAnswer(__ -> Stream.of(publication));
+
+		multicaster.resubmitIncompletePublications(__ -> true);
+		verify(second, never()).processEvent(any());
+
+		multicaster.resubmitIncompletePublications(__ -> true);
+		verify(second).processEvent(any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void skipsRelayedListenerIfRelayIsEnabled() {
+
+		environment.getPropertySources().addFirst(new MapPropertySource("test",
+				Map.of(EventExternalizationRelay.ENABLED, "true")));
+
+		var relayed = mock(TransactionalApplicationListener.class);
+		when(relayed.getListenerId()).thenReturn(EventExternalizationRelay.TARGET_IDENTIFIER.getValue());
+		when(relayed.getTransactionPhase()).thenReturn(TransactionPhase.AFTER_COMMIT);
+
+		var event = new SampleEvent(true);
+		var publication = TargetEventPublication.of(event, EventExternalizationRelay.TARGET_IDENTIFIER);
+
+		when(registry.store(any(), any())).thenReturn(List.of(publication));
+
+		multicaster.addApplicationListener(relayed);
+		multicaster.multicastEvent(new PayloadApplicationEvent<>(this, event));
+
+		verify(registry).store(any(), any());
+		verify(registry, never()).markInProgress(any(), any());
+		verify(relayed, never()).onApplicationEvent(any());
+
+		when(registry.streamIncompletePublications(null, PersistentApplicationEventMulticaster.DEFAULT_PAGE_SIZE))
+				.thenAnswer(__ -> Stream.of(publication));
+
+		multicaster.resubmitIncompletePublications(__ -> true);
+
+		verify(relayed, never()).processEvent(any());
+	}
+
 	private void assertListenerSelected(SampleEvent event, boolean expected) {
 
 		var listeners = multicaster.getApplicationListeners(new PayloadApplicationEvent<>(this, event),
@@ -0,0 +1,225 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.support;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.modulith.events.core.PublicationTargetIdentifier;
+import org.springframework.modulith.events.core.TargetEventPublication;
+import org.springframework.modulith.events.support.ResubmissionEngine.ListenerThrottle;
+import org.springframework.modulith.events.support.ResubmissionEngine.Settings;
+import org.springframework.modulith.events.support.ResubmissionEngine.TokenBucket;
+
+/**
+ * Unit tests for {@link ResubmissionEngine}.
+ *
+ * @author agent
+ */
+class ResubmissionEngineUnitTests {
+
+	@Test
+	void resubmitsPublicationsOnCallingThreadByDefault() {
+
+		var engine = new ResubmissionEngine(Settings.DEFAULT, ResubmissionKeyExtractor.NONE);
+		var threads = new CopyOnWriteArrayList<Thread>();
+
+		engine.resubmit(createPublications(3, "listener"), __ -> threads.add(Thread.currentThread()));
+
+		assertThat(threads).hasSize(3).containsOnly(Thread.currentThread());
+		assertThat(engine.getProgress().getSucceeded()).isEqualTo(3);
+		assertThat(engine.getProgress().isFinished()).isTrue();
+	}
+
+	@Test
+	void resubmitsPublicationsConcurrently() {
+
+		var engine = new ResubmissionEngine(new Settings(4, 0, 0, false), ResubmissionKeyExtractor.NONE);
+		var barrier = new CyclicBarrier(4);
+
+		// Only succeeds if four publications are processed at the same time
+		engine.resubmit(createPublications(8, "listener"), __ -> await(barrier));
+
+		assertThat(engine.getProgress().getSucceeded()).isEqualTo(8);
+		assertThat(engine.getProgress().getFailed()).isZero();
+		assertThat(engine.getProgress().getRemaining()).isZero();
+	}
+
+	@Test
+	void limitsConcurrencyPerListener() {
+
+		var engine = new ResubmissionEngine(new Settings(4, 1, 0, false), ResubmissionKeyExtractor.NONE);
+		var current = new ConcurrentHashMap<PublicationTargetIdentifier, AtomicInteger>();
+		var maximum = new AtomicInteger();
+
+		var publications = Stream.concat(createPublications(4, "first"), createPublications(4, "second"));
+
+		engine.resubmit(publications, it -> {
+
+			var counter = current.computeIfAbsent(it.getTargetIdentifier(), __ -> new AtomicInteger());
+
+			maximum.accumulateAndGet(counter.incrementAndGet(), Math::max);
+			sleep(10);
+			counter.decrementAndGet();
+		});
+
+		assertThat(maximum.get()).isEqualTo(1);
+		assertThat(engine.getProgress().getSucceeded()).isEqualTo(8);
+	}
+
+	@Test
+	void keepsOrderOfPublicationsWithTheSameKey() {
+
+		ResubmissionKeyExtractor extractor = it -> ((SampleEvent) it).key();
+
+		var engine = new ResubmissionEngine(new Settings(4, 0, 0, false), extractor);
+		var processed = new ConcurrentHashMap<String, List<Integer>>();
+
+		var publications = IntStream.range(0, 40)
+				.mapToObj(it -> new SampleEvent("key" + it % 3, it))
+				.map(it -> TargetEventPublication.of(it, PublicationTargetIdentifier.of("listener")));
+
+		engine.resubmit(publications, it -> {
+
+			var event = (SampleEvent) it.getEvent();
+
+			sleep(1);
+			processed.computeIfAbsent(event.key(), __ -> new CopyOnWriteArrayList<>()).add(event.sequence());
+		});
+
+		assertThat(processed).hasSize(3);
+		assertThat(processed.values()).allSatisfy(it -> assertThat(it).isSorted());
+	}
+
+	@Test
+	void countsFailedPublicationsAndContinues() {
+
+		var engine = new ResubmissionEngine(Settings.DEFAULT, ResubmissionKeyExtractor.NONE);
+		var counter = new AtomicInteger();
+
+		Consumer<TargetEventPublication> callback = __ -> {
+			if (counter.incrementAndGet() % 2 == 0) {
+				throw new IllegalStateException();
+			}
+		};
+
+		engine.resubmit(createPublications(4, "listener"), callback);
+
+		var progress = engine.getProgress();
+
+		assertThat(progress.getSucceeded()).isEqualTo(2);
+		assertThat(progress.getFailed()).isEqualTo(2);
+		assertThat(progress.getInFlight()).isZero();
+		assertThat(progress.getRemaining()).isZero();
+	}
+
+	@Test
+	void queuesTasksBeyondListenerLimitInsteadOfBlocking() {
+
+		var submitted = new ArrayList<Runnable>();
+		var throttle = new ListenerThrottle(submitted::add, 1);
+		var executed = new ArrayList<String>();
+
+		throttle.execute(() -> executed.add("first"));
+		throttle.execute(() -> executed.add("second"));
+		throttle.execute(() -> executed.add("third"));
+
+		// Only the first task is handed to the pool, the others wait for it to finish
+		assertThat(submitted).hasSize(1);
+
+		submitted.get(0).run();
+
+		assertThat(executed).containsExactly("first");
+		assertThat(submitted).hasSize(2);
+
+		submitted.get(1).run();
+		submitted.get(2).run();
+
+		assertThat(executed).containsExactly("first", "second", "third");
+		assertThat(submitted).hasSize(3);
+
+		// Admits a new task right away once all queued ones have been processed
+		throttle.execute(() -> executed.add("fourth"));
+
+		assertThat(submitted).hasSize(4);
+	}
+
+	@Test
+	void rateLimitsAcquisitionsBeyondBurst() {
+
+		var bucket = new TokenBucket(20);
+		var start = System.nanoTime();
+
+		// 20 tokens are available immediately, 10 more take half a second to refill
+		IntStream.range(0, 30).forEach(__ -> bucket.acquire());
+
+		assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(450));
+	}
+
+	@Test
+	void readsSettingsFromEnvironment() {
+
+		var environment = new StandardEnvironment();
+		environment.getPropertySources().addFirst(new MapPropertySource("test",
+				Map.of(ResubmissionEngine.CONCURRENCY, "8",
+						ResubmissionEngine.CONCURRENCY_PER_LISTENER, "2",
+						ResubmissionEngine.RATE, "100.5")));
+
+		assertThat(Settings.of(environment)).isEqualTo(new Settings(8, 2, 100.5, false));
+	}
+
+	private static Stream<TargetEventPublication> createPublications(int count, String listenerId) {
+
+		var identifier = PublicationTargetIdentifier.of(listenerId);
+
+		return IntStream.range(0, count)
+				.mapToObj(it -> TargetEventPublication.of(new SampleEvent(listenerId, it), identifier));
+	}
+
+	private static void await(CyclicBarrier barrier) {
+
+		try {
+			barrier.await(5, TimeUnit.SECONDS);
+		} catch (Exception o_O) {
+			throw new IllegalStateException(o_O);
+		}
+	}
+
+	private static void sleep(long millis) {
+
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException o_O) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	record SampleEvent(String key, int sequence) {}
+}
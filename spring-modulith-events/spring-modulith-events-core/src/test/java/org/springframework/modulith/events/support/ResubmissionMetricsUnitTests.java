@@ -0,0 +1,61 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.support;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ResubmissionMetrics}.
+ *
+ * @author agent
+ */
+class ResubmissionMetricsUnitTests {
+
+	@Test
+	void publishesResubmissionProgressAsGauges() {
+
+		var progress = new ResubmissionProgress();
+		progress.read();
+		progress.read();
+		progress.started();
+		progress.succeeded();
+
+		var multicaster = mock(PersistentApplicationEventMulticaster.class);
+		doReturn(progress).when(multicaster).getResubmissionProgress();
+
+		var registry = new SimpleMeterRegistry();
+		new ResubmissionMetrics(() -> multicaster).bindTo(registry);
+
+		assertThat(registry.get(ResubmissionMetrics.PREFIX + "remaining").gauge().value()).isEqualTo(1);
+		assertThat(registry.get(ResubmissionMetrics.PREFIX + "succeeded").gauge().value()).isEqualTo(1);
+		assertThat(registry.get(ResubmissionMetrics.PREFIX + "in-flight").gauge().value()).isZero();
+		assertThat(registry.get(ResubmissionMetrics.PREFIX + "failed").gauge().value()).isZero();
+	}
+
+	@Test
+	void doesNotRegisterGaugesWithoutMulticaster() {
+
+		var registry = new SimpleMeterRegistry();
+		new ResubmissionMetrics(() -> null).bindTo(registry);
+
+		assertThat(registry.getMeters()).isEmpty();
+	}
+}
@@ -20,6 +20,7 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.modulith.events.config.EventSerializationConfigurationExtension;
+import org.springframework.modulith.events.core.CachingEventSerializer;
 import org.springframework.modulith.events.core.EventSerializer;
 import org.springframework.util.Assert;
 
@@ -28,7 +29,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
 
 /**
- * Application configuration to register a Jackson-based {@link EventSerializer}.
+ * Application configuration to register a Jackson-based {@link EventSerializer}. The serializer is wrapped into a
+ * {@link CachingEventSerializer} so that an event is only serialized once across all of its publications.
  *
  * @author Oliver Drotbohm
  */
@@ -55,8 +57,9 @@ class JacksonEventSerializationConfiguration implements EventSerializationConfig
 	}
 
 	@Bean
-	public JacksonEventSerializer jacksonEventSerializer() {
-		return new JacksonEventSerializer(() -> mapper.getIfAvailable(() -> defaultObjectMapper()));
+	public EventSerializer jacksonEventSerializer() {
+		return new CachingEventSerializer(
+				new JacksonEventSerializer(() -> mapper.getIfAvailable(() -> defaultObjectMapper())));
 	}
 
 	private ObjectMapper defaultObjectMapper() {
@@ -18,15 +18,29 @@ package org.springframework.modulith.events.jdbc;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.nio.charset.StandardCharsets;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.lang.Nullable;
 import org.springframework.util.StreamUtils;
 
 /**
- * Initializes the DB schema used to store events
+ * Initializes the DB schema used to store events, including the archive table for completed ones and, if leasing is
+ * enabled, the table storing leases. Indexes are created along with a new table. For an already existing table, missing
+ * indexes are only created if explicitly enabled, as that might take a while on large tables.
  *
  * @author Dmitry Belyaev
  * @author Björn Kieling
@@ -34,9 +48,17 @@ import org.springframework.util.StreamUtils;
  */
 class DatabaseSchemaInitializer implements InitializingBean {
 
+	private static final Logger LOGGER = LoggerFactory.getLogger(DatabaseSchemaInitializer.class);
+	private static final Pattern INDEX_NAME = Pattern.compile("CREATE INDEX (?:IF NOT EXISTS )?(\\w+)",
+			Pattern.CASE_INSENSITIVE);
+	private static final String TABLE_NAME = "EVENT_PUBLICATION";
+
 	private final JdbcOperations jdbcOperations;
 	private final ResourceLoader resourceLoader;
 	private final DatabaseType databaseType;
+	private final boolean migrateIndexes;
+	private final boolean partitioned;
+	private final boolean leasing;
 
 	/**
 	 * Creates a new {@link DatabaseSchemaInitializer} for the given {@link JdbcOperations}, {@link ResourceLoader} and
@@ -48,10 +70,46 @@ class DatabaseSchemaInitializer implements InitializingBean {
 	 */
 	public DatabaseSchemaInitializer(JdbcOperations jdbcOperations, ResourceLoader resourceLoader,
 			DatabaseType databaseType) {
+		this(jdbcOperations, resourceLoader, databaseType, false);
+	}
+
+	/**
+	 * Creates a new {@link DatabaseSchemaInitializer} for the given {@link JdbcOperations}, {@link ResourceLoader},
+	 * {@link DatabaseType} and whether to create missing indexes on an already existing table.
+	 *
+	 * @param jdbcOperations must not be {@literal null}.
+	 * @param resourceLoader must not be {@literal null}.
+	 * @param databaseType must not be {@literal null}.
+	 * @param migrateIndexes whether to create missing indexes on an already existing table.
+	 * @since 1.2
+	 */
+	public DatabaseSchemaInitializer(JdbcOperations jdbcOperations, ResourceLoader resourceLoader,
+			DatabaseType databaseType, boolean migrateIndexes) {
+		this(jdbcOperations, resourceLoader, databaseType, migrateIndexes, false, false);
+	}
+
+	/**
+	 * Creates a new {@link DatabaseSchemaInitializer} for the given {@link JdbcOperations}, {@link ResourceLoader},
+	 * {@link DatabaseType}, whether to create missing indexes on an already existing table, whether to create a table
+	 * partitioned by publication date and whether to create the table storing leases.
+	 *
+	 * @param jdbcOperations must not be {@literal null}.
+	 * @param resourceLoader must not be {@literal null}.
+	 * @param databaseType must not be {@literal null}.
+	 * @param migrateIndexes whether to create missing indexes on an already existing table.
+	 * @param partitioned whether to create a table partitioned by publication date, only supported for PostgreSQL.
+	 * @param leasing whether to create the table storing leases of event publications.
+	 * @since 1.2
+	 */
+	public DatabaseSchemaInitializer(JdbcOperations jdbcOperations, ResourceLoader resourceLoader,
+			DatabaseType databaseType, boolean migrateIndexes, boolean partitioned, boolean leasing) {
 
 		this.jdbcOperations = jdbcOperations;
 		this.resourceLoader = resourceLoader;
 		this.databaseType = databaseType;
+		this.migrateIndexes = migrateIndexes;
+		this.partitioned = partitioned;
+		this.leasing = leasing;
 	}
 
 	/*
@@ -61,11 +119,106 @@ class DatabaseSchemaInitializer implements InitializingBean {
 	@Override
 	public void afterPropertiesSet() {
 
-		var schemaResourceFilename = databaseType.getSchemaResourceFilename();
-		var schemaDdlResource = resourceLoader.getResource(ResourceLoader.CLASSPATH_URL_PREFIX + schemaResourceFilename);
-		var schemaDdl = asString(schemaDdlResource);
+		var tableExisted = tableExists();
+
+		var schema = partitioned
+				? databaseType.getPartitionedSchemaResourceFilename()
+				: databaseType.getSchemaResourceFilename();
+
+		statements(schema).forEach(jdbcOperations::execute);
+
+		if (leasing) {
+			statements(databaseType.getLeaseSchemaResourceFilename()).forEach(jdbcOperations::execute);
+		}
+
+		if (!tableExisted || migrateIndexes) {
+			createMissingIndexes();
+		}
+	}
+
+	private void createMissingIndexes() {
+
+		var existing = getIndexNames();
+
+		statements(databaseType.getIndexResourceFilename())
+				.forEach(it -> {
+
+					var matcher = INDEX_NAME.matcher(it);
 
-		jdbcOperations.execute(schemaDdl);
+					if (matcher.find() && existing.contains(matcher.group(1).toUpperCase(Locale.ROOT))) {
+						return;
+					}
+
+					LOGGER.info("Creating event publication index: {}", it);
+
+					jdbcOperations.execute(it);
+				});
+	}
+
+	private boolean tableExists() {
+
+		return Boolean.TRUE.equals(jdbcOperations.execute((ConnectionCallback<Boolean>) connection -> {
+
+			var metadata = connection.getMetaData();
+
+			for (var candidate : getTableNameCandidates()) {
+				try (var tables = metadata.getTables(connection.getCatalog(), connection.getSchema(), candidate, null)) {
+					if (tables.next()) {
+						return true;
+					}
+				}
+			}
+
+			return false;
+		}));
+	}
+
+	private Set<String> getIndexNames() {
+
+		var result = jdbcOperations.execute((ConnectionCallback<Set<String>>) connection -> {
+
+			var names = new HashSet<String>();
+			var metadata = connection.getMetaData();
+
+			for (var candidate : getTableNameCandidates()) {
+				collectIndexNames(metadata, connection.getCatalog(), connection.getSchema(), candidate, names);
+			}
+
+			return names;
+		});
+
+		return result == null ? Set.of() : result;
+	}
+
+	private Stream<String> statements(String filename) {
+
+		return Arrays.stream(read(filename).split(";"))
+				.map(String::trim)
+				.filter(it -> !it.isEmpty());
+	}
+
+	private String read(String filename) {
+		return asString(resourceLoader.getResource(ResourceLoader.CLASSPATH_URL_PREFIX + filename));
+	}
+
+	private static Set<String> getTableNameCandidates() {
+		return Set.of(TABLE_NAME, TABLE_NAME.toLowerCase(Locale.ROOT));
+	}
+
+	private static void collectIndexNames(DatabaseMetaData metadata, @Nullable String catalog, @Nullable String schema,
+			String table, Set<String> names) throws SQLException {
+
+		try (var indexes = metadata.getIndexInfo(catalog, schema, table, false, true)) {
+
+			while (indexes.next()) {
+
+				var name = indexes.getString("INDEX_NAME");
+
+				if (name != null) {
+					names.add(name.toUpperCase(Locale.ROOT));
+				}
+			}
+		}
 	}
 
 	private static String asString(Resource resource) {
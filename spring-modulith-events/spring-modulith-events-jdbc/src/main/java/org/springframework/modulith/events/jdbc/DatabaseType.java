@@ -27,7 +27,13 @@ import org.springframework.util.Assert;
  */
 enum DatabaseType {
 
-	HSQLDB("hsqldb", "HSQL Database Engine"),
+	HSQLDB("hsqldb", "HSQL Database Engine") {
+
+		@Override
+		String getSkipLockedClause() {
+			return "";
+		}
+	},
 
 	H2("h2", "H2"),
 
@@ -72,7 +78,40 @@ enum DatabaseType {
 		return (UUID) id;
 	}
 
+	/**
+	 * Returns the clause to append to a query to lock the rows selected and skip the ones currently locked by other
+	 * transactions. Empty for databases not supporting that.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 1.2
+	 */
+	String getSkipLockedClause() {
+		return "FOR UPDATE SKIP LOCKED";
+	}
+
 	String getSchemaResourceFilename() {
 		return "/schema-" + value + ".sql";
 	}
+
+	String getPartitionedSchemaResourceFilename() {
+
+		Assert.state(this == POSTGRES, () -> "Partitioned event publication table not supported for " + fullName + "!");
+
+		return "/schema-" + value + "-partitioned.sql";
+	}
+
+	/**
+	 * Returns the name of the resource containing the DDL for the table storing leases of event publications. Only
+	 * needed if leasing is enabled.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 1.2
+	 */
+	String getLeaseSchemaResourceFilename() {
+		return "/schema-" + value + "-lease.sql";
+	}
+
+	String getIndexResourceFilename() {
+		return "/indexes-" + value + ".sql";
+	}
 }
@@ -16,19 +16,26 @@
 package org.springframework.modulith.events.jdbc;
 
 import java.sql.DatabaseMetaData;
+import java.time.Duration;
 
 import javax.sql.DataSource;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.support.JdbcUtils;
 import org.springframework.modulith.events.config.EventPublicationAutoConfiguration;
 import org.springframework.modulith.events.config.EventPublicationConfigurationExtension;
+import org.springframework.modulith.events.core.CompressingEventSerializer;
 import org.springframework.modulith.events.core.EventSerializer;
+import org.springframework.modulith.events.support.CompletionMode;
+import org.springframework.modulith.events.support.PersistentApplicationEventMulticaster;
+import org.springframework.util.Assert;
 
 /**
  * @author Dmitry Belyaev
@@ -39,6 +46,11 @@ import org.springframework.modulith.events.core.EventSerializer;
 @AutoConfigureBefore(EventPublicationAutoConfiguration.class)
 class JdbcEventPublicationAutoConfiguration implements EventPublicationConfigurationExtension {
 
+	static final String MIGRATE_INDEXES = "spring.modulith.events.jdbc.schema-initialization.migrate-indexes";
+	static final String PARTITIONING_ENABLED = "spring.modulith.events.jdbc.partitioning.enabled";
+	static final String PARTITIONING_INTERVAL = "spring.modulith.events.jdbc.partitioning.interval";
+	static final String PARTITIONING_PRECREATE = "spring.modulith.events.jdbc.partitioning.precreate";
+
 	@Bean
 	DatabaseType databaseType(DataSource dataSource) {
 		return DatabaseType.from(fromDataSource(dataSource));
@@ -46,17 +58,39 @@ class JdbcEventPublicationAutoConfiguration implements EventPublicationConfigura
 
 	@Bean
 	JdbcEventPublicationRepository jdbcEventPublicationRepository(JdbcTemplate jdbcTemplate,
-			EventSerializer serializer, DatabaseType databaseType) {
+			EventSerializer serializer, DatabaseType databaseType, Environment environment,
+			ObjectProvider<PostgresPartitionManager> partitions) {
+
+		return new JdbcEventPublicationRepository(jdbcTemplate,
+				CompressingEventSerializer.wrapIfEnabled(serializer, environment), databaseType,
+				CompletionMode.from(environment), partitions.getIfAvailable());
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = PARTITIONING_ENABLED, havingValue = "true")
+	PostgresPartitionManager postgresPartitionManager(JdbcTemplate jdbcTemplate, DatabaseType databaseType,
+			Environment environment) {
+
+		Assert.state(databaseType == DatabaseType.POSTGRES,
+				() -> "Partitioning the event publication table is only supported for PostgreSQL!");
 
-		return new JdbcEventPublicationRepository(jdbcTemplate, serializer, databaseType);
+		var interval = environment.getProperty(PARTITIONING_INTERVAL, Duration.class, Duration.ofDays(1));
+		var precreate = environment.getProperty(PARTITIONING_PRECREATE, Integer.class, 7);
+
+		return new PostgresPartitionManager(jdbcTemplate, interval, precreate);
 	}
 
 	@Bean
 	@ConditionalOnProperty(name = "spring.modulith.events.jdbc.schema-initialization.enabled", havingValue = "true")
 	DatabaseSchemaInitializer databaseSchemaInitializer(JdbcTemplate jdbcTemplate, ResourceLoader resourceLoader,
-			DatabaseType databaseType) {
+			DatabaseType databaseType, Environment environment) {
+
+		var migrateIndexes = environment.getProperty(MIGRATE_INDEXES, Boolean.class, false);
+		var partitioned = environment.getProperty(PARTITIONING_ENABLED, Boolean.class, false);
+		var leasing = PersistentApplicationEventMulticaster.isLeasingEnabled(environment);
 
-		return new DatabaseSchemaInitializer(jdbcTemplate, resourceLoader, databaseType);
+		return new DatabaseSchemaInitializer(jdbcTemplate, resourceLoader, databaseType, migrateIndexes, partitioned,
+				leasing);
 	}
 
 	private static String fromDataSource(DataSource dataSource) {
@@ -20,7 +20,10 @@ import java.sql.SQLException;
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -35,8 +38,10 @@ import org.springframework.modulith.events.core.EventPublicationRepository;
 import org.springframework.modulith.events.core.EventSerializer;
 import org.springframework.modulith.events.core.PublicationTargetIdentifier;
 import org.springframework.modulith.events.core.TargetEventPublication;
+import org.springframework.modulith.events.support.CompletionMode;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
+import org.springframework.util.function.SingletonSupplier;
 
 /**
  * JDBC-based repository to store {@link TargetEventPublication}s.
@@ -77,6 +82,80 @@ class JdbcEventPublicationRepository implements EventPublicationRepository {
 			ORDER BY PUBLICATION_DATE ASC
 			""";
 
+	private static final String SQL_STATEMENT_FIND_UNCOMPLETED_PAGE = """
+			SELECT ID, COMPLETION_DATE, EVENT_TYPE, LISTENER_ID, PUBLICATION_DATE, SERIALIZED_EVENT
+			FROM EVENT_PUBLICATION
+			WHERE
+					COMPLETION_DATE IS NULL
+					%s
+			ORDER BY PUBLICATION_DATE ASC, ID ASC
+			LIMIT ?
+			""";
+
+	private static final String SQL_STATEMENT_DELETE_EXPIRED_LEASES = """
+			DELETE
+			FROM EVENT_PUBLICATION_LEASE
+			WHERE
+					LEASE_UNTIL < ?
+			""";
+
+	private static final String SQL_STATEMENT_FIND_LEASABLE_IDS = """
+			SELECT ID
+			FROM EVENT_PUBLICATION
+			WHERE
+					COMPLETION_DATE IS NULL
+					AND NOT EXISTS (
+							SELECT 1
+							FROM EVENT_PUBLICATION_LEASE
+							WHERE EVENT_PUBLICATION_LEASE.ID = EVENT_PUBLICATION.ID)
+					%s
+			ORDER BY PUBLICATION_DATE ASC, ID ASC
+			LIMIT ?
+			%s
+			""";
+
+	private static final String SQL_STATEMENT_LEASE_BY_IDS = """
+			INSERT INTO EVENT_PUBLICATION_LEASE (ID, LEASE_OWNER, LEASE_UNTIL)
+			SELECT ID, ?, ?
+			FROM EVENT_PUBLICATION
+			WHERE
+					ID IN (%s)
+					AND COMPLETION_DATE IS NULL
+					AND NOT EXISTS (
+							SELECT 1
+							FROM EVENT_PUBLICATION_LEASE
+							WHERE EVENT_PUBLICATION_LEASE.ID = EVENT_PUBLICATION.ID)
+			""";
+
+	private static final String SQL_STATEMENT_FIND_LEASED_BY_IDS = """
+			SELECT ID, COMPLETION_DATE, EVENT_TYPE, LISTENER_ID, PUBLICATION_DATE, SERIALIZED_EVENT
+			FROM EVENT_PUBLICATION
+			WHERE
+					ID IN (%s)
+					AND EXISTS (
+							SELECT 1
+							FROM EVENT_PUBLICATION_LEASE
+							WHERE EVENT_PUBLICATION_LEASE.ID = EVENT_PUBLICATION.ID
+									AND LEASE_OWNER = ?)
+			ORDER BY PUBLICATION_DATE ASC, ID ASC
+			""";
+
+	private static final String SQL_CONDITION_PUBLISHED_BEFORE = """
+			AND PUBLICATION_DATE < ?
+			""";
+
+	private static final String SQL_CONDITION_LISTENER_ID = """
+			AND LISTENER_ID = ?
+			""";
+
+	private static final String SQL_CONDITION_NOT_LISTENER_ID = """
+			AND LISTENER_ID <> ?
+			""";
+
+	private static final String SQL_CONDITION_AFTER = """
+			AND (PUBLICATION_DATE > ? OR (PUBLICATION_DATE = ? AND ID > ?))
+			""";
+
 	private static final String SQL_STATEMENT_UPDATE_BY_EVENT_AND_LISTENER_ID = """
 			UPDATE EVENT_PUBLICATION
 			SET COMPLETION_DATE = ?
@@ -85,6 +164,20 @@ class JdbcEventPublicationRepository implements EventPublicationRepository {
 					AND SERIALIZED_EVENT = ?
 			""";
 
+	private static final String SQL_STATEMENT_UPDATE_BY_ID = """
+			UPDATE EVENT_PUBLICATION
+			SET COMPLETION_DATE = ?
+			WHERE
+					ID = ?
+			""";
+
+	private static final String SQL_STATEMENT_UPDATE_BY_IDS = """
+			UPDATE EVENT_PUBLICATION
+			SET COMPLETION_DATE = ?
+			WHERE
+					ID IN (%s)
+			""";
+
 	private static final String SQL_STATEMENT_FIND_BY_EVENT_AND_LISTENER_ID = """
 			SELECT *
 			FROM EVENT_PUBLICATION
@@ -99,7 +192,7 @@ class JdbcEventPublicationRepository implements EventPublicationRepository {
 			DELETE
 			FROM EVENT_PUBLICATION
 			WHERE
-					ID IN (?)
+					ID IN (%s)
 			""";
 
 	private static final String SQL_STATEMENT_DELETE_UNCOMPLETED = """
@@ -116,11 +209,113 @@ class JdbcEventPublicationRepository implements EventPublicationRepository {
 					COMPLETION_DATE < ?
 			""";
 
-	private static final int DELETE_BATCH_SIZE = 100;
+	private static final String SQL_STATEMENT_ARCHIVE_BY_EVENT_AND_LISTENER_ID = """
+			INSERT INTO EVENT_PUBLICATION_ARCHIVE
+					(ID, COMPLETION_DATE, EVENT_TYPE, LISTENER_ID, PUBLICATION_DATE, SERIALIZED_EVENT)
+			SELECT ID, ?, EVENT_TYPE, LISTENER_ID, PUBLICATION_DATE, SERIALIZED_EVENT
+			FROM EVENT_PUBLICATION
+			WHERE
+					LISTENER_ID = ?
+					AND SERIALIZED_EVENT = ?
+					AND COMPLETION_DATE IS NULL
+			""";
+
+	private static final String SQL_STATEMENT_ARCHIVE_BY_ID = """
+			INSERT INTO EVENT_PUBLICATION_ARCHIVE
+					(ID, COMPLETION_DATE, EVENT_TYPE, LISTENER_ID, PUBLICATION_DATE, SERIALIZED_EVENT)
+			SELECT ID, ?, EVENT_TYPE, LISTENER_ID, PUBLICATION_DATE, SERIALIZED_EVENT
+			FROM EVENT_PUBLICATION
+			WHERE
+					ID = ?
+			""";
+
+	private static final String SQL_STATEMENT_ARCHIVE_BY_IDS = """
+			INSERT INTO EVENT_PUBLICATION_ARCHIVE
+					(ID, COMPLETION_DATE, EVENT_TYPE, LISTENER_ID, PUBLICATION_DATE, SERIALIZED_EVENT)
+			SELECT ID, ?, EVENT_TYPE, LISTENER_ID, PUBLICATION_DATE, SERIALIZED_EVENT
+			FROM EVENT_PUBLICATION
+			WHERE
+					ID IN (%s)
+			""";
+
+	private static final String SQL_STATEMENT_DELETE_BY_EVENT_AND_LISTENER_ID = """
+			DELETE
+			FROM EVENT_PUBLICATION
+			WHERE
+					LISTENER_ID = ?
+					AND SERIALIZED_EVENT = ?
+					AND COMPLETION_DATE IS NULL
+			""";
+
+	private static final String SQL_STATEMENT_DELETE_BY_ID = """
+			DELETE
+			FROM EVENT_PUBLICATION
+			WHERE
+					ID = ?
+			""";
+
+	private static final String SQL_STATEMENT_FIND_ARCHIVED = """
+			SELECT ID, COMPLETION_DATE, EVENT_TYPE, LISTENER_ID, PUBLICATION_DATE, SERIALIZED_EVENT
+			FROM EVENT_PUBLICATION_ARCHIVE
+			ORDER BY PUBLICATION_DATE ASC
+			""";
+
+	private static final String SQL_STATEMENT_DELETE_ARCHIVED = """
+			DELETE
+			FROM EVENT_PUBLICATION_ARCHIVE
+			WHERE
+					ID IN (%s)
+			""";
+
+	private static final String SQL_STATEMENT_DELETE_ALL_ARCHIVED = """
+			DELETE
+			FROM EVENT_PUBLICATION_ARCHIVE
+			""";
+
+	private static final String SQL_STATEMENT_DELETE_ARCHIVED_BEFORE = """
+			DELETE
+			FROM EVENT_PUBLICATION_ARCHIVE
+			WHERE
+					COMPLETION_DATE < ?
+			""";
+
+	private static final String SQL_STATEMENT_FIND_COMPLETED_IDS = """
+			SELECT ID
+			FROM EVENT_PUBLICATION
+			WHERE
+					COMPLETION_DATE IS NOT NULL
+			LIMIT ?
+			""";
+
+	private static final String SQL_STATEMENT_FIND_COMPLETED_IDS_BEFORE = """
+			SELECT ID
+			FROM EVENT_PUBLICATION
+			WHERE
+					COMPLETION_DATE < ?
+			LIMIT ?
+			""";
+
+	private static final String SQL_STATEMENT_FIND_ARCHIVED_IDS = """
+			SELECT ID
+			FROM EVENT_PUBLICATION_ARCHIVE
+			LIMIT ?
+			""";
+
+	private static final String SQL_STATEMENT_FIND_ARCHIVED_IDS_BEFORE = """
+			SELECT ID
+			FROM EVENT_PUBLICATION_ARCHIVE
+			WHERE
+					COMPLETION_DATE < ?
+			LIMIT ?
+			""";
+
+	private static final int ID_BATCH_SIZE = 100;
 
 	private final JdbcOperations operations;
 	private final EventSerializer serializer;
 	private final DatabaseType databaseType;
+	private final CompletionMode completionMode;
+	private final @Nullable PostgresPartitionManager partitions;
 
 	/**
 	 * Creates a new {@link JdbcEventPublicationRepository} for the given {@link JdbcOperations}, {@link EventSerializer}
@@ -132,14 +327,49 @@ class JdbcEventPublicationRepository implements EventPublicationRepository {
 	 */
 	public JdbcEventPublicationRepository(JdbcOperations operations, EventSerializer serializer,
 			DatabaseType databaseType) {
+		this(operations, serializer, databaseType, CompletionMode.UPDATE);
+	}
+
+	/**
+	 * Creates a new {@link JdbcEventPublicationRepository} for the given {@link JdbcOperations}, {@link EventSerializer},
+	 * {@link DatabaseType} and {@link CompletionMode}.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param serializer must not be {@literal null}.
+	 * @param databaseType must not be {@literal null}.
+	 * @param completionMode must not be {@literal null}.
+	 * @since 1.2
+	 */
+	public JdbcEventPublicationRepository(JdbcOperations operations, EventSerializer serializer,
+			DatabaseType databaseType, CompletionMode completionMode) {
+		this(operations, serializer, databaseType, completionMode, null);
+	}
+
+	/**
+	 * Creates a new {@link JdbcEventPublicationRepository} for the given {@link JdbcOperations}, {@link EventSerializer},
+	 * {@link DatabaseType}, {@link CompletionMode} and {@link PostgresPartitionManager}.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param serializer must not be {@literal null}.
+	 * @param databaseType must not be {@literal null}.
+	 * @param completionMode must not be {@literal null}.
+	 * @param partitions the {@link PostgresPartitionManager} to drop partitions of completed publications with, can be
+	 *          {@literal null} in case the table is not partitioned.
+	 * @since 1.2
+	 */
+	JdbcEventPublicationRepository(JdbcOperations operations, EventSerializer serializer,
+			DatabaseType databaseType, CompletionMode completionMode, @Nullable PostgresPartitionManager partitions) {
 
 		Assert.notNull(operations, "JdbcOperations must not be null!");
 		Assert.notNull(serializer, "EventSerializer must not be null!");
 		Assert.notNull(databaseType, "DatabaseType must not be null!");
+		Assert.notNull(completionMode, "CompletionMode must not be null!");
 
 		this.operations = operations;
 		this.serializer = serializer;
 		this.databaseType = databaseType;
+		this.completionMode = completionMode;
+		this.partitions = partitions;
 	}
 
 	/*
@@ -155,7 +385,7 @@ class JdbcEventPublicationRepository implements EventPublicationRepository {
 		operations.update( //
 				SQL_STATEMENT_INSERT, //
 				uuidToDatabase(publication.getIdentifier()), //
-				publication.getEvent().getClass().getName(), //
+				publication.getEventType().getName(), //
 				publication.getTargetIdentifier().getValue(), //
 				Timestamp.from(publication.getPublicationDate()), //
 				serializedEvent);
@@ -163,6 +393,28 @@ class JdbcEventPublicationRepository implements EventPublicationRepository {
 		return publication;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#createAll(java.util.Collection)
+	 */
+	@Override
+	@Transactional
+	public void createAll(Collection<TargetEventPublication> publications) {
+
+		var serializedEvents = new IdentityHashMap<Object, String>();
+
+		var arguments = publications.stream()
+				.map(it -> new Object[] {
+						uuidToDatabase(it.getIdentifier()), //
+						it.getEventType().getName(), //
+						it.getTargetIdentifier().getValue(), //
+						Timestamp.from(it.getPublicationDate()), //
+						serializedEvents.computeIfAbsent(it.getEvent(), this::serializeEvent) })
+				.toList();
+
+		operations.batchUpdate(SQL_STATEMENT_INSERT, arguments);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.modulith.events.EventPublicationRepository#markCompleted(java.lang.Object, org.springframework.modulith.events.PublicationTargetIdentifier, java.time.Instant)
@@ -171,10 +423,199 @@ class JdbcEventPublicationRepository implements EventPublicationRepository {
 	@Transactional
 	public void markCompleted(Object event, PublicationTargetIdentifier identifier, Instant completionDate) {
 
+		var serializedEvent = serializer.serialize(event);
+
+		if (completionMode == CompletionMode.ARCHIVE) {
+
+			operations.update(SQL_STATEMENT_ARCHIVE_BY_EVENT_AND_LISTENER_ID, //
+					Timestamp.from(completionDate), //
+					identifier.getValue(), //
+					serializedEvent);
+
+			operations.update(SQL_STATEMENT_DELETE_BY_EVENT_AND_LISTENER_ID, //
+					identifier.getValue(), //
+					serializedEvent);
+
+			return;
+		}
+
 		operations.update(SQL_STATEMENT_UPDATE_BY_EVENT_AND_LISTENER_ID, //
 				Timestamp.from(completionDate), //
 				identifier.getValue(), //
-				serializer.serialize(event));
+				serializedEvent);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#markCompleted(org.springframework.modulith.events.core.TargetEventPublication, java.time.Instant)
+	 */
+	@Override
+	@Transactional
+	public void markCompleted(TargetEventPublication publication, Instant completionDate) {
+
+		publication.markCompleted(completionDate);
+
+		markCompleted(publication.getIdentifier(), completionDate);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#supportsCompletionByIdentifier()
+	 */
+	@Override
+	public boolean supportsCompletionByIdentifier() {
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#markCompleted(java.util.UUID, java.time.Instant)
+	 */
+	@Override
+	@Transactional
+	public void markCompleted(UUID identifier, Instant completionDate) {
+
+		var databaseId = uuidToDatabase(identifier);
+
+		if (completionMode == CompletionMode.ARCHIVE) {
+
+			operations.update(SQL_STATEMENT_ARCHIVE_BY_ID, Timestamp.from(completionDate), databaseId);
+			operations.update(SQL_STATEMENT_DELETE_BY_ID, databaseId);
+
+			return;
+		}
+
+		operations.update(SQL_STATEMENT_UPDATE_BY_ID, Timestamp.from(completionDate), databaseId);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#markCompleted(java.util.Collection, java.time.Instant)
+	 */
+	@Override
+	@Transactional
+	public void markCompleted(Collection<UUID> identifiers, Instant completionDate) {
+
+		Assert.notNull(identifiers, "Identifiers must not be null!");
+		Assert.notNull(completionDate, "Instant must not be null!");
+
+		var timestamp = Timestamp.from(completionDate);
+
+		for (var batch : batch(identifiers.stream().map(this::uuidToDatabase).toList(), ID_BATCH_SIZE)) {
+
+			var placeholders = String.join(", ", Collections.nCopies(batch.length, "?"));
+			var arguments = new Object[batch.length + 1];
+
+			arguments[0] = timestamp;
+			System.arraycopy(batch, 0, arguments, 1, batch.length);
+
+			if (completionMode == CompletionMode.ARCHIVE) {
+
+				operations.update(SQL_STATEMENT_ARCHIVE_BY_IDS.formatted(placeholders), arguments);
+				operations.update(SQL_STATEMENT_DELETE.formatted(placeholders), batch);
+
+			} else {
+				operations.update(SQL_STATEMENT_UPDATE_BY_IDS.formatted(placeholders), arguments);
+			}
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#claimIncompletePublications(org.springframework.modulith.events.core.PublicationTargetIdentifier, java.lang.String, java.time.Instant, java.time.Instant, int)
+	 */
+	@Override
+	@Transactional
+	public List<TargetEventPublication> claimIncompletePublications(PublicationTargetIdentifier identifier,
+			String owner, Instant now, Instant claimedUntil, int limit) {
+
+		Assert.notNull(identifier, "PublicationTargetIdentifier must not be null!");
+
+		return lease(SQL_CONDITION_LISTENER_ID, List.of(identifier.getValue()), owner, now, claimedUntil, limit);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#leaseIncompletePublications(java.time.Instant, org.springframework.modulith.events.core.PublicationTargetIdentifier, java.lang.String, java.time.Instant, java.time.Instant, int)
+	 */
+	@Override
+	@Transactional
+	public List<TargetEventPublication> leaseIncompletePublications(@Nullable Instant publishedBefore,
+			@Nullable PublicationTargetIdentifier excluded, String owner, Instant now, Instant leasedUntil, int limit) {
+
+		var condition = new StringBuilder();
+		var parameters = new ArrayList<Object>();
+
+		if (publishedBefore != null) {
+			condition.append(SQL_CONDITION_PUBLISHED_BEFORE);
+			parameters.add(Timestamp.from(publishedBefore));
+		}
+
+		if (excluded != null) {
+			condition.append(SQL_CONDITION_NOT_LISTENER_ID);
+			parameters.add(excluded.getValue());
+		}
+
+		return lease(condition.toString(), parameters, owner, now, leasedUntil, limit);
+	}
+
+	/**
+	 * Leases at most the given number of incomplete publications matching the given additional condition to the given
+	 * owner. Leases are stored in a separate table that is only created if leasing is enabled, so that the event
+	 * publication table itself stays unchanged.
+	 *
+	 * @param condition the additional condition, must not be {@literal null}.
+	 * @param parameters the parameters of the additional condition, must not be {@literal null}.
+	 * @param owner must not be {@literal null} or empty.
+	 * @param now must not be {@literal null}.
+	 * @param leasedUntil must not be {@literal null}.
+	 * @param limit must be greater than zero.
+	 * @return will never be {@literal null}.
+	 */
+	private List<TargetEventPublication> lease(String condition, List<Object> parameters, String owner, Instant now,
+			Instant leasedUntil, int limit) {
+
+		Assert.hasText(owner, "Lease owner must not be null or empty!");
+		Assert.notNull(now, "Now must not be null!");
+		Assert.notNull(leasedUntil, "Lease expiry must not be null!");
+		Assert.isTrue(limit > 0, "Limit must be greater than zero!");
+
+		// Expired leases are dropped so that the publications can be leased again
+		operations.update(SQL_STATEMENT_DELETE_EXPIRED_LEASES, Timestamp.from(now));
+
+		var values = new ArrayList<Object>(parameters);
+		values.add(limit);
+
+		var statement = SQL_STATEMENT_FIND_LEASABLE_IDS.formatted(condition, databaseType.getSkipLockedClause());
+		var databaseIds = operations.queryForList(statement, Object.class, values.toArray());
+		var result = new ArrayList<TargetEventPublication>(databaseIds.size());
+
+		// Only lease the candidates not leased by a concurrent transaction in the meantime
+		for (var batch : batch(databaseIds, ID_BATCH_SIZE)) {
+
+			var placeholders = String.join(", ", Collections.nCopies(batch.length, "?"));
+			var arguments = new Object[batch.length + 2];
+
+			arguments[0] = owner;
+			arguments[1] = Timestamp.from(leasedUntil);
+			System.arraycopy(batch, 0, arguments, 2, batch.length);
+
+			if (operations.update(SQL_STATEMENT_LEASE_BY_IDS.formatted(placeholders), arguments) == 0) {
+				continue;
+			}
+
+			var lookup = Arrays.copyOf(batch, batch.length + 1);
+			lookup[batch.length] = owner;
+
+			var leased = operations.query(SQL_STATEMENT_FIND_LEASED_BY_IDS.formatted(placeholders),
+					this::resultSetToPublications, lookup);
+
+			if (leased != null) {
+				result.addAll(leased);
+			}
+		}
+
+		return result;
 	}
 
 	/*
@@ -201,7 +642,11 @@ class JdbcEventPublicationRepository implements EventPublicationRepository {
 	@Override
 	public List<TargetEventPublication> findCompletedPublications() {
 
-		var result = operations.query(SQL_STATEMENT_FIND_COMPLETED, this::resultSetToPublications);
+		var statement = completionMode == CompletionMode.ARCHIVE
+				? SQL_STATEMENT_FIND_ARCHIVED
+				: SQL_STATEMENT_FIND_COMPLETED;
+
+		var result = operations.query(statement, this::resultSetToPublications);
 
 		return result == null ? Collections.emptyList() : result;
 	}
@@ -226,6 +671,43 @@ class JdbcEventPublicationRepository implements EventPublicationRepository {
 		return result == null ? Collections.emptyList() : result;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#findIncompletePublications(java.time.Instant, org.springframework.modulith.events.core.TargetEventPublication, int)
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<TargetEventPublication> findIncompletePublications(@Nullable Instant publishedBefore,
+			@Nullable TargetEventPublication after, int limit) {
+
+		Assert.isTrue(limit > 0, "Limit must be greater than zero!");
+
+		var conditions = new StringBuilder();
+		var parameters = new ArrayList<Object>();
+
+		if (publishedBefore != null) {
+			conditions.append(SQL_CONDITION_PUBLISHED_BEFORE);
+			parameters.add(Timestamp.from(publishedBefore));
+		}
+
+		if (after != null) {
+
+			var publicationDate = Timestamp.from(after.getPublicationDate());
+
+			conditions.append(SQL_CONDITION_AFTER);
+			parameters.add(publicationDate);
+			parameters.add(publicationDate);
+			parameters.add(uuidToDatabase(after.getIdentifier()));
+		}
+
+		parameters.add(limit);
+
+		var result = operations.query(SQL_STATEMENT_FIND_UNCOMPLETED_PAGE.formatted(conditions),
+				this::resultSetToPublications, parameters.toArray());
+
+		return result == null ? Collections.emptyList() : result;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.modulith.events.core.EventPublicationRepository#deletePublications(java.util.List)
@@ -235,7 +717,12 @@ class JdbcEventPublicationRepository implements EventPublicationRepository {
 
 		var databaseIds = identifiers.stream().map(this::uuidToDatabase).toList();
 
-		operations.batchUpdate(SQL_STATEMENT_DELETE, batch(databaseIds, DELETE_BATCH_SIZE));
+		deleteByIds(SQL_STATEMENT_DELETE, databaseIds);
+
+		// Publications might have been moved into the archive on completion
+		if (completionMode == CompletionMode.ARCHIVE) {
+			deleteByIds(SQL_STATEMENT_DELETE_ARCHIVED, databaseIds);
+		}
 	}
 
 	/*
@@ -244,7 +731,10 @@ class JdbcEventPublicationRepository implements EventPublicationRepository {
 	 */
 	@Override
 	public void deleteCompletedPublications() {
-		operations.execute(SQL_STATEMENT_DELETE_UNCOMPLETED);
+
+		operations.execute(completionMode == CompletionMode.ARCHIVE
+				? SQL_STATEMENT_DELETE_ALL_ARCHIVED
+				: SQL_STATEMENT_DELETE_UNCOMPLETED);
 	}
 
 	/*
@@ -256,7 +746,64 @@ class JdbcEventPublicationRepository implements EventPublicationRepository {
 
 		Assert.notNull(instant, "Instant must not be null!");
 
-		operations.update(SQL_STATEMENT_DELETE_UNCOMPLETED_BEFORE, Timestamp.from(instant));
+		// Drop entire partitions first, so that the row deletes only hit the remaining ones
+		dropCompletedPublicationsBefore(instant);
+
+		var statement = completionMode == CompletionMode.ARCHIVE
+				? SQL_STATEMENT_DELETE_ARCHIVED_BEFORE
+				: SQL_STATEMENT_DELETE_UNCOMPLETED_BEFORE;
+
+		operations.update(statement, Timestamp.from(instant));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#dropCompletedPublicationsBefore(java.time.Instant)
+	 */
+	@Override
+	public void dropCompletedPublicationsBefore(Instant before) {
+
+		Assert.notNull(before, "Instant must not be null!");
+
+		if (partitions != null) {
+			partitions.dropPartitionsCompletedBefore(before);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#deleteCompletedPublications(java.time.Instant, int)
+	 */
+	@Override
+	@Transactional
+	public int deleteCompletedPublications(@Nullable Instant before, int limit) {
+
+		Assert.isTrue(limit > 0, "Limit must be greater than zero!");
+
+		var archive = completionMode == CompletionMode.ARCHIVE;
+
+		var databaseIds = before == null
+				? operations.queryForList(archive ? SQL_STATEMENT_FIND_ARCHIVED_IDS : SQL_STATEMENT_FIND_COMPLETED_IDS,
+						Object.class, limit)
+				: operations.queryForList(
+						archive ? SQL_STATEMENT_FIND_ARCHIVED_IDS_BEFORE : SQL_STATEMENT_FIND_COMPLETED_IDS_BEFORE,
+						Object.class, Timestamp.from(before), limit);
+
+		return deleteByIds(archive ? SQL_STATEMENT_DELETE_ARCHIVED : SQL_STATEMENT_DELETE, databaseIds);
+	}
+
+	private int deleteByIds(String statement, List<?> databaseIds) {
+
+		var deleted = 0;
+
+		for (var batch : batch(databaseIds, ID_BATCH_SIZE)) {
+
+			var placeholders = String.join(", ", Collections.nCopies(batch.length, "?"));
+
+			deleted += operations.update(statement.formatted(placeholders), batch);
+		}
+
+		return deleted;
 	}
 
 	private String serializeEvent(Object event) {
@@ -350,6 +897,7 @@ class JdbcEventPublicationRepository implements EventPublicationRepository {
 		private final Class<?> eventType;
 
 		private final EventSerializer serializer;
+		private final SingletonSupplier<Object> event;
 		private @Nullable Instant completionDate;
 
 		/**
@@ -377,6 +925,7 @@ class JdbcEventPublicationRepository implements EventPublicationRepository {
 			this.serializedEvent = serializedEvent;
 			this.eventType = eventType;
 			this.serializer = serializer;
+			this.event = SingletonSupplier.of(() -> serializer.deserialize(serializedEvent, eventType));
 			this.completionDate = completionDate;
 		}
 
@@ -395,7 +944,16 @@ class JdbcEventPublicationRepository implements EventPublicationRepository {
 		 */
 		@Override
 		public Object getEvent() {
-			return serializer.deserialize(serializedEvent, eventType);
+			return event.obtain();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.modulith.events.core.TargetEventPublication#getEventType()
+		 */
+		@Override
+		public Class<?> getEventType() {
+			return eventType;
 		}
 
 		/*
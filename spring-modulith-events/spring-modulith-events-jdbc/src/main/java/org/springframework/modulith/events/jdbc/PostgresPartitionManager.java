@@ -0,0 +1,247 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.jdbc;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.concurrent.ScheduledFuture;
+import java.util.regex.Pattern;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.lang.Nullable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.scheduling.support.CronTrigger;
+import org.springframework.util.Assert;
+
+/**
+ * Manages the range partitions of a PostgreSQL {@code event_publication} table partitioned by publication date.
+ * Partitions are created on startup and hourly for a configurable number of intervals ahead, so that new publications
+ * do not end up in the default partition. The hourly maintenance runs on a scheduler owned by the manager and bound to
+ * the application context lifecycle, so that it does not depend on scheduling being enabled for the application.
+ * Partitions only containing publications completed before a given point in time can be dropped as a whole instead of
+ * deleting their rows one by one.
+ *
+ * @author agent
+ * @since 1.2
+ */
+class PostgresPartitionManager implements SmartInitializingSingleton, SmartLifecycle {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(PostgresPartitionManager.class);
+
+	private static final String TABLE_NAME = "event_publication";
+	private static final String PARTITION_PREFIX = TABLE_NAME + "_p";
+	private static final Pattern PARTITION_NAME = Pattern.compile(PARTITION_PREFIX + "(\\d{8})");
+	private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyyMMdd")
+			.withZone(ZoneOffset.UTC);
+	private static final CronTrigger MAINTENANCE_SCHEDULE = new CronTrigger("@hourly");
+
+	private static final String SQL_STATEMENT_CREATE_PARTITION = """
+			CREATE TABLE IF NOT EXISTS %s
+			PARTITION OF event_publication
+			FOR VALUES FROM ('%s') TO ('%s')
+			""";
+
+	private static final String SQL_STATEMENT_FIND_PARTITIONS = """
+			SELECT child.relname
+			FROM pg_inherits
+					JOIN pg_class parent ON pg_inherits.inhparent = parent.oid
+					JOIN pg_class child ON pg_inherits.inhrelid = child.oid
+			WHERE
+					parent.relname = 'event_publication'
+			""";
+
+	private static final String SQL_STATEMENT_HAS_PUBLICATIONS_TO_KEEP = """
+			SELECT EXISTS (
+				SELECT 1
+				FROM %s
+				WHERE
+						completion_date IS NULL
+						OR completion_date >= ?
+			)
+			""";
+
+	private static final String SQL_STATEMENT_DROP_PARTITION = """
+			DROP TABLE IF EXISTS %s
+			""";
+
+	private final JdbcOperations operations;
+	private final Duration interval;
+	private final int precreate;
+	private final ThreadPoolTaskScheduler scheduler;
+
+	private volatile @Nullable ScheduledFuture<?> maintenance;
+
+	/**
+	 * Creates a new {@link PostgresPartitionManager} for the given {@link JdbcOperations}, partition interval and number
+	 * of partitions to create ahead of time.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param interval must not be {@literal null} and a positive number of whole days.
+	 * @param precreate the number of future partitions to create, must not be negative.
+	 */
+	PostgresPartitionManager(JdbcOperations operations, Duration interval, int precreate) {
+
+		Assert.notNull(operations, "JdbcOperations must not be null!");
+		Assert.notNull(interval, "Interval must not be null!");
+		Assert.isTrue(interval.toDays() > 0 && interval.equals(Duration.ofDays(interval.toDays())),
+				"Interval must be a positive number of whole days!");
+		Assert.isTrue(precreate >= 0, "Number of partitions to create ahead must not be negative!");
+
+		this.operations = operations;
+		this.interval = interval;
+		this.precreate = precreate;
+
+		this.scheduler = new ThreadPoolTaskScheduler();
+		this.scheduler.setThreadNamePrefix("modulith-event-partitions-");
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.SmartInitializingSingleton#afterSingletonsInstantiated()
+	 */
+	@Override
+	public void afterSingletonsInstantiated() {
+		createUpcomingPartitions();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.Lifecycle#start()
+	 */
+	@Override
+	public void start() {
+
+		scheduler.initialize();
+		maintenance = scheduler.schedule(this::createUpcomingPartitions, MAINTENANCE_SCHEDULE);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.Lifecycle#stop()
+	 */
+	@Override
+	public void stop() {
+
+		scheduler.shutdown();
+		maintenance = null;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.context.Lifecycle#isRunning()
+	 */
+	@Override
+	public boolean isRunning() {
+		return maintenance != null;
+	}
+
+	/**
+	 * Creates the partition for the current point in time as well as the configured number of partitions following it.
+	 */
+	void createUpcomingPartitions() {
+		createPartitions(Instant.now());
+	}
+
+	/**
+	 * Creates the partition for the given reference date as well as the configured number of partitions following it.
+	 *
+	 * @param reference must not be {@literal null}.
+	 */
+	void createPartitions(Instant reference) {
+
+		Assert.notNull(reference, "Reference date must not be null!");
+
+		var start = lowerBoundFor(reference);
+
+		for (var i = 0; i <= precreate; i++, start = start.plus(interval)) {
+
+			var end = start.plus(interval);
+
+			try {
+				operations.execute(SQL_STATEMENT_CREATE_PARTITION.formatted(partitionName(start), start, end));
+			} catch (DataAccessException o_O) {
+
+				// Usually caused by rows for that range already sitting in the default partition
+				LOGGER.warn("Could not create event publication partition for {} to {}!", start, end, o_O);
+			}
+		}
+	}
+
+	/**
+	 * Drops all partitions whose range ends before the given {@link Instant} and that only contain publications completed
+	 * before it.
+	 *
+	 * @param instant must not be {@literal null}.
+	 * @return the number of partitions dropped.
+	 */
+	int dropPartitionsCompletedBefore(Instant instant) {
+
+		Assert.notNull(instant, "Instant must not be null!");
+
+		var dropped = 0;
+
+		for (var partition : operations.queryForList(SQL_STATEMENT_FIND_PARTITIONS, String.class)) {
+
+			var matcher = PARTITION_NAME.matcher(partition);
+
+			if (!matcher.matches()) {
+				continue;
+			}
+
+			var upperBound = PARTITION_SUFFIX.parse(matcher.group(1), LocalDate::from)
+					.atStartOfDay(ZoneOffset.UTC)
+					.toInstant()
+					.plus(interval);
+
+			if (upperBound.isAfter(instant) || hasPublicationsToKeep(partition, instant)) {
+				continue;
+			}
+
+			LOGGER.info("Dropping event publication partition {}.", partition);
+
+			operations.execute(SQL_STATEMENT_DROP_PARTITION.formatted(partition));
+			dropped++;
+		}
+
+		return dropped;
+	}
+
+	Instant lowerBoundFor(Instant instant) {
+
+		var millis = interval.toMillis();
+
+		return Instant.ofEpochMilli(Math.floorDiv(instant.toEpochMilli(), millis) * millis);
+	}
+
+	static String partitionName(Instant lowerBound) {
+		return PARTITION_PREFIX + PARTITION_SUFFIX.format(lowerBound);
+	}
+
+	private boolean hasPublicationsToKeep(String partition, Instant instant) {
+
+		return Boolean.TRUE.equals(operations.queryForObject(SQL_STATEMENT_HAS_PUBLICATIONS_TO_KEEP.formatted(partition),
+				Boolean.class, Timestamp.from(instant)));
+	}
+}
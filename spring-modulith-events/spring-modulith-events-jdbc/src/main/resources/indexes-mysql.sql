@@ -0,0 +1,2 @@
+CREATE INDEX EVENT_PUBLICATION_BY_LISTENER_ID_IDX ON EVENT_PUBLICATION (LISTENER_ID, COMPLETION_DATE);
+CREATE INDEX EVENT_PUBLICATION_BY_COMPLETION_DATE_IDX ON EVENT_PUBLICATION (COMPLETION_DATE, PUBLICATION_DATE);
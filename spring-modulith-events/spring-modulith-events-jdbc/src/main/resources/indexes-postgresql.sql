@@ -0,0 +1,3 @@
+CREATE INDEX IF NOT EXISTS event_publication_incomplete_idx ON event_publication (publication_date, id) WHERE completion_date IS NULL;
+CREATE INDEX IF NOT EXISTS event_publication_incomplete_by_listener_id_idx ON event_publication (listener_id) WHERE completion_date IS NULL;
+CREATE INDEX IF NOT EXISTS event_publication_completed_idx ON event_publication (completion_date) WHERE completion_date IS NOT NULL;
@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS EVENT_PUBLICATION_LEASE
+(
+  ID          UUID NOT NULL,
+  LEASE_OWNER VARCHAR(255) NOT NULL,
+  LEASE_UNTIL TIMESTAMP(9) WITH TIME ZONE NOT NULL,
+  PRIMARY KEY (ID)
+);
@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS EVENT_PUBLICATION_LEASE
+(
+  ID          VARCHAR(36) NOT NULL,
+  LEASE_OWNER VARCHAR(255) NOT NULL,
+  LEASE_UNTIL TIMESTAMP(6) NOT NULL,
+  PRIMARY KEY (ID)
+);
@@ -0,0 +1,7 @@
+CREATE TABLE IF NOT EXISTS event_publication_lease
+(
+  id          UUID NOT NULL,
+  lease_owner TEXT NOT NULL,
+  lease_until TIMESTAMP WITH TIME ZONE NOT NULL,
+  PRIMARY KEY (id)
+);
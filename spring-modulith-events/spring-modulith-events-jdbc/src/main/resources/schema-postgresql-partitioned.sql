@@ -0,0 +1,22 @@
+CREATE TABLE IF NOT EXISTS event_publication
+(
+  id               UUID NOT NULL,
+  listener_id      TEXT NOT NULL,
+  event_type       TEXT NOT NULL,
+  serialized_event TEXT NOT NULL,
+  publication_date TIMESTAMP WITH TIME ZONE NOT NULL,
+  completion_date  TIMESTAMP WITH TIME ZONE,
+  PRIMARY KEY (id, publication_date)
+) PARTITION BY RANGE (publication_date);
+CREATE TABLE IF NOT EXISTS event_publication_default
+PARTITION OF event_publication DEFAULT;
+CREATE TABLE IF NOT EXISTS event_publication_archive
+(
+  id               UUID NOT NULL,
+  listener_id      TEXT NOT NULL,
+  event_type       TEXT NOT NULL,
+  serialized_event TEXT NOT NULL,
+  publication_date TIMESTAMP WITH TIME ZONE NOT NULL,
+  completion_date  TIMESTAMP WITH TIME ZONE,
+  PRIMARY KEY (id)
+);
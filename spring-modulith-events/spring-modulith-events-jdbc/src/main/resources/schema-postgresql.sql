@@ -7,4 +7,14 @@ CREATE TABLE IF NOT EXISTS event_publication
   publication_date TIMESTAMP WITH TIME ZONE NOT NULL,
   completion_date  TIMESTAMP WITH TIME ZONE,
   PRIMARY KEY (id)
-)
+);
+CREATE TABLE IF NOT EXISTS event_publication_archive
+(
+  id               UUID NOT NULL,
+  listener_id      TEXT NOT NULL,
+  event_type       TEXT NOT NULL,
+  serialized_event TEXT NOT NULL,
+  publication_date TIMESTAMP WITH TIME ZONE NOT NULL,
+  completion_date  TIMESTAMP WITH TIME ZONE,
+  PRIMARY KEY (id)
+);
@@ -19,7 +19,14 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -28,6 +35,7 @@ import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
 import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.modulith.events.core.EventSerializer;
 import org.springframework.modulith.testapp.TestApplication;
@@ -67,6 +75,48 @@ class DatabaseSchemaInitializerIntegrationTests {
 		void shouldCreateDatabaseSchemaOnStartUp() {
 			assertThatNoException().isThrownBy(() -> operations.queryForObject(COUNT_PUBLICATIONS, Long.class));
 		}
+
+		@Test
+		void createsIndexesOnStartUp() {
+
+			var indexes = operations.execute((ConnectionCallback<Map<String, List<String>>>) connection -> {
+
+				var columns = new HashMap<String, SortedMap<Short, String>>();
+
+				for (var table : List.of("EVENT_PUBLICATION", "event_publication")) {
+					try (var result = connection.getMetaData().getIndexInfo(connection.getCatalog(), connection.getSchema(),
+							table, false, true)) {
+						while (result.next()) {
+
+							var name = result.getString("INDEX_NAME");
+							var column = result.getString("COLUMN_NAME");
+
+							if (name != null && column != null) {
+								columns.computeIfAbsent(name.toUpperCase(Locale.ROOT), __ -> new TreeMap<>())
+										.put(result.getShort("ORDINAL_POSITION"), column.toUpperCase(Locale.ROOT));
+							}
+						}
+					}
+				}
+
+				return columns.entrySet().stream()
+						.collect(Collectors.toMap(Map.Entry::getKey, it -> List.copyOf(it.getValue().values())));
+			});
+
+			assertThat(indexes).containsAllEntriesOf(getExpectedIndexes());
+		}
+
+		/**
+		 * Returns the names of the indexes expected to be created, mapped to the columns they cover in order.
+		 *
+		 * @return will never be {@literal null}.
+		 */
+		Map<String, List<String>> getExpectedIndexes() {
+
+			return Map.of(
+					"EVENT_PUBLICATION_BY_LISTENER_ID_IDX", List.of("LISTENER_ID", "COMPLETION_DATE"),
+					"EVENT_PUBLICATION_BY_COMPLETION_DATE_IDX", List.of("COMPLETION_DATE", "PUBLICATION_DATE"));
+		}
 	}
 
 	@Nested
@@ -117,7 +167,21 @@ class DatabaseSchemaInitializerIntegrationTests {
 
 	@Nested
 	@ActiveProfiles("postgres")
-	class Postgres extends WithInitEnabled {}
+	class Postgres extends WithInitEnabled {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.modulith.events.jdbc.DatabaseSchemaInitializerIntegrationTests.WithInitEnabled#getExpectedIndexes()
+		 */
+		@Override
+		Map<String, List<String>> getExpectedIndexes() {
+
+			return Map.of(
+					"EVENT_PUBLICATION_INCOMPLETE_IDX", List.of("PUBLICATION_DATE", "ID"),
+					"EVENT_PUBLICATION_INCOMPLETE_BY_LISTENER_ID_IDX", List.of("LISTENER_ID"),
+					"EVENT_PUBLICATION_COMPLETED_IDX", List.of("COMPLETION_DATE"));
+		}
+	}
 
 	@Nested
 	@ActiveProfiles("mysql")
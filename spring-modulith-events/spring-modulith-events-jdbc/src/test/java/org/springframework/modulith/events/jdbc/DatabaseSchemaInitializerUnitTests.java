@@ -19,6 +19,8 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -26,6 +28,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcOperations;
 
 /**
@@ -50,7 +53,68 @@ class DatabaseSchemaInitializerUnitTests {
 		var captor = ArgumentCaptor.forClass(String.class);
 
 		assertThatNoException().isThrownBy(initializer::afterPropertiesSet);
-		verify(resourceLoader).getResource(captor.capture());
-		assertThat(captor.getValue()).startsWith(ResourceLoader.CLASSPATH_URL_PREFIX);
+		verify(resourceLoader, times(2)).getResource(captor.capture());
+		assertThat(captor.getAllValues()).allSatisfy(it -> assertThat(it).startsWith(ResourceLoader.CLASSPATH_URL_PREFIX));
+	}
+
+	@Test
+	void doesNotCreateIndexesForExistingTableByDefault() {
+
+		when(resourceLoader.getResource(any())).thenAnswer(it -> {
+			return new ClassPathResource(it.<String> getArgument(0).substring(ResourceLoader.CLASSPATH_URL_PREFIX.length()));
+		});
+		doReturn(true).when(jdbcOperations).execute(any(ConnectionCallback.class));
+
+		new DatabaseSchemaInitializer(jdbcOperations, resourceLoader, DatabaseType.H2).afterPropertiesSet();
+
+		verify(jdbcOperations, never()).execute(contains("CREATE INDEX"));
+		verify(resourceLoader, never()).getResource(contains("indexes"));
+	}
+
+	@Test
+	void createsMissingIndexesForExistingTableIfEnabled() {
+
+		when(resourceLoader.getResource(any())).thenAnswer(it -> {
+			return new ClassPathResource(it.<String> getArgument(0).substring(ResourceLoader.CLASSPATH_URL_PREFIX.length()));
+		});
+		doReturn(true, Set.of("EVENT_PUBLICATION_BY_LISTENER_ID_IDX"))
+				.when(jdbcOperations).execute(any(ConnectionCallback.class));
+
+		new DatabaseSchemaInitializer(jdbcOperations, resourceLoader, DatabaseType.H2, true).afterPropertiesSet();
+
+		verify(jdbcOperations, never()).execute(contains("EVENT_PUBLICATION_BY_LISTENER_ID_IDX"));
+		verify(jdbcOperations).execute(contains("EVENT_PUBLICATION_BY_COMPLETION_DATE_IDX"));
+	}
+
+	@Test
+	void createsArchiveTableAlongWithPublicationTable() {
+
+		when(resourceLoader.getResource(any())).thenAnswer(it -> {
+			return new ClassPathResource(it.<String> getArgument(0).substring(ResourceLoader.CLASSPATH_URL_PREFIX.length()));
+		});
+		doReturn(true).when(jdbcOperations).execute(any(ConnectionCallback.class));
+
+		new DatabaseSchemaInitializer(jdbcOperations, resourceLoader, DatabaseType.H2).afterPropertiesSet();
+
+		verify(jdbcOperations).execute(startsWith("CREATE TABLE IF NOT EXISTS EVENT_PUBLICATION\n"));
+		verify(jdbcOperations).execute(startsWith("CREATE TABLE IF NOT EXISTS EVENT_PUBLICATION_ARCHIVE"));
+	}
+
+	@Test
+	void createsLeaseTableOnlyIfLeasingIsEnabled() {
+
+		when(resourceLoader.getResource(any())).thenAnswer(it -> {
+			return new ClassPathResource(it.<String> getArgument(0).substring(ResourceLoader.CLASSPATH_URL_PREFIX.length()));
+		});
+		doReturn(true).when(jdbcOperations).execute(any(ConnectionCallback.class));
+
+		new DatabaseSchemaInitializer(jdbcOperations, resourceLoader, DatabaseType.H2).afterPropertiesSet();
+
+		verify(jdbcOperations, never()).execute(contains("EVENT_PUBLICATION_LEASE"));
+
+		new DatabaseSchemaInitializer(jdbcOperations, resourceLoader, DatabaseType.H2, false, false, true)
+				.afterPropertiesSet();
+
+		verify(jdbcOperations).execute(startsWith("CREATE TABLE IF NOT EXISTS EVENT_PUBLICATION_LEASE"));
 	}
 }
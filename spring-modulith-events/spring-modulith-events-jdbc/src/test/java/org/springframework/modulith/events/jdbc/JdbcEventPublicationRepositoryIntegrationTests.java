@@ -35,7 +35,9 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessException;
 import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.lang.Nullable;
 import org.springframework.modulith.events.core.EventSerializer;
 import org.springframework.modulith.events.core.PublicationTargetIdentifier;
 import org.springframework.modulith.events.core.TargetEventPublication;
@@ -55,7 +57,9 @@ class JdbcEventPublicationRepositoryIntegrationTests {
 
 	static final PublicationTargetIdentifier TARGET_IDENTIFIER = PublicationTargetIdentifier.of("listener");
 
-	@JdbcTest(properties = "spring.modulith.events.jdbc.schema-initialization.enabled=true")
+	@JdbcTest(properties = {
+			"spring.modulith.events.jdbc.schema-initialization.enabled=true",
+			"spring.modulith.events.resubmission.lease.enabled=true" })
 	@Import(TestApplication.class)
 	@Testcontainers(disabledWithoutDocker = true)
 	@ContextConfiguration(classes = JdbcEventPublicationAutoConfiguration.class)
@@ -68,7 +72,10 @@ class JdbcEventPublicationRepositoryIntegrationTests {
 
 		@BeforeEach
 		void cleanUp() {
+
 			operations.execute("TRUNCATE TABLE EVENT_PUBLICATION");
+			operations.execute("TRUNCATE TABLE EVENT_PUBLICATION_ARCHIVE");
+			operations.execute("TRUNCATE TABLE EVENT_PUBLICATION_LEASE");
 		}
 
 		@Test // GH-3
@@ -309,14 +316,267 @@ class JdbcEventPublicationRepositoryIntegrationTests {
 					.isEqualTo(event);
 		}
 
+		@Test
+		void marksPublicationCompletedByIdentifier() {
+
+			var first = createPublication(new TestEvent("first"));
+			var second = createPublication(new TestEvent("second"));
+
+			repository.markCompleted(first.getIdentifier(), Instant.now());
+
+			assertThat(repository.findIncompletePublications())
+					.extracting(TargetEventPublication::getIdentifier)
+					.containsExactly(second.getIdentifier());
+		}
+
+		@Test
+		void deserializesStoredEventLazilyAndOnlyOnce() {
+
+			var event = new TestEvent("first");
+
+			createPublication(event);
+
+			var publication = repository.findIncompletePublications().get(0);
+
+			assertThat(publication.getEventType()).isEqualTo(TestEvent.class);
+			verify(serializer, never()).deserialize(any(), any());
+
+			assertThat(publication.getEvent()).isEqualTo(event);
+			assertThat(publication.getEvent()).isEqualTo(event);
+			verify(serializer, times(1)).deserialize(any(), any());
+		}
+
+		@Test
+		void createsAllPublicationsSerializingTheEventOnce() {
+
+			var event = new TestEvent("first");
+			var token = event.toString();
+
+			doReturn(token).when(serializer).serialize(event);
+			doReturn(event).when(serializer).deserialize(token, event.getClass());
+
+			var first = TargetEventPublication.of(event, TARGET_IDENTIFIER);
+			var second = TargetEventPublication.of(event, PublicationTargetIdentifier.of("other"));
+
+			repository.createAll(List.of(first, second));
+
+			verify(serializer, times(1)).serialize(event);
+
+			assertThat(repository.findIncompletePublications())
+					.extracting(TargetEventPublication::getIdentifier)
+					.containsExactlyInAnyOrder(first.getIdentifier(), second.getIdentifier());
+		}
+
+		@Test
+		void pagesThroughIncompletePublicationsByKey() {
+
+			var now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+			var first = createPublication(new TestEvent("first"), now);
+			var second = createPublication(new TestEvent("second"), now);
+			var third = createPublication(new TestEvent("third"), now.plusSeconds(1));
+			var completed = createPublication(new TestEvent("completed"), now);
+
+			repository.markCompleted(completed, Instant.now());
+
+			var firstPage = repository.findIncompletePublications(null, null, 2);
+
+			assertThat(firstPage).hasSize(2)
+					.extracting(TargetEventPublication::getIdentifier)
+					.containsExactlyInAnyOrder(first.getIdentifier(), second.getIdentifier());
+
+			assertThat(repository.findIncompletePublications(null, firstPage.get(1), 2))
+					.extracting(TargetEventPublication::getIdentifier)
+					.containsExactly(third.getIdentifier());
+
+			assertThat(repository.findIncompletePublications(now.plusMillis(500), null, 5))
+					.extracting(TargetEventPublication::getIdentifier)
+					.containsExactlyElementsOf(firstPage.stream().map(TargetEventPublication::getIdentifier).toList());
+		}
+
+		@Test
+		void deletesMultiplePublicationsByIdentifier() {
+
+			var first = createPublication(new TestEvent("first"));
+			var second = createPublication(new TestEvent("second"));
+			var third = createPublication(new TestEvent("third"));
+
+			repository.deletePublications(List.of(first.getIdentifier(), third.getIdentifier()));
+
+			assertThat(repository.findIncompletePublications())
+					.extracting(TargetEventPublication::getIdentifier)
+					.containsExactly(second.getIdentifier());
+		}
+
+		@Test
+		void deletesCompletedPublicationsInChunks() {
+
+			var now = Instant.now();
+			var incomplete = createPublication(new TestEvent("incomplete"));
+
+			for (var i = 0; i < 5; i++) {
+				repository.markCompleted(createPublication(new TestEvent("old" + i)), now.minusSeconds(60));
+			}
+
+			var recent = createPublication(new TestEvent("recent"));
+			repository.markCompleted(recent, now);
+
+			assertThat(repository.deleteCompletedPublications(now.minusSeconds(30), 2)).isEqualTo(2);
+			assertThat(repository.deleteCompletedPublications(now.minusSeconds(30), 2)).isEqualTo(2);
+			assertThat(repository.deleteCompletedPublications(now.minusSeconds(30), 2)).isEqualTo(1);
+			assertThat(repository.deleteCompletedPublications(now.minusSeconds(30), 2)).isZero();
+
+			assertThat(repository.findCompletedPublications())
+					.extracting(TargetEventPublication::getIdentifier)
+					.containsExactly(recent.getIdentifier());
+
+			assertThat(repository.deleteCompletedPublications(null, 10)).isOne();
+			assertThat(repository.findIncompletePublications())
+					.extracting(TargetEventPublication::getIdentifier)
+					.containsExactly(incomplete.getIdentifier());
+		}
+
+		@Test
+		void claimsOldestIncompletePublicationsOfListener() {
+
+			var now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+
+			var first = createPublication(new TestEvent("first"), now);
+			var second = createPublication(new TestEvent("second"), now.plusSeconds(1));
+			var third = createPublication(new TestEvent("third"), now.plusSeconds(2));
+			var completed = createPublication(new TestEvent("completed"), now.minusSeconds(1));
+
+			var other = new TestEvent("other");
+
+			doReturn(other.toString()).when(serializer).serialize(other);
+
+			repository.markCompleted(completed, now);
+			repository.create(TargetEventPublication.of(other, PublicationTargetIdentifier.of("other"), now.minusSeconds(2)));
+
+			var until = now.plusSeconds(60);
+
+			assertThat(repository.claimIncompletePublications(TARGET_IDENTIFIER, "first", now, until, 2))
+					.extracting(TargetEventPublication::getIdentifier)
+					.containsExactly(first.getIdentifier(), second.getIdentifier());
+
+			assertThat(repository.claimIncompletePublications(TARGET_IDENTIFIER, "second", now, until, 5))
+					.extracting(TargetEventPublication::getIdentifier)
+					.containsExactly(third.getIdentifier());
+
+			// Claims expired
+			assertThat(repository.claimIncompletePublications(TARGET_IDENTIFIER, "third", until.plusSeconds(1),
+					until.plusSeconds(60), 5))
+					.extracting(TargetEventPublication::getIdentifier)
+					.containsExactly(first.getIdentifier(), second.getIdentifier(), third.getIdentifier());
+		}
+
+		@Test
+		void completesMultiplePublicationsAtOnce() {
+
+			var first = createPublication(new TestEvent("first"));
+			var second = createPublication(new TestEvent("second"));
+			var third = createPublication(new TestEvent("third"));
+
+			repository.markCompleted(List.of(first.getIdentifier(), third.getIdentifier()), Instant.now());
+
+			assertThat(repository.findIncompletePublications())
+					.extracting(TargetEventPublication::getIdentifier)
+					.containsExactly(second.getIdentifier());
+
+			assertThat(repository.findCompletedPublications())
+					.extracting(TargetEventPublication::getIdentifier)
+					.containsExactlyInAnyOrder(first.getIdentifier(), third.getIdentifier());
+		}
+
+		@Test
+		void leasesDisjointPublicationsToDifferentOwners() {
+
+			var now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+			var until = now.plusSeconds(60);
+
+			var first = createPublication(new TestEvent("first"), now.minusSeconds(3));
+			var second = createPublication(new TestEvent("second"), now.minusSeconds(2));
+			var third = createPublication(new TestEvent("third"), now.minusSeconds(1));
+
+			assertThat(repository.leaseIncompletePublications(null, null, "first", now, until, 2))
+					.extracting(TargetEventPublication::getIdentifier)
+					.containsExactly(first.getIdentifier(), second.getIdentifier());
+
+			assertThat(repository.leaseIncompletePublications(null, null, "second", now, until, 2))
+					.extracting(TargetEventPublication::getIdentifier)
+					.containsExactly(third.getIdentifier());
+
+			assertThat(repository.leaseIncompletePublications(null, null, "third", now, until, 2)).isEmpty();
+		}
+
+		@Test
+		void leasesPublicationsAgainOnceTheLeaseHasExpired() {
+
+			var now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+			var publication = createPublication(new TestEvent("first"), now.minusSeconds(1));
+			var completed = createPublication(new TestEvent("completed"), now.minusSeconds(2));
+
+			repository.markCompleted(completed, now);
+
+			assertThat(repository.leaseIncompletePublications(null, null, "first", now, now.plusSeconds(60), 10))
+					.extracting(TargetEventPublication::getIdentifier)
+					.containsExactly(publication.getIdentifier());
+
+			assertThat(repository.leaseIncompletePublications(null, null, "second", now.plusSeconds(30),
+					now.plusSeconds(90), 10))
+					.isEmpty();
+
+			assertThat(repository.leaseIncompletePublications(null, null, "second", now.plusSeconds(61),
+					now.plusSeconds(120), 10))
+					.extracting(TargetEventPublication::getIdentifier)
+					.containsExactly(publication.getIdentifier());
+		}
+
+		@Test
+		void leasesOnlyPublicationsPublishedBeforeTheGivenInstant() {
+
+			var now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+			var older = createPublication(new TestEvent("older"), now.minusSeconds(10));
+
+			createPublication(new TestEvent("newer"), now.minusSeconds(1));
+
+			assertThat(repository.leaseIncompletePublications(now.minusSeconds(5), null, "owner", now,
+					now.plusSeconds(60), 10))
+					.extracting(TargetEventPublication::getIdentifier)
+					.containsExactly(older.getIdentifier());
+		}
+
+		@Test
+		void doesNotLeasePublicationsOfExcludedListener() {
+
+			var now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+			var publication = createPublication(new TestEvent("first"), now.minusSeconds(1));
+			var other = new TestEvent("other");
+			var excluded = PublicationTargetIdentifier.of("other");
+
+			doReturn(other.toString()).when(serializer).serialize(other);
+
+			repository.create(TargetEventPublication.of(other, excluded, now.minusSeconds(2)));
+
+			assertThat(repository.leaseIncompletePublications(null, excluded, "owner", now, now.plusSeconds(60), 10))
+					.extracting(TargetEventPublication::getIdentifier)
+					.containsExactly(publication.getIdentifier());
+		}
+
 		private TargetEventPublication createPublication(Object event) {
+			return createPublication(event, null);
+		}
+
+		private TargetEventPublication createPublication(Object event, @Nullable Instant publicationDate) {
 
 			var token = event.toString();
 
 			doReturn(token).when(serializer).serialize(event);
 			doReturn(event).when(serializer).deserialize(token, event.getClass());
 
-			return repository.create(TargetEventPublication.of(event, TARGET_IDENTIFIER));
+			return repository.create(publicationDate == null
+					? TargetEventPublication.of(event, TARGET_IDENTIFIER)
+					: TargetEventPublication.of(event, TARGET_IDENTIFIER, publicationDate));
 		}
 	}
 
@@ -338,6 +598,165 @@ class JdbcEventPublicationRepositoryIntegrationTests {
 	@ActiveProfiles("mysql")
 	class MySQL extends TestBase {}
 
+	@Nested
+	@ActiveProfiles("h2")
+	@JdbcTest(properties = {
+			"spring.modulith.events.jdbc.schema-initialization.enabled=true",
+			"spring.modulith.events.completion-mode=archive" })
+	@Import(TestApplication.class)
+	@ContextConfiguration(classes = JdbcEventPublicationAutoConfiguration.class)
+	class Archive {
+
+		@Autowired JdbcOperations operations;
+		@Autowired JdbcEventPublicationRepository repository;
+
+		@MockBean EventSerializer serializer;
+
+		@BeforeEach
+		void cleanUp() {
+
+			operations.execute("TRUNCATE TABLE EVENT_PUBLICATION");
+			operations.execute("TRUNCATE TABLE EVENT_PUBLICATION_ARCHIVE");
+		}
+
+		@Test
+		void movesCompletedPublicationIntoArchive() {
+
+			var event = new TestEvent("first");
+			var publication = createPublication(event);
+			var other = createPublication(new TestEvent("second"));
+
+			repository.markCompleted(publication.getIdentifier(), Instant.now());
+
+			assertThat(countRows("EVENT_PUBLICATION")).isEqualTo(1);
+			assertThat(countRows("EVENT_PUBLICATION_ARCHIVE")).isEqualTo(1);
+
+			assertThat(repository.findIncompletePublications())
+					.extracting(TargetEventPublication::getIdentifier)
+					.containsExactly(other.getIdentifier());
+
+			assertThat(repository.findCompletedPublications())
+					.hasSize(1)
+					.element(0)
+					.satisfies(it -> {
+						assertThat(it.getIdentifier()).isEqualTo(publication.getIdentifier());
+						assertThat(it.getEvent()).isEqualTo(event);
+						assertThat(it.getCompletionDate()).isPresent();
+					});
+		}
+
+		@Test
+		void movesMultipleCompletedPublicationsIntoArchive() {
+
+			var first = createPublication(new TestEvent("first"));
+			var second = createPublication(new TestEvent("second"));
+
+			repository.markCompleted(List.of(first.getIdentifier(), second.getIdentifier()), Instant.now());
+
+			assertThat(countRows("EVENT_PUBLICATION")).isZero();
+			assertThat(repository.findCompletedPublications())
+					.extracting(TargetEventPublication::getIdentifier)
+					.containsExactlyInAnyOrder(first.getIdentifier(), second.getIdentifier());
+		}
+
+		@Test
+		void movesPublicationCompletedByEventAndListenerIntoArchive() {
+
+			var event = new TestEvent("first");
+
+			createPublication(event);
+
+			repository.markCompleted(event, TARGET_IDENTIFIER, Instant.now());
+
+			assertThat(repository.findIncompletePublications()).isEmpty();
+			assertThat(repository.findCompletedPublications()).hasSize(1);
+		}
+
+		@Test
+		void deletesCompletedPublicationsFromArchive() {
+
+			var first = new TestEvent("first");
+			var second = new TestEvent("second");
+
+			createPublication(first);
+			createPublication(second);
+
+			var now = Instant.now();
+
+			repository.markCompleted(first, TARGET_IDENTIFIER, now.minusSeconds(30));
+			repository.markCompleted(second, TARGET_IDENTIFIER, now);
+			repository.deleteCompletedPublicationsBefore(now.minusSeconds(15));
+
+			assertThat(repository.findCompletedPublications())
+					.extracting(TargetEventPublication::getEvent)
+					.containsExactly(second);
+
+			repository.deleteCompletedPublications();
+
+			assertThat(countRows("EVENT_PUBLICATION_ARCHIVE")).isZero();
+		}
+
+		private TargetEventPublication createPublication(Object event) {
+
+			var token = event.toString();
+
+			doReturn(token).when(serializer).serialize(event);
+			doReturn(event).when(serializer).deserialize(token, event.getClass());
+
+			return repository.create(TargetEventPublication.of(event, TARGET_IDENTIFIER));
+		}
+
+		private Integer countRows(String table) {
+			return operations.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+		}
+	}
+
+	@Nested
+	@ActiveProfiles("h2")
+	@JdbcTest(properties = {
+			"spring.datasource.url=jdbc:h2:mem:without-leasing;DB_CLOSE_DELAY=-1",
+			"spring.sql.init.schema-locations=classpath:schema-h2-without-leasing.sql",
+			"spring.modulith.events.jdbc.schema-initialization.enabled=true" })
+	@Import(TestApplication.class)
+	@ContextConfiguration(classes = JdbcEventPublicationAutoConfiguration.class)
+	class WithoutLeasing {
+
+		@Autowired JdbcOperations operations;
+		@Autowired JdbcEventPublicationRepository repository;
+
+		@MockBean EventSerializer serializer;
+
+		@Test
+		void doesNotCreateLeaseTable() {
+
+			assertThatExceptionOfType(DataAccessException.class)
+					.isThrownBy(() -> operations.queryForObject("SELECT COUNT(*) FROM EVENT_PUBLICATION_LEASE", Long.class));
+		}
+
+		@Test
+		void storesAndCompletesPublicationsInTableWithoutLeaseColumns() {
+
+			var event = new TestEvent("first");
+			var token = event.toString();
+
+			doReturn(token).when(serializer).serialize(event);
+			doReturn(event).when(serializer).deserialize(token, event.getClass());
+
+			var publication = repository.create(TargetEventPublication.of(event, TARGET_IDENTIFIER));
+
+			assertThat(repository.findIncompletePublicationsPublishedBefore(Instant.now().plusSeconds(1)))
+					.extracting(TargetEventPublication::getIdentifier)
+					.containsExactly(publication.getIdentifier());
+
+			repository.markCompleted(publication.getIdentifier(), Instant.now());
+
+			assertThat(repository.findIncompletePublications()).isEmpty();
+			assertThat(repository.findCompletedPublications())
+					.extracting(TargetEventPublication::getIdentifier)
+					.containsExactly(publication.getIdentifier());
+		}
+	}
+
 	@Value
 	private static final class TestEvent {
 		String eventId;
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.jdbc;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.JdbcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.lang.Nullable;
+import org.springframework.modulith.events.core.EventSerializer;
+import org.springframework.modulith.testapp.TestApplication;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.ContextConfiguration;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Integration tests for {@link PostgresPartitionManager} against a PostgreSQL database using the partitioned schema.
+ *
+ * @author agent
+ */
+@ActiveProfiles("postgres")
+@JdbcTest(properties = {
+		"spring.datasource.url=jdbc:tc:postgresql:13.2:///partitioned", // separate container, the others use the plain table
+		"spring.modulith.events.jdbc.schema-initialization.enabled=true",
+		"spring.modulith.events.jdbc.partitioning.enabled=true",
+		"spring.modulith.events.jdbc.partitioning.precreate=2" })
+@ImportAutoConfiguration(JdbcEventPublicationAutoConfiguration.class)
+@ContextConfiguration(classes = TestApplication.class)
+@Testcontainers(disabledWithoutDocker = true)
+class PostgresPartitionManagerIntegrationTests {
+
+	private static final String INSERT_PUBLICATION = """
+			INSERT INTO event_publication (id, listener_id, event_type, serialized_event, publication_date, completion_date)
+			VALUES (?, 'listener', 'java.lang.String', 'event', ?, ?)
+			""";
+
+	@Autowired JdbcOperations operations;
+	@Autowired PostgresPartitionManager partitions;
+
+	@MockBean EventSerializer serializer;
+
+	@BeforeEach
+	void cleanUp() {
+		operations.execute("TRUNCATE TABLE event_publication");
+	}
+
+	@Test
+	void createsUpcomingPartitionsOnStartup() {
+
+		var start = partitions.lowerBoundFor(Instant.now());
+
+		assertThat(findPartitions()).contains(
+				"event_publication_default",
+				PostgresPartitionManager.partitionName(start),
+				PostgresPartitionManager.partitionName(start.plus(Duration.ofDays(1))),
+				PostgresPartitionManager.partitionName(start.plus(Duration.ofDays(2))));
+	}
+
+	@Test
+	void routesPublicationsIntoPartitionForTheirPublicationDate() {
+
+		var now = Instant.now();
+
+		insertPublication(now, null);
+
+		var partition = PostgresPartitionManager.partitionName(partitions.lowerBoundFor(now));
+
+		assertThat(operations.queryForObject("SELECT COUNT(*) FROM " + partition, Long.class)).isOne();
+		assertThat(operations.queryForObject("SELECT COUNT(*) FROM event_publication_default", Long.class)).isZero();
+	}
+
+	@Test
+	void dropsPartitionsOnlyContainingPublicationsCompletedBefore() {
+
+		var now = Instant.now();
+		var completedDay = now.minus(Duration.ofDays(10));
+		var incompleteDay = now.minus(Duration.ofDays(9));
+
+		partitions.createPartitions(completedDay);
+		partitions.createPartitions(incompleteDay);
+
+		insertPublication(completedDay, completedDay.plusSeconds(60));
+		insertPublication(incompleteDay, null);
+
+		var completed = PostgresPartitionManager.partitionName(partitions.lowerBoundFor(completedDay));
+		var incomplete = PostgresPartitionManager.partitionName(partitions.lowerBoundFor(incompleteDay));
+
+		assertThat(partitions.dropPartitionsCompletedBefore(now.minus(Duration.ofDays(5)))).isOne();
+
+		assertThat(findPartitions())
+				.doesNotContain(completed)
+				.contains(incomplete, "event_publication_default");
+		assertThat(operations.queryForObject("SELECT COUNT(*) FROM event_publication", Long.class)).isOne();
+	}
+
+	@Test
+	void runsPartitionMaintenanceWithApplicationContextLifecycle() {
+		assertThat(partitions.isRunning()).isTrue();
+	}
+
+	private void insertPublication(Instant publicationDate, @Nullable Instant completionDate) {
+
+		operations.update(INSERT_PUBLICATION, UUID.randomUUID(), Timestamp.from(publicationDate),
+				completionDate == null ? null : Timestamp.from(completionDate));
+	}
+
+	private List<String> findPartitions() {
+
+		return operations.queryForList("""
+				SELECT child.relname
+				FROM pg_inherits
+						JOIN pg_class parent ON pg_inherits.inhparent = parent.oid
+						JOIN pg_class child ON pg_inherits.inhrelid = child.oid
+				WHERE parent.relname = 'event_publication'
+				""", String.class);
+	}
+}
@@ -0,0 +1,123 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.jdbc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcOperations;
+
+/**
+ * Unit tests for {@link PostgresPartitionManager}.
+ *
+ * @author agent
+ */
+@ExtendWith(MockitoExtension.class)
+class PostgresPartitionManagerUnitTests {
+
+	@Mock JdbcOperations operations;
+
+	@Test
+	void createsPartitionsAhead() {
+
+		var manager = new PostgresPartitionManager(operations, Duration.ofDays(1), 2);
+		var captor = ArgumentCaptor.forClass(String.class);
+
+		manager.createPartitions(Instant.parse("2024-01-30T13:45:00Z"));
+
+		verify(operations, times(3)).execute(captor.capture());
+
+		assertThat(captor.getAllValues()).satisfiesExactly(
+				it -> assertThat(it).contains("event_publication_p20240130")
+						.contains("FROM ('2024-01-30T00:00:00Z') TO ('2024-01-31T00:00:00Z')"),
+				it -> assertThat(it).contains("event_publication_p20240131"),
+				it -> assertThat(it).contains("event_publication_p20240201")
+						.contains("FROM ('2024-02-01T00:00:00Z') TO ('2024-02-02T00:00:00Z')"));
+	}
+
+	@Test
+	void continuesCreatingPartitionsIfOneFails() {
+
+		var manager = new PostgresPartitionManager(operations, Duration.ofDays(1), 1);
+
+		doThrow(new DataIntegrityViolationException("Conflicts with default partition"))
+				.doNothing()
+				.when(operations).execute(anyString());
+
+		assertThatNoException().isThrownBy(() -> manager.createPartitions(Instant.parse("2024-01-30T00:00:00Z")));
+
+		verify(operations).execute(contains("event_publication_p20240131"));
+	}
+
+	@Test
+	void dropsPartitionsOnlyContainingPublicationsCompletedBefore() {
+
+		var manager = new PostgresPartitionManager(operations, Duration.ofDays(1), 0);
+		var cutoff = Instant.parse("2024-01-03T12:00:00Z");
+
+		doReturn(List.of("event_publication_default", "event_publication_p20240101", "event_publication_p20240102",
+				"event_publication_p20240103"))
+						.when(operations).queryForList(anyString(), eq(String.class));
+
+		// The first partition still contains publications to keep
+		doReturn(true, false).when(operations).queryForObject(anyString(), eq(Boolean.class), any());
+
+		assertThat(manager.dropPartitionsCompletedBefore(cutoff)).isOne();
+
+		verify(operations).execute(contains("DROP TABLE IF EXISTS event_publication_p20240102"));
+		verify(operations, never()).execute(contains("event_publication_p20240101"));
+		verify(operations, never()).execute(contains("event_publication_p20240103"));
+		verify(operations, never()).execute(contains("event_publication_default"));
+	}
+
+	@Test
+	void rejectsIntervalsNotMadeOfWholeDays() {
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new PostgresPartitionManager(operations, Duration.ofHours(36), 1));
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> new PostgresPartitionManager(operations, Duration.ZERO, 1));
+	}
+
+	@Test
+	void schedulesPartitionMaintenanceWhileRunning() {
+
+		var manager = new PostgresPartitionManager(operations, Duration.ofDays(1), 0);
+
+		assertThat(manager.isRunning()).isFalse();
+
+		manager.start();
+
+		try {
+			assertThat(manager.isRunning()).isTrue();
+		} finally {
+			manager.stop();
+		}
+
+		assertThat(manager.isRunning()).isFalse();
+	}
+}
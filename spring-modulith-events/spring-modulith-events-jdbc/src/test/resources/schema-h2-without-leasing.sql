@@ -0,0 +1,10 @@
+CREATE TABLE IF NOT EXISTS EVENT_PUBLICATION
+(
+  ID               UUID NOT NULL,
+  COMPLETION_DATE  TIMESTAMP(9) WITH TIME ZONE,
+  EVENT_TYPE       VARCHAR(512) NOT NULL,
+  LISTENER_ID      VARCHAR(512) NOT NULL,
+  PUBLICATION_DATE TIMESTAMP(9) WITH TIME ZONE NOT NULL,
+  SERIALIZED_EVENT VARCHAR(4000) NOT NULL,
+  PRIMARY KEY (ID)
+);
@@ -15,19 +15,20 @@
  */
 package org.springframework.modulith.events.jms;
 
-import java.util.concurrent.CompletableFuture;
-
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.env.Environment;
 import org.springframework.jms.core.JmsOperations;
 import org.springframework.modulith.events.EventExternalizationConfiguration;
 import org.springframework.modulith.events.config.EventExternalizationAutoConfiguration;
 import org.springframework.modulith.events.core.EventSerializer;
+import org.springframework.modulith.events.support.BlockingSendExecutor;
 import org.springframework.modulith.events.support.DelegatingEventExternalizer;
 
 /**
@@ -46,9 +47,15 @@ class JmsEventExternalizerConfiguration {
 
 	private static final Logger logger = LoggerFactory.getLogger(JmsEventExternalizerConfiguration.class);
 
+	@Bean
+	BlockingSendExecutor jmsSendExecutor(Environment environment) {
+		return BlockingSendExecutor.of("jms", environment);
+	}
+
 	@Bean
 	DelegatingEventExternalizer jmsEventExternalizer(EventExternalizationConfiguration configuration,
-			JmsOperations operations, EventSerializer serializer) {
+			JmsOperations operations, EventSerializer serializer,
+			@Qualifier("jmsSendExecutor") BlockingSendExecutor executor) {
 
 		logger.debug("Registering domain event externalization to JMS…");
 
@@ -56,9 +63,8 @@ class JmsEventExternalizerConfiguration {
 
 			var serialized = serializer.serialize(payload);
 
-			operations.send(target.getTarget(), session -> session.createTextMessage(serialized.toString()));
-
-			return CompletableFuture.completedFuture(null);
+			return executor.execute(() -> operations.send(target.getTarget(),
+					session -> session.createTextMessage(serialized.toString())));
 		});
 	}
 }
@@ -16,6 +16,7 @@
 package org.springframework.modulith.events.jms;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.awaitility.Awaitility.*;
 
 import lombok.RequiredArgsConstructor;
 
@@ -64,11 +65,7 @@ class JmsEventPublicationIntegrationTests {
 
 		publisher.publishEvent();
 
-		Thread.sleep(400);
-
-		var after = server.getTotalMessageCount();
-
-		assertThat(after - before).isEqualTo(1);
+		await().untilAsserted(() -> assertThat(server.getTotalMessageCount() - before).isEqualTo(1));
 	}
 
 	@Externalized("target")
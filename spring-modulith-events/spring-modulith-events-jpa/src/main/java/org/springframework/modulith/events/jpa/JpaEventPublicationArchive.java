@@ -0,0 +1,87 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.jpa;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.util.Assert;
+
+/**
+ * JPA entity to represent completed event publications moved out of the {@link JpaEventPublication} table.
+ *
+ * @author agent
+ * @since 1.2
+ * @see org.springframework.modulith.events.support.CompletionMode#ARCHIVE
+ */
+@Entity
+@Table(name = "EVENT_PUBLICATION_ARCHIVE")
+class JpaEventPublicationArchive {
+
+	final @Id @Column(length = 16) UUID id;
+	final Instant publicationDate;
+	final String listenerId;
+	final String serializedEvent;
+	final Class<?> eventType;
+	final Instant completionDate;
+
+	/**
+	 * Creates a new {@link JpaEventPublicationArchive} for the given {@link JpaEventPublication} and completion date.
+	 *
+	 * @param publication must not be {@literal null}.
+	 * @param completionDate must not be {@literal null}.
+	 */
+	JpaEventPublicationArchive(JpaEventPublication publication, Instant completionDate) {
+
+		Assert.notNull(publication, "JpaEventPublication must not be null!");
+		Assert.notNull(completionDate, "Completion date must not be null!");
+
+		this.id = publication.id;
+		this.publicationDate = publication.publicationDate;
+		this.listenerId = publication.listenerId;
+		this.serializedEvent = publication.serializedEvent;
+		this.eventType = publication.eventType;
+		this.completionDate = completionDate;
+	}
+
+	JpaEventPublicationArchive() {
+
+		this.id = null;
+		this.publicationDate = null;
+		this.listenerId = null;
+		this.serializedEvent = null;
+		this.eventType = null;
+		this.completionDate = null;
+	}
+
+	/**
+	 * Returns a detached {@link JpaEventPublication} carrying the archived state.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	JpaEventPublication toPublication() {
+
+		var publication = new JpaEventPublication(id, publicationDate, listenerId, serializedEvent, eventType);
+		publication.completionDate = completionDate;
+
+		return publication;
+	}
+}
@@ -15,19 +15,39 @@
  */
 package org.springframework.modulith.events.jpa;
 
+import org.springframework.beans.factory.config.BeanDefinition;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigurationPackage;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.env.Environment;
 import org.springframework.modulith.events.config.EventPublicationAutoConfiguration;
 
 /**
  * Auto-configuration for JPA based event publication. Registers this class' package as auto-configuration package, so
- * that it gets picked up for entity scanning by default.
+ * that it gets picked up for entity scanning by default. Entities backing optional features are only kept if those are
+ * enabled.
  *
  * @author Oliver Drotbohm
  */
 @AutoConfiguration
 @AutoConfigureBefore({ HibernateJpaAutoConfiguration.class, EventPublicationAutoConfiguration.class })
 @AutoConfigurationPackage
-class JpaEventPublicationAutoConfiguration extends JpaEventPublicationConfiguration {}
+class JpaEventPublicationAutoConfiguration extends JpaEventPublicationConfiguration {
+
+	@Configuration(proxyBeanMethods = false)
+	@ConditionalOnClass(name = "org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes")
+	static class ManagedTypesConfiguration {
+
+		@Bean
+		@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+		static JpaEventPublicationManagedTypesPostProcessor jpaEventPublicationManagedTypesPostProcessor(
+				Environment environment) {
+			return new JpaEventPublicationManagedTypesPostProcessor(environment);
+		}
+	}
+}
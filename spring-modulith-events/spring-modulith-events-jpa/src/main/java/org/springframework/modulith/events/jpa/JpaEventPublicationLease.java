@@ -0,0 +1,69 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.jpa;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.springframework.util.Assert;
+
+/**
+ * JPA entity to represent the lease of a {@link JpaEventPublication} to an owner. Kept in a table of its own, so that
+ * the event publication table does not need to change for applications not using leases.
+ *
+ * @author agent
+ * @since 1.2
+ * @see org.springframework.modulith.events.support.PersistentApplicationEventMulticaster#isLeasingEnabled(org.springframework.core.env.PropertyResolver)
+ */
+@Entity
+@Table(name = "EVENT_PUBLICATION_LEASE")
+class JpaEventPublicationLease {
+
+	final @Id @Column(length = 16) UUID id;
+	final String leaseOwner;
+	final Instant leaseUntil;
+
+	/**
+	 * Creates a new {@link JpaEventPublicationLease} of the given {@link JpaEventPublication} to the given owner until
+	 * the given {@link Instant}.
+	 *
+	 * @param publication must not be {@literal null}.
+	 * @param owner must not be {@literal null} or empty.
+	 * @param until must not be {@literal null}.
+	 */
+	JpaEventPublicationLease(JpaEventPublication publication, String owner, Instant until) {
+
+		Assert.notNull(publication, "JpaEventPublication must not be null!");
+		Assert.hasText(owner, "Lease owner must not be null or empty!");
+		Assert.notNull(until, "Lease expiry must not be null!");
+
+		this.id = publication.id;
+		this.leaseOwner = owner;
+		this.leaseUntil = until;
+	}
+
+	JpaEventPublicationLease() {
+
+		this.id = null;
+		this.leaseOwner = null;
+		this.leaseUntil = null;
+	}
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.jpa;
+
+import java.net.URL;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.BeansException;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.env.PropertyResolver;
+import org.springframework.lang.Nullable;
+import org.springframework.modulith.events.support.CompletionMode;
+import org.springframework.modulith.events.support.PersistentApplicationEventMulticaster;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link BeanPostProcessor} to remove the optional event publication entities from the
+ * {@link PersistenceManagedTypes} detected by the entity scan if the feature they back is not enabled. That way, no
+ * tables have to exist for features not in use, and schema validation on startup does not expect them.
+ *
+ * @author agent
+ * @since 1.2
+ */
+class JpaEventPublicationManagedTypesPostProcessor implements BeanPostProcessor {
+
+	private final PropertyResolver environment;
+
+	/**
+	 * Creates a new {@link JpaEventPublicationManagedTypesPostProcessor} for the given {@link PropertyResolver}.
+	 *
+	 * @param environment must not be {@literal null}.
+	 */
+	JpaEventPublicationManagedTypesPostProcessor(PropertyResolver environment) {
+
+		Assert.notNull(environment, "Environment must not be null!");
+
+		this.environment = environment;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.config.BeanPostProcessor#postProcessAfterInitialization(java.lang.Object, java.lang.String)
+	 */
+	@Override
+	public Object postProcessAfterInitialization(Object bean, String beanName) throws BeansException {
+
+		if (!(bean instanceof PersistenceManagedTypes types)) {
+			return bean;
+		}
+
+		var excluded = getExcludedEntityNames();
+
+		if (excluded.isEmpty() || types.getManagedClassNames().stream().noneMatch(excluded::contains)) {
+			return bean;
+		}
+
+		var managedClassNames = types.getManagedClassNames().stream()
+				.filter(it -> !excluded.contains(it))
+				.toList();
+
+		return new FilteredPersistenceManagedTypes(managedClassNames, types);
+	}
+
+	/**
+	 * Returns the names of the entity types backing features that are not enabled.
+	 *
+	 * @return will never be {@literal null}.
+	 */
+	Set<String> getExcludedEntityNames() {
+
+		var result = new HashSet<String>();
+
+		if (CompletionMode.from(environment) != CompletionMode.ARCHIVE) {
+			result.add(JpaEventPublicationArchive.class.getName());
+		}
+
+		if (!PersistentApplicationEventMulticaster.isLeasingEnabled(environment)) {
+			result.add(JpaEventPublicationLease.class.getName());
+		}
+
+		return result;
+	}
+
+	/**
+	 * {@link PersistenceManagedTypes} exposing the given managed class names instead of the ones of the delegate.
+	 *
+	 * @author agent
+	 */
+	private record FilteredPersistenceManagedTypes(List<String> managedClassNames, PersistenceManagedTypes delegate)
+			implements PersistenceManagedTypes {
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes#getManagedClassNames()
+		 */
+		@Override
+		public List<String> getManagedClassNames() {
+			return managedClassNames;
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes#getManagedPackages()
+		 */
+		@Override
+		public List<String> getManagedPackages() {
+			return delegate.getManagedPackages();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes#getPersistenceUnitRootUrl()
+		 */
+		@Nullable
+		@Override
+		public URL getPersistenceUnitRootUrl() {
+			return delegate.getPersistenceUnitRootUrl();
+		}
+	}
+}
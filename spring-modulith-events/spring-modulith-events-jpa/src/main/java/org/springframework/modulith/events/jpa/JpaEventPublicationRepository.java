@@ -16,20 +16,28 @@
 package org.springframework.modulith.events.jpa;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 
 import java.time.Instant;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.IntStream;
 
+import org.springframework.lang.Nullable;
 import org.springframework.modulith.events.core.EventPublicationRepository;
 import org.springframework.modulith.events.core.EventSerializer;
 import org.springframework.modulith.events.core.PublicationTargetIdentifier;
 import org.springframework.modulith.events.core.TargetEventPublication;
+import org.springframework.modulith.events.support.CompletionMode;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
+import org.springframework.util.function.SingletonSupplier;
 
 /**
  * Repository to store {@link TargetEventPublication}s.
@@ -78,6 +86,52 @@ class JpaEventPublicationRepository implements EventPublicationRepository {
 				p.publicationDate asc
 			""";
 
+	private static final String INCOMPLETE_PAGE = """
+			select p
+			from JpaEventPublication p
+			where
+				p.completionDate is null
+				%s
+			order by
+				p.publicationDate asc,
+				p.id asc
+			""";
+
+	private static final String EXPIRED_LEASES = """
+			select l
+			from JpaEventPublicationLease l
+			where
+				l.leaseUntil < ?1
+			""";
+
+	private static final String LEASABLE = """
+			select p
+			from JpaEventPublication p
+			where
+				p.completionDate is null
+				and not exists (select l.id from JpaEventPublicationLease l where l.id = p.id)
+				%s
+			order by
+				p.publicationDate asc,
+				p.id asc
+			""";
+
+	private static final String INCOMPLETE_PAGE_BEFORE_CONDITION = """
+			and p.publicationDate < :before
+			""";
+
+	private static final String LISTENER_ID_CONDITION = """
+			and p.listenerId = :listenerId
+			""";
+
+	private static final String NOT_LISTENER_ID_CONDITION = """
+			and p.listenerId <> :excluded
+			""";
+
+	private static final String INCOMPLETE_PAGE_AFTER_CONDITION = """
+			and (p.publicationDate > :date or (p.publicationDate = :date and p.id > :id))
+			""";
+
 	private static final String MARK_COMPLETED_BY_EVENT_AND_LISTENER_ID = """
 			update JpaEventPublication p
 			   set p.completionDate = ?3
@@ -85,6 +139,25 @@ class JpaEventPublicationRepository implements EventPublicationRepository {
 			   and p.listenerId = ?2
 			""";
 
+	private static final String MARK_COMPLETED_BY_ID = """
+			update JpaEventPublication p
+			   set p.completionDate = ?2
+			 where p.id = ?1
+			""";
+
+	private static final String MARK_COMPLETED_BY_IDS = """
+			update JpaEventPublication p
+			   set p.completionDate = ?2
+			 where p.id in ?1
+			""";
+
+	private static final String BY_IDS = """
+			select p
+			from JpaEventPublication p
+			where
+				p.id in ?1
+			""";
+
 	private static final String DELETE = """
 			delete
 			from JpaEventPublication p
@@ -106,10 +179,61 @@ class JpaEventPublicationRepository implements EventPublicationRepository {
 				p.completionDate < ?1
 			""";
 
-	private static final int DELETE_BATCH_SIZE = 100;
+	private static final String ARCHIVED = """
+			select p
+			from JpaEventPublicationArchive p
+			order by
+				p.publicationDate asc
+			""";
+
+	private static final String DELETE_ARCHIVED = """
+			delete
+			from JpaEventPublicationArchive p
+			where
+				p.id in ?1
+			""";
+
+	private static final String DELETE_ALL_ARCHIVED = """
+			delete
+			from JpaEventPublicationArchive p
+			""";
+
+	private static final String DELETE_ARCHIVED_BEFORE = """
+			delete
+			from JpaEventPublicationArchive p
+			where
+				p.completionDate < ?1
+			""";
+
+	private static final String COMPLETED_IDS = """
+			select p.id
+			from JpaEventPublication p
+			where
+				p.completionDate is not null
+				%s
+			""";
+
+	private static final String ARCHIVED_IDS = """
+			select p.id
+			from JpaEventPublicationArchive p
+			where
+				p.completionDate is not null
+				%s
+			""";
+
+	private static final String COMPLETED_BEFORE_CONDITION = """
+			and p.completionDate < :before
+			""";
+
+	private static final int ID_BATCH_SIZE = 100;
+
+	// The lock timeout signaling to skip locked rows, see Hibernate's LockOptions.SKIP_LOCKED
+	private static final String LOCK_TIMEOUT = "jakarta.persistence.lock.timeout";
+	private static final int SKIP_LOCKED = -2;
 
 	private final EntityManager entityManager;
 	private final EventSerializer serializer;
+	private final CompletionMode completionMode;
 
 	/**
 	 * Creates a new {@link JpaEventPublicationRepository} for the given {@link EntityManager} and
@@ -119,12 +243,28 @@ class JpaEventPublicationRepository implements EventPublicationRepository {
 	 * @param serializer must not be {@literal null}.
 	 */
 	public JpaEventPublicationRepository(EntityManager entityManager, EventSerializer serializer) {
+		this(entityManager, serializer, CompletionMode.UPDATE);
+	}
+
+	/**
+	 * Creates a new {@link JpaEventPublicationRepository} for the given {@link EntityManager}, {@link EventSerializer}
+	 * and {@link CompletionMode}.
+	 *
+	 * @param entityManager must not be {@literal null}.
+	 * @param serializer must not be {@literal null}.
+	 * @param completionMode must not be {@literal null}.
+	 * @since 1.2
+	 */
+	public JpaEventPublicationRepository(EntityManager entityManager, EventSerializer serializer,
+			CompletionMode completionMode) {
 
 		Assert.notNull(entityManager, "EntityManager must not be null!");
 		Assert.notNull(serializer, "EventSerializer must not be null!");
+		Assert.notNull(completionMode, "CompletionMode must not be null!");
 
 		this.entityManager = entityManager;
 		this.serializer = serializer;
+		this.completionMode = completionMode;
 	}
 
 	/*
@@ -139,6 +279,21 @@ class JpaEventPublicationRepository implements EventPublicationRepository {
 		return publication;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#createAll(java.util.Collection)
+	 */
+	@Override
+	public void createAll(Collection<TargetEventPublication> publications) {
+
+		var serializedEvents = new IdentityHashMap<Object, String>();
+
+		publications.forEach(it -> entityManager.persist(domainToEntity(it,
+				serializedEvents.computeIfAbsent(it.getEvent(), this::serializeEvent))));
+
+		entityManager.flush();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.modulith.events.EventPublicationRepository#markCompleted(java.lang.Object, org.springframework.modulith.events.PublicationTargetIdentifier, java.time.Instant)
@@ -146,6 +301,17 @@ class JpaEventPublicationRepository implements EventPublicationRepository {
 	@Override
 	public void markCompleted(Object event, PublicationTargetIdentifier identifier, Instant completionDate) {
 
+		if (completionMode == CompletionMode.ARCHIVE) {
+
+			entityManager.createQuery(BY_EVENT_AND_LISTENER_ID, JpaEventPublication.class)
+					.setParameter(1, serializeEvent(event))
+					.setParameter(2, identifier.getValue())
+					.getResultList()
+					.forEach(it -> archive(it, completionDate));
+
+			return;
+		}
+
 		entityManager.createQuery(MARK_COMPLETED_BY_EVENT_AND_LISTENER_ID)
 				.setParameter(1, serializeEvent(event))
 				.setParameter(2, identifier.getValue())
@@ -153,6 +319,94 @@ class JpaEventPublicationRepository implements EventPublicationRepository {
 				.executeUpdate();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#markCompleted(org.springframework.modulith.events.core.TargetEventPublication, java.time.Instant)
+	 */
+	@Override
+	public void markCompleted(TargetEventPublication publication, Instant completionDate) {
+
+		publication.markCompleted(completionDate);
+
+		markCompleted(publication.getIdentifier(), completionDate);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#supportsCompletionByIdentifier()
+	 */
+	@Override
+	public boolean supportsCompletionByIdentifier() {
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#markCompleted(java.util.UUID, java.time.Instant)
+	 */
+	@Override
+	public void markCompleted(UUID identifier, Instant completionDate) {
+
+		if (completionMode == CompletionMode.ARCHIVE) {
+
+			var publication = entityManager.find(JpaEventPublication.class, identifier);
+
+			if (publication != null) {
+				archive(publication, completionDate);
+			}
+
+			return;
+		}
+
+		entityManager.createQuery(MARK_COMPLETED_BY_ID)
+				.setParameter(1, identifier)
+				.setParameter(2, completionDate)
+				.executeUpdate();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#markCompleted(java.util.Collection, java.time.Instant)
+	 */
+	@Override
+	public void markCompleted(Collection<UUID> identifiers, Instant completionDate) {
+
+		Assert.notNull(identifiers, "Identifiers must not be null!");
+		Assert.notNull(completionDate, "Instant must not be null!");
+
+		batch(List.copyOf(identifiers), ID_BATCH_SIZE).forEach(it -> {
+
+			if (completionMode == CompletionMode.ARCHIVE) {
+
+				entityManager.createQuery(BY_IDS, JpaEventPublication.class)
+						.setParameter(1, it)
+						.getResultList()
+						.forEach(publication -> archive(publication, completionDate));
+
+				return;
+			}
+
+			entityManager.createQuery(MARK_COMPLETED_BY_IDS)
+					.setParameter(1, it)
+					.setParameter(2, completionDate)
+					.executeUpdate();
+		});
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#claimIncompletePublications(org.springframework.modulith.events.core.PublicationTargetIdentifier, java.lang.String, java.time.Instant, java.time.Instant, int)
+	 */
+	@Override
+	public List<TargetEventPublication> claimIncompletePublications(PublicationTargetIdentifier identifier,
+			String owner, Instant now, Instant claimedUntil, int limit) {
+
+		Assert.notNull(identifier, "PublicationTargetIdentifier must not be null!");
+
+		return lease(LISTENER_ID_CONDITION, Map.of("listenerId", identifier.getValue()), owner, now, claimedUntil,
+				limit);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.modulith.events.EventPublicationRepository#findIncompletePublications()
@@ -182,6 +436,89 @@ class JpaEventPublicationRepository implements EventPublicationRepository {
 				.toList();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#findIncompletePublications(java.time.Instant, org.springframework.modulith.events.core.TargetEventPublication, int)
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<TargetEventPublication> findIncompletePublications(@Nullable Instant publishedBefore,
+			@Nullable TargetEventPublication after, int limit) {
+
+		var conditions = (publishedBefore == null ? "" : INCOMPLETE_PAGE_BEFORE_CONDITION)
+				+ (after == null ? "" : INCOMPLETE_PAGE_AFTER_CONDITION);
+
+		var query = entityManager.createQuery(INCOMPLETE_PAGE.formatted(conditions), JpaEventPublication.class)
+				.setMaxResults(limit);
+
+		if (publishedBefore != null) {
+			query.setParameter("before", publishedBefore);
+		}
+
+		if (after != null) {
+			query.setParameter("date", after.getPublicationDate())
+					.setParameter("id", after.getIdentifier());
+		}
+
+		return query.getResultStream()
+				.map(this::entityToDomain)
+				.toList();
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#leaseIncompletePublications(java.time.Instant, org.springframework.modulith.events.core.PublicationTargetIdentifier, java.lang.String, java.time.Instant, java.time.Instant, int)
+	 */
+	@Override
+	public List<TargetEventPublication> leaseIncompletePublications(@Nullable Instant publishedBefore,
+			@Nullable PublicationTargetIdentifier excluded, String owner, Instant now, Instant leasedUntil, int limit) {
+
+		var conditions = (publishedBefore == null ? "" : INCOMPLETE_PAGE_BEFORE_CONDITION)
+				+ (excluded == null ? "" : NOT_LISTENER_ID_CONDITION);
+		var parameters = new HashMap<String, Object>();
+
+		if (publishedBefore != null) {
+			parameters.put("before", publishedBefore);
+		}
+
+		if (excluded != null) {
+			parameters.put("excluded", excluded.getValue());
+		}
+
+		return lease(conditions, parameters, owner, now, leasedUntil, limit);
+	}
+
+	private List<TargetEventPublication> lease(String condition, Map<String, Object> parameters, String owner,
+			Instant now, Instant leasedUntil, int limit) {
+
+		Assert.hasText(owner, "Lease owner must not be null or empty!");
+		Assert.notNull(now, "Now must not be null!");
+		Assert.notNull(leasedUntil, "Lease expiry must not be null!");
+		Assert.isTrue(limit > 0, "Limit must be greater than zero!");
+
+		// Expired leases are removed so that the publications can be leased again
+		entityManager.createQuery(EXPIRED_LEASES, JpaEventPublicationLease.class)
+				.setParameter(1, now)
+				.getResultList()
+				.forEach(entityManager::remove);
+
+		var query = entityManager.createQuery(LEASABLE.formatted(condition), JpaEventPublication.class)
+				.setMaxResults(limit)
+				.setLockMode(LockModeType.PESSIMISTIC_WRITE)
+				.setHint(LOCK_TIMEOUT, SKIP_LOCKED);
+
+		parameters.forEach(query::setParameter);
+
+		// Locked rows are skipped by concurrent transactions, the leases written on commit seen by all later ones
+		var publications = query.getResultList();
+
+		publications.forEach(it -> entityManager.persist(new JpaEventPublicationLease(it, owner, leasedUntil)));
+
+		return publications.stream()
+				.map(this::entityToDomain)
+				.toList();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.modulith.events.EventPublicationRepository#findIncompletePublicationsByEventAndTargetIdentifier(java.lang.Object, org.springframework.modulith.events.PublicationTargetIdentifier)
@@ -202,6 +539,15 @@ class JpaEventPublicationRepository implements EventPublicationRepository {
 	@Override
 	public List<TargetEventPublication> findCompletedPublications() {
 
+		if (completionMode == CompletionMode.ARCHIVE) {
+
+			return entityManager.createQuery(ARCHIVED, JpaEventPublicationArchive.class)
+					.getResultStream()
+					.map(JpaEventPublicationArchive::toPublication)
+					.map(this::entityToDomain)
+					.toList();
+		}
+
 		return entityManager.createQuery(COMPLETE, JpaEventPublication.class)
 				.getResultList()
 				.stream()
@@ -216,8 +562,14 @@ class JpaEventPublicationRepository implements EventPublicationRepository {
 	@Override
 	public void deletePublications(List<UUID> identifiers) {
 
-		batch(identifiers, DELETE_BATCH_SIZE).forEach(it -> {
-			entityManager.createQuery(DELETE).setParameter(1, identifiers).executeUpdate();
+		batch(identifiers, ID_BATCH_SIZE).forEach(it -> {
+
+			entityManager.createQuery(DELETE).setParameter(1, it).executeUpdate();
+
+			// Publications might have been moved into the archive on completion
+			if (completionMode == CompletionMode.ARCHIVE) {
+				entityManager.createQuery(DELETE_ARCHIVED).setParameter(1, it).executeUpdate();
+			}
 		});
 	}
 
@@ -227,7 +579,9 @@ class JpaEventPublicationRepository implements EventPublicationRepository {
 	 */
 	@Override
 	public void deleteCompletedPublications() {
-		entityManager.createQuery(DELETE_COMPLETED).executeUpdate();
+
+		entityManager.createQuery(completionMode == CompletionMode.ARCHIVE ? DELETE_ALL_ARCHIVED : DELETE_COMPLETED)
+				.executeUpdate();
 	}
 
 	/*
@@ -239,11 +593,41 @@ class JpaEventPublicationRepository implements EventPublicationRepository {
 
 		Assert.notNull(instant, "Instant must not be null!");
 
-		entityManager.createQuery(DELETE_COMPLETED_BEFORE)
+		entityManager.createQuery(completionMode == CompletionMode.ARCHIVE ? DELETE_ARCHIVED_BEFORE : DELETE_COMPLETED_BEFORE)
 				.setParameter(1, instant)
 				.executeUpdate();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#deleteCompletedPublications(java.time.Instant, int)
+	 */
+	@Override
+	public int deleteCompletedPublications(@Nullable Instant before, int limit) {
+
+		Assert.isTrue(limit > 0, "Limit must be greater than zero!");
+
+		var archive = completionMode == CompletionMode.ARCHIVE;
+		var condition = before == null ? "" : COMPLETED_BEFORE_CONDITION;
+
+		var query = entityManager.createQuery((archive ? ARCHIVED_IDS : COMPLETED_IDS).formatted(condition), UUID.class)
+				.setMaxResults(limit);
+
+		if (before != null) {
+			query.setParameter("before", before);
+		}
+
+		var identifiers = query.getResultList();
+
+		if (identifiers.isEmpty()) {
+			return 0;
+		}
+
+		return entityManager.createQuery(archive ? DELETE_ARCHIVED : DELETE)
+				.setParameter(1, identifiers)
+				.executeUpdate();
+	}
+
 	private Optional<JpaEventPublication> findEntityBySerializedEventAndListenerIdAndCompletionDateNull( //
 			Object event, PublicationTargetIdentifier listenerId) {
 
@@ -256,14 +640,23 @@ class JpaEventPublicationRepository implements EventPublicationRepository {
 		return query.getResultStream().findFirst();
 	}
 
+	private void archive(JpaEventPublication publication, Instant completionDate) {
+
+		entityManager.persist(new JpaEventPublicationArchive(publication, completionDate));
+		entityManager.remove(publication);
+	}
+
 	private String serializeEvent(Object event) {
 		return serializer.serialize(event).toString();
 	}
 
 	private JpaEventPublication domainToEntity(TargetEventPublication domain) {
+		return domainToEntity(domain, serializeEvent(domain.getEvent()));
+	}
+
+	private static JpaEventPublication domainToEntity(TargetEventPublication domain, String serializedEvent) {
 		return new JpaEventPublication(domain.getIdentifier(), domain.getPublicationDate(),
-				domain.getTargetIdentifier().getValue(),
-				serializeEvent(domain.getEvent()), domain.getEvent().getClass());
+				domain.getTargetIdentifier().getValue(), serializedEvent, domain.getEventType());
 	}
 
 	private TargetEventPublication entityToDomain(JpaEventPublication entity) {
@@ -283,6 +676,7 @@ class JpaEventPublicationRepository implements EventPublicationRepository {
 
 		private final JpaEventPublication publication;
 		private final EventSerializer serializer;
+		private final SingletonSupplier<Object> event;
 
 		/**
 		 * Creates a new {@link JpaEventPublicationAdapter} for the given {@link JpaEventPublication} and
@@ -298,6 +692,8 @@ class JpaEventPublicationRepository implements EventPublicationRepository {
 
 			this.publication = publication;
 			this.serializer = serializer;
+			this.event = SingletonSupplier
+					.of(() -> serializer.deserialize(publication.serializedEvent, publication.eventType));
 		}
 
 		/*
@@ -315,7 +711,16 @@ class JpaEventPublicationRepository implements EventPublicationRepository {
 		 */
 		@Override
 		public Object getEvent() {
-			return serializer.deserialize(publication.serializedEvent, publication.eventType);
+			return event.obtain();
+		}
+
+		/*
+		 * (non-Javadoc)
+		 * @see org.springframework.modulith.events.core.TargetEventPublication#getEventType()
+		 */
+		@Override
+		public Class<?> getEventType() {
+			return publication.eventType;
 		}
 
 		/*
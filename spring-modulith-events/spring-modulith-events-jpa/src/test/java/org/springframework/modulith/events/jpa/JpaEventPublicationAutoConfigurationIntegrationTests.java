@@ -18,6 +18,7 @@ package org.springframework.modulith.events.jpa;
 import static org.assertj.core.api.Assertions.*;
 
 import example.ExampleApplication;
+import jakarta.persistence.EntityManagerFactory;
 import lombok.RequiredArgsConstructor;
 
 import org.junit.jupiter.api.Test;
@@ -40,6 +41,7 @@ import org.springframework.test.context.TestConstructor.AutowireMode;
 class JpaEventPublicationAutoConfigurationIntegrationTests {
 
 	private final BeanFactory factory;
+	private final EntityManagerFactory emf;
 
 	@MockBean EventSerializer serializer;
 
@@ -52,4 +54,13 @@ class JpaEventPublicationAutoConfigurationIntegrationTests {
 		assertThat(AutoConfigurationPackages.get(factory))
 				.containsExactlyInAnyOrder(examplePackage, eventPublicationPackage);
 	}
+
+	@Test
+	void doesNotRegisterOptionalEntitiesByDefault() {
+
+		assertThat(emf.getMetamodel().getEntities())
+				.<Class<?>> extracting(it -> it.getJavaType())
+				.contains(JpaEventPublication.class)
+				.doesNotContain(JpaEventPublicationArchive.class, JpaEventPublicationLease.class);
+	}
 }
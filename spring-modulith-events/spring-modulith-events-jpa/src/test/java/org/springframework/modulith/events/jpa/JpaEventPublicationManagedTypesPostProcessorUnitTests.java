@@ -0,0 +1,106 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.jpa;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.MapPropertySource;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.modulith.events.support.CompletionMode;
+import org.springframework.modulith.events.support.EventExternalizationRelay;
+import org.springframework.modulith.events.support.PersistentApplicationEventMulticaster;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+
+/**
+ * Unit tests for {@link JpaEventPublicationManagedTypesPostProcessor}.
+ *
+ * @author agent
+ */
+class JpaEventPublicationManagedTypesPostProcessorUnitTests {
+
+	PersistenceManagedTypes types = PersistenceManagedTypes.of(JpaEventPublication.class.getName(),
+			JpaEventPublicationArchive.class.getName(), JpaEventPublicationLease.class.getName());
+
+	@Test
+	void removesOptionalEntitiesByDefault() {
+
+		var processor = new JpaEventPublicationManagedTypesPostProcessor(new StandardEnvironment());
+
+		assertThat(processor.postProcessAfterInitialization(types, "types"))
+				.isInstanceOfSatisfying(PersistenceManagedTypes.class, it -> {
+					assertThat(it.getManagedClassNames()).containsExactly(JpaEventPublication.class.getName());
+				});
+	}
+
+	@Test
+	void keepsArchiveEntityInArchiveCompletionMode() {
+
+		var environment = new StandardEnvironment();
+		environment.getPropertySources()
+				.addFirst(new MapPropertySource("test", Map.of(CompletionMode.PROPERTY, "archive")));
+
+		var processor = new JpaEventPublicationManagedTypesPostProcessor(environment);
+
+		assertThat(processor.postProcessAfterInitialization(types, "types"))
+				.isInstanceOfSatisfying(PersistenceManagedTypes.class, it -> {
+					assertThat(it.getManagedClassNames()).containsExactly(JpaEventPublication.class.getName(),
+							JpaEventPublicationArchive.class.getName());
+				});
+	}
+
+	@Test
+	void keepsLeaseEntityIfResubmissionsAreLeased() {
+
+		var environment = new StandardEnvironment();
+		environment.getPropertySources().addFirst(new MapPropertySource("test",
+				Map.of(PersistentApplicationEventMulticaster.RESUBMISSION_LEASE_ENABLED, "true")));
+
+		var processor = new JpaEventPublicationManagedTypesPostProcessor(environment);
+
+		assertThat(processor.postProcessAfterInitialization(types, "types"))
+				.isInstanceOfSatisfying(PersistenceManagedTypes.class, it -> {
+					assertThat(it.getManagedClassNames()).containsExactly(JpaEventPublication.class.getName(),
+							JpaEventPublicationLease.class.getName());
+				});
+	}
+
+	@Test
+	void keepsLeaseEntityIfExternalizedEventsAreRelayed() {
+
+		var environment = new StandardEnvironment();
+		environment.getPropertySources()
+				.addFirst(new MapPropertySource("test", Map.of(EventExternalizationRelay.ENABLED, "true")));
+
+		var processor = new JpaEventPublicationManagedTypesPostProcessor(environment);
+
+		assertThat(processor.postProcessAfterInitialization(types, "types"))
+				.isInstanceOfSatisfying(PersistenceManagedTypes.class, it -> {
+					assertThat(it.getManagedClassNames()).contains(JpaEventPublicationLease.class.getName());
+				});
+	}
+
+	@Test
+	void ignoresOtherBeans() {
+
+		var processor = new JpaEventPublicationManagedTypesPostProcessor(new StandardEnvironment());
+		var bean = new Object();
+
+		assertThat(processor.postProcessAfterInitialization(bean, "bean")).isSameAs(bean);
+	}
+}
@@ -44,6 +44,7 @@ import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
 import org.springframework.modulith.events.core.EventSerializer;
 import org.springframework.modulith.events.core.PublicationTargetIdentifier;
 import org.springframework.modulith.events.core.TargetEventPublication;
+import org.springframework.modulith.events.support.CompletionMode;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
 import org.springframework.orm.jpa.SharedEntityManagerCreator;
@@ -285,14 +286,218 @@ class JpaEventPublicationRepositoryIntegrationTests {
 				.isEqualTo(event);
 	}
 
+	@Test
+	void pagesThroughIncompletePublicationsByKey() {
+
+		var now = Instant.now();
+
+		var first = createPublication(new TestEvent("first"), now.minusSeconds(2));
+		var second = createPublication(new TestEvent("second"), now.minusSeconds(1));
+		var third = createPublication(new TestEvent("third"), now.plusSeconds(1));
+
+		var firstPage = repository.findIncompletePublications(null, null, 2);
+
+		assertThat(firstPage)
+				.extracting(TargetEventPublication::getIdentifier)
+				.containsExactlyInAnyOrder(first.getIdentifier(), second.getIdentifier());
+
+		assertThat(repository.findIncompletePublications(null, firstPage.get(1), 2))
+				.extracting(TargetEventPublication::getIdentifier)
+				.containsExactly(third.getIdentifier());
+
+		assertThat(repository.findIncompletePublications(now, firstPage.get(1), 2)).isEmpty();
+	}
+
+	@Test
+	void deletesCompletedPublicationsInChunks() {
+
+		var now = Instant.now();
+		var incomplete = createPublication(new TestEvent("incomplete"));
+
+		for (var i = 0; i < 3; i++) {
+			repository.markCompleted(createPublication(new TestEvent("old" + i)), now.minusSeconds(60));
+		}
+
+		var recent = createPublication(new TestEvent("recent"));
+		repository.markCompleted(recent, now);
+		em.flush();
+
+		assertThat(repository.deleteCompletedPublications(now.minusSeconds(30), 2)).isEqualTo(2);
+		assertThat(repository.deleteCompletedPublications(now.minusSeconds(30), 2)).isOne();
+		assertThat(repository.deleteCompletedPublications(now.minusSeconds(30), 2)).isZero();
+
+		assertThat(repository.findCompletedPublications())
+				.extracting(TargetEventPublication::getIdentifier)
+				.containsExactly(recent.getIdentifier());
+
+		assertThat(repository.deleteCompletedPublications(null, 10)).isOne();
+		assertThat(repository.findIncompletePublications())
+				.extracting(TargetEventPublication::getIdentifier)
+				.containsExactly(incomplete.getIdentifier());
+	}
+
+	@Test
+	void claimsOldestIncompletePublicationsOfListener() throws Exception {
+
+		var first = createPublication(new TestEvent("first"));
+
+		Thread.sleep(10);
+
+		var second = createPublication(new TestEvent("second"));
+		var completed = createPublication(new TestEvent("completed"));
+
+		repository.markCompleted(completed, Instant.now());
+		em.persist(new JpaEventPublication(UUID.randomUUID(), Instant.now(), "other", "", Object.class));
+		em.flush();
+
+		var now = Instant.now();
+		var until = now.plusSeconds(60);
+
+		assertThat(repository.claimIncompletePublications(TARGET_IDENTIFIER, "first", now, until, 1))
+				.extracting(TargetEventPublication::getIdentifier)
+				.containsExactly(first.getIdentifier());
+
+		assertThat(repository.claimIncompletePublications(TARGET_IDENTIFIER, "second", now, until, 5))
+				.extracting(TargetEventPublication::getIdentifier)
+				.containsExactly(second.getIdentifier());
+	}
+
+	@Test
+	void leasesDisjointPublicationsToDifferentOwners() throws Exception {
+
+		var first = createPublication(new TestEvent("first"));
+
+		Thread.sleep(10);
+
+		var second = createPublication(new TestEvent("second"));
+		em.flush();
+
+		var now = Instant.now();
+		var until = now.plusSeconds(60);
+
+		assertThat(repository.leaseIncompletePublications(null, null, "first", now, until, 1))
+				.extracting(TargetEventPublication::getIdentifier)
+				.containsExactly(first.getIdentifier());
+
+		assertThat(repository.leaseIncompletePublications(null, null, "second", now, until, 5))
+				.extracting(TargetEventPublication::getIdentifier)
+				.containsExactly(second.getIdentifier());
+
+		assertThat(repository.leaseIncompletePublications(null, null, "third", now, until, 5)).isEmpty();
+	}
+
+	@Test
+	void leasesPublicationsAgainOnceTheLeaseHasExpired() {
+
+		var publication = createPublication(new TestEvent("first"));
+		em.flush();
+
+		var now = Instant.now();
+
+		assertThat(repository.leaseIncompletePublications(null, null, "first", now, now.plusSeconds(60), 5)).hasSize(1);
+		assertThat(repository.leaseIncompletePublications(null, null, "second", now.plusSeconds(30),
+				now.plusSeconds(90), 5))
+				.isEmpty();
+		assertThat(repository.leaseIncompletePublications(null, null, "second", now.plusSeconds(61),
+				now.plusSeconds(120), 5))
+				.extracting(TargetEventPublication::getIdentifier)
+				.containsExactly(publication.getIdentifier());
+	}
+
+	@Test
+	void doesNotLeasePublicationsOfExcludedListener() {
+
+		var publication = createPublication(new TestEvent("first"));
+
+		em.persist(new JpaEventPublication(UUID.randomUUID(), Instant.now(), "other", "", Object.class));
+		em.flush();
+
+		assertThat(repository.leaseIncompletePublications(null, PublicationTargetIdentifier.of("other"), "owner",
+				Instant.now(), Instant.now().plusSeconds(60), 5))
+				.extracting(TargetEventPublication::getIdentifier)
+				.containsExactly(publication.getIdentifier());
+	}
+
+	@Test
+	void deserializesStoredEventLazilyAndOnlyOnce() {
+
+		var event = new TestEvent("first");
+
+		createPublication(event);
+		em.flush();
+		em.clear();
+		clearInvocations(eventSerializer);
+
+		var publication = repository.findIncompletePublications().get(0);
+
+		assertThat(publication.getEventType()).isEqualTo(TestEvent.class);
+		verify(eventSerializer, never()).deserialize(any(), any());
+
+		assertThat(publication.getEvent()).isEqualTo(event);
+		assertThat(publication.getEvent()).isEqualTo(event);
+		verify(eventSerializer, times(1)).deserialize(any(), any());
+	}
+
+	@Test
+	void completesMultiplePublicationsAtOnce() {
+
+		var first = createPublication(new TestEvent("first"));
+		var second = createPublication(new TestEvent("second"));
+		var third = createPublication(new TestEvent("third"));
+		em.flush();
+
+		repository.markCompleted(List.of(first.getIdentifier(), third.getIdentifier()), Instant.now());
+		em.clear();
+
+		assertThat(repository.findIncompletePublications())
+				.extracting(TargetEventPublication::getIdentifier)
+				.containsExactly(second.getIdentifier());
+	}
+
+	@Test
+	void movesCompletedPublicationsIntoArchive() {
+
+		var archiving = new JpaEventPublicationRepository(em, eventSerializer, CompletionMode.ARCHIVE);
+
+		var first = new TestEvent("first");
+		var second = new TestEvent("second");
+		var firstPublication = createPublication(first);
+		var secondPublication = createPublication(second);
+		var third = createPublication(new TestEvent("third"));
+
+		var now = Instant.now();
+
+		archiving.markCompleted(firstPublication.getIdentifier(), now.minusSeconds(30));
+		archiving.markCompleted(second, TARGET_IDENTIFIER, now);
+		em.flush();
+
+		assertThat(em.find(JpaEventPublication.class, firstPublication.getIdentifier())).isNull();
+		assertThat(archiving.findIncompletePublications())
+				.extracting(TargetEventPublication::getIdentifier)
+				.containsExactly(third.getIdentifier());
+		assertThat(archiving.findCompletedPublications())
+				.extracting(TargetEventPublication::getIdentifier)
+				.containsExactlyInAnyOrder(firstPublication.getIdentifier(), secondPublication.getIdentifier());
+
+		archiving.deleteCompletedPublicationsBefore(now.minusSeconds(15));
+
+		assertThat(archiving.findCompletedPublications())
+				.extracting(TargetEventPublication::getEvent)
+				.containsExactly(second);
+	}
+
 	private TargetEventPublication createPublication(Object event) {
+		return createPublication(event, Instant.now());
+	}
+
+	private TargetEventPublication createPublication(Object event, Instant publicationDate) {
 
 		var token = event.toString();
 
 		doReturn(token).when(eventSerializer).serialize(event);
 		doReturn(event).when(eventSerializer).deserialize(token, event.getClass());
 
-		return repository.create(TargetEventPublication.of(event, TARGET_IDENTIFIER));
+		return repository.create(TargetEventPublication.of(event, TARGET_IDENTIFIER, publicationDate));
 	}
 
 	private void savePublicationAt(LocalDateTime date) {
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2022-2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.events.jpa;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import example.ExampleApplication;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.modulith.events.core.EventSerializer;
+import org.springframework.modulith.events.core.PublicationTargetIdentifier;
+import org.springframework.modulith.events.core.TargetEventPublication;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestConstructor;
+import org.springframework.test.context.TestConstructor.AutowireMode;
+
+/**
+ * Integration tests for the JPA event publication mapping against the event publication table as it was defined before
+ * optional features were added, i.e. without any table for leases.
+ *
+ * @author agent
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:hsqldb:mem:without-leasing",
+		"spring.sql.init.schema-locations=classpath:schema-without-leasing.sql",
+		"spring.jpa.hibernate.ddl-auto=validate" })
+@ContextConfiguration(classes = ExampleApplication.class)
+@TestConstructor(autowireMode = AutowireMode.ALL)
+@RequiredArgsConstructor
+class JpaEventPublicationSchemaValidationIntegrationTests {
+
+	private final JpaEventPublicationRepository repository;
+
+	@MockBean EventSerializer serializer;
+
+	@Test
+	void storesAndCompletesPublicationsWithLeasingDisabled() {
+
+		when(serializer.serialize("event")).thenReturn("event");
+		when(serializer.deserialize("event", String.class)).thenReturn("event");
+
+		var publication = repository.create(TargetEventPublication.of("event", PublicationTargetIdentifier.of("listener")));
+
+		assertThat(repository.findIncompletePublications())
+				.extracting(TargetEventPublication::getIdentifier)
+				.containsExactly(publication.getIdentifier());
+
+		repository.markCompleted(publication.getIdentifier(), Instant.now());
+
+		assertThat(repository.findIncompletePublications()).isEmpty();
+	}
+}
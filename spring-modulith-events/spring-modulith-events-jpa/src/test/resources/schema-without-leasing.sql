@@ -0,0 +1,10 @@
+CREATE TABLE EVENT_PUBLICATION
+(
+  ID               UUID NOT NULL,
+  COMPLETION_DATE  TIMESTAMP(6) WITH TIME ZONE,
+  EVENT_TYPE       VARCHAR(255),
+  LISTENER_ID      VARCHAR(255),
+  PUBLICATION_DATE TIMESTAMP(6) WITH TIME ZONE,
+  SERIALIZED_EVENT VARCHAR(255),
+  PRIMARY KEY (ID)
+);
@@ -15,22 +15,32 @@
  */
 package org.springframework.modulith.events.kafka;
 
+import java.util.List;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.expression.BeanFactoryResolver;
+import org.springframework.core.env.Environment;
 import org.springframework.expression.spel.support.StandardEvaluationContext;
 import org.springframework.kafka.core.KafkaOperations;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.modulith.events.EventExternalizationConfiguration;
 import org.springframework.modulith.events.config.EventExternalizationAutoConfiguration;
+import org.springframework.modulith.events.core.EventPublicationRegistry;
+import org.springframework.modulith.events.support.BlockingSendExecutor;
 import org.springframework.modulith.events.support.BrokerRouting;
+import org.springframework.modulith.events.support.BrokerRoutingCache;
 import org.springframework.modulith.events.support.DelegatingEventExternalizer;
+import org.springframework.modulith.events.support.ExternalizationBatcher;
+import org.springframework.modulith.events.support.ExternalizationBatcher.Entry;
 
 /**
  * Auto-configuration to set up a {@link DelegatingEventExternalizer} to externalize events to Kafka.
@@ -48,20 +58,84 @@ import org.springframework.modulith.events.support.DelegatingEventExternalizer;
 class KafkaEventExternalizerConfiguration {
 
 	private static final Logger logger = LoggerFactory.getLogger(KafkaEventExternalizerConfiguration.class);
+	private static final int MAX_BATCH_SIZE = 500;
+
+	@Bean
+	BlockingSendExecutor kafkaSendExecutor(Environment environment) {
+		return BlockingSendExecutor.of("kafka", environment);
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = ExternalizationBatcher.ENABLED, havingValue = "true")
+	ExternalizationBatcher kafkaExternalizationBatcher(KafkaOperations<Object, Object> operations,
+			ObjectProvider<EventPublicationRegistry> registry, BeanFactory factory, Environment environment,
+			@Qualifier("kafkaSendExecutor") BlockingSendExecutor executor) {
+
+		var routings = routings(factory);
+
+		return ExternalizationBatcher.of("kafka", MAX_BATCH_SIZE, environment, (target, entries) -> executor
+				.execute(() -> sendInTransaction(operations, routings.get(target), entries)), registry.getIfAvailable());
+	}
 
 	@Bean
 	DelegatingEventExternalizer kafkaEventExternalizer(EventExternalizationConfiguration configuration,
-			KafkaOperations<Object, Object> operations, BeanFactory factory) {
+			KafkaOperations<Object, Object> operations, BeanFactory factory,
+			@Qualifier("kafkaExternalizationBatcher") ObjectProvider<ExternalizationBatcher> batcher) {
 
 		logger.debug("Registering domain event externalization to Kafka…");
 
-		var context = new StandardEvaluationContext();
-		context.setBeanResolver(new BeanFactoryResolver(factory));
+		var batching = batcher.getIfAvailable();
+
+		if (batching != null) {
+
+			if (operations.isTransactional()) {
+
+				logger.debug("Externalizing domain events to Kafka in transactional batches.");
+
+				return new DelegatingEventExternalizer(configuration, batching::add);
+			}
+
+			logger.warn("Batching requires a transactional KafkaTemplate! Sending domain events individually.");
+		}
+
+		var routings = routings(factory);
 
 		return new DelegatingEventExternalizer(configuration, (target, payload) -> {
 
-			var routing = BrokerRouting.of(target, context);
+			var routing = routings.get(target);
 			return operations.send(routing.getTarget(), routing.getKey(payload), payload);
 		});
 	}
+
+	private static BrokerRoutingCache routings(BeanFactory factory) {
+
+		var context = new StandardEvaluationContext();
+		context.setBeanResolver(new BeanFactoryResolver(factory));
+
+		return new BrokerRoutingCache(context);
+	}
+
+	/**
+	 * Sends the given {@link Entry} instances within a single Kafka transaction. As committing the transaction flushes
+	 * all records sent, the batch is considered sent once the method returns. If the transaction is aborted, no consumer
+	 * reading committed records sees any of them and all entries are failed.
+	 *
+	 * @param operations must not be {@literal null}.
+	 * @param routing must not be {@literal null}.
+	 * @param entries must not be {@literal null}.
+	 */
+	static void sendInTransaction(KafkaOperations<Object, Object> operations, BrokerRouting routing,
+			List<Entry> entries) {
+
+		operations.executeInTransaction(it -> {
+
+			// A failed send makes the commit fail and thus aborts the entire transaction
+			entries.forEach(entry -> {
+				var payload = entry.getPayload();
+				it.send(routing.getTarget(), routing.getKey(payload), payload);
+			});
+
+			return null;
+		});
+	}
 }
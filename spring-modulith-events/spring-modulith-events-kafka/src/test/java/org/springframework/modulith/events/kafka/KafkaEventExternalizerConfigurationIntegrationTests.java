@@ -18,12 +18,19 @@ package org.springframework.modulith.events.kafka;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.autoconfigure.AutoConfigurations;
 import org.springframework.boot.test.context.runner.ApplicationContextRunner;
 import org.springframework.kafka.core.KafkaOperations;
+import org.springframework.kafka.core.KafkaOperations.OperationsCallback;
 import org.springframework.modulith.events.EventExternalizationConfiguration;
+import org.springframework.modulith.events.RoutingTarget;
+import org.springframework.modulith.events.core.EventPublicationRegistry;
 import org.springframework.modulith.events.support.DelegatingEventExternalizer;
+import org.springframework.modulith.events.support.ExternalizationBatcher;
 
 /**
  * Integration tests for {@link KafkaEventExternalizerConfiguration}.
@@ -42,6 +49,15 @@ class KafkaEventExternalizerConfigurationIntegrationTests {
 				});
 	}
 
+	@Test
+	void doesNotRegisterBatcherByDefault() {
+
+		basicSetup()
+				.run(ctxt -> {
+					assertThat(ctxt).doesNotHaveBean(ExternalizationBatcher.class);
+				});
+	}
+
 	@Test // GH-342
 	void disablesExternalizationIfConfigured() {
 
@@ -52,6 +68,103 @@ class KafkaEventExternalizerConfigurationIntegrationTests {
 				});
 	}
 
+	@Test
+	void sendsBatchesWithinKafkaTransactionIfConfigured() {
+
+		var operations = transactionalOperations();
+
+		batchingSetup(operations).run(ctxt -> {
+
+			ctxt.getBean(DelegatingEventExternalizer.class).externalize("first").join();
+
+			verify(operations).executeInTransaction(any());
+			verify(operations).send("target", null, "first");
+		});
+	}
+
+	@Test
+	void marksPublicationsOfTransactionalBatchCompletedAsGroup() {
+
+		var operations = transactionalOperations();
+		var registry = mock(EventPublicationRegistry.class);
+
+		doAnswer(it -> {
+			it.<Runnable> getArgument(0).run();
+			return null;
+		}).when(registry).markCompletedInGroup(any());
+
+		batchingSetup(operations)
+				.withBean(EventPublicationRegistry.class, () -> registry)
+				.run(ctxt -> {
+
+					assertThat(ctxt).hasBean("kafkaExternalizationBatcher");
+
+					ctxt.getBean(DelegatingEventExternalizer.class).externalize("first").join();
+
+					verify(registry).markCompletedInGroup(any());
+				});
+	}
+
+	@Test
+	void failsBatchIfKafkaTransactionFails() {
+
+		var operations = transactionalOperations();
+
+		doThrow(new IllegalStateException()).when(operations).executeInTransaction(any());
+
+		batchingSetup(operations).run(ctxt -> {
+
+			var result = ctxt.getBean(DelegatingEventExternalizer.class).externalize("first");
+
+			assertThatExceptionOfType(CompletionException.class)
+					.isThrownBy(result::join)
+					.withCauseInstanceOf(IllegalStateException.class);
+		});
+	}
+
+	@Test
+	void sendsEventsIndividuallyIfKafkaTemplateIsNotTransactional() {
+
+		var operations = mock(KafkaOperations.class);
+
+		when(operations.send(any(), any(), any())).thenReturn(CompletableFuture.completedFuture(null));
+
+		batchingSetup(operations).run(ctxt -> {
+
+			ctxt.getBean(DelegatingEventExternalizer.class).externalize("first").join();
+
+			verify(operations, never()).executeInTransaction(any());
+			verify(operations).send("target", null, "first");
+		});
+	}
+
+	@SuppressWarnings("unchecked")
+	private static KafkaOperations<Object, Object> transactionalOperations() {
+
+		KafkaOperations<Object, Object> operations = mock(KafkaOperations.class);
+
+		when(operations.isTransactional()).thenReturn(true);
+		when(operations.executeInTransaction(any()))
+				.thenAnswer(it -> it.<OperationsCallback<Object, Object, Object>> getArgument(0).doInOperations(operations));
+
+		return operations;
+	}
+
+	private ApplicationContextRunner batchingSetup(KafkaOperations<?, ?> operations) {
+
+		var configuration = EventExternalizationConfiguration.externalizing()
+				.select(String.class::isInstance)
+				.routeAll(__ -> RoutingTarget.forTarget("target").withoutKey())
+				.build();
+
+		return new ApplicationContextRunner()
+				.withConfiguration(AutoConfigurations.of(KafkaEventExternalizerConfiguration.class))
+				.withPropertyValues("spring.modulith.events.externalization.batching.enabled=true",
+						"spring.modulith.events.externalization.batching.size=1")
+				.withBean(EventExternalizationConfiguration.class, () -> configuration)
+				.withBean(KafkaOperations.class, () -> operations);
+	}
+
 	private ApplicationContextRunner basicSetup() {
 
 		return new ApplicationContextRunner()
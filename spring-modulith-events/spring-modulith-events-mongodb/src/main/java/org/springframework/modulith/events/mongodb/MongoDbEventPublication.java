@@ -38,6 +38,8 @@ class MongoDbEventPublication {
 	final Object event;
 
 	@Nullable Instant completionDate;
+	@Nullable String leaseOwner;
+	@Nullable Instant leaseUntil;
 
 	/**
 	 * Creates a new {@link MongoDbEventPublication} for the given id, publication date, listener id, event and completion
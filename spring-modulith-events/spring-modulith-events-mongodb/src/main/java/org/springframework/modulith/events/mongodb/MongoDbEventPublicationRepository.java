@@ -19,20 +19,25 @@ import static org.springframework.data.mongodb.core.query.Criteria.*;
 import static org.springframework.data.mongodb.core.query.Query.*;
 
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.data.mongodb.core.query.Update;
 import org.springframework.data.util.TypeInformation;
+import org.springframework.lang.Nullable;
 import org.springframework.modulith.events.core.EventPublicationRepository;
 import org.springframework.modulith.events.core.PublicationTargetIdentifier;
 import org.springframework.modulith.events.core.TargetEventPublication;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.Assert;
 
@@ -49,10 +54,13 @@ class MongoDbEventPublicationRepository implements EventPublicationRepository {
 	private static final String COMPLETION_DATE = "completionDate";
 	private static final String EVENT = "event";
 	private static final String ID = "id";
+	private static final String LEASE_OWNER = "leaseOwner";
+	private static final String LEASE_UNTIL = "leaseUntil";
 	private static final String LISTENER_ID = "listenerId";
 	private static final String PUBLICATION_DATE = "publicationDate";
 
 	private static final Sort DEFAULT_SORT = Sort.by(PUBLICATION_DATE).ascending();
+	private static final Sort PAGE_SORT = Sort.by(PUBLICATION_DATE, ID).ascending();
 
 	private final MongoTemplate mongoTemplate;
 
@@ -80,6 +88,18 @@ class MongoDbEventPublicationRepository implements EventPublicationRepository {
 		return publication;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#createAll(java.util.Collection)
+	 */
+	@Override
+	public void createAll(Collection<TargetEventPublication> publications) {
+
+		mongoTemplate.insertAll(publications.stream()
+				.map(MongoDbEventPublicationRepository::domainToDocument)
+				.toList());
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.modulith.events.EventPublicationRepository#markCompleted(java.lang.Object, org.springframework.modulith.events.PublicationTargetIdentifier, java.time.Instant)
@@ -92,6 +112,39 @@ class MongoDbEventPublicationRepository implements EventPublicationRepository {
 		mongoTemplate.findAndModify(byEventAndListenerId(event, identifier), update, MongoDbEventPublication.class);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#markCompleted(org.springframework.modulith.events.core.TargetEventPublication, java.time.Instant)
+	 */
+	@Override
+	public void markCompleted(TargetEventPublication publication, Instant completionDate) {
+
+		publication.markCompleted(completionDate);
+
+		markCompleted(publication.getIdentifier(), completionDate);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#supportsCompletionByIdentifier()
+	 */
+	@Override
+	public boolean supportsCompletionByIdentifier() {
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#markCompleted(java.util.UUID, java.time.Instant)
+	 */
+	@Override
+	public void markCompleted(UUID identifier, Instant completionDate) {
+
+		var update = Update.update(COMPLETION_DATE, completionDate);
+
+		mongoTemplate.updateFirst(query(where(ID).is(identifier)), update, MongoDbEventPublication.class);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.modulith.events.core.EventPublicationRepository#findIncompletePublications()
@@ -112,6 +165,104 @@ class MongoDbEventPublicationRepository implements EventPublicationRepository {
 		return readMapped(defaultQuery(where(COMPLETION_DATE).isNull().and(PUBLICATION_DATE).lt(instant)));
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#findIncompletePublications(java.time.Instant, org.springframework.modulith.events.core.TargetEventPublication, int)
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<TargetEventPublication> findIncompletePublications(@Nullable Instant publishedBefore,
+			@Nullable TargetEventPublication after, int limit) {
+
+		var criteria = new ArrayList<Criteria>();
+		criteria.add(where(COMPLETION_DATE).isNull());
+
+		if (publishedBefore != null) {
+			criteria.add(where(PUBLICATION_DATE).lt(publishedBefore));
+		}
+
+		if (after != null) {
+
+			var date = after.getPublicationDate();
+
+			criteria.add(new Criteria().orOperator( //
+					where(PUBLICATION_DATE).gt(date), //
+					where(PUBLICATION_DATE).is(date).and(ID).gt(after.getIdentifier())));
+		}
+
+		return readMapped(query(new Criteria().andOperator(criteria)).with(PAGE_SORT).limit(limit));
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#claimIncompletePublications(org.springframework.modulith.events.core.PublicationTargetIdentifier, java.lang.String, java.time.Instant, java.time.Instant, int)
+	 */
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public List<TargetEventPublication> claimIncompletePublications(PublicationTargetIdentifier identifier,
+			String owner, Instant now, Instant claimedUntil, int limit) {
+
+		Assert.notNull(identifier, "PublicationTargetIdentifier must not be null!");
+
+		return lease(List.of(where(LISTENER_ID).is(identifier.getValue())), owner, now, claimedUntil, limit);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#leaseIncompletePublications(java.time.Instant, org.springframework.modulith.events.core.PublicationTargetIdentifier, java.lang.String, java.time.Instant, java.time.Instant, int)
+	 */
+	@Override
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	public List<TargetEventPublication> leaseIncompletePublications(@Nullable Instant publishedBefore,
+			@Nullable PublicationTargetIdentifier excluded, String owner, Instant now, Instant leasedUntil, int limit) {
+
+		var conditions = new ArrayList<Criteria>();
+
+		if (publishedBefore != null) {
+			conditions.add(where(PUBLICATION_DATE).lt(publishedBefore));
+		}
+
+		if (excluded != null) {
+			conditions.add(where(LISTENER_ID).ne(excluded.getValue()));
+		}
+
+		return lease(conditions, owner, now, leasedUntil, limit);
+	}
+
+	private List<TargetEventPublication> lease(List<Criteria> conditions, String owner, Instant now,
+			Instant leasedUntil, int limit) {
+
+		Assert.hasText(owner, "Lease owner must not be null or empty!");
+		Assert.notNull(now, "Now must not be null!");
+		Assert.notNull(leasedUntil, "Lease expiry must not be null!");
+		Assert.isTrue(limit > 0, "Limit must be greater than zero!");
+
+		var criteria = new ArrayList<Criteria>();
+		criteria.add(where(COMPLETION_DATE).isNull());
+		criteria.add(new Criteria().orOperator(where(LEASE_UNTIL).isNull(), where(LEASE_UNTIL).lt(now)));
+
+		criteria.addAll(conditions);
+
+		var query = query(new Criteria().andOperator(criteria)).with(PAGE_SORT);
+		var update = Update.update(LEASE_OWNER, owner).set(LEASE_UNTIL, leasedUntil);
+		var options = FindAndModifyOptions.options().returnNew(true);
+		var result = new ArrayList<TargetEventPublication>(limit);
+
+		// Each document is leased atomically on its own, so that concurrent instances do not run into write conflicts
+		for (var i = 0; i < limit; i++) {
+
+			var leased = mongoTemplate.findAndModify(query, update, options, MongoDbEventPublication.class);
+
+			if (leased == null) {
+				break;
+			}
+
+			result.add(documentToDomain(leased));
+		}
+
+		return result;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.modulith.events.core.EventPublicationRepository#findIncompletePublicationsByEventAndTargetIdentifier(java.lang.Object, org.springframework.modulith.events.core.PublicationTargetIdentifier)
@@ -166,6 +317,28 @@ class MongoDbEventPublicationRepository implements EventPublicationRepository {
 		mongoTemplate.remove(query(where(COMPLETION_DATE).lt(instant)), MongoDbEventPublication.class);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#deleteCompletedPublications(java.time.Instant, int)
+	 */
+	@Override
+	public int deleteCompletedPublications(@Nullable Instant before, int limit) {
+
+		Assert.isTrue(limit > 0, "Limit must be greater than zero!");
+
+		var criteria = before == null ? where(COMPLETION_DATE).ne(null) : where(COMPLETION_DATE).lt(before);
+		var identifiers = mongoTemplate.find(query(criteria).limit(limit), MongoDbEventPublication.class).stream()
+				.map(it -> it.id)
+				.toList();
+
+		if (identifiers.isEmpty()) {
+			return 0;
+		}
+
+		return (int) mongoTemplate.remove(query(where(ID).in(identifiers)), MongoDbEventPublication.class)
+				.getDeletedCount();
+	}
+
 	private List<TargetEventPublication> readMapped(Query query) {
 
 		return mongoTemplate.query(MongoDbEventPublication.class)
@@ -18,18 +18,23 @@ package org.springframework.modulith.events.neo4j;
 import java.time.Instant;
 import java.time.ZoneOffset;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.neo4j.cypherdsl.core.Condition;
 import org.neo4j.cypherdsl.core.Cypher;
+import org.neo4j.cypherdsl.core.Functions;
 import org.neo4j.cypherdsl.core.Node;
 import org.neo4j.cypherdsl.core.ResultStatement;
 import org.neo4j.cypherdsl.core.Statement;
 import org.neo4j.cypherdsl.core.renderer.Configuration;
 import org.neo4j.cypherdsl.core.renderer.Renderer;
+import org.neo4j.driver.Value;
 import org.neo4j.driver.Values;
 import org.neo4j.driver.types.TypeSystem;
 import org.springframework.data.neo4j.core.Neo4jClient;
@@ -59,6 +64,18 @@ class Neo4jEventPublicationRepository implements EventPublicationRepository {
 	private static final String LISTENER_ID = "listenerId";
 	private static final String PUBLICATION_DATE = "publicationDate";
 	private static final String COMPLETION_DATE = "completionDate";
+	private static final String PUBLICATIONS = "publications";
+	private static final String PUBLICATION = "publication";
+	private static final String PUBLISHED_BEFORE = "publishedBefore";
+	private static final String COMPLETED_BEFORE = "completedBefore";
+	private static final String AFTER_DATE = "afterDate";
+	private static final String AFTER_ID = "afterIdentifier";
+	private static final String EXCLUDED_LISTENER_ID = "excludedListenerId";
+	private static final String LIMIT = "limit";
+	private static final String LEASE_OWNER = "leaseOwner";
+	private static final String LEASE_UNTIL = "leaseUntil";
+	private static final String LEASE_LOCK = "leaseLock";
+	private static final String NOW = "now";
 
 	private static final Node EVENT_PUBLICATION_NODE = Cypher.node("Neo4jEventPublication")
 			.named("neo4jEventPublication");
@@ -87,6 +104,16 @@ class Neo4jEventPublicationRepository implements EventPublicationRepository {
 			.delete(EVENT_PUBLICATION_NODE)
 			.build();
 
+	private static final ResultStatement DELETE_COMPLETED_CHUNK_STATEMENT = Cypher.match(EVENT_PUBLICATION_NODE)
+			.where(EVENT_PUBLICATION_NODE.property(COMPLETION_DATE).isNotNull())
+			.and(Cypher.parameter(COMPLETED_BEFORE).isNull()
+					.or(EVENT_PUBLICATION_NODE.property(COMPLETION_DATE).lt(Cypher.parameter(COMPLETED_BEFORE))))
+			.with(EVENT_PUBLICATION_NODE)
+			.limit(Cypher.parameter(LIMIT))
+			.detachDelete(EVENT_PUBLICATION_NODE)
+			.returning(Functions.count(Cypher.asterisk()))
+			.build();
+
 	private static final Statement INCOMPLETE_PUBLISHED_BEFORE_STATEMENT = Cypher
 			.match(EVENT_PUBLICATION_NODE)
 			.where(EVENT_PUBLICATION_NODE.property(PUBLICATION_DATE).lt(Cypher.parameter(PUBLICATION_DATE)))
@@ -104,18 +131,73 @@ class Neo4jEventPublicationRepository implements EventPublicationRepository {
 			.set(EVENT_PUBLICATION_NODE.property(PUBLICATION_DATE).to(Cypher.parameter(PUBLICATION_DATE)))
 			.build();
 
+	private static final Statement CREATE_ALL_STATEMENT = Cypher.unwind(Cypher.parameter(PUBLICATIONS)).as(PUBLICATION)
+			.create(EVENT_PUBLICATION_NODE)
+			.set(EVENT_PUBLICATION_NODE.property(ID).to(Cypher.property(PUBLICATION, ID)))
+			.set(EVENT_PUBLICATION_NODE.property(EVENT_SERIALIZED).to(Cypher.property(PUBLICATION, EVENT_SERIALIZED)))
+			.set(EVENT_PUBLICATION_NODE.property(EVENT_HASH).to(Cypher.property(PUBLICATION, EVENT_HASH)))
+			.set(EVENT_PUBLICATION_NODE.property(EVENT_TYPE).to(Cypher.property(PUBLICATION, EVENT_TYPE)))
+			.set(EVENT_PUBLICATION_NODE.property(LISTENER_ID).to(Cypher.property(PUBLICATION, LISTENER_ID)))
+			.set(EVENT_PUBLICATION_NODE.property(PUBLICATION_DATE).to(Cypher.property(PUBLICATION, PUBLICATION_DATE)))
+			.build();
+
 	private static final Statement COMPLETE_STATEMENT = Cypher.match(EVENT_PUBLICATION_NODE)
 			.where(EVENT_PUBLICATION_NODE.property(EVENT_HASH).eq(Cypher.parameter(EVENT_HASH)))
 			.and(EVENT_PUBLICATION_NODE.property(LISTENER_ID).eq(Cypher.parameter(LISTENER_ID)))
 			.set(EVENT_PUBLICATION_NODE.property(COMPLETION_DATE).to(Cypher.parameter(COMPLETION_DATE)))
 			.build();
 
+	private static final Statement COMPLETE_BY_ID_STATEMENT = Cypher.match(EVENT_PUBLICATION_NODE)
+			.where(EVENT_PUBLICATION_NODE.property(ID).eq(Cypher.parameter(ID)))
+			.set(EVENT_PUBLICATION_NODE.property(COMPLETION_DATE).to(Cypher.parameter(COMPLETION_DATE)))
+			.build();
+
 	private static final ResultStatement INCOMPLETE_STATEMENT = Cypher.match(EVENT_PUBLICATION_NODE)
 			.where(EVENT_PUBLICATION_NODE.property(COMPLETION_DATE).isNull())
 			.returning(EVENT_PUBLICATION_NODE)
 			.orderBy(EVENT_PUBLICATION_NODE.property(PUBLICATION_DATE))
 			.build();
 
+	private static final ResultStatement INCOMPLETE_PAGE_STATEMENT = Cypher.match(EVENT_PUBLICATION_NODE)
+			.where(EVENT_PUBLICATION_NODE.property(COMPLETION_DATE).isNull())
+			.and(Cypher.parameter(PUBLISHED_BEFORE).isNull()
+					.or(EVENT_PUBLICATION_NODE.property(PUBLICATION_DATE).lt(Cypher.parameter(PUBLISHED_BEFORE))))
+			.and(Cypher.parameter(AFTER_DATE).isNull()
+					.or(EVENT_PUBLICATION_NODE.property(PUBLICATION_DATE).gt(Cypher.parameter(AFTER_DATE)))
+					.or(EVENT_PUBLICATION_NODE.property(PUBLICATION_DATE).eq(Cypher.parameter(AFTER_DATE))
+							.and(EVENT_PUBLICATION_NODE.property(ID).gt(Cypher.parameter(AFTER_ID)))))
+			.returning(EVENT_PUBLICATION_NODE)
+			.orderBy(EVENT_PUBLICATION_NODE.property(PUBLICATION_DATE).ascending(),
+					EVENT_PUBLICATION_NODE.property(ID).ascending())
+			.limit(Cypher.parameter(LIMIT))
+			.build();
+
+	private static final Condition LEASABLE = EVENT_PUBLICATION_NODE.property(LEASE_UNTIL).isNull()
+			.or(EVENT_PUBLICATION_NODE.property(LEASE_UNTIL).lt(Cypher.parameter(NOW)));
+
+	// Takes the node's write lock before checking the lease again, as a concurrent transaction might have leased it
+	private static final ResultStatement LEASE_STATEMENT = Cypher.match(EVENT_PUBLICATION_NODE)
+			.where(EVENT_PUBLICATION_NODE.property(COMPLETION_DATE).isNull())
+			.and(LEASABLE)
+			.and(Cypher.parameter(PUBLISHED_BEFORE).isNull()
+					.or(EVENT_PUBLICATION_NODE.property(PUBLICATION_DATE).lt(Cypher.parameter(PUBLISHED_BEFORE))))
+			.and(Cypher.parameter(LISTENER_ID).isNull()
+					.or(EVENT_PUBLICATION_NODE.property(LISTENER_ID).eq(Cypher.parameter(LISTENER_ID))))
+			.and(Cypher.parameter(EXCLUDED_LISTENER_ID).isNull()
+					.or(EVENT_PUBLICATION_NODE.property(LISTENER_ID).ne(Cypher.parameter(EXCLUDED_LISTENER_ID))))
+			.with(EVENT_PUBLICATION_NODE)
+			.orderBy(EVENT_PUBLICATION_NODE.property(PUBLICATION_DATE).ascending(),
+					EVENT_PUBLICATION_NODE.property(ID).ascending())
+			.limit(Cypher.parameter(LIMIT))
+			.set(EVENT_PUBLICATION_NODE.property(LEASE_LOCK).to(Cypher.literalTrue()))
+			.remove(EVENT_PUBLICATION_NODE.property(LEASE_LOCK))
+			.with(EVENT_PUBLICATION_NODE)
+			.where(LEASABLE)
+			.set(EVENT_PUBLICATION_NODE.property(LEASE_OWNER).to(Cypher.parameter(LEASE_OWNER)),
+					EVENT_PUBLICATION_NODE.property(LEASE_UNTIL).to(Cypher.parameter(LEASE_UNTIL)))
+			.returning(EVENT_PUBLICATION_NODE)
+			.build();
+
 	private static final ResultStatement ALL_COMPLETED_STATEMENT = Cypher.match(EVENT_PUBLICATION_NODE)
 			.where(EVENT_PUBLICATION_NODE.property(COMPLETION_DATE).isNotNull())
 			.returning(EVENT_PUBLICATION_NODE)
@@ -168,6 +250,37 @@ class Neo4jEventPublicationRepository implements EventPublicationRepository {
 		return publication;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#createAll(java.util.Collection)
+	 */
+	@Override
+	@Transactional
+	public void createAll(Collection<TargetEventPublication> publications) {
+
+		var serializedEvents = new IdentityHashMap<Object, SerializedEvent>();
+
+		var parameters = publications.stream()
+				.map(it -> {
+
+					var event = it.getEvent();
+					var serialized = serializedEvents.computeIfAbsent(event, this::serialize);
+
+					return Map.<String, Object> of(
+							ID, it.getIdentifier().toString(),
+							EVENT_SERIALIZED, serialized.value(),
+							EVENT_HASH, serialized.hash(),
+							EVENT_TYPE, event.getClass().getName(),
+							LISTENER_ID, it.getTargetIdentifier().getValue(),
+							PUBLICATION_DATE, it.getPublicationDate().atOffset(ZoneOffset.UTC));
+				})
+				.toList();
+
+		neo4jClient.query(renderer.render(CREATE_ALL_STATEMENT))
+				.bind(parameters).to(PUBLICATIONS)
+				.run();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.modulith.events.EventPublicationRepository#markCompleted(java.lang.Object, org.springframework.modulith.events.PublicationTargetIdentifier, java.time.Instant)
@@ -185,6 +298,42 @@ class Neo4jEventPublicationRepository implements EventPublicationRepository {
 				.run();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#markCompleted(org.springframework.modulith.events.core.TargetEventPublication, java.time.Instant)
+	 */
+	@Override
+	@Transactional
+	public void markCompleted(TargetEventPublication publication, Instant completionDate) {
+
+		publication.markCompleted(completionDate);
+
+		markCompleted(publication.getIdentifier(), completionDate);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#supportsCompletionByIdentifier()
+	 */
+	@Override
+	public boolean supportsCompletionByIdentifier() {
+		return true;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#markCompleted(java.util.UUID, java.time.Instant)
+	 */
+	@Override
+	@Transactional
+	public void markCompleted(UUID identifier, Instant completionDate) {
+
+		neo4jClient.query(renderer.render(COMPLETE_BY_ID_STATEMENT))
+				.bind(identifier.toString()).to(ID)
+				.bind(Values.value(completionDate.atOffset(ZoneOffset.UTC))).to(COMPLETION_DATE)
+				.run();
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.modulith.events.core.EventPublicationRepository#findIncompletePublicationsByEventAndTargetIdentifier(java.lang.Object, org.springframework.modulith.events.core.PublicationTargetIdentifier)
@@ -214,6 +363,73 @@ class Neo4jEventPublicationRepository implements EventPublicationRepository {
 				.all());
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#findIncompletePublications(java.time.Instant, org.springframework.modulith.events.core.TargetEventPublication, int)
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<TargetEventPublication> findIncompletePublications(@Nullable Instant publishedBefore,
+			@Nullable TargetEventPublication after, int limit) {
+
+		return List.copyOf(neo4jClient.query(renderer.render(INCOMPLETE_PAGE_STATEMENT))
+				.bind(toValue(publishedBefore)).to(PUBLISHED_BEFORE)
+				.bind(toValue(after == null ? null : after.getPublicationDate())).to(AFTER_DATE)
+				.bind(after == null ? Values.NULL : Values.value(after.getIdentifier().toString())).to(AFTER_ID)
+				.bind(limit).to(LIMIT)
+				.fetchAs(TargetEventPublication.class)
+				.mappedBy(this::mapRecordToPublication)
+				.all());
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#claimIncompletePublications(org.springframework.modulith.events.core.PublicationTargetIdentifier, java.lang.String, java.time.Instant, java.time.Instant, int)
+	 */
+	@Override
+	@Transactional
+	public List<TargetEventPublication> claimIncompletePublications(PublicationTargetIdentifier identifier,
+			String owner, Instant now, Instant claimedUntil, int limit) {
+
+		Assert.notNull(identifier, "PublicationTargetIdentifier must not be null!");
+
+		return lease(null, identifier.getValue(), null, owner, now, claimedUntil, limit);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#leaseIncompletePublications(java.time.Instant, org.springframework.modulith.events.core.PublicationTargetIdentifier, java.lang.String, java.time.Instant, java.time.Instant, int)
+	 */
+	@Override
+	@Transactional
+	public List<TargetEventPublication> leaseIncompletePublications(@Nullable Instant publishedBefore,
+			@Nullable PublicationTargetIdentifier excluded, String owner, Instant now, Instant leasedUntil, int limit) {
+		return lease(publishedBefore, null, excluded == null ? null : excluded.getValue(), owner, now, leasedUntil,
+				limit);
+	}
+
+	private List<TargetEventPublication> lease(@Nullable Instant publishedBefore, @Nullable String listenerId,
+			@Nullable String excludedListenerId, String owner, Instant now, Instant leasedUntil, int limit) {
+
+		Assert.hasText(owner, "Lease owner must not be null or empty!");
+		Assert.notNull(now, "Now must not be null!");
+		Assert.notNull(leasedUntil, "Lease expiry must not be null!");
+		Assert.isTrue(limit > 0, "Limit must be greater than zero!");
+
+		return List.copyOf(neo4jClient.query(renderer.render(LEASE_STATEMENT))
+				.bind(toValue(publishedBefore)).to(PUBLISHED_BEFORE)
+				.bind(listenerId == null ? Values.NULL : Values.value(listenerId)).to(LISTENER_ID)
+				.bind(excludedListenerId == null ? Values.NULL : Values.value(excludedListenerId))
+				.to(EXCLUDED_LISTENER_ID)
+				.bind(toValue(now)).to(NOW)
+				.bind(owner).to(LEASE_OWNER)
+				.bind(toValue(leasedUntil)).to(LEASE_UNTIL)
+				.bind(limit).to(LIMIT)
+				.fetchAs(TargetEventPublication.class)
+				.mappedBy(this::mapRecordToPublication)
+				.all());
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see org.springframework.modulith.events.core.EventPublicationRepository#findIncompletePublicationsByEventAndTargetIdentifier(java.lang.Object, org.springframework.modulith.events.core.PublicationTargetIdentifier)
@@ -282,6 +498,36 @@ class Neo4jEventPublicationRepository implements EventPublicationRepository {
 				.run();
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.modulith.events.core.EventPublicationRepository#deleteCompletedPublications(java.time.Instant, int)
+	 */
+	@Override
+	@Transactional
+	public int deleteCompletedPublications(@Nullable Instant before, int limit) {
+
+		Assert.isTrue(limit > 0, "Limit must be greater than zero!");
+
+		return neo4jClient.query(renderer.render(DELETE_COMPLETED_CHUNK_STATEMENT))
+				.bind(toValue(before)).to(COMPLETED_BEFORE)
+				.bind(limit).to(LIMIT)
+				.fetchAs(Long.class)
+				.one()
+				.map(Long::intValue)
+				.orElse(0);
+	}
+
+	private static Value toValue(@Nullable Instant instant) {
+		return instant == null ? Values.NULL : Values.value(instant.atOffset(ZoneOffset.UTC));
+	}
+
+	private SerializedEvent serialize(Object event) {
+
+		var serialized = eventSerializer.serialize(event).toString();
+
+		return new SerializedEvent(serialized, DigestUtils.md5DigestAsHex(serialized.getBytes()));
+	}
+
 	private Neo4jEventPublicationAdapter mapRecordToPublication(TypeSystem typeSystem, org.neo4j.driver.Record record) {
 
 		var publicationNode = record.get(EVENT_PUBLICATION_NODE.getRequiredSymbolicName().getValue()).asNode();
@@ -305,6 +551,8 @@ class Neo4jEventPublicationRepository implements EventPublicationRepository {
 		}
 	}
 
+	private record SerializedEvent(String value, String hash) {}
+
 	private static class Neo4jEventPublicationAdapter implements TargetEventPublication {
 
 		private final Neo4jEventPublication delegate;
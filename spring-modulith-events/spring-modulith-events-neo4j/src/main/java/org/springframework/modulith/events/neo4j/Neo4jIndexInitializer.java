@@ -19,7 +19,8 @@ import org.springframework.beans.factory.InitializingBean;
 import org.springframework.data.neo4j.core.Neo4jClient;
 
 /**
- * Automatically creates an index on the {@link Neo4jEventPublication#eventHash} field.
+ * Automatically creates indexes on the {@link Neo4jEventPublication#eventHash} and
+ * {@link Neo4jEventPublication#identifier} fields.
  *
  * @author Gerrit Meier
  * @since 1.1
@@ -42,5 +43,9 @@ class Neo4jIndexInitializer implements InitializingBean {
 		neo4jClient
 				.query("CREATE INDEX eventHashIndex IF NOT EXISTS FOR (n:`Neo4jEventPublication`) ON (n.eventHash)")
 				.run();
+
+		neo4jClient
+				.query("CREATE INDEX identifierIndex IF NOT EXISTS FOR (n:`Neo4jEventPublication`) ON (n.identifier)")
+				.run();
 	}
 }
@@ -220,6 +220,27 @@ class Neo4jEventPublicationRepositoryTest {
 		}
 	}
 
+	@Test
+	void deletesCompletedPublicationsInChunks() {
+
+		var now = Instant.now();
+
+		for (var i = 0; i < 3; i++) {
+			repository.markCompleted(createPublication(new TestEvent("old" + i)), now.minusSeconds(60));
+		}
+
+		var recent = createPublication(new TestEvent("recent"));
+		repository.markCompleted(recent, now);
+
+		assertThat(repository.deleteCompletedPublications(now.minusSeconds(30), 2)).isEqualTo(2);
+		assertThat(repository.deleteCompletedPublications(now.minusSeconds(30), 2)).isOne();
+		assertThat(repository.deleteCompletedPublications(now.minusSeconds(30), 2)).isZero();
+
+		assertThat(repository.findCompletedPublications())
+				.extracting(TargetEventPublication::getIdentifier)
+				.containsExactly(recent.getIdentifier());
+	}
+
 	@Test // GH-451
 	void findsCompletedPublications() {
 
@@ -235,6 +256,56 @@ class Neo4jEventPublicationRepositoryTest {
 				.isEqualTo(event);
 	}
 
+	@Test
+	void leasesDisjointPublicationsToDifferentOwners() throws Exception {
+
+		var first = createPublication(new TestEvent("first"));
+
+		Thread.sleep(10);
+
+		var second = createPublication(new TestEvent("second"));
+
+		var now = Instant.now();
+		var until = now.plusSeconds(60);
+
+		assertThat(repository.leaseIncompletePublications(null, null, "first", now, until, 1))
+				.extracting(TargetEventPublication::getIdentifier)
+				.containsExactly(first.getIdentifier());
+
+		assertThat(repository.leaseIncompletePublications(null, null, "second", now, until, 5))
+				.extracting(TargetEventPublication::getIdentifier)
+				.containsExactly(second.getIdentifier());
+
+		assertThat(repository.leaseIncompletePublications(null, null, "second", now.plusSeconds(61),
+				now.plusSeconds(120), 5))
+				.extracting(TargetEventPublication::getIdentifier)
+				.containsExactly(first.getIdentifier(), second.getIdentifier());
+	}
+
+	@Test
+	void claimsDisjointPublicationsOfListenerToDifferentOwners() throws Exception {
+
+		var first = createPublication(new TestEvent("first"));
+
+		Thread.sleep(10);
+
+		var second = createPublication(new TestEvent("second"));
+
+		var now = Instant.now();
+		var until = now.plusSeconds(60);
+
+		assertThat(repository.claimIncompletePublications(TARGET_IDENTIFIER, "first", now, until, 1))
+				.extracting(TargetEventPublication::getIdentifier)
+				.containsExactly(first.getIdentifier());
+
+		assertThat(repository.claimIncompletePublications(TARGET_IDENTIFIER, "second", now, until, 5))
+				.extracting(TargetEventPublication::getIdentifier)
+				.containsExactly(second.getIdentifier());
+
+		assertThat(repository.claimIncompletePublications(PublicationTargetIdentifier.of("unknown"), "third", now, until,
+				5)).isEmpty();
+	}
+
 	private TargetEventPublication createPublication(Object event) {
 
 		var token = event.toString();
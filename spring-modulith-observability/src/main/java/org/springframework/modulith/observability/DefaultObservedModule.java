@@ -21,26 +21,23 @@ import java.util.Arrays;
 import org.aopalliance.intercept.MethodInvocation;
 import org.springframework.aop.ProxyMethodInvocation;
 import org.springframework.aop.framework.Advised;
-import org.springframework.modulith.core.ApplicationModule;
-import org.springframework.modulith.core.ApplicationModules;
 import org.springframework.modulith.core.FormatableType;
-import org.springframework.modulith.core.SpringBean;
+import org.springframework.modulith.core.util.ApplicationModulesSnapshot;
+import org.springframework.modulith.core.util.ApplicationModulesSnapshot.ModuleSnapshot;
 import org.springframework.util.Assert;
 
-import com.tngtech.archunit.core.domain.JavaClass;
-
 class DefaultObservedModule implements ObservedModule {
 
-	private final ApplicationModule module;
+	private final ModuleSnapshot module;
 
 	/**
-	 * Creates a new {@link DefaultObservedModule} for the given {@link ApplicationModule}.
+	 * Creates a new {@link DefaultObservedModule} for the given {@link ModuleSnapshot}.
 	 *
 	 * @param module must not be {@literal null}.
 	 */
-	DefaultObservedModule(ApplicationModule module) {
+	DefaultObservedModule(ModuleSnapshot module) {
 
-		Assert.notNull(module, "ApplicationModule must not be null!");
+		Assert.notNull(module, "ModuleSnapshot must not be null!");
 
 		this.module = module;
 	}
@@ -72,7 +69,7 @@ class DefaultObservedModule implements ObservedModule {
 
 		Method method = invocation.getMethod();
 
-		if (module.contains(method.getDeclaringClass())) {
+		if (module.contains(method.getDeclaringClass().getName())) {
 			return toString(invocation.getMethod(), module);
 		}
 
@@ -85,14 +82,14 @@ class DefaultObservedModule implements ObservedModule {
 		var advised = (Advised) ((ProxyMethodInvocation) invocation).getProxy();
 		var targetClass = advised.getTargetClass();
 
-		if (module.contains(targetClass)) {
+		if (module.contains(targetClass.getName())) {
 			return toString(targetClass, method, module);
 		}
 
 		// For JDK proxies, find original interface the method was logically declared on
 
 		for (Class<?> type : advised.getProxiedInterfaces()) {
-			if (module.contains(type)) {
+			if (module.contains(type.getName())) {
 				if (Arrays.asList(type.getMethods()).contains(method)) {
 					return toString(type, method, module);
 				}
@@ -104,10 +101,10 @@ class DefaultObservedModule implements ObservedModule {
 
 	/*
 	 * (non-Javadoc)
-	 * @see org.springframework.modulith.observability.ObservedModule#exposes(com.tngtech.archunit.core.domain.JavaClass)
+	 * @see org.springframework.modulith.observability.ObservedModule#exposes(java.lang.String)
 	 */
 	@Override
-	public boolean exposes(JavaClass type) {
+	public boolean exposes(String type) {
 
 		Assert.notNull(type, "Type must not be null!");
 
@@ -116,44 +113,41 @@ class DefaultObservedModule implements ObservedModule {
 
 	/*
 	 * (non-Javadoc)
-	 * @see org.springframework.modulith.observability.ObservedModule#isObservedModule(org.springframework.modulith.model.Module)
+	 * @see org.springframework.modulith.observability.ObservedModule#isObservedModule(org.springframework.modulith.core.util.ApplicationModulesSnapshot.ModuleSnapshot)
 	 */
 	@Override
-	public boolean isObservedModule(ApplicationModule module) {
+	public boolean isObservedModule(ModuleSnapshot module) {
 
-		Assert.notNull(module, "AppliucationModule must not be null!");
+		Assert.notNull(module, "ModuleSnapshot must not be null!");
 
-		return this.module.equals(module);
+		return this.module.getName().equals(module.getName());
 	}
 
 	/*
 	 * (non-Javadoc)
-	 * @see org.springframework.modulith.observability.ObservedModule#getInterceptionConfiguration(java.lang.Class, org.springframework.modulith.model.Modules)
+	 * @see org.springframework.modulith.observability.ObservedModule#getObservedModuleType(java.lang.Class, org.springframework.modulith.core.util.ApplicationModulesSnapshot)
 	 */
-	public ObservedModuleType getObservedModuleType(Class<?> type, ApplicationModules modules) {
+	@Override
+	public ObservedModuleType getObservedModuleType(Class<?> type, ApplicationModulesSnapshot modules) {
 
 		Assert.notNull(type, "Type must not be null!");
-		Assert.notNull(modules, "ApplicationModules must not be null!");
+		Assert.notNull(modules, "ApplicationModulesSnapshot must not be null!");
 
-		return module.getSpringBeans().stream()
-				.filter(it -> it.getFullyQualifiedTypeName().equals(type.getName()))
-				.map(SpringBean::toArchitecturallyEvidentType)
-				.findFirst()
+		return module.getBean(type.getName())
 				.map(it -> new ObservedModuleType(modules, this, it))
 				.filter(ObservedModuleType::shouldBeObserved)
 				.orElse(null);
 	}
 
-	private static String toString(Method method, ApplicationModule module) {
+	private static String toString(Method method, ModuleSnapshot module) {
 		return toString(method.getDeclaringClass(), method, module);
 	}
 
-	private static String toString(Class<?> type, Method method, ApplicationModule module) {
+	private static String toString(Class<?> type, Method method, ModuleSnapshot module) {
 
-		var typeName = module.getType(type.getName())
-				.map(FormatableType::of)
-				.map(FormatableType::getAbbreviatedFullName)
-				.orElseGet(() -> type.getName());
+		var typeName = module.contains(type.getName())
+				? FormatableType.of(type).getAbbreviatedFullName()
+				: type.getName();
 
 		return typeName + "." + method.getName() + "(…)";
 	}
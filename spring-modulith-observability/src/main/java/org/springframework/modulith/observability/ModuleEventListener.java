@@ -66,8 +66,8 @@ public class ModuleEventListener implements ApplicationListener<ApplicationEvent
 			return;
 		}
 
-		var moduleByType = runtime.get()
-				.getModuleByType(payloadType.getSimpleName())
+		var moduleByType = runtime.getSnapshot()
+				.getModuleByType(payloadType.getName())
 				.orElse(null);
 
 		if (moduleByType == null) {
@@ -81,7 +81,7 @@ public class ModuleTracingBeanPostProcessor extends ModuleTracingSupport impleme
 			return bean;
 		}
 
-		var modules = runtime.get();
+		var modules = runtime.getSnapshot();
 
 		return modules.getModuleByType(type.getName())
 				.map(DefaultObservedModule::new)
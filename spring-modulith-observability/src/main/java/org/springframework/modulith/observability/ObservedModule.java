@@ -19,10 +19,8 @@ import java.lang.reflect.Method;
 
 import org.aopalliance.intercept.MethodInvocation;
 import org.springframework.lang.Nullable;
-import org.springframework.modulith.core.ApplicationModule;
-import org.springframework.modulith.core.ApplicationModules;
-
-import com.tngtech.archunit.core.domain.JavaClass;
+import org.springframework.modulith.core.util.ApplicationModulesSnapshot;
+import org.springframework.modulith.core.util.ApplicationModulesSnapshot.ModuleSnapshot;
 
 /**
  * @author Oliver Drotbohm
@@ -42,22 +40,22 @@ interface ObservedModule {
 	String getInvokedMethod(MethodInvocation invocation);
 
 	/**
-	 * Returns whether the {@link ObservedModule} exposes the given {@link JavaClass}.
+	 * Returns whether the {@link ObservedModule} exposes the type with the given fully-qualified name.
 	 *
 	 * @param type
 	 * @return
 	 */
-	boolean exposes(JavaClass type);
+	boolean exposes(String type);
 
-	boolean isObservedModule(ApplicationModule module);
+	boolean isObservedModule(ModuleSnapshot module);
 
 	/**
-	 * Returns the {@link ObservedModuleType} for the given type and {@link ApplicationModules}.
+	 * Returns the {@link ObservedModuleType} for the given type and {@link ApplicationModulesSnapshot}.
 	 *
 	 * @param type must not be {@literal null}.
 	 * @param modules must not be {@literal null}.
 	 * @return the {@link ObservedModuleType} for the given type or {@literal null} if the type is not to be observed.
 	 */
 	@Nullable
-	ObservedModuleType getObservedModuleType(Class<?> type, ApplicationModules modules);
+	ObservedModuleType getObservedModuleType(Class<?> type, ApplicationModulesSnapshot modules);
 }
@@ -23,10 +23,8 @@ import java.util.stream.Stream;
 
 import org.springframework.aop.TargetClassAware;
 import org.springframework.aop.framework.Advised;
-import org.springframework.context.annotation.Configuration;
-import org.springframework.modulith.core.ApplicationModules;
-import org.springframework.modulith.core.ArchitecturallyEvidentType;
-import org.springframework.modulith.core.ArchitecturallyEvidentType.ReferenceMethod;
+import org.springframework.modulith.core.util.ApplicationModulesSnapshot;
+import org.springframework.modulith.core.util.ApplicationModulesSnapshot.BeanSnapshot;
 import org.springframework.util.Assert;
 import org.springframework.util.ReflectionUtils;
 
@@ -39,23 +37,23 @@ class ObservedModuleType {
 
 	private static Collection<Class<?>> IGNORED_TYPES = List.of(Advised.class, TargetClassAware.class);
 
-	private final ApplicationModules modules;
+	private final ApplicationModulesSnapshot modules;
 	private final ObservedModule module;
-	private final ArchitecturallyEvidentType type;
+	private final BeanSnapshot type;
 
 	/**
-	 * Creates a new {@link ObservedModuleType} for the given {@link ApplicationModules}, {@link ObservedModule} and
-	 * {@link ArchitecturallyEvidentType}.
+	 * Creates a new {@link ObservedModuleType} for the given {@link ApplicationModulesSnapshot}, {@link ObservedModule}
+	 * and {@link BeanSnapshot}.
 	 *
 	 * @param modules must not be {@literal null}.
 	 * @param module must not be {@literal null}.
 	 * @param type must not be {@literal null}.
 	 */
-	ObservedModuleType(ApplicationModules modules, ObservedModule module, ArchitecturallyEvidentType type) {
+	ObservedModuleType(ApplicationModulesSnapshot modules, ObservedModule module, BeanSnapshot type) {
 
-		Assert.notNull(modules, "ApplicationModules must not be null!");
+		Assert.notNull(modules, "ApplicationModulesSnapshot must not be null!");
 		Assert.notNull(module, "ObservedModule must not be null!");
-		Assert.notNull(type, "ArchitecturallyEvidentType must not be null!");
+		Assert.notNull(type, "BeanSnapshot must not be null!");
 
 		this.modules = modules;
 		this.module = module;
@@ -70,7 +68,7 @@ class ObservedModuleType {
 	 */
 	public boolean shouldBeObserved() {
 
-		if (type.getType().isMetaAnnotatedWith(Configuration.class)) {
+		if (type.isConfiguration()) {
 			return false;
 		}
 
@@ -91,9 +89,7 @@ class ObservedModuleType {
 			return it -> !(ReflectionUtils.isObjectMethod(it) || IGNORED_TYPES.contains(it.getDeclaringClass()));
 		}
 
-		return candidate -> type.getReferenceMethods() //
-				.map(ReferenceMethod::getMethod) //
-				.anyMatch(it -> it.reflect().equals(candidate));
+		return type::isReferenceMethod;
 	}
 
 	private boolean listensToOtherModulesEvents() {
@@ -102,7 +98,7 @@ class ObservedModuleType {
 			return false;
 		}
 
-		return type.getReferenceTypes()
+		return type.getReferenceTypes().stream()
 				.flatMap(it -> modules
 						.getModuleByType(it)
 						.map(Stream::of)
@@ -29,8 +29,8 @@ import org.springframework.beans.factory.config.BeanPostProcessor;
 import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.data.rest.webmvc.BasePathAwareController;
 import org.springframework.data.rest.webmvc.RootResourceInformation;
-import org.springframework.modulith.core.ApplicationModule;
-import org.springframework.modulith.core.ApplicationModules;
+import org.springframework.modulith.core.util.ApplicationModulesSnapshot;
+import org.springframework.modulith.core.util.ApplicationModulesSnapshot.ModuleSnapshot;
 import org.springframework.modulith.runtime.ApplicationModulesRuntime;
 import org.springframework.util.Assert;
 
@@ -71,7 +71,7 @@ public class SpringDataRestModuleTracingBeanPostProcessor extends ModuleTracingS
 			return bean;
 		}
 
-		Advice interceptor = new DataRestControllerInterceptor(runtime, tracer);
+		Advice interceptor = new DataRestControllerInterceptor(runtime::getSnapshot, tracer);
 		Advisor advisor = new DefaultPointcutAdvisor(interceptor);
 
 		return addAdvisor(bean, advisor, it -> it.setProxyTargetClass(true));
@@ -79,18 +79,19 @@ public class SpringDataRestModuleTracingBeanPostProcessor extends ModuleTracingS
 
 	private static class DataRestControllerInterceptor implements MethodInterceptor {
 
-		private final Supplier<ApplicationModules> modules;
+		private final Supplier<ApplicationModulesSnapshot> modules;
 		private final Supplier<Tracer> tracer;
 
 		/**
-		 * Creates a new {@link DataRestControllerInterceptor} for the given {@link ApplicationModules} and {@link Tracer}.
+		 * Creates a new {@link DataRestControllerInterceptor} for the given {@link ApplicationModulesSnapshot} and
+		 * {@link Tracer}.
 		 *
 		 * @param modules must not be {@literal null}.
 		 * @param tracer must not be {@literal null}.
 		 */
-		private DataRestControllerInterceptor(Supplier<ApplicationModules> modules, Supplier<Tracer> tracer) {
+		private DataRestControllerInterceptor(Supplier<ApplicationModulesSnapshot> modules, Supplier<Tracer> tracer) {
 
-			Assert.notNull(modules, "ApplicationModules must not be null!");
+			Assert.notNull(modules, "ApplicationModulesSnapshot must not be null!");
 			Assert.notNull(tracer, "Tracer must not be null!");
 
 			this.modules = modules;
@@ -115,7 +116,7 @@ public class SpringDataRestModuleTracingBeanPostProcessor extends ModuleTracingS
 			return ModuleEntryInterceptor.of(observed, tracer.get()).invoke(invocation);
 		}
 
-		private ApplicationModule getModuleFrom(Object[] arguments) {
+		private ModuleSnapshot getModuleFrom(Object[] arguments) {
 
 			for (Object argument : arguments) {
 
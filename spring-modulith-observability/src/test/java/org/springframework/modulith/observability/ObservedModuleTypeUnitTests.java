@@ -22,9 +22,9 @@ import example.sample.SampleConfiguration;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.aop.framework.Advised;
-import org.springframework.modulith.core.ApplicationModule;
-import org.springframework.modulith.core.ApplicationModules;
-import org.springframework.modulith.core.ArchitecturallyEvidentType;
+import org.springframework.modulith.core.util.ApplicationModulesSnapshot;
+import org.springframework.modulith.core.util.ApplicationModulesSnapshot.BeanSnapshot;
+import org.springframework.modulith.core.util.ApplicationModulesSnapshot.ModuleSnapshot;
 import org.springframework.modulith.test.TestApplicationModules;
 import org.springframework.util.ReflectionUtils;
 
@@ -35,10 +35,10 @@ import org.springframework.util.ReflectionUtils;
  */
 public class ObservedModuleTypeUnitTests {
 
-	static final ApplicationModules modules = TestApplicationModules.of("example");
+	static final ApplicationModulesSnapshot modules = ApplicationModulesSnapshot.of(TestApplicationModules.of("example"));
 
-	ApplicationModule module = modules.getModuleByName("sample").orElseThrow();
-	ArchitecturallyEvidentType type = module.getArchitecturallyEvidentType(SampleComponent.class);
+	ModuleSnapshot module = modules.getModuleByName("sample").orElseThrow();
+	BeanSnapshot type = module.getBean(SampleComponent.class.getName()).orElseThrow();
 
 	ObservedModuleType observedType = new ObservedModuleType(modules, new DefaultObservedModule(module), type);
 
@@ -62,7 +62,7 @@ public class ObservedModuleTypeUnitTests {
 	@Test // GH-332
 	void doesNotObserveConfigurationClasses() {
 
-		var type = module.getArchitecturallyEvidentType(SampleConfiguration.class);
+		var type = module.getBean(SampleConfiguration.class.getName()).orElseThrow();
 		var observedType = new ObservedModuleType(modules, new DefaultObservedModule(module), type);
 
 		assertThat(observedType.shouldBeObserved()).isFalse();
@@ -18,7 +18,9 @@ package org.springframework.modulith.runtime;
 import java.util.function.Supplier;
 
 import org.springframework.modulith.core.ApplicationModules;
+import org.springframework.modulith.core.util.ApplicationModulesSnapshot;
 import org.springframework.util.Assert;
+import org.springframework.util.function.SingletonSupplier;
 
 /**
  * Bootstrap type to make sure we only bootstrap the initialization of a {@link ApplicationModules} instance once per
@@ -29,6 +31,7 @@ import org.springframework.util.Assert;
 public class ApplicationModulesRuntime implements Supplier<ApplicationModules> {
 
 	private final Supplier<ApplicationModules> modules;
+	private final Supplier<ApplicationModulesSnapshot> snapshot;
 	private final ApplicationRuntime runtime;
 
 	/**
@@ -39,11 +42,27 @@ public class ApplicationModulesRuntime implements Supplier<ApplicationModules> {
 	 * @param runtime must not be {@literal null}.
 	 */
 	public ApplicationModulesRuntime(Supplier<ApplicationModules> modules, ApplicationRuntime runtime) {
+		this(modules, () -> ApplicationModulesSnapshot.of(modules.get()), runtime);
+	}
+
+	/**
+	 * Creates a new {@link ApplicationModulesRuntime} for the given {@link ApplicationModules},
+	 * {@link ApplicationModulesSnapshot} and {@link ApplicationRuntime}.
+	 *
+	 * @param modules must not be {@literal null}.
+	 * @param snapshot must not be {@literal null}.
+	 * @param runtime must not be {@literal null}.
+	 * @since 1.2
+	 */
+	public ApplicationModulesRuntime(Supplier<ApplicationModules> modules,
+			Supplier<ApplicationModulesSnapshot> snapshot, ApplicationRuntime runtime) {
 
 		Assert.notNull(modules, "ApplicationModules must not be null!");
+		Assert.notNull(snapshot, "ApplicationModulesSnapshot must not be null!");
 		Assert.notNull(runtime, "ApplicationRuntime must not be null!");
 
 		this.modules = modules;
+		this.snapshot = SingletonSupplier.of(snapshot);
 		this.runtime = runtime;
 	}
 
@@ -56,6 +75,17 @@ public class ApplicationModulesRuntime implements Supplier<ApplicationModules> {
 		return modules.get();
 	}
 
+	/**
+	 * Returns an {@link ApplicationModulesSnapshot} of the application's modules. Might have been obtained from a cache
+	 * and thus not require the {@link ApplicationModules} to be bootstrapped.
+	 *
+	 * @return will never be {@literal null}.
+	 * @since 1.2
+	 */
+	public ApplicationModulesSnapshot getSnapshot() {
+		return snapshot.get();
+	}
+
 	/**
 	 * Returns whether a given {@link Class} is considered an application one (versus Framework ones).
 	 *
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.runtime.autoconfigure;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.lang.Nullable;
+import org.springframework.modulith.core.ApplicationModule;
+import org.springframework.modulith.core.ApplicationModules;
+import org.springframework.modulith.runtime.ApplicationRuntime;
+import org.springframework.util.Assert;
+
+/**
+ * Bootstraps the {@link ApplicationModules} once in the background right on creation and memoizes the result. Only
+ * the first lookups wait for the bootstrap to complete, all subsequent ones are served from the memoized instance
+ * without any locking.
+ *
+ * @author agent
+ * @since 1.2
+ */
+class ApplicationModulesBootstrap implements Supplier<ApplicationModules> {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ApplicationModulesBootstrap.class);
+
+	private final Future<ApplicationModules> bootstrap;
+	private volatile @Nullable ApplicationModules modules;
+
+	/**
+	 * Creates a new {@link ApplicationModulesBootstrap} and immediately submits the given factory to the given
+	 * {@link AsyncTaskExecutor}.
+	 *
+	 * @param factory must not be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 */
+	ApplicationModulesBootstrap(Supplier<ApplicationModules> factory, AsyncTaskExecutor executor) {
+
+		Assert.notNull(factory, "ApplicationModules factory must not be null!");
+		Assert.notNull(executor, "AsyncTaskExecutor must not be null!");
+
+		this.bootstrap = executor.submit(factory::get);
+	}
+
+	/**
+	 * Creates a new {@link ApplicationModulesBootstrap} for the main application class of the given
+	 * {@link ApplicationRuntime}, using the given {@link AsyncTaskExecutor}.
+	 *
+	 * @param runtime must not be {@literal null}.
+	 * @param executor must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static ApplicationModulesBootstrap of(ApplicationRuntime runtime, AsyncTaskExecutor executor) {
+
+		Assert.notNull(runtime, "ApplicationRuntime must not be null!");
+
+		return new ApplicationModulesBootstrap(() -> initializeApplicationModules(runtime.getMainApplicationClass()),
+				executor);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.function.Supplier#get()
+	 */
+	@Override
+	public ApplicationModules get() {
+
+		var result = modules;
+
+		if (result != null) {
+			return result;
+		}
+
+		try {
+
+			result = bootstrap.get();
+
+		} catch (InterruptedException o_O) {
+
+			Thread.currentThread().interrupt();
+
+			throw new IllegalStateException("Interrupted while waiting for application modules to be bootstrapped!", o_O);
+
+		} catch (ExecutionException o_O) {
+
+			var cause = o_O.getCause();
+
+			throw cause instanceof RuntimeException runtime
+					? runtime
+					: new IllegalStateException("Failed to bootstrap application modules!", cause);
+		}
+
+		// Concurrent first lookups obtain the same instance from the Future, so there's no need to lock
+		this.modules = result;
+
+		return result;
+	}
+
+	private static ApplicationModules initializeApplicationModules(Class<?> applicationMainClass) {
+
+		LOGGER.debug("Obtaining Spring Modulith application modules…");
+
+		var result = ApplicationModules.of(applicationMainClass);
+		var numberOfModules = result.stream().count();
+
+		if (numberOfModules == 0) {
+
+			LOGGER.warn("No application modules detected!");
+
+		} else {
+
+			LOGGER.debug("Detected {} application modules: {}", //
+					result.stream().count(), //
+					result.stream().map(ApplicationModule::getName).toList());
+		}
+
+		return result;
+	}
+}
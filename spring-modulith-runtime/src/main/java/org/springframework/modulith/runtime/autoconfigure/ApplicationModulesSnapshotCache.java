@@ -0,0 +1,212 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.runtime.autoconfigure;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.PropertyResolver;
+import org.springframework.lang.Nullable;
+import org.springframework.modulith.core.ApplicationModules;
+import org.springframework.modulith.core.ModulithMetadata;
+import org.springframework.modulith.core.util.ApplicationModulesSnapshot;
+import org.springframework.modulith.runtime.ApplicationRuntime;
+import org.springframework.util.Assert;
+
+/**
+ * Obtains an {@link ApplicationModulesSnapshot} from a file on disk if the fingerprint of the application's class files
+ * and Spring Modulith configuration still matches the one recorded in it. Falls back to bootstrapping the
+ * {@link ApplicationModules} otherwise and stores a snapshot of those for subsequent application starts. Unless
+ * configured explicitly, snapshots are stored in a {@value #DEFAULT_DIRECTORY} directory next to the build output
+ * directory containing the application's main class, or in the temporary directory if the main class is packaged in an
+ * archive.
+ *
+ * @author agent
+ * @since 1.2
+ */
+class ApplicationModulesSnapshotCache implements Supplier<ApplicationModulesSnapshot> {
+
+	static final String ENABLED = "spring.modulith.runtime.cache.enabled";
+	static final String DIRECTORY = "spring.modulith.runtime.cache.directory";
+	static final String DEFAULT_DIRECTORY = "spring-modulith";
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ApplicationModulesSnapshotCache.class);
+
+	private final ApplicationRuntime runtime;
+	private final @Nullable Path directory;
+	private final Supplier<ApplicationModules> modules;
+
+	/**
+	 * Creates a new {@link ApplicationModulesSnapshotCache} for the given {@link ApplicationRuntime}, cache directory
+	 * and {@link ApplicationModules} to fall back to.
+	 *
+	 * @param runtime must not be {@literal null}.
+	 * @param directory can be {@literal null} to use the default directory for the application's main class.
+	 * @param modules must not be {@literal null}.
+	 */
+	ApplicationModulesSnapshotCache(ApplicationRuntime runtime, @Nullable Path directory,
+			Supplier<ApplicationModules> modules) {
+
+		Assert.notNull(runtime, "ApplicationRuntime must not be null!");
+		Assert.notNull(modules, "ApplicationModules must not be null!");
+
+		this.runtime = runtime;
+		this.directory = directory;
+		this.modules = modules;
+	}
+
+	/**
+	 * Returns whether the cache is enabled via {@value #ENABLED} in the given {@link PropertyResolver}.
+	 *
+	 * @param resolver must not be {@literal null}.
+	 * @return whether the cache is enabled.
+	 */
+	static boolean isEnabled(PropertyResolver resolver) {
+
+		Assert.notNull(resolver, "PropertyResolver must not be null!");
+
+		return resolver.getProperty(ENABLED, Boolean.class, false);
+	}
+
+	/**
+	 * Creates a new {@link ApplicationModulesSnapshotCache} for the given {@link ApplicationRuntime} and
+	 * {@link ApplicationModules} using the directory configured via {@value #DIRECTORY}, if any.
+	 *
+	 * @param runtime must not be {@literal null}.
+	 * @param modules must not be {@literal null}.
+	 * @param resolver must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static ApplicationModulesSnapshotCache of(ApplicationRuntime runtime, Supplier<ApplicationModules> modules,
+			PropertyResolver resolver) {
+
+		Assert.notNull(resolver, "PropertyResolver must not be null!");
+
+		var directory = resolver.getProperty(DIRECTORY);
+
+		return new ApplicationModulesSnapshotCache(runtime, directory == null ? null : Path.of(directory), modules);
+	}
+
+	/**
+	 * Returns the default directory to store snapshots for the given main application class in. That's a
+	 * {@value #DEFAULT_DIRECTORY} directory next to the class output directory the type was loaded from, i.e. within
+	 * the build output of the application, independent of the current working directory. Falls back to the temporary
+	 * directory if the type was loaded from an archive.
+	 *
+	 * @param mainClass must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static Path getDefaultDirectory(Class<?> mainClass) {
+
+		Assert.notNull(mainClass, "Main application class must not be null!");
+
+		var source = mainClass.getProtectionDomain().getCodeSource();
+
+		if (source != null && source.getLocation() != null && "file".equals(source.getLocation().getProtocol())) {
+
+			try {
+
+				var location = Path.of(source.getLocation().toURI());
+
+				if (Files.isDirectory(location) && location.getParent() != null) {
+					return location.getParent().resolve(DEFAULT_DIRECTORY);
+				}
+
+			} catch (URISyntaxException | IllegalArgumentException o_O) {
+				LOGGER.debug("Could not resolve class output directory of {}.", mainClass.getName(), o_O);
+			}
+		}
+
+		return Path.of(System.getProperty("java.io.tmpdir"), DEFAULT_DIRECTORY);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see java.util.function.Supplier#get()
+	 */
+	@Override
+	public ApplicationModulesSnapshot get() {
+
+		var mainClass = runtime.getMainApplicationClass();
+		var target = directory != null ? directory : getDefaultDirectory(mainClass);
+		var file = target.resolve(mainClass.getName() + ".snapshot");
+		var fingerprint = ApplicationModulesSnapshot.fingerprint(ModulithMetadata.of(mainClass),
+				mainClass.getClassLoader());
+
+		if (Files.isRegularFile(file)) {
+
+			try (var stream = Files.newInputStream(file)) {
+
+				var snapshot = ApplicationModulesSnapshot.readFrom(stream);
+
+				if (snapshot.getFingerprint().equals(fingerprint)) {
+
+					LOGGER.debug("Using application modules snapshot {}.", file);
+
+					return snapshot;
+				}
+
+				LOGGER.debug("Application modules snapshot {} is outdated.", file);
+
+			} catch (IOException | RuntimeException o_O) {
+				LOGGER.debug("Could not read application modules snapshot {}.", file, o_O);
+			}
+		}
+
+		var snapshot = ApplicationModulesSnapshot.of(modules.get(), fingerprint);
+
+		write(snapshot, file);
+
+		return snapshot;
+	}
+
+	private static void write(ApplicationModulesSnapshot snapshot, Path file) {
+
+		Path temporary = null;
+
+		try {
+
+			var parent = Files.createDirectories(file.toAbsolutePath().getParent());
+
+			// Write to a temporary file first to never expose partially written snapshots to concurrent readers
+			temporary = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+
+			try (var stream = Files.newOutputStream(temporary)) {
+				snapshot.writeTo(stream);
+			}
+
+			Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+			LOGGER.debug("Wrote application modules snapshot {}.", file);
+
+		} catch (IOException o_O) {
+
+			LOGGER.warn("Could not write application modules snapshot {}!", file, o_O);
+
+			if (temporary != null) {
+				try {
+					Files.deleteIfExists(temporary);
+				} catch (IOException __) {}
+			}
+		}
+	}
+}
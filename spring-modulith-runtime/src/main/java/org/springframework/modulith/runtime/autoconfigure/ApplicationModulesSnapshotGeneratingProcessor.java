@@ -0,0 +1,104 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.runtime.autoconfigure;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.aot.AotDetector;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotContribution;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.modulith.core.util.ApplicationModulesSnapshot;
+import org.springframework.modulith.runtime.ApplicationModulesRuntime;
+
+/**
+ * Renders an {@link ApplicationModulesSnapshot} of the application's modules into a resource named
+ * {@value #FILE_LOCATION}, so that AOT-optimized applications can look up module information at runtime without having
+ * to scan the classpath using ArchUnit.
+ *
+ * @author agent
+ * @since 1.2
+ */
+class ApplicationModulesSnapshotGeneratingProcessor implements BeanFactoryInitializationAotProcessor {
+
+	static final String FILE_LOCATION = "META-INF/spring-modulith/application-modules.snapshot";
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ApplicationModulesSnapshotGeneratingProcessor.class);
+	private static final Resource PRECOMPUTED = new ClassPathResource(FILE_LOCATION);
+
+	/**
+	 * Returns the precomputed {@link ApplicationModulesSnapshot} if the application runs with AOT-generated artifacts
+	 * and the snapshot resource is present.
+	 *
+	 * @return the precomputed {@link ApplicationModulesSnapshot} resource or {@literal null} if none available.
+	 */
+	@Nullable
+	static Resource getPrecomputedSnapshot() {
+		return AotDetector.useGeneratedArtifacts() && PRECOMPUTED.exists() ? PRECOMPUTED : null;
+	}
+
+	/**
+	 * Reads the {@link ApplicationModulesSnapshot} from the given {@link Resource}.
+	 *
+	 * @param resource must not be {@literal null}.
+	 * @return will never be {@literal null}.
+	 */
+	static ApplicationModulesSnapshot readSnapshot(Resource resource) {
+
+		try (var stream = resource.getInputStream()) {
+
+			LOGGER.debug("Using application modules snapshot from {}.", FILE_LOCATION);
+
+			return ApplicationModulesSnapshot.readFrom(stream);
+
+		} catch (IOException o_O) {
+			throw new IllegalStateException("Could not read application modules snapshot from " + FILE_LOCATION + "!", o_O);
+		}
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see org.springframework.beans.factory.aot.BeanFactoryInitializationAotProcessor#processAheadOfTime(org.springframework.beans.factory.config.ConfigurableListableBeanFactory)
+	 */
+	@Override
+	public BeanFactoryInitializationAotContribution processAheadOfTime(ConfigurableListableBeanFactory beanFactory) {
+
+		return (context, __) -> {
+
+			var runtime = beanFactory.getBean(ApplicationModulesRuntime.class);
+			var snapshot = ApplicationModulesSnapshot.of(runtime.get());
+			var output = new ByteArrayOutputStream();
+
+			LOGGER.info("Generating application modules snapshot to {}", FILE_LOCATION);
+
+			try {
+				snapshot.writeTo(output);
+			} catch (IOException o_O) {
+				throw new IllegalStateException("Could not write application modules snapshot!", o_O);
+			}
+
+			context.getRuntimeHints().resources().registerPattern(FILE_LOCATION);
+			context.getGeneratedFiles().addResourceFile(FILE_LOCATION, new ByteArrayResource(output.toByteArray()));
+		};
+	}
+}
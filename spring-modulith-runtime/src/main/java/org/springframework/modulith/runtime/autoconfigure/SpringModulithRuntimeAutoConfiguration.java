@@ -15,6 +15,8 @@
  */
 package org.springframework.modulith.runtime.autoconfigure;
 
+import java.util.function.Supplier;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.aop.support.AopUtils;
@@ -29,16 +31,17 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Role;
+import org.springframework.core.env.Environment;
 import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.modulith.ApplicationModuleInitializer;
-import org.springframework.modulith.core.ApplicationModule;
 import org.springframework.modulith.core.ApplicationModules;
 import org.springframework.modulith.core.FormatableType;
+import org.springframework.modulith.core.util.ApplicationModulesSnapshot;
 import org.springframework.modulith.runtime.ApplicationModulesRuntime;
 import org.springframework.modulith.runtime.ApplicationRuntime;
 import org.springframework.util.Assert;
-import org.springframework.util.function.ThrowingSupplier;
+import org.springframework.util.function.SingletonSupplier;
 
 /**
  * Auto-configuration to register a {@link SpringBootApplicationRuntime}, a {@link ApplicationModulesRuntime} and an
@@ -62,13 +65,23 @@ class SpringModulithRuntimeAutoConfiguration {
 	@Bean
 	@Role(BeanDefinition.ROLE_INFRASTRUCTURE)
 	@ConditionalOnMissingBean
-	static ApplicationModulesRuntime modulesRuntime(ApplicationRuntime runtime) {
+	static ApplicationModulesRuntime modulesRuntime(ApplicationRuntime runtime, Environment environment) {
+
+		var precomputed = ApplicationModulesSnapshotGeneratingProcessor.getPrecomputedSnapshot();
+
+		if (precomputed == null && !ApplicationModulesSnapshotCache.isEnabled(environment)) {
+			return new ApplicationModulesRuntime(ApplicationModulesBootstrap.of(runtime, EXECUTOR), runtime);
+		}
+
+		// Only bootstrap the modules if requested explicitly or if no current snapshot is available
+		var bootstrap = SingletonSupplier.of(() -> ApplicationModulesBootstrap.of(runtime, EXECUTOR));
+		Supplier<ApplicationModules> modules = () -> bootstrap.obtain().get();
 
-		ThrowingSupplier<ApplicationModules> modules = () -> EXECUTOR
-				.submit(() -> ApplicationModulesBootstrap.initializeApplicationModules(runtime.getMainApplicationClass()))
-				.get();
+		Supplier<ApplicationModulesSnapshot> snapshot = precomputed != null
+				? () -> ApplicationModulesSnapshotGeneratingProcessor.readSnapshot(precomputed)
+				: ApplicationModulesSnapshotCache.of(runtime, modules, environment);
 
-		return new ApplicationModulesRuntime(modules, runtime);
+		return new ApplicationModulesRuntime(modules, snapshot, runtime);
 	}
 
 	@Bean
@@ -80,7 +93,7 @@ class SpringModulithRuntimeAutoConfiguration {
 
 		return event -> {
 
-			var modules = runtime.getObject().get();
+			var modules = runtime.getObject().getSnapshot();
 
 			initializers.stream() //
 					.sorted(modules.getComparator()) //
@@ -94,20 +107,20 @@ class SpringModulithRuntimeAutoConfiguration {
 		private static final Logger LOGGER = LoggerFactory.getLogger(LoggingApplicationModuleInitializerAdapter.class);
 
 		private final ApplicationModuleInitializer delegate;
-		private final ApplicationModules modules;
+		private final ApplicationModulesSnapshot modules;
 
 		/**
 		 * Creates a new {@link LoggingApplicationModuleInitializerAdapter} for the given
-		 * {@link ApplicationModuleInitializer} and {@link ApplicationModule}.
+		 * {@link ApplicationModuleInitializer} and {@link ApplicationModulesSnapshot}.
 		 *
 		 * @param delegate must not be {@literal null}.
 		 * @param modules must not be {@literal null}.
 		 */
 		public LoggingApplicationModuleInitializerAdapter(ApplicationModuleInitializer delegate,
-				ApplicationModules modules) {
+				ApplicationModulesSnapshot modules) {
 
 			Assert.notNull(delegate, "ApplicationModuleInitializer must not be null!");
-			Assert.notNull(modules, "ApplicationModules must not be null!");
+			Assert.notNull(modules, "ApplicationModulesSnapshot must not be null!");
 
 			this.delegate = delegate;
 			this.modules = modules;
@@ -123,8 +136,8 @@ class SpringModulithRuntimeAutoConfiguration {
 			var listenerType = AopUtils.getTargetClass(delegate);
 			var formattable = FormatableType.of(listenerType);
 
-			var formattedListenerType = modules.getModuleByType(listenerType)
-					.map(formattable::getAbbreviatedFullName)
+			var formattedListenerType = modules.getModuleByType(listenerType.getName())
+					.map(it -> formattable.getAbbreviatedFullName(it.getBasePackage()))
 					.orElseGet(formattable::getAbbreviatedFullName);
 
 			LOGGER.debug("Initializing {}.", formattedListenerType);
@@ -135,32 +148,6 @@ class SpringModulithRuntimeAutoConfiguration {
 		}
 	}
 
-	private static class ApplicationModulesBootstrap {
-
-		private static final Logger LOGGER = LoggerFactory.getLogger(ApplicationModulesBootstrap.class);
-
-		static ApplicationModules initializeApplicationModules(Class<?> applicationMainClass) {
-
-			LOGGER.debug("Obtaining Spring Modulith application modules…");
-
-			var result = ApplicationModules.of(applicationMainClass);
-			var numberOfModules = result.stream().count();
-
-			if (numberOfModules == 0) {
-
-				LOGGER.warn("No application modules detected!");
-
-			} else {
-
-				LOGGER.debug("Detected {} application modules: {}", //
-						result.stream().count(), //
-						result.stream().map(ApplicationModule::getName).toList());
-			}
-
-			return result;
-		}
-	}
-
 	/**
 	 * Auto-configuration to react to ArchUnit missing on the runtime classpath.
 	 *
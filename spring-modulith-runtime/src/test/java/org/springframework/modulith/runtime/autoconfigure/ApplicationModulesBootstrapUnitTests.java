@@ -0,0 +1,79 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.runtime.autoconfigure;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.modulith.core.ApplicationModules;
+
+/**
+ * Unit tests for {@link ApplicationModulesBootstrap}.
+ *
+ * @author agent
+ */
+class ApplicationModulesBootstrapUnitTests {
+
+	@Test
+	void bootstrapsApplicationModulesOnceInTheBackground() {
+
+		var modules = mock(ApplicationModules.class);
+		var invocations = new AtomicInteger();
+		var threads = new AtomicInteger();
+		var executor = new SimpleAsyncTaskExecutor() {
+
+			@Override
+			protected void doExecute(Runnable task) {
+				threads.incrementAndGet();
+				super.doExecute(task);
+			}
+		};
+
+		Supplier<ApplicationModules> factory = () -> {
+			invocations.incrementAndGet();
+			return modules;
+		};
+
+		var bootstrap = new ApplicationModulesBootstrap(factory, executor);
+
+		// Submitted on creation already
+		assertThat(threads).hasValue(1);
+
+		for (int i = 0; i < 10_000; i++) {
+			assertThat(bootstrap.get()).isSameAs(modules);
+		}
+
+		assertThat(invocations).hasValue(1);
+		assertThat(threads).hasValue(1);
+	}
+
+	@Test
+	void propagatesBootstrapFailure() {
+
+		var bootstrap = new ApplicationModulesBootstrap(() -> {
+			throw new IllegalStateException("No main class!");
+		}, new SimpleAsyncTaskExecutor());
+
+		assertThatIllegalStateException()
+				.isThrownBy(bootstrap::get)
+				.withMessage("No main class!");
+	}
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.runtime.autoconfigure;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.modulith.core.ApplicationModules;
+import org.springframework.modulith.runtime.ApplicationRuntime;
+
+/**
+ * Unit tests for {@link ApplicationModulesSnapshotCache}.
+ *
+ * @author agent
+ */
+class ApplicationModulesSnapshotCacheUnitTests {
+
+	@TempDir Path directory;
+
+	ApplicationRuntime runtime = mock(ApplicationRuntime.class);
+	AtomicInteger bootstraps = new AtomicInteger();
+	Supplier<ApplicationModules> modules = () -> {
+		bootstraps.incrementAndGet();
+		return ApplicationModules.of("org.springframework.modulith.runtime");
+	};
+
+	@BeforeEach
+	void setUp() {
+		doReturn(SampleApp.class).when(runtime).getMainApplicationClass();
+	}
+
+	@Test
+	void bootstrapsModulesAndStoresSnapshotIfNoneCached() {
+
+		var snapshot = new ApplicationModulesSnapshotCache(runtime, directory, modules).get();
+
+		assertThat(bootstraps).hasValue(1);
+		assertThat(snapshot.getFingerprint()).isNotBlank();
+		assertThat(getSnapshotFile()).isRegularFile();
+	}
+
+	@Test
+	void usesCachedSnapshotIfFingerprintMatches() {
+
+		var snapshot = new ApplicationModulesSnapshotCache(runtime, directory, modules).get();
+		var cached = new ApplicationModulesSnapshotCache(runtime, directory, modules).get();
+
+		assertThat(bootstraps).hasValue(1);
+		assertThat(cached.getFingerprint()).isEqualTo(snapshot.getFingerprint());
+		assertThat(cached.toJson()).isEqualTo(snapshot.toJson());
+	}
+
+	@Test
+	void bootstrapsModulesIfCachedSnapshotIsCorrupt() throws Exception {
+
+		Files.writeString(getSnapshotFile(), "corrupt");
+
+		var snapshot = new ApplicationModulesSnapshotCache(runtime, directory, modules).get();
+
+		assertThat(bootstraps).hasValue(1);
+		assertThat(snapshot.getModules()).isNotEmpty();
+	}
+
+	@Test
+	void defaultsToDirectoryNextToClassOutputDirectory() throws Exception {
+
+		var classes = Path.of(SampleApp.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+		var name = ApplicationModulesSnapshotCache.DEFAULT_DIRECTORY;
+
+		assertThat(ApplicationModulesSnapshotCache.getDefaultDirectory(SampleApp.class))
+				.isEqualTo(classes.getParent().resolve(name));
+		assertThat(ApplicationModulesSnapshotCache.getDefaultDirectory(String.class))
+				.isEqualTo(Path.of(System.getProperty("java.io.tmpdir"), name));
+	}
+
+	private Path getSnapshotFile() {
+		return directory.resolve(SampleApp.class.getName() + ".snapshot");
+	}
+
+	@SpringBootApplication
+	static class SampleApp {}
+}
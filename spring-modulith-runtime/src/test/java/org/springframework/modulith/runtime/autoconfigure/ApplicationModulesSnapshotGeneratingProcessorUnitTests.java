@@ -0,0 +1,75 @@
+/*
+ * Copyright 2024 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.modulith.runtime.autoconfigure;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.generate.ClassNameGenerator;
+import org.springframework.aot.generate.DefaultGenerationContext;
+import org.springframework.aot.generate.GeneratedFiles.Kind;
+import org.springframework.aot.generate.InMemoryGeneratedFiles;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.beans.factory.aot.BeanFactoryInitializationCode;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.javapoet.ClassName;
+import org.springframework.modulith.core.ApplicationModules;
+import org.springframework.modulith.core.util.ApplicationModulesSnapshot;
+import org.springframework.modulith.runtime.ApplicationModulesRuntime;
+import org.springframework.modulith.runtime.ApplicationRuntime;
+
+/**
+ * Unit tests for {@link ApplicationModulesSnapshotGeneratingProcessor}.
+ *
+ * @author agent
+ */
+class ApplicationModulesSnapshotGeneratingProcessorUnitTests {
+
+	@Test
+	void writesSnapshotOfApplicationModulesAndRegistersResourceHint() throws Exception {
+
+		var modules = ApplicationModules.of("org.springframework.modulith.runtime");
+		var beanFactory = new DefaultListableBeanFactory();
+		beanFactory.registerSingleton("runtime",
+				new ApplicationModulesRuntime(() -> modules, mock(ApplicationRuntime.class)));
+
+		var files = new InMemoryGeneratedFiles();
+		var context = new DefaultGenerationContext(new ClassNameGenerator(ClassName.get("example", "Sample")), files);
+
+		new ApplicationModulesSnapshotGeneratingProcessor()
+				.processAheadOfTime(beanFactory)
+				.applyTo(context, mock(BeanFactoryInitializationCode.class));
+
+		var file = files.getGeneratedFile(Kind.RESOURCE, ApplicationModulesSnapshotGeneratingProcessor.FILE_LOCATION);
+
+		assertThat(file).isNotNull();
+
+		try (var stream = file.getInputStream()) {
+			assertThat(ApplicationModulesSnapshot.readFrom(stream).toJson())
+					.isEqualTo(ApplicationModulesSnapshot.of(modules).toJson());
+		}
+
+		assertThat(RuntimeHintsPredicates.resource()
+				.forResource(ApplicationModulesSnapshotGeneratingProcessor.FILE_LOCATION))
+				.accepts(context.getRuntimeHints());
+	}
+
+	@Test
+	void doesNotUsePrecomputedSnapshotWithoutAotMode() {
+		assertThat(ApplicationModulesSnapshotGeneratingProcessor.getPrecomputedSnapshot()).isNull();
+	}
+}